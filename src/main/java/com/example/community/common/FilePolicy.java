@@ -87,6 +87,27 @@ public final class FilePolicy {
         return true;
     }
 
+    /**
+     * 파일 키(확장자)에서 Content-Type을 유추합니다.
+     * 메타데이터에 Content-Type이 기록되지 않은 파일(재색인 등)에 사용됩니다.
+     * 
+     * @param key 파일 키
+     * @return Content-Type 문자열 (알 수 없는 확장자는 application/octet-stream)
+     */
+    public static String contentTypeOf(String key) {
+        String lowerKey = key == null ? "" : key.toLowerCase();
+        if (lowerKey.endsWith(".jpg") || lowerKey.endsWith(".jpeg")) {
+            return "image/jpeg";
+        } else if (lowerKey.endsWith(".png")) {
+            return "image/png";
+        } else if (lowerKey.endsWith(".gif")) {
+            return "image/gif";
+        } else if (lowerKey.endsWith(".webp")) {
+            return "image/webp";
+        }
+        return "application/octet-stream";
+    }
+
     /**
      * 파일 크기 제한 초과 여부 확인
      * 
@@ -124,7 +145,23 @@ public final class FilePolicy {
             return false;
 
         // 2. 파일 시그니처(매직 넘버) 검증
-        byte[] head = readHead(file, 32);
+        byte[] head = readHead(file, HEAD_BYTES);
+        return matchesSignature(ct, head);
+    }
+
+    // 시그니처 검증에 필요한 파일 앞부분 바이트 수
+    public static final int HEAD_BYTES = 32;
+
+    /**
+     * 파일 앞부분 바이트가 선언된 MIME 타입의 시그니처와 일치하는지 검증
+     * 직접 업로드(presigned URL) 확인처럼 MultipartFile이 없는 경우에 사용합니다.
+     * 
+     * @param contentType 선언된 MIME 타입
+     * @param head        파일 앞부분 바이트
+     * @return 일치 여부
+     */
+    public static boolean matchesSignature(String contentType, byte[] head) {
+        String ct = contentType == null ? "" : contentType.toLowerCase();
         return switch (ct) {
             case "image/png" -> isPng(head);
             case "image/jpeg" -> isJpeg(head);
@@ -0,0 +1,88 @@
+package com.example.community.config;
+
+import com.example.community.storage.OffHeapImageCache;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.ResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 이미지 바이트 캐시를 앞단에 두는 정적 리소스 리졸버
+ * 캐시 적중 시 파일시스템/저장소 접근 없이 캐시된 바이트를 반환하고,
+ * 미스 시 다음 리졸버로 조회한 결과를 캐시에 등록하고, 이미 읽은 바이트로 응답합니다. (원본/캐시를 다시 읽지 않음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CachingImageResourceResolver implements ResourceResolver {
+
+    private final OffHeapImageCache cache;
+
+    @Override
+    @Nullable
+    public Resource resolveResource(@Nullable HttpServletRequest request, String requestPath,
+            List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource cached = cache.get(requestPath);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = cache.stamp();
+        Resource resolved = chain.resolveResource(request, requestPath, locations);
+        if (resolved == null) {
+            return null;
+        }
+        try {
+            long length = resolved.contentLength();
+            if (length > cache.maxEntryBytes()) {
+                return resolved;
+            }
+            byte[] data;
+            try (InputStream in = resolved.getInputStream()) {
+                data = in.readAllBytes();
+            }
+            long lastModified = resolved.lastModified();
+            cache.put(requestPath, data, lastModified, stamp);
+            return new LoadedResource(data, resolved.getFilename(), lastModified);
+        } catch (IOException e) {
+            log.debug("이미지 캐시 등록 실패: 경로={}, 오류={}", requestPath, e.getMessage());
+        }
+        return resolved;
+    }
+
+    @Override
+    @Nullable
+    public String resolveUrlPath(String resourcePath, List<? extends Resource> locations,
+            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourcePath, locations);
+    }
+
+    // 미스 시 읽은 바이트 (파일명은 Content-Type 판별, 수정 시각은 Last-Modified에 사용)
+    static final class LoadedResource extends ByteArrayResource {
+        private final String filename;
+        private final long lastModified;
+
+        LoadedResource(byte[] data, @Nullable String filename, long lastModified) {
+            super(data);
+            this.filename = filename;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        @Nullable
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public long lastModified() {
+            return lastModified;
+        }
+    }
+}
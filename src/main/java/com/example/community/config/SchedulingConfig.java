@@ -0,0 +1,49 @@
+package com.example.community.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 실행기 설정
+ *
+ * - taskScheduler: 정리/반영 등 일반 배치 작업 (spring.task.scheduling.pool.size 스레드)
+ *   가상 스레드 모드에서는 실행마다 가상 스레드를 사용하므로 작업끼리 서로 기다리지 않습니다.
+ * - pollingScheduler: 캐시 무효화 로그 조회, 복제본 지연 측정처럼 짧고 주기가 중요한 작업 전용
+ *   (@Scheduled(scheduler = SchedulingConfig.POLLING_SCHEDULER))
+ *   오래 걸리는 배치 작업이 일반 실행기를 모두 차지해도 주기가 밀리지 않습니다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    public static final String POLLING_SCHEDULER = "pollingScheduler";
+
+    @Bean(name = "taskScheduler")
+    public TaskScheduler taskScheduler(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+        if (virtualThreads) {
+            SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+            scheduler.setThreadNamePrefix("scheduling-");
+            scheduler.setVirtualThreads(true);
+            return scheduler;
+        }
+        return threadPool("scheduling-", poolSize);
+    }
+
+    @Bean(name = POLLING_SCHEDULER)
+    public ThreadPoolTaskScheduler pollingScheduler(
+            @Value("${app.scheduling.polling-pool-size:2}") int poolSize) {
+        return threadPool("polling-", poolSize);
+    }
+
+    private static ThreadPoolTaskScheduler threadPool(String prefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix(prefix);
+        scheduler.setPoolSize(poolSize);
+        return scheduler;
+    }
+}
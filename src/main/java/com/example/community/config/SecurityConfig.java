@@ -3,8 +3,15 @@ package com.example.community.config;
 import com.example.community.security.CustomAccessDeniedHandler;
 import com.example.community.security.CustomAuthenticationEntryPoint;
 import com.example.community.security.JwtAuthenticationFilter;
+import com.example.community.service.AnonymousResponseCache;
 import com.example.community.service.CustomUserDetailsService;
+import com.example.community.service.PostService;
+import com.example.community.web.cache.ResponseCacheFilter;
+import com.example.community.web.limit.RateLimitFilter;
+import com.example.community.web.limit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -18,6 +25,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.core.env.Environment;
 import com.example.community.repository.MemberRepository;
@@ -38,6 +46,10 @@ public class SecurityConfig {
     private final MemberRepository memberRepository;
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
     private final CustomAccessDeniedHandler accessDeniedHandler;
+    private final ObjectProvider<RateLimiter> rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final AnonymousResponseCache responseCache;
+    private final PostService postService;
 
     // CORS 허용 origin 목록 반환 (환경변수 우선)
     private List<String> allowedOrigins() {
@@ -84,6 +96,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/posts/**", "/api/comments/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/files/**").permitAll() // 정적 리소스 공개
                         .requestMatchers("/api/files/**").authenticated() // 파일 업로드/삭제는 인증 필요
+                        .requestMatchers("/internal/replication/**").permitAll() // 노드 간 복제 (복제 토큰으로 검증)
                         .anyRequest().authenticated());
 
         // JWT 인증 필터 등록
@@ -91,6 +104,16 @@ public class SecurityConfig {
                 new JwtAuthenticationFilter(jwtUtil, userDetailsService, memberRepository),
                 org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter.class);
 
+        // 요청 빈도 제한 (활성화 시): JWT 인증 필터의 DB 조회 전에 거절
+        rateLimiter.ifAvailable(limiter -> http.addFilterBefore(
+                new RateLimitFilter(limiter, jwtUtil, objectMapper), JwtAuthenticationFilter.class));
+
+        // 비로그인 GET 응답 캐시 (활성화 시): 인가 이후에 두어 접근 제어/CORS/보안 헤더는 그대로 적용
+        if (responseCache.isEnabled()) {
+            http.addFilterAfter(new ResponseCacheFilter(responseCache, postService::countView),
+                    AuthorizationFilter.class);
+        }
+
         return http.build();
     }
 
@@ -1,5 +1,9 @@
 package com.example.community.config;
 
+import com.example.community.storage.OffHeapImageCache;
+import com.example.community.storage.Storage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.*;
@@ -11,10 +15,24 @@ import java.net.URI;
  * 정적 리소스 서빙 설정
  * 업로드된 파일을 웹에서 접근할 수 있도록 매핑합니다.
  * publicBaseUrl의 경로와 자동으로 일치시켜 설정 오류를 방지합니다.
+ * 로컬 저장소는 디렉토리를 직접 매핑하고, 그 외 저장소(pack 등)는 Storage를 통해 조회합니다.
+ * 노드 간 복제를 사용하는 로컬 저장소도 로컬에 없는 파일을 피어에서 가져오도록 Storage를 통해 조회합니다.
  */
 @Configuration
+@RequiredArgsConstructor
 public class StaticResourceConfig implements WebMvcConfigurer {
 
+    // WebMvcTest 등 저장소 빈이 없는 환경에서도 로드되도록 지연 조회
+    private final ObjectProvider<Storage> storage;
+    // app.storage.cache.enabled=true 일 때만 존재
+    private final ObjectProvider<OffHeapImageCache> imageCache;
+
+    @Value("${app.storage.provider:local}")
+    private String storageProvider;
+
+    @Value("${app.storage.replication.enabled:false}")
+    private boolean replicationEnabled;
+
     @Value("${app.storage.local.base-path:uploads}")
     private String storagePath;
 
@@ -35,10 +53,25 @@ public class StaticResourceConfig implements WebMvcConfigurer {
         }
 
         // 추출된 경로로 정적 리소스 핸들러 설정 (예: '/uploads/**')
-        registry.addResourceHandler(handlerPath + "**")
-                .addResourceLocations("file:" + absolutePath + "/")
-                .setCachePeriod(3600) // 1시간 캐싱
-                .resourceChain(true);
+        ResourceHandlerRegistration registration = registry.addResourceHandler(handlerPath + "**")
+                .setCachePeriod(3600); // 1시간 캐싱
+        OffHeapImageCache cache = imageCache.getIfAvailable();
+        if ("local".equals(storageProvider) && !replicationEnabled) {
+            registration.addResourceLocations("file:" + absolutePath + "/");
+            if (cache != null) {
+                // 바이트 캐시가 Resource 캐시를 대신함 (삭제된 파일 핸들이 남지 않도록 기본 캐싱 체인 미사용)
+                registration.resourceChain(false)
+                        .addResolver(new CachingImageResourceResolver(cache));
+            } else {
+                registration.resourceChain(true);
+            }
+        } else {
+            ResourceChainRegistration chain = registration.resourceChain(false);
+            if (cache != null) {
+                chain.addResolver(new CachingImageResourceResolver(cache));
+            }
+            chain.addResolver(new StorageResourceResolver(storage.getObject()));
+        }
 
     }
 }
@@ -0,0 +1,43 @@
+package com.example.community.config;
+
+import com.example.community.storage.Storage;
+import com.example.community.storage.StorageException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.ResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.util.List;
+
+/**
+ * 저장소(Storage)에서 직접 파일을 조회하는 정적 리소스 리졸버
+ * 파일시스템 디렉토리로 매핑할 수 없는 저장소(팩 파일 등)의 파일을 서빙할 때 사용합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StorageResourceResolver implements ResourceResolver {
+
+    private final Storage storage;
+
+    @Override
+    @Nullable
+    public Resource resolveResource(@Nullable HttpServletRequest request, String requestPath,
+            List<? extends Resource> locations, ResourceResolverChain chain) {
+        try {
+            return storage.load(requestPath).orElse(null);
+        } catch (StorageException e) {
+            log.debug("정적 리소스 조회 실패: 경로={}, 오류={}", requestPath, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    @Nullable
+    public String resolveUrlPath(String resourcePath, List<? extends Resource> locations,
+            ResourceResolverChain chain) {
+        return storage.exists(resourcePath) ? resourcePath : null;
+    }
+}
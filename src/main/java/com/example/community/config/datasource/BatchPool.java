@@ -0,0 +1,32 @@
+package com.example.community.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 백그라운드 작업용 커넥션 풀 선택
+ * 이 범위 안에서 시작한 트랜잭션은 사용자 요청과 분리된 batch 풀을 사용합니다.
+ * (풀 분리가 비활성화되어 있으면 아무 영향 없음)
+ *
+ * 트랜잭션 시작 후 첫 SQL 실행 시점에 풀이 결정되므로, @Transactional 메서드 본문 안에서 감싸도 됩니다.
+ * 메서드 단위로 지정할 때는 @UsePool(Route.BATCH)을 사용합니다.
+ */
+public final class BatchPool {
+
+    private BatchPool() {
+    }
+
+    public static void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static <T> T call(Supplier<T> task) {
+        return PoolSelection.call(ReadWriteRoutingDataSource.Route.BATCH, task);
+    }
+
+    public static boolean isActive() {
+        return PoolSelection.current() == ReadWriteRoutingDataSource.Route.BATCH;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.community.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 용도별 커넥션 풀 설정 (app.datasource.pools.enabled=true 또는 app.datasource.replica.enabled=true)
+ * 백그라운드 작업이 사용자 요청의 커넥션을 점유하지 않도록 풀을 나눕니다.
+ *
+ * - interactive-write: spring.datasource.* (readOnly가 아닌 트랜잭션, Flyway 마이그레이션)
+ * - interactive-read: app.datasource.pools.interactive-read.* (readOnly 트랜잭션, 복제본 사용 시 복제본 연결)
+ * - batch: app.datasource.pools.batch.* (BatchPool 범위의 백그라운드 작업)
+ * 메서드/클래스 단위로는 @UsePool로 풀을 지정합니다.
+ *
+ * 풀마다 statement-timeout(SELECT 최대 실행 시간), lock-wait-timeout(행 잠금 대기)을 MySQL 세션 변수로 지정합니다.
+ * 풀 이름이 Hikari 지표의 pool 태그가 됩니다. (커넥션 대기 시간: hikaricp.connections.acquire)
+ *
+ * 애플리케이션(JPA)에는 LazyConnectionDataSourceProxy로 감싼 라우팅 DataSource를 제공합니다.
+ * OSIV 세션이 첫 트랜잭션의 커넥션을 요청 끝까지 붙잡지 않도록
+ * hibernate.connection.handling_mode를 DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION으로 함께 설정해야 합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("${app.datasource.pools.enabled:false} or ${app.datasource.replica.enabled:false}")
+public class ConnectionPoolsConfig {
+
+    public static final String INTERACTIVE_READ = "interactive-read";
+    public static final String INTERACTIVE_WRITE = "interactive-write";
+    public static final String BATCH = "batch";
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource interactiveWriteDataSource(DataSourceProperties properties, Environment env) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(INTERACTIVE_WRITE);
+        applySessionTimeouts(dataSource, INTERACTIVE_WRITE, env);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.pools.interactive-read.hikari")
+    public HikariDataSource interactiveReadDataSource(DataSourceProperties properties, Environment env,
+            @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled) {
+        HikariDataSource dataSource = new HikariDataSource();
+        if (replicaEnabled) {
+            dataSource.setJdbcUrl(env.getRequiredProperty("app.datasource.replica.url"));
+            dataSource.setUsername(env.getRequiredProperty("app.datasource.replica.username"));
+            dataSource.setPassword(env.getRequiredProperty("app.datasource.replica.password"));
+            // 복제본 커넥션은 쓰기를 허용하지 않음
+            dataSource.setReadOnly(true);
+        } else {
+            copyConnection(properties, dataSource);
+        }
+        dataSource.setPoolName(INTERACTIVE_READ);
+        applySessionTimeouts(dataSource, INTERACTIVE_READ, env);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.pools.batch.hikari")
+    public HikariDataSource batchDataSource(DataSourceProperties properties, Environment env) {
+        HikariDataSource dataSource = new HikariDataSource();
+        copyConnection(properties, dataSource);
+        dataSource.setPoolName(BATCH);
+        applySessionTimeouts(dataSource, BATCH, env);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("interactiveWriteDataSource") DataSource primary,
+            @Qualifier("interactiveReadDataSource") DataSource replica,
+            @Value("${app.datasource.replica.max-lag:3s}") Duration maxLag,
+            @Value("${app.datasource.replica.heartbeat-ms:1000}") long heartbeatMs,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primary, replica, maxLag, Duration.ofMillis(heartbeatMs), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("interactiveWriteDataSource") DataSource write,
+            @Qualifier("interactiveReadDataSource") DataSource read,
+            @Qualifier("batchDataSource") DataSource batch,
+            ObjectProvider<ReplicaLagMonitor> lagMonitor) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(write, read, batch, lagMonitor.getIfAvailable()));
+    }
+
+    // @UsePool 적용 (트랜잭션 프록시와 같은 자동 프록시 생성기가 적용하도록 인프라 역할로 등록)
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor usePoolAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(UsePool.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(UsePool.class));
+        return new DefaultPointcutAdvisor(pointcut, new UsePoolInterceptor());
+    }
+
+    // 인증 필터(토큰 검증 조회)보다 먼저 요청 범위를 열어야 하므로 보안 필터 체인 앞에 등록
+    @Bean
+    @ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${app.datasource.replica.sticky-window:5s}") Duration stickyWindow) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(stickyWindow));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private static void copyConnection(DataSourceProperties properties, HikariDataSource dataSource) {
+        dataSource.setJdbcUrl(properties.determineUrl());
+        dataSource.setUsername(properties.determineUsername());
+        dataSource.setPassword(properties.determinePassword());
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+    }
+
+    // 풀 단위 세션 타임아웃 (MySQL만, max_execution_time은 SELECT에만 적용됨)
+    private static void applySessionTimeouts(HikariDataSource dataSource, String pool, Environment env) {
+        String prefix = "app.datasource.pools." + pool + ".";
+        Duration statementTimeout = env.getProperty(prefix + "statement-timeout", Duration.class);
+        Duration lockWaitTimeout = env.getProperty(prefix + "lock-wait-timeout", Duration.class);
+        if (statementTimeout == null && lockWaitTimeout == null) {
+            return;
+        }
+        if (!dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+            log.warn("커넥션 풀 {}: MySQL이 아니므로 세션 타임아웃을 적용하지 않습니다", pool);
+            return;
+        }
+        StringBuilder sql = new StringBuilder("SET SESSION ");
+        if (statementTimeout != null) {
+            sql.append("max_execution_time = ").append(statementTimeout.toMillis());
+        }
+        if (lockWaitTimeout != null) {
+            if (statementTimeout != null) {
+                sql.append(", ");
+            }
+            sql.append("innodb_lock_wait_timeout = ").append(Math.max(1, lockWaitTimeout.toSeconds()));
+        }
+        dataSource.setConnectionInitSql(sql.toString());
+        log.info("커넥션 풀 {}: {}", pool, sql);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.community.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 커넥션 풀 벌크헤드 설정 (app.datasource.bulkhead.enabled=true)
+ * 모든 Hikari 풀(단일 풀 또는 primary/replica)을 BulkheadDataSource로 감쌉니다.
+ * 풀마다 동시 사용 한도 = 풀 최대 크기 + max-waiting
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.bulkhead.enabled", havingValue = "true")
+public class DataSourceBulkheadConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceBulkheadPostProcessor(
+            @Value("${app.datasource.bulkhead.max-waiting:20}") int maxWaiting,
+            @Value("${app.datasource.bulkhead.acquire-timeout:1s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    int maxConcurrent = hikari.getMaximumPoolSize() + maxWaiting;
+                    log.info("DB 벌크헤드 적용: 풀={}, 동시 사용 한도={}, 대기 한도={}",
+                            beanName, maxConcurrent, acquireTimeout);
+                    return new BulkheadDataSource(hikari, maxConcurrent, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
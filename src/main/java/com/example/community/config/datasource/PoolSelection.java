@@ -0,0 +1,47 @@
+package com.example.community.config.datasource;
+
+import com.example.community.config.datasource.ReadWriteRoutingDataSource.Route;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에서 선택한 커넥션 풀 (BatchPool, @UsePool이 설정)
+ * 범위를 벗어나면 바깥 범위의 선택으로 돌아갑니다.
+ */
+public final class PoolSelection {
+
+    private static final ThreadLocal<Route> SELECTED = new ThreadLocal<>();
+
+    private PoolSelection() {
+    }
+
+    public static <T> T call(Route route, Supplier<T> task) {
+        Route previous = enter(route);
+        try {
+            return task.get();
+        } finally {
+            exit(previous);
+        }
+    }
+
+    /**
+     * @return 선택한 풀 (없으면 null)
+     */
+    public static Route current() {
+        return SELECTED.get();
+    }
+
+    static Route enter(Route route) {
+        Route previous = SELECTED.get();
+        SELECTED.set(route);
+        return previous;
+    }
+
+    static void exit(Route previous) {
+        if (previous == null) {
+            SELECTED.remove();
+        } else {
+            SELECTED.set(previous);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.community.config.datasource;
+
+/**
+ * 요청 단위 읽기 라우팅 상태
+ * 요청을 처리하는 동안 읽기 전용 트랜잭션도 primary로 보내야 하는지 여부를 보관합니다.
+ * (요청 범위 밖의 스레드 - 스케줄러 등 - 에서는 항상 false)
+ */
+public final class PrimaryReadContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private PrimaryReadContext() {
+    }
+
+    /**
+     * 요청 범위 시작
+     *
+     * @param primaryRequired 이 요청의 읽기를 primary에서 처리할지 여부
+     */
+    public static void begin(boolean primaryRequired) {
+        PRIMARY_REQUIRED.set(primaryRequired);
+    }
+
+    // 요청 범위 종료 (스레드 재사용 시 상태가 남지 않도록 반드시 호출)
+    public static void end() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+}
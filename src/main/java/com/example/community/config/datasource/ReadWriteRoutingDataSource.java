@@ -0,0 +1,63 @@
+package com.example.community.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 용도별 커넥션 풀로 보내는 라우팅 DataSource
+ *
+ * - batch: BatchPool 범위 안의 작업 (백그라운드 작업), @UsePool(BATCH)
+ * - interactive-write: readOnly가 아닌 트랜잭션, @UsePool(INTERACTIVE_WRITE)의 readOnly 트랜잭션
+ * - interactive-read: readOnly 트랜잭션
+ *
+ * 읽기 풀이 복제본이면 다음 경우 읽기도 interactive-write(primary)로 보냅니다.
+ * - 복제 지연이 허용 범위를 넘음 (ReplicaLagMonitor)
+ * - 요청이 자기 쓰기 직후 구간 (PrimaryReadContext)
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 첫 SQL 실행 시점에 대상을 정하도록 해야 합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        INTERACTIVE_READ, INTERACTIVE_WRITE, BATCH
+    }
+
+    // 읽기 풀이 복제본이 아니면 null
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReadWriteRoutingDataSource(DataSource write, DataSource read, DataSource batch,
+            ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(
+                Route.INTERACTIVE_WRITE, write,
+                Route.INTERACTIVE_READ, read,
+                Route.BATCH, batch));
+        setDefaultTargetDataSource(write);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    // 현재 스레드의 작업/트랜잭션/요청 상태로 결정되는 대상
+    Route currentRoute() {
+        Route selected = PoolSelection.current();
+        if (selected == Route.BATCH) {
+            return Route.BATCH;
+        }
+        // 읽기 풀 선택은 쓰기 트랜잭션을 읽기 풀로 보내지 않음
+        if (selected == Route.INTERACTIVE_WRITE || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.INTERACTIVE_WRITE;
+        }
+        if (lagMonitor != null && (PrimaryReadContext.isPrimaryRequired() || !lagMonitor.isReplicaUsable())) {
+            return Route.INTERACTIVE_WRITE;
+        }
+        return Route.INTERACTIVE_READ;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.community.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 자기 쓰기 직후 읽기(read-your-writes) 보장 필터
+ * 쓰기 요청(POST/PUT/PATCH/DELETE)을 보낸 클라이언트는 sticky-window 동안 읽기도 primary에서 처리합니다.
+ * 복제 지연 때문에 방금 작성/수정한 글이 목록이나 상세에 보이지 않는 현상을 막습니다.
+ *
+ * - 상태는 쿠키(만료 시각)로 전달하므로 여러 인스턴스 어디로 요청이 가도 동일하게 동작합니다.
+ * - 쿠키 값은 sticky-window 이내의 만료 시각만 인정합니다 (임의로 늘린 값 무시).
+ * - 쓰기 요청 자체도 요청 내 모든 읽기를 primary에서 처리합니다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "primary_read_until";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final Duration stickyWindow;
+
+    public ReadYourWritesFilter(Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = WRITE_METHODS.contains(req.getMethod());
+        if (write) {
+            // 응답 본문이 쓰이기 전에 설정해야 하므로 처리 결과와 무관하게 먼저 발급
+            res.addHeader("Set-Cookie", ResponseCookie.from(COOKIE_NAME, Long.toString(now + stickyWindow.toMillis()))
+                    .path("/")
+                    .maxAge(stickyWindow)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+        PrimaryReadContext.begin(write || withinWindow(req, now));
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            PrimaryReadContext.end();
+        }
+    }
+
+    // 쿠키의 만료 시각이 아직 지나지 않았고 sticky-window를 넘지 않는지 확인
+    private boolean withinWindow(HttpServletRequest req, long now) {
+        Cookie[] cookies = req.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    long until = Long.parseLong(cookie.getValue());
+                    return until > now && until <= now + stickyWindow.toMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.community.config.datasource;
+
+import com.example.community.config.SchedulingConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 지연 감시
+ * primary의 replica_heartbeat 행에 현재 시각을 기록하고, 복제본에 반영된 값과 비교해 지연을 계산합니다.
+ *
+ * - 지연이 max-lag을 넘거나 복제본 조회에 실패하면 복제본 사용을 중단하고 읽기도 primary로 보냅니다.
+ * - 복제본은 직전 주기의 기록을 가지고 있으므로 측정값에는 최대 하트비트 주기만큼의 오차가 포함됩니다.
+ *   (max-lag은 하트비트 주기보다 충분히 크게 설정)
+ * - 첫 측정 전에는 복제본을 사용하지 않습니다.
+ * - 마지막 성공 측정이 max-lag + 하트비트 주기보다 오래되면(측정 작업 지연, 조회 멈춤) 사용하지 않습니다.
+ * - 지표: db.replica.lag (ms, 측정 실패 시 -1)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String WRITE_BEAT = "UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1";
+    private static final String READ_BEAT = "SELECT beat_at FROM replica_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private final long staleAfterNanos;
+
+    private volatile long lagMillis = -1;
+    private volatile boolean replicaUsable;
+    // 마지막으로 사용 가능하다고 측정한 시각 (nanoTime)
+    private volatile long usableMeasuredAt;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, Duration heartbeat,
+            MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLag.toMillis();
+        this.staleAfterNanos = maxLag.plus(heartbeat).toNanos();
+        Gauge.builder("db.replica.lag", this, ReplicaLagMonitor::lagMillis).baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 하트비트 기록 후 복제본 지연 측정 (배치 작업에 밀리지 않도록 전용 실행기에서 실행)
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.heartbeat-ms:1000}",
+            scheduler = SchedulingConfig.POLLING_SCHEDULER)
+    public void check() {
+        long now = System.currentTimeMillis();
+        try {
+            primary.update(WRITE_BEAT, now);
+        } catch (DataAccessException e) {
+            // primary 기록 실패는 지연 판단에 영향 없음 (복제본 값이 오래되면 자연히 지연으로 판단)
+            log.warn("복제 하트비트 기록 실패: {}", e.getMessage());
+        }
+        try {
+            Long beatAt = replica.queryForObject(READ_BEAT, Long.class);
+            record(beatAt == null ? -1 : Math.max(0, now - beatAt));
+        } catch (DataAccessException e) {
+            log.warn("복제본 하트비트 조회 실패: {}", e.getMessage());
+            record(-1);
+        }
+    }
+
+    // 측정값 반영 (-1: 측정 실패), 사용 가능 여부가 바뀔 때만 로그
+    void record(long lag) {
+        boolean usable = lag >= 0 && lag <= maxLagMillis;
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("읽기 복제본 사용 재개: 지연={}ms", lag);
+            } else {
+                log.warn("읽기 복제본 사용 중단 (primary로 읽기): 지연={}ms, 허용={}ms", lag, maxLagMillis);
+            }
+        }
+        if (usable) {
+            this.usableMeasuredAt = System.nanoTime();
+        }
+        this.lagMillis = lag;
+        this.replicaUsable = usable;
+    }
+
+    /**
+     * 복제본 사용 가능 여부 (측정이 멈춰 마지막 측정이 오래되었으면 사용하지 않음)
+     */
+    public boolean isReplicaUsable() {
+        return replicaUsable && System.nanoTime() - usableMeasuredAt <= staleAfterNanos;
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+}
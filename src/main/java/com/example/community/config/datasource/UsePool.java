@@ -0,0 +1,28 @@
+package com.example.community.config.datasource;
+
+import com.example.community.config.datasource.ReadWriteRoutingDataSource.Route;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드(또는 클래스의 모든 메서드)에서 시작하는 트랜잭션의 커넥션 풀 지정
+ * 풀 분리가 비활성화되어 있으면 아무 영향 없음
+ *
+ * - BATCH: 백그라운드 작업용 batch 풀 (BatchPool.run과 같음)
+ * - INTERACTIVE_WRITE: readOnly 트랜잭션도 primary에서 실행 (복제 지연 없이 최신 값을 읽어야 하는 경우)
+ * - INTERACTIVE_READ: 기본 동작과 같음 (readOnly가 아닌 트랜잭션은 항상 primary)
+ *
+ * 풀은 트랜잭션의 첫 SQL 실행 시점에 정해지므로, 이미 커넥션을 잡은 바깥 트랜잭션에 참여하는 경우에는 적용되지 않습니다.
+ * 프록시를 거치는 호출에만 적용됩니다. (같은 클래스 안의 호출 제외, @Transactional과 같음)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface UsePool {
+
+    Route value();
+}
@@ -0,0 +1,37 @@
+package com.example.community.config.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * @UsePool 메서드 호출 동안 풀 선택 (메서드 지정이 클래스 지정보다 우선)
+ */
+class UsePoolInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        UsePool usePool = find(invocation);
+        if (usePool == null) {
+            return invocation.proceed();
+        }
+        ReadWriteRoutingDataSource.Route previous = PoolSelection.enter(usePool.value());
+        try {
+            return invocation.proceed();
+        } finally {
+            PoolSelection.exit(previous);
+        }
+    }
+
+    private static UsePool find(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+        UsePool usePool = AnnotatedElementUtils.findMergedAnnotation(method, UsePool.class);
+        return usePool != null ? usePool : AnnotatedElementUtils.findMergedAnnotation(targetClass, UsePool.class);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.community.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로컬 캐시 무효화 로그 항목
+ * 캐시 대상 데이터를 바꾸는 트랜잭션에서 함께 기록되며, 각 노드가 주기적으로 읽어 자기 캐시를 무효화합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "cache_change_log", indexes = {
+        @Index(name = "idx_cache_change_created_at", columnList = "created_at")
+})
+public class CacheChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 변경된 대상 종류 (CacheChangeLog.BOARD, CacheChangeLog.POST)
+    @Column(name = "entity_type", nullable = false, length = 30)
+    private String entityType;
+
+    // 변경된 대상 식별자
+    @Column(name = "entity_id", nullable = false, length = 100)
+    private String entityId;
+
+    // 기록 시점의 엔티티 버전 (버전이 없는 대상은 0)
+    @Column(nullable = false)
+    private long version;
+
+    // 기록한 노드 (자기 변경은 이미 반영했으므로 건너뜀)
+    @Column(nullable = false, length = 36)
+    private String origin;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
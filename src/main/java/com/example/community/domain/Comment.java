@@ -1,6 +1,7 @@
 package com.example.community.domain;
 
 import com.example.community.domain.support.BaseTimeEntity;
+import com.example.community.domain.support.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -20,7 +21,10 @@ public class Comment extends BaseTimeEntity {
 
     // PK
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id")
+    @TableGenerator(name = "comment_id", table = IdSequences.TABLE, pkColumnName = IdSequences.PK_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "comments",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     // 소속 게시글
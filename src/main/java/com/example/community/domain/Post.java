@@ -1,9 +1,12 @@
 package com.example.community.domain;
 
 import com.example.community.domain.support.BaseTimeEntity;
+import com.example.community.domain.support.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,11 +19,17 @@ import java.util.List;
         @Index(name = "idx_post_author", columnList = "author_id"),
         @Index(name = "idx_post_created_id", columnList = "created_at DESC, id DESC"),
         @Index(name = "idx_post_like_created_id", columnList = "like_count DESC, created_at DESC, id DESC"),
-        @Index(name = "idx_post_boardtype_created_id", columnList = "board_type, created_at DESC, id DESC")
+        @Index(name = "idx_post_boardtype_created_id", columnList = "board_type, created_at DESC, id DESC"),
+        @Index(name = "idx_post_deleted_at", columnList = "deleted_at")
 })
+// 삭제 표시된 게시글은 모든 조회에서 제외 (실제 행은 PostPurger가 정리)
+@SQLRestriction("deleted_at IS NULL")
 public class Post extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id")
+    @TableGenerator(name = "post_id", table = IdSequences.TABLE, pkColumnName = IdSequences.PK_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "posts",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -49,6 +58,10 @@ public class Post extends BaseTimeEntity {
     @Version // 낙관적 락으로 동시성 제어
     private Long version;
 
+    // 삭제 표시 시각 (null이면 정상 게시글)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @Builder.Default
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostImage> images = new ArrayList<>();
@@ -58,6 +71,13 @@ public class Post extends BaseTimeEntity {
         this.viewCount++;
     }
 
+    // 비즈니스 메서드: 삭제 표시 (댓글/좋아요/이미지와 행 삭제는 백그라운드에서 처리)
+    public void markDeleted(LocalDateTime at) {
+        if (this.deletedAt == null) {
+            this.deletedAt = at;
+        }
+    }
+
     // 비즈니스 메서드: 게시글 내용 수정
     public void updateContent(String title, String content) {
         validateTitle(title);
@@ -1,6 +1,7 @@
 package com.example.community.domain;
 
 import com.example.community.domain.support.BaseTimeEntity;
+import com.example.community.domain.support.IdSequences;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,10 +13,16 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "post_images", indexes = @Index(name = "idx_post_images_post", columnList = "post_id"))
+@Table(name = "post_images", indexes = {
+        @Index(name = "idx_post_images_post", columnList = "post_id"),
+        @Index(name = "idx_post_images_file_key", columnList = "file_key")
+})
 public class PostImage extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_image_id")
+    @TableGenerator(name = "post_image_id", table = IdSequences.TABLE, pkColumnName = IdSequences.PK_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "post_images",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
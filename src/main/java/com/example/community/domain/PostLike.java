@@ -1,5 +1,6 @@
 package com.example.community.domain;
 
+import com.example.community.domain.support.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -17,7 +18,10 @@ import java.time.LocalDateTime;
         })
 public class PostLike {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_like_id")
+    @TableGenerator(name = "post_like_id", table = IdSequences.TABLE, pkColumnName = IdSequences.PK_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "post_likes",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
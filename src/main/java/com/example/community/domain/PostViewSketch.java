@@ -0,0 +1,38 @@
+package com.example.community.domain;
+
+import com.example.community.domain.support.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 게시글별 고유 조회자 스케치 (HyperLogLog 직렬화 값)
+ * 각 노드가 메모리에 모은 조회자를 주기적으로 병합해 저장하고,
+ * 추정값이 늘어난 만큼만 게시글 조회수에 반영합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "post_view_sketches")
+public class PostViewSketch extends BaseTimeEntity {
+
+    // 게시글 ID (게시글 행 정리 시 함께 삭제)
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    // 직렬화된 스케치 (조회자가 적으면 수백 바이트, 많아도 6KB 이하)
+    @Column(nullable = false, length = 8192)
+    private byte[] sketch;
+
+    // 조회수에 반영한 고유 조회자 추정값
+    @Column(nullable = false)
+    private long counted;
+
+    // 병합한 스케치 저장 및 반영한 추정값 갱신
+    public void update(byte[] sketch, long counted) {
+        this.sketch = sketch;
+        this.counted = counted;
+    }
+}
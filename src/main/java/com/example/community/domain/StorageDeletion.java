@@ -0,0 +1,55 @@
+package com.example.community.domain;
+
+import com.example.community.domain.support.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소 파일 삭제 대기열 항목 (트랜잭셔널 아웃박스)
+ * 게시글/이미지 삭제와 같은 트랜잭션에서 기록되며, 백그라운드 작업이 실제 파일을 삭제한 뒤 제거합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "storage_deletion_outbox", indexes = {
+        @Index(name = "idx_storage_deletion_next_attempt", columnList = "next_attempt_at, id"),
+        @Index(name = "idx_storage_deletion_file_key", columnList = "file_key")
+})
+public class StorageDeletion extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 삭제할 파일 키
+    @Column(name = "file_key", nullable = false)
+    private String fileKey;
+
+    // 시도 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 다음 시도 가능 시각
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막 실패 사유
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // 처리 선점 (until까지 다른 인스턴스가 가져가지 않음, 처리 전에 중단되면 그 후 다시 처리)
+    public void claim(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    // 삭제 실패 기록 및 재시도 시각 설정
+    public void markFailed(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
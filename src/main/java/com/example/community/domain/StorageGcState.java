@@ -0,0 +1,63 @@
+package com.example.community.domain;
+
+import com.example.community.domain.support.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소 정리 작업(GC) 진행 상태
+ * 작업별로 한 행을 두고 마지막으로 처리한 키(커서)와 누적 회수량을 기록하여
+ * 재기동 후에도 이어서 진행할 수 있도록 합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "storage_gc_state")
+public class StorageGcState extends BaseTimeEntity {
+
+    // 작업 이름 (예: orphan-images)
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    // 마지막으로 처리한 파일 키 (null이면 처음부터)
+    @Column(name = "cursor_key")
+    private String cursorKey;
+
+    // 현재 회차 시작 시각
+    @Column(name = "pass_started_at")
+    private LocalDateTime passStartedAt;
+
+    // 마지막 회차 완료 시각
+    @Column(name = "last_pass_completed_at")
+    private LocalDateTime lastPassCompletedAt;
+
+    // 누적 삭제 파일 수
+    @Column(name = "reclaimed_files", nullable = false)
+    private long reclaimedFiles;
+
+    // 누적 회수 바이트
+    @Column(name = "reclaimed_bytes", nullable = false)
+    private long reclaimedBytes;
+
+    // 배치 처리 후 커서 전진 및 회수량 누적
+    public void advance(String cursorKey, int files, long bytes) {
+        if (this.cursorKey == null && this.passStartedAt == null) {
+            this.passStartedAt = LocalDateTime.now();
+        }
+        this.cursorKey = cursorKey;
+        this.reclaimedFiles += files;
+        this.reclaimedBytes += bytes;
+    }
+
+    // 전체 순회 완료: 커서 초기화
+    public void completePass() {
+        this.cursorKey = null;
+        this.passStartedAt = null;
+        this.lastPassCompletedAt = LocalDateTime.now();
+    }
+}
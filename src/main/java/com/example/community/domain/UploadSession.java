@@ -0,0 +1,87 @@
+package com.example.community.domain;
+
+import com.example.community.domain.support.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이어받기(청크) 업로드 세션
+ * 클라이언트가 파일을 여러 조각으로 나누어 전송하는 동안 진행 상태를 기록합니다.
+ * 조각 데이터는 세션 임시 파일에 추가되며, 재기동 후에도 받은 위치부터 이어서 업로드할 수 있습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "upload_sessions", indexes = {
+        @Index(name = "idx_upload_sessions_member", columnList = "member_id"),
+        @Index(name = "idx_upload_sessions_expires_at", columnList = "expires_at")
+})
+public class UploadSession extends BaseTimeEntity {
+
+    // 세션 ID (URL-safe 랜덤 문자열, 추측 불가)
+    @Id
+    @Column(length = 32)
+    private String id;
+
+    // 업로드 요청자 ID
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    // 원본 파일명
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    // 선언된 MIME 타입 (완료 시 파일 시그니처와 대조)
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    // 전체 파일 크기
+    @Column(name = "total_size", nullable = false)
+    private long totalSize;
+
+    // 지금까지 받은 바이트 수 (다음 조각의 시작 위치)
+    @Column(name = "received_bytes", nullable = false)
+    private long receivedBytes;
+
+    // 만료 시각 (조각을 받을 때마다 연장)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 완료 처리 시작 시각 (저장소에 저장하는 동안 설정, 진행 중이 아니면 null)
+    @Column(name = "completing_at")
+    private LocalDateTime completingAt;
+
+    // 조각 수신 반영
+    public void advance(long receivedBytes, LocalDateTime expiresAt) {
+        this.receivedBytes = Math.max(this.receivedBytes, receivedBytes);
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isComplete() {
+        return receivedBytes == totalSize;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    // 완료 처리 시작 (저장소 쓰기는 잠금을 놓은 뒤 진행)
+    public void startCompleting(LocalDateTime now, LocalDateTime expiresAt) {
+        this.completingAt = now;
+        this.expiresAt = expiresAt;
+    }
+
+    // 저장 실패 시 다시 완료할 수 있도록 되돌림
+    public void completionFailed() {
+        this.completingAt = null;
+    }
+
+    // staleBefore 이후 시작된 완료 처리가 있는지 (그 전에 시작된 처리는 중단된 것으로 봄)
+    public boolean isCompleting(LocalDateTime staleBefore) {
+        return completingAt != null && completingAt.isAfter(staleBefore);
+    }
+}
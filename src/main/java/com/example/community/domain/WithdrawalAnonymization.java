@@ -0,0 +1,74 @@
+package com.example.community.domain;
+
+import com.example.community.domain.support.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴 회원 댓글 익명화 작업
+ * 탈퇴 트랜잭션에서 등록되며, 백그라운드 작업이 댓글 내용을 ID 구간 단위로 지웁니다.
+ * 구간을 처리할 때마다 같은 트랜잭션에서 커서(마지막 처리 ID)를 기록하므로 중단 후에도 이어서 진행합니다.
+ * 게시글/댓글의 탈퇴 표시는 저장하지 않고 응답 변환 시 작성자 상태(Member.active)로 결정합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "withdrawal_anonymization_jobs", indexes = {
+        @Index(name = "idx_withdrawal_anon_next_attempt", columnList = "next_attempt_at, id")
+})
+public class WithdrawalAnonymization extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 탈퇴한 회원 ID
+    @Column(name = "member_id", nullable = false, unique = true)
+    private Long memberId;
+
+    // 마지막으로 처리한 댓글 ID (0이면 처음부터)
+    @Column(name = "cursor_id", nullable = false)
+    private long cursorId;
+
+    // 누적 처리 댓글 수
+    @Column(name = "processed_comments", nullable = false)
+    private long processedComments;
+
+    // 시도 횟수 (실패 시 증가)
+    @Column(nullable = false)
+    private int attempts;
+
+    // 다음 처리 가능 시각
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막 실패 사유
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public static WithdrawalAnonymization start(Long memberId, LocalDateTime now) {
+        return WithdrawalAnonymization.builder()
+                .memberId(memberId)
+                .cursorId(0)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    // 구간 처리 후 커서 전진 및 처리량 누적
+    public void advance(long cursorId, int updated) {
+        this.cursorId = cursorId;
+        this.processedComments += updated;
+    }
+
+    // 처리 실패 기록 및 재시도 시각 설정
+    public void markFailed(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.community.domain.auth;
 
 import com.example.community.domain.Member;
 import com.example.community.domain.support.BaseTimeEntity;
+import com.example.community.domain.support.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -25,7 +26,10 @@ public class RefreshToken extends BaseTimeEntity {
 
     // PK
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "refresh_token_id")
+    @TableGenerator(name = "refresh_token_id", table = IdSequences.TABLE, pkColumnName = IdSequences.PK_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "refresh_tokens",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     // 토큰 해시값(Base64, 44자)
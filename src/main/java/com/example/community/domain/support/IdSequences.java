@@ -0,0 +1,20 @@
+package com.example.community.domain.support;
+
+/**
+ * 테이블 기반 ID 생성 설정 (@TableGenerator 공통 값)
+ * IDENTITY 전략은 INSERT 시점에 ID가 정해져 JDBC 배치 INSERT가 불가능하므로,
+ * id_sequences 테이블에서 ALLOCATION_SIZE 단위로 ID 구간을 미리 받아(pooled) 메모리에서 할당합니다.
+ * MySQL/H2 모두 같은 방식으로 동작하며, 인스턴스마다 구간을 따로 받으므로 ID 순서와 생성 순서는 다를 수 있습니다.
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String PK_COLUMN = "seq_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    // 한 번에 받아오는 ID 수 (hibernate.jdbc.batch_size와 맞춤)
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+}
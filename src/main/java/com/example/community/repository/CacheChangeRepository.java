@@ -0,0 +1,37 @@
+package com.example.community.repository;
+
+import com.example.community.domain.CacheChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 로컬 캐시 무효화 로그에 대한 데이터 접근 인터페이스
+ */
+public interface CacheChangeRepository extends JpaRepository<CacheChange, Long> {
+
+    /**
+     * 커서 이후 항목과, 앞서 비어 있던 ID(늦게 커밋된 트랜잭션) 중 지금 보이는 항목을 ID 순으로 조회
+     */
+    @Query("SELECT c FROM CacheChange c WHERE c.id > :cursor OR c.id IN :gaps ORDER BY c.id")
+    List<CacheChange> findAfter(@Param("cursor") long cursor, @Param("gaps") Collection<Long> gaps,
+            Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CacheChange c")
+    long findMaxId();
+
+    /**
+     * 보관 기간이 지난 항목 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM CacheChange c WHERE c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,6 +2,7 @@ package com.example.community.repository;
 
 import com.example.community.domain.Comment;
 import com.example.community.repository.dto.CommentProjection;
+import com.example.community.repository.dto.CommentVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 댓글 엔티티에 대한 데이터 접근 인터페이스
@@ -37,7 +41,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("""
             SELECT new com.example.community.repository.dto.CommentProjection(
                 c.id, c.content, c.createdAt,
-                new com.example.community.repository.dto.CommentProjection$MemberDto(c.author.id, c.author.username),
+                new com.example.community.repository.dto.CommentProjection$MemberDto(c.author.id, c.author.username, c.author.active),
                 c.post.id)
             FROM Comment c
             WHERE c.post.id = :postId
@@ -45,15 +49,75 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     Page<CommentProjection> findProjectionsByPostId(@Param("postId") Long postId, Pageable pageable);
 
     /**
-     * 특정 회원이 작성한 모든 댓글에서 내용을 익명화
-     * 회원 탈퇴 시 사용됩니다.
+     * 게시글 댓글 목록의 변경 여부 판단용 값 조회 (댓글 내용은 읽지 않음)
+     * post_id 인덱스 범위와 작성자 PK 조회만 사용합니다.
+     *
+     * @param postId 게시글 ID
+     * @return 댓글 수, 마지막 댓글 ID(없으면 null), 댓글 ID 합, 활성 작성자의 댓글 수
+     */
+    @Query("""
+            SELECT new com.example.community.repository.dto.CommentVersion(
+                :postId, COUNT(c), MAX(c.id), COALESCE(SUM(c.id), 0L),
+                COALESCE(SUM(CASE WHEN a.active = true THEN 1L ELSE 0L END), 0L))
+            FROM Comment c JOIN c.author a
+            WHERE c.post.id = :postId
+            """)
+    CommentVersion findVersionByPostId(@Param("postId") Long postId);
+
+    /**
+     * 특정 회원이 작성한 댓글 ID를 커서 이후부터 오름차순으로 조회
+     * 탈퇴 익명화 작업이 처리할 ID 구간의 끝을 정하는 데 사용합니다.
+     * 
+     * @param memberId 회원 ID
+     * @param afterId  마지막으로 처리한 댓글 ID (이 ID 초과부터 조회)
+     * @param pageable 조회 개수
+     * @return 댓글 ID 목록
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.author.id = :memberId AND c.id > :afterId ORDER BY c.id")
+    List<Long> findIdsByAuthorIdAfter(@Param("memberId") Long memberId, @Param("afterId") long afterId,
+            Pageable pageable);
+
+    /**
+     * 특정 회원이 작성한 댓글 중 ID 구간 (fromId, toId]의 내용을 익명화
+     * 회원 탈퇴 후 익명화 작업이 구간 단위로 호출합니다.
      * 
      * @param memberId 회원 ID
+     * @param fromId   구간 시작 (미포함)
+     * @param toId     구간 끝 (포함)
      * @return 영향 받은 행 수
      */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("UPDATE Comment c SET c.content = '[삭제된 댓글입니다]' WHERE c.author.id = :memberId")
-    int anonymizeByAuthorId(@Param("memberId") Long memberId);
+    @Query("UPDATE Comment c SET c.content = '[삭제된 댓글입니다]' WHERE c.author.id = :memberId AND c.id > :fromId AND c.id <= :toId")
+    int anonymizeInRange(@Param("memberId") Long memberId, @Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 특정 게시글의 댓글 ID 조회 (삭제된 게시글 정리용)
+     * 
+     * @param postId   게시글 ID
+     * @param pageable 조회 개수
+     * @return 댓글 ID 목록
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.post.id = :postId ORDER BY c.id")
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 댓글 ID 목록으로 벌크 삭제 (삭제된 게시글 정리용)
+     * 
+     * @param ids 댓글 ID 목록
+     * @return 삭제된 row 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 댓글이 달린 게시글 ID 조회 (삭제 전 캐시 무효화 대상 확인용)
+     * 
+     * @param id 댓글 ID
+     * @return 게시글 ID (댓글이 없으면 empty)
+     */
+    @Query("SELECT c.post.id FROM Comment c WHERE c.id = :id")
+    Optional<Long> findPostIdById(@Param("id") Long id);
 
     /**
      * 관리자: 댓글 ID로 벌크 삭제 (select 없이 바로 delete)
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.LockModeType;
 import java.util.Optional;
@@ -18,10 +19,13 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     /**
      * 회원 id로 토큰 버전 조회 (JWT id 기반 검증용)
+     * 읽기 전용 트랜잭션이 아니므로 복제본 라우팅 시에도 항상 primary에서 조회합니다.
+     * (로그아웃/탈퇴로 무효화된 토큰이 복제 지연 동안 통과하지 않도록)
      * 
      * @param id 회원 id
      * @return 토큰 버전
      */
+    @Transactional
     @Query("SELECT m.tokenVersion FROM Member m WHERE m.id = :id")
     Integer findTokenVersionById(@Param("id") Long id);
 
@@ -44,4 +48,16 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @QueryHints(@jakarta.persistence.QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
     @Query("SELECT m FROM Member m WHERE m.id = :id")
     Optional<Member> findByIdWithPessimisticLock(@Param("id") Long id);
+
+    /**
+     * 게시글이 존재할 때만 작성자 조회 (댓글 작성, 좋아요 토글용)
+     * 게시글 존재 확인과 작성자 조회를 쿼리 한 번으로 처리합니다.
+     * 게시글은 PK 존재 여부만 확인하므로 본문(LONGTEXT)을 읽지 않습니다.
+     *
+     * @param memberId 작성자 ID
+     * @param postId   게시글 ID (삭제 표시된 게시글은 제외)
+     * @return 작성자 (게시글 또는 작성자가 없으면 empty)
+     */
+    @Query("SELECT m FROM Member m WHERE m.id = :memberId AND EXISTS (SELECT 1 FROM Post p WHERE p.id = :postId)")
+    Optional<Member> findByIdIfPostExists(@Param("memberId") Long memberId, @Param("postId") Long postId);
 }
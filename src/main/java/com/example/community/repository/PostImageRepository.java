@@ -1,10 +1,16 @@
 package com.example.community.repository;
 
 import com.example.community.domain.PostImage;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 게시글 이미지 엔티티에 대한 데이터 접근 인터페이스
@@ -21,4 +27,38 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     int deleteByFileKeyAndPost_Author_Id(String fileKey, Long authorId);
 
+    /**
+     * 주어진 파일 키 중 게시글에 연결된 키만 조회 (고아 파일 판별용 일괄 IN 쿼리)
+     * 
+     * @param fileKeys 확인할 파일 키 목록
+     * @return 참조 중인 파일 키 목록
+     */
+    @Query("SELECT DISTINCT pi.fileKey FROM PostImage pi WHERE pi.fileKey IN :fileKeys")
+    List<String> findReferencedFileKeys(@Param("fileKeys") Collection<String> fileKeys);
+
+    /**
+     * 주어진 파일 키를 참조하는 이미지를 잠금과 함께 조회 (고아 파일 삭제 직전 재확인용)
+     * file_key 인덱스 범위를 잠그므로, 트랜잭션이 끝날 때까지 같은 키를 참조하는 이미지 추가가 대기합니다.
+     *
+     * @param fileKeys 삭제하려는 파일 키 목록
+     * @return 참조 중인 이미지 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pi FROM PostImage pi WHERE pi.fileKey IN :fileKeys")
+    List<PostImage> findByFileKeyInForUpdate(@Param("fileKeys") Collection<String> fileKeys);
+
+    /**
+     * 특정 게시글의 이미지 조회 (삭제된 게시글 정리용)
+     */
+    @Query("SELECT pi FROM PostImage pi WHERE pi.post.id = :postId ORDER BY pi.id")
+    List<PostImage> findByPostIdOrderById(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 이미지 ID 목록으로 벌크 삭제 (삭제된 게시글 정리용)
+     * 
+     * @return 삭제된 row 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM PostImage pi WHERE pi.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -2,7 +2,13 @@ package com.example.community.repository;
 
 import com.example.community.domain.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 게시글 좋아요 엔티티에 대한 데이터 접근 인터페이스
@@ -11,14 +17,31 @@ import org.springframework.data.jpa.repository.Modifying;
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     /**
      * postId, memberId로 좋아요 삭제 (TOCTOU-safe)
+     * 엔티티를 먼저 조회하지 않고 DELETE 한 번으로 처리합니다.
      * 
      * @return 삭제된 row 수
      */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    int deleteByPostIdAndMemberId(Long postId, Long memberId);
+    @Query("DELETE FROM PostLike l WHERE l.post.id = :postId AND l.member.id = :memberId")
+    int deleteByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
 
     /**
      * postId, memberId로 좋아요 존재 여부
      */
     boolean existsByPostIdAndMemberId(Long postId, Long memberId);
+
+    /**
+     * 특정 게시글의 좋아요 ID 조회 (삭제된 게시글 정리용)
+     */
+    @Query("SELECT l.id FROM PostLike l WHERE l.post.id = :postId ORDER BY l.id")
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 좋아요 ID 목록으로 벌크 삭제 (삭제된 게시글 정리용)
+     * 
+     * @return 삭제된 row 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM PostLike l WHERE l.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.QueryHints;
 
 import com.example.community.domain.BoardType;
 import com.example.community.domain.Post;
+import com.example.community.repository.dto.PostVersion;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,10 +13,13 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -55,6 +59,51 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         @Query("SELECT p FROM Post p WHERE p.id = :id")
         Optional<Post> findByIdForUpdate(@Param("id") Long id);
 
+        /**
+         * 여러 게시글에 삭제 표시 (관리자 일괄 삭제용)
+         * 이미 삭제 표시된 게시글은 건너뜁니다.
+         * 단건 삭제(엔티티 변경)와 같이 버전을 올려, 삭제 전 버전으로 수정하려는 요청이 충돌로 실패하도록 합니다.
+         * 
+         * @param ids 게시글 ID 목록
+         * @param now 삭제 표시 시각
+         * @return 삭제 표시된 행 수
+         */
+        @Modifying(clearAutomatically = true, flushAutomatically = true)
+        @Query("UPDATE Post p SET p.deletedAt = :now, p.version = p.version + 1 WHERE p.id IN :ids AND p.deletedAt IS NULL")
+        int markDeletedByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+        /**
+         * 삭제 표시된 게시글 ID를 잠금과 함께 조회 (먼저 삭제된 순, 정리 작업용)
+         * 다른 인스턴스가 정리 중인(잠근) 게시글은 건너뜁니다(SKIP LOCKED).
+         * 엔티티 조회는 삭제 표시된 게시글을 제외하므로 네이티브 쿼리를 사용합니다.
+         * 
+         * @param limit 조회 개수
+         * @return 게시글 ID 목록
+         */
+        @Query(value = "SELECT id FROM posts WHERE deleted_at IS NOT NULL ORDER BY deleted_at, id LIMIT :limit "
+                + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+        List<Long> findDeletedIdsForUpdate(@Param("limit") int limit);
+
+        /**
+         * 삭제되지 않은 게시글 ID를 오름차순으로 조회 (존재 여부 필터 구성용, ID 기준 키셋 페이징)
+         *
+         * @param after 이 ID 다음부터 조회
+         * @param pageable 조회 개수
+         * @return 게시글 ID 목록
+         */
+        @Query("SELECT p.id FROM Post p WHERE p.id > :after ORDER BY p.id")
+        List<Long> findIdsAfter(@Param("after") long after, Pageable pageable);
+
+        /**
+         * 삭제 표시된 게시글 행 제거 (댓글/좋아요/이미지를 모두 정리한 뒤 호출)
+         * 
+         * @param id 게시글 ID
+         * @return 삭제된 행 수
+         */
+        @Modifying(clearAutomatically = true, flushAutomatically = true)
+        @Query(value = "DELETE FROM posts WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+        int purgeDeleted(@Param("id") Long id);
+
         /**
          * 제목 또는 내용에 특정 검색어가 포함된 게시글을 조회합니다.
          * 작성자 정보를 함께 로딩하여 N+1 문제를 방지합니다.
@@ -79,17 +128,43 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         @Query("SELECT DISTINCT p FROM Post p JOIN FETCH p.author LEFT JOIN FETCH p.images WHERE p.id = :id")
         Optional<Post> findByIdWithAuthorAndImages(@Param("id") Long id);
 
+        /**
+         * 게시글 상세 응답의 변경 여부 판단용 값 조회 (본문/이미지는 읽지 않음)
+         *
+         * @param id 게시글 ID
+         * @return 버전, 좋아요 수, 작성자 탈퇴 여부 (삭제되었거나 없으면 empty)
+         */
+        @Query("""
+                SELECT new com.example.community.repository.dto.PostVersion(p.id, p.version, p.likeCount, a.active)
+                FROM Post p JOIN p.author a
+                WHERE p.id = :id
+                """)
+        Optional<PostVersion> findVersionById(@Param("id") Long id);
+
         /**
          * 특정 게시글의 조회수를 1 증가시킵니다.
          * 낙관적 락 충돌 방지를 위해 별도 쿼리로 처리합니다.
+         * 게시글 조회(SingleFlight)와 분리되어 있어 호출자 트랜잭션이 없으면 단독 트랜잭션으로 실행합니다.
          * 
          * @param id 게시글 ID
          * @return 업데이트된 행 수
          */
+        @Transactional
         @Modifying(clearAutomatically = true, flushAutomatically = true)
         @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
         int incrementViews(@Param("id") Long id);
 
+        /**
+         * 특정 게시글의 조회수에 고유 조회자 증가분을 더합니다. (PostViewCounter 주기 반영)
+         * 
+         * @param id 게시글 ID
+         * @param delta 더할 조회수
+         * @return 업데이트된 행 수 (게시글이 없으면 0)
+         */
+        @Modifying(clearAutomatically = true, flushAutomatically = true)
+        @Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.id = :id")
+        int addViews(@Param("id") Long id, @Param("delta") long delta);
+
         /**
          * 특정 게시판 타입의 게시글을 작성자 정보만 함께 로딩하여 조회합니다.
          * 요약 정보 조회용으로 사용됩니다.
@@ -133,17 +208,6 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                         """)
         Page<Post> findRecentWithAuthorOrderByLikes(@Param("from") LocalDateTime from, Pageable pageable);
 
-        /**
-         * 특정 회원이 작성한 모든 게시글에 "[탈퇴한 회원]" 표시 추가
-         * 회원 탈퇴 시 해당 회원의 게시글에 탈퇴 표시를 추가합니다.
-         * 
-         * @param memberId 회원 ID
-         * @return 영향 받은 행 수
-         */
-        @Modifying(clearAutomatically = true, flushAutomatically = true)
-        @Query("UPDATE Post p SET p.title = CONCAT('[탈퇴한 회원] ', p.title) WHERE p.author.id = :memberId AND p.title NOT LIKE '[탈퇴한 회원]%'")
-        int markPostsByAuthorIdAsWithdrawn(@Param("memberId") Long memberId);
-
         /**
          * 게시글 좋아요 수 증가 (동시성 문제 해결을 위한 직접 업데이트)
          * 낙관적 락 충돌을 방지하기 위해 별도 쿼리로 처리합니다.
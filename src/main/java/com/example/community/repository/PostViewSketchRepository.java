@@ -0,0 +1,49 @@
+package com.example.community.repository;
+
+import com.example.community.domain.PostViewSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 게시글 고유 조회자 스케치에 대한 데이터 접근 인터페이스
+ */
+public interface PostViewSketchRepository extends JpaRepository<PostViewSketch, Long> {
+
+        /**
+         * 병합을 위해 스케치를 잠금 조회 (여러 노드가 같은 게시글을 동시에 반영하지 않도록)
+         * @param postId 게시글 ID
+         * @return 저장된 스케치
+         */
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @QueryHints(@jakarta.persistence.QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+        @Query("SELECT s FROM PostViewSketch s WHERE s.postId = :postId")
+        Optional<PostViewSketch> findByIdForUpdate(@Param("postId") Long postId);
+
+        /**
+         * 스케치를 기다리지 않고 잠금 조회 (삭제된 게시글 정리용, NOWAIT)
+         * 게시글 행을 잠근 정리 작업이 스케치 → 게시글 순으로 잠그는 조회수 반영을 기다리지 않도록 합니다.
+         * @param postId 게시글 ID
+         * @return 저장된 스케치
+         * @throws org.springframework.dao.PessimisticLockingFailureException 다른 트랜잭션이 잠근 경우
+         */
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @QueryHints(@jakarta.persistence.QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+        @Query("SELECT s FROM PostViewSketch s WHERE s.postId = :postId")
+        Optional<PostViewSketch> findByIdForUpdateNoWait(@Param("postId") Long postId);
+
+        /**
+         * 게시글 스케치 삭제 (삭제된 게시글 정리)
+         * @param postId 게시글 ID
+         * @return 삭제된 행 수
+         */
+        @Modifying(clearAutomatically = true, flushAutomatically = true)
+        @Query("DELETE FROM PostViewSketch s WHERE s.postId = :postId")
+        int deleteByPostId(@Param("postId") Long postId);
+}
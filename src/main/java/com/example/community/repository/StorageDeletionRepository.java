@@ -0,0 +1,47 @@
+package com.example.community.repository;
+
+import com.example.community.domain.StorageDeletion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 저장소 파일 삭제 대기열에 대한 데이터 접근 인터페이스
+ */
+public interface StorageDeletionRepository extends JpaRepository<StorageDeletion, Long> {
+
+    /**
+     * 처리 시각이 도래한 항목을 잠금과 함께 조회
+     * 다른 인스턴스가 잠근 행은 건너뜁니다(SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@jakarta.persistence.QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT d FROM StorageDeletion d WHERE d.nextAttemptAt <= :now ORDER BY d.nextAttemptAt, d.id")
+    List<StorageDeletion> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 주어진 파일 키의 삭제 대기 항목을 잠금과 함께 조회 (이미지 첨부 직전 확인용)
+     * file_key 인덱스 범위를 잠그므로, 트랜잭션이 끝날 때까지 같은 키의 삭제 등록이 대기합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM StorageDeletion d WHERE d.fileKey IN :fileKeys")
+    List<StorageDeletion> findByFileKeyInForUpdate(@Param("fileKeys") Collection<String> fileKeys);
+
+    /**
+     * 파일 키로 삭제 대기 항목 제거
+     *
+     * @return 삭제된 row 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM StorageDeletion d WHERE d.fileKey IN :fileKeys")
+    int deleteByFileKeyIn(@Param("fileKeys") Collection<String> fileKeys);
+}
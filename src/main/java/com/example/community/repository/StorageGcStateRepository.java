@@ -0,0 +1,10 @@
+package com.example.community.repository;
+
+import com.example.community.domain.StorageGcState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 저장소 정리 작업 상태에 대한 데이터 접근 인터페이스
+ */
+public interface StorageGcStateRepository extends JpaRepository<StorageGcState, String> {
+}
@@ -0,0 +1,38 @@
+package com.example.community.repository;
+
+import com.example.community.domain.UploadSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이어받기 업로드 세션에 대한 데이터 접근 인터페이스
+ */
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    /**
+     * 세션을 잠금과 함께 조회 (같은 세션의 조각 쓰기/완료 처리를 직렬화)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UploadSession s WHERE s.id = :id")
+    Optional<UploadSession> findByIdForUpdate(@Param("id") String id);
+
+    /**
+     * 회원의 진행 중인 세션 수 (만료되었지만 아직 정리되지 않은 세션 제외)
+     */
+    @Query("SELECT COUNT(s) FROM UploadSession s WHERE s.memberId = :memberId AND s.expiresAt >= :now")
+    long countActiveByMemberId(@Param("memberId") Long memberId, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 세션 조회 (정리 작업용)
+     */
+    @Query("SELECT s FROM UploadSession s WHERE s.expiresAt < :now ORDER BY s.expiresAt")
+    List<UploadSession> findExpired(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,30 @@
+package com.example.community.repository;
+
+import com.example.community.domain.WithdrawalAnonymization;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 탈퇴 회원 익명화 작업에 대한 데이터 접근 인터페이스
+ */
+public interface WithdrawalAnonymizationRepository extends JpaRepository<WithdrawalAnonymization, Long> {
+
+    /**
+     * 처리 시각이 도래한 작업을 잠금과 함께 조회
+     * 다른 인스턴스가 잠근 행은 건너뜁니다(SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@jakarta.persistence.QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT w FROM WithdrawalAnonymization w WHERE w.nextAttemptAt <= :now ORDER BY w.nextAttemptAt, w.id")
+    List<WithdrawalAnonymization> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    boolean existsByMemberId(Long memberId);
+}
@@ -20,11 +20,20 @@ public record CommentProjection(
      */
     public record MemberDto(
             Long id,
-            String username) {
+            String username,
+            boolean active) {
+        /**
+         * 활성 회원 정보 생성
+         */
+        public MemberDto(Long id, String username) {
+            this(id, username, true);
+        }
+
         public static MemberDto from(Member member) {
             return new MemberDto(
                     member.getId(),
-                    member.getUsername());
+                    member.getUsername(),
+                    member.isActive());
         }
     }
 }
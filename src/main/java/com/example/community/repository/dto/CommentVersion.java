@@ -0,0 +1,15 @@
+package com.example.community.repository.dto;
+
+/**
+ * 게시글 댓글 목록의 변경 여부 판단용 프로젝션 (조건부 GET)
+ * - 댓글은 수정 없이 추가/삭제만 되므로 개수, 마지막 댓글 ID, ID 합으로 변경을 판단
+ *   (ID는 노드별 할당 구간에서 나오므로 증가 순서가 보장되지 않음, 개수/최댓값이 같은 삭제+추가는 ID 합이 다름)
+ * - 작성자 탈퇴 시 댓글이 탈퇴 표시로 바뀌므로 활성 작성자의 댓글 수 포함
+ */
+public record CommentVersion(
+        Long postId,
+        Long count,
+        Long lastId,
+        Long idSum,
+        Long activeAuthorCount) {
+}
@@ -0,0 +1,14 @@
+package com.example.community.repository.dto;
+
+/**
+ * 게시글 상세 응답의 변경 여부 판단용 프로젝션 (조건부 GET)
+ * - 본문(LONGTEXT)과 이미지를 읽지 않는 PK 조회
+ * - 수정 시 updatedAt과 함께 증가하는 version, 별도 쿼리로 바뀌는 좋아요 수, 작성자 탈퇴 여부
+ * - 조회수는 요청마다 바뀌므로 제외 (약한 ETag)
+ */
+public record PostVersion(
+        Long postId,
+        Long version,
+        Long likeCount,
+        Boolean authorActive) {
+}
@@ -0,0 +1,401 @@
+package com.example.community.service;
+
+import com.example.community.domain.BoardType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 비로그인 GET 응답 캐시 (직렬화된 응답 본문 보관, ResponseCacheFilter가 사용)
+ * 키: 요청 URL(경로 + 쿼리)
+ *
+ * 각 항목은 태그(post:{id}, board:{유형}, board:*, comments:{게시글 ID})를 가지며,
+ * 쓰기 서비스가 커밋 후 관련 태그만 제거합니다.
+ * - 게시글 생성: 해당 게시판 + 전체 목록 / 수정: 해당 게시글이 포함된 응답
+ * - 게시글 삭제: 해당 게시글 + 해당 게시판 + 전체 목록 / 댓글 작성·삭제: 해당 게시글의 댓글 목록
+ * - 좋아요: 해당 게시글이 포함된 응답 (이 노드만, 다른 노드는 ttl 동안 이전 값)
+ * 조회수와 작성자 탈퇴 표시는 ttl 동안 이전 값으로 응답합니다.
+ *
+ * 다른 노드에는 CacheChangeLog로 변경을 알리고, 다른 노드의 변경은 CacheChangedEvent로 받아 제거합니다.
+ * 전체 크기(본문 + 키/태그 색인 추정치)는 max-bytes로 제한하며, 넘으면 오래 전에 저장한 항목부터 제거합니다.
+ * 태그 색인에서 비게 된 태그는 함께 제거합니다.
+ *
+ * 지표: http.response.cache{result=hit|miss}, http.response.cache.bytes
+ */
+@Service
+public class AnonymousResponseCache {
+
+    public static final String ALL_BOARDS_TAG = "board:*";
+    // 변경 로그에서 전체 게시판을 뜻하는 식별자
+    private static final String ALL = "*";
+
+    // 태그별 마지막 제거 시점 (해시 분할, 충돌 시 저장을 건너뛸 뿐 틀리지 않음)
+    private static final int PURGE_STRIPES = 1024;
+    // 항목/태그 색인의 객체 크기 추정치 (맵 노드, 레코드, 배열 헤더, 문자열 본문은 글자당 2바이트로 계산)
+    private static final int ENTRY_OVERHEAD = 160;
+    private static final int TAG_OVERHEAD = 64;
+
+    /**
+     * 저장된 응답
+     *
+     * @param contentType  Content-Type
+     * @param etag         ETag (없으면 null)
+     * @param cacheControl Cache-Control (없으면 null)
+     * @param body         응답 본문
+     * @param gzipBody     gzip 압축한 본문 (작거나 압축 효과가 없으면 null)
+     * @param viewedPostId 캐시 적중 시 조회수를 증가시킬 게시글 ID (상세 조회가 아니면 null)
+     */
+    public record CachedResponse(String contentType, String etag, String cacheControl, byte[] body,
+            byte[] gzipBody, Long viewedPostId) {
+
+        long size() {
+            return body.length + (gzipBody == null ? 0 : gzipBody.length);
+        }
+    }
+
+    private record Entry(CachedResponse response, Set<String> tags, long storedAt, long weight) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> keysByTag = new ConcurrentHashMap<>();
+    private final AtomicLong bytes = new AtomicLong();
+    // 저장을 시작한 요청보다 나중에 제거된 태그의 응답은 저장하지 않음
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLongArray purgedAt = new AtomicLongArray(PURGE_STRIPES);
+    private final AtomicLong allPurgedAt = new AtomicLong();
+    private final CacheChangeLog changeLog;
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long maxBytes;
+    private final int maxEntryBytes;
+    private final int gzipMinBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public AnonymousResponseCache(CacheChangeLog changeLog, MeterRegistry meterRegistry,
+            @Value("${app.response-cache.enabled:false}") boolean enabled,
+            @Value("${app.response-cache.ttl:10s}") Duration ttl,
+            @Value("${app.response-cache.max-bytes:33554432}") long maxBytes,
+            @Value("${app.response-cache.max-entry-bytes:262144}") int maxEntryBytes,
+            @Value("${app.response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.changeLog = changeLog;
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.gzipMinBytes = gzipMinBytes;
+
+        this.hits = Counter.builder("http.response.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("http.response.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("http.response.cache.bytes", bytes, AtomicLong::get).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public static String postTag(Long postId) {
+        return "post:" + postId;
+    }
+
+    public static String boardTag(BoardType boardType) {
+        return "board:" + boardType.name();
+    }
+
+    public static String commentsTag(Long postId) {
+        return "comments:" + postId;
+    }
+
+    /**
+     * 저장된 응답 조회 (ttl이 지난 항목은 제거)
+     */
+    public CachedResponse get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && System.nanoTime() - entry.storedAt < ttlNanos) {
+            hits.increment();
+            return entry.response;
+        }
+        if (entry != null) {
+            remove(key, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 응답 생성 전에 호출해 저장 기준 시점을 받음
+     */
+    public long beginStore() {
+        return sequence.get();
+    }
+
+    /**
+     * 응답 저장 (begin 이후 태그가 제거되었거나 본문이 너무 크면 저장하지 않음)
+     *
+     * @param key      요청 URL
+     * @param begin    beginStore 반환값
+     * @param tags     응답에 포함된 대상 태그
+     * @param response 저장할 응답 (gzipBody는 여기서 채움)
+     */
+    public void put(String key, long begin, Set<String> tags, CachedResponse response) {
+        if (!enabled || tags.isEmpty() || response.body().length > maxEntryBytes || purgedSince(tags, begin)) {
+            return;
+        }
+        CachedResponse stored = new CachedResponse(response.contentType(), response.etag(), response.cacheControl(),
+                response.body(), gzip(response.body()), response.viewedPostId());
+        Set<String> entryTags = Set.copyOf(tags);
+        Entry entry = new Entry(stored, entryTags, System.nanoTime(), weight(key, stored, entryTags));
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            bytes.addAndGet(-previous.weight);
+            unindex(key, previous.tags);
+        }
+        bytes.addAndGet(entry.weight);
+        for (String tag : entry.tags) {
+            keysByTag.compute(tag, (t, keys) -> {
+                Set<String> indexed = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+                indexed.add(key);
+                return indexed;
+            });
+        }
+        // 저장 중에 제거된 태그는 다시 확인, 색인 전에 제거(ttl/용량)된 항목은 색인도 정리
+        if (purgedSince(tags, begin)) {
+            remove(key, entry);
+        } else if (entries.get(key) != entry) {
+            unindex(key, entry.tags);
+        }
+        if (bytes.get() > maxBytes) {
+            trim();
+        }
+    }
+
+    /**
+     * 게시글 생성 반영 (커밋 후 해당 게시판과 전체 목록 제거)
+     */
+    public void postCreated(BoardType boardType) {
+        notifyOtherNodes(CacheChangeLog.BOARD, boardType.name(), 0L);
+        afterCommit(() -> purge(boardTag(boardType), ALL_BOARDS_TAG));
+    }
+
+    /**
+     * 게시글 수정 반영 (커밋 후 해당 게시글이 포함된 응답 제거)
+     */
+    public void postUpdated(Long postId, Long version) {
+        notifyOtherNodes(CacheChangeLog.POST, postId.toString(), version == null ? 0L : version);
+        afterCommit(() -> purge(postTag(postId)));
+    }
+
+    /**
+     * 게시글 삭제 반영 (커밋 후 해당 게시글, 해당 게시판, 전체 목록 제거)
+     */
+    public void postDeleted(Long postId, BoardType boardType) {
+        notifyOtherNodes(CacheChangeLog.POST, postId.toString(), 0L);
+        notifyOtherNodes(CacheChangeLog.BOARD, boardType.name(), 0L);
+        afterCommit(() -> purge(postTag(postId), commentsTag(postId), boardTag(boardType), ALL_BOARDS_TAG));
+    }
+
+    /**
+     * 여러 게시판의 게시글 삭제 반영 (커밋 후 전체 제거)
+     */
+    public void postsDeleted() {
+        notifyOtherNodes(CacheChangeLog.BOARD, ALL, 0L);
+        afterCommit(this::purgeAll);
+    }
+
+    /**
+     * 댓글 작성 반영 (커밋 후 해당 게시글의 댓글 목록 제거)
+     */
+    public void commentAdded(Long postId) {
+        notifyOtherNodes(CacheChangeLog.COMMENTS, postId.toString(), 0L);
+        afterCommit(() -> purge(commentsTag(postId)));
+    }
+
+    /**
+     * 댓글 삭제 반영 (커밋 후 해당 게시글의 댓글 목록 제거)
+     */
+    public void commentDeleted(Long postId) {
+        notifyOtherNodes(CacheChangeLog.COMMENTS, postId.toString(), 0L);
+        afterCommit(() -> purge(commentsTag(postId)));
+    }
+
+    /**
+     * 좋아요 변경 반영 (커밋 후 해당 게시글이 포함된 응답 제거, 다른 노드는 ttl에 의존)
+     */
+    public void likesChanged(Long postId) {
+        afterCommit(() -> purge(postTag(postId)));
+    }
+
+    /**
+     * 다른 노드의 변경 반영
+     */
+    @EventListener
+    public void onCacheChanged(CacheChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        switch (event.entityType()) {
+            case CacheChangeLog.BOARD -> {
+                if (ALL.equals(event.entityId())) {
+                    purgeAll();
+                } else {
+                    purge(boardTag(BoardType.valueOf(event.entityId())), ALL_BOARDS_TAG);
+                }
+            }
+            case CacheChangeLog.POST -> purge(postTag(Long.valueOf(event.entityId())));
+            case CacheChangeLog.COMMENTS -> purge(commentsTag(Long.valueOf(event.entityId())));
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 태그가 붙은 응답 제거
+     */
+    public void purge(String... tags) {
+        for (String tag : tags) {
+            purgedAt.set(stripe(tag), sequence.incrementAndGet());
+            Set<String> keys = keysByTag.remove(tag);
+            if (keys != null) {
+                keys.forEach(this::remove);
+            }
+        }
+    }
+
+    /**
+     * 전체 제거
+     */
+    public void purgeAll() {
+        allPurgedAt.set(sequence.incrementAndGet());
+        new ArrayList<>(entries.keySet()).forEach(this::remove);
+        keysByTag.clear();
+    }
+
+    // 보관 중인 크기 (gzip 본문, 색인 추정치 포함)
+    long bytes() {
+        return bytes.get();
+    }
+
+    // 색인된 태그 수
+    int indexedTags() {
+        return keysByTag.size();
+    }
+
+    private boolean purgedSince(Set<String> tags, long begin) {
+        if (allPurgedAt.get() > begin) {
+            return true;
+        }
+        for (String tag : tags) {
+            if (purgedAt.get(stripe(tag)) > begin) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void remove(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            remove(key, entry);
+        }
+    }
+
+    private void remove(String key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            bytes.addAndGet(-entry.weight);
+            unindex(key, entry.tags);
+        }
+    }
+
+    // 태그 색인에서 키 제거 (비게 된 태그는 색인에서 제거)
+    private void unindex(String key, Set<String> tags) {
+        for (String tag : tags) {
+            keysByTag.computeIfPresent(tag, (t, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private static long weight(String key, CachedResponse response, Set<String> tags) {
+        long weight = ENTRY_OVERHEAD + response.size() + 2L * key.length();
+        for (String tag : tags) {
+            weight += TAG_OVERHEAD + 2L * tag.length();
+        }
+        return weight;
+    }
+
+    // 가장 오래 전에 저장한 항목부터 max-bytes의 90%까지 제거
+    private synchronized void trim() {
+        List<Map.Entry<String, Entry>> snapshot = new ArrayList<>(entries.entrySet());
+        snapshot.sort((a, b) -> Long.compare(a.getValue().storedAt, b.getValue().storedAt));
+        long target = maxBytes / 10 * 9;
+        for (Map.Entry<String, Entry> e : snapshot) {
+            if (bytes.get() <= target) {
+                break;
+            }
+            remove(e.getKey(), e.getValue());
+        }
+    }
+
+    private byte[] gzip(byte[] body) {
+        if (body.length < gzipMinBytes) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] compressed = out.toByteArray();
+        return compressed.length < body.length ? compressed : null;
+    }
+
+    private static int stripe(String tag) {
+        return Math.floorMod(tag.hashCode(), PURGE_STRIPES);
+    }
+
+    // 캐시를 사용하는 노드만 기록 (호출자 트랜잭션에 참여)
+    private void notifyOtherNodes(String entityType, String entityId, long version) {
+        if (enabled) {
+            changeLog.append(entityType, entityId, version);
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행 (롤백되면 캐시를 건드리지 않음)
+    private void afterCommit(Runnable action) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
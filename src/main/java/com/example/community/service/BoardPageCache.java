@@ -0,0 +1,324 @@
+package com.example.community.service;
+
+import com.example.community.domain.BoardType;
+import com.example.community.service.dto.PostSummaryDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 앞쪽 페이지 캐시 (검색어 없는 목록의 첫 N 페이지)
+ * 키: 게시판 유형(전체 목록은 null) + 정렬 + 페이지 번호 + 페이지 크기
+ *
+ * - 게시글 생성/삭제: 커밋 후 해당 게시판과 전체 목록 페이지 제거
+ * - 게시글 수정: 커밋 후 캐시된 페이지의 해당 게시글 제목을 새 값으로 교체 (write-through)
+ * - 조회수/좋아요 수: fresh-for가 지난 페이지는 그대로 응답하고 백그라운드에서 다시 조회 (stale-while-revalidate)
+ *   max-stale이 지난 페이지는 요청 스레드에서 다시 조회
+ *
+ * 다른 노드에는 CacheChangeLog로 변경을 알리고, 다른 노드의 변경은 CacheChangedEvent로 받아 제거합니다.
+ *
+ * 캐시에 없는 페이지만 읽기 전용 트랜잭션으로 조회하므로 적중 시에는 커넥션을 사용하지 않습니다.
+ * 항목 수는 max-entries로 제한하며, 넘으면 가장 오래 전에 조회한 페이지부터 제거합니다.
+ */
+@Slf4j
+@Service
+public class BoardPageCache {
+
+    // 변경 로그에서 전체 게시판을 뜻하는 식별자
+    private static final String ALL_BOARDS = "*";
+
+    private record Key(BoardType boardType, Sort sort, int page, int size) {
+    }
+
+    private static final class Entry {
+        private final Page<PostSummaryDto> page;
+        private final long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(Page<PostSummaryDto> page, long loadedAt) {
+            this.page = page;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    // 무효화마다 증가 후 항목 제거 (무효화 전에 시작한 조회 결과는 저장하지 않음)
+    private final AtomicLong generation = new AtomicLong();
+    private final CacheChangeLog changeLog;
+    private final TransactionTemplate readOnlyTx;
+    private final ThreadPoolExecutor refresher;
+
+    private final boolean enabled;
+    private final int maxPages;
+    private final int maxEntries;
+    private final long freshForNanos;
+    private final long maxStaleNanos;
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+
+    public BoardPageCache(CacheChangeLog changeLog, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.posts.page-cache.enabled:false}") boolean enabled,
+            @Value("${app.posts.page-cache.max-pages:3}") int maxPages,
+            @Value("${app.posts.page-cache.max-entries:500}") int maxEntries,
+            @Value("${app.posts.page-cache.fresh-for:5s}") Duration freshFor,
+            @Value("${app.posts.page-cache.max-stale:60s}") Duration maxStale) {
+        this.changeLog = changeLog;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.enabled = enabled;
+        this.maxPages = maxPages;
+        this.maxEntries = maxEntries;
+        this.freshForNanos = freshFor.toNanos();
+        this.maxStaleNanos = maxStale.toNanos();
+        // 다시 조회할 페이지가 밀리면 버림 (다음 요청이 다시 시도)
+        this.refresher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(100), r -> {
+                    Thread t = new Thread(r, "board-page-refresh");
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        this.hits = Counter.builder("posts.page.cache").tag("result", "hit").register(meterRegistry);
+        this.staleHits = Counter.builder("posts.page.cache").tag("result", "stale").register(meterRegistry);
+        this.misses = Counter.builder("posts.page.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("posts.page.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * 게시글 목록 페이지 조회
+     * 검색어가 없고 첫 max-pages 안의 페이지만 캐시하며, 나머지는 매번 조회합니다.
+     *
+     * @param boardType 게시판 유형 (전체 목록이면 null)
+     * @param query     검색어
+     * @param pageable  정렬 화이트리스트 검증을 마친 페이징 정보
+     * @param loader    페이지 조회 (읽기 전용 트랜잭션 안에서 실행됨)
+     * @return 게시글 요약 페이지
+     */
+    public Page<PostSummaryDto> get(BoardType boardType, String query, Pageable pageable,
+            Supplier<Page<PostSummaryDto>> loader) {
+        if (!enabled || (query != null && !query.isBlank()) || pageable.getPageNumber() >= maxPages) {
+            return readOnlyTx.execute(status -> loader.get());
+        }
+        Key key = new Key(boardType, pageable.getSort(), pageable.getPageNumber(), pageable.getPageSize());
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            long age = now - entry.loadedAt;
+            if (age < freshForNanos) {
+                hits.increment();
+                return entry.page;
+            }
+            if (age < maxStaleNanos) {
+                staleHits.increment();
+                refreshLater(key, entry, loader);
+                return entry.page;
+            }
+        }
+        misses.increment();
+        return load(key, loader);
+    }
+
+    /**
+     * 게시글 생성 반영 (커밋 후 해당 게시판과 전체 목록 페이지 제거)
+     */
+    public void postCreated(BoardType boardType) {
+        notifyOtherNodes(CacheChangeLog.BOARD, boardType.name(), 0L);
+        afterCommit(() -> evictBoard(boardType));
+    }
+
+    /**
+     * 게시글 삭제 반영 (커밋 후 해당 게시판과 전체 목록 페이지 제거)
+     */
+    public void postDeleted(BoardType boardType) {
+        notifyOtherNodes(CacheChangeLog.BOARD, boardType.name(), 0L);
+        afterCommit(() -> evictBoard(boardType));
+    }
+
+    /**
+     * 여러 게시판의 게시글 삭제 반영 (커밋 후 전체 제거)
+     */
+    public void postsDeleted() {
+        notifyOtherNodes(CacheChangeLog.BOARD, ALL_BOARDS, 0L);
+        afterCommit(this::evictAll);
+    }
+
+    /**
+     * 게시글 수정 반영 (커밋 후 캐시된 페이지의 해당 게시글 제목을 교체)
+     * 다른 노드는 제목을 알 수 없으므로 해당 게시글이 있는 페이지를 제거합니다.
+     */
+    public void postUpdated(Long postId, Long version, String title) {
+        notifyOtherNodes(CacheChangeLog.POST, postId.toString(), version == null ? 0L : version);
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            entries.replaceAll((key, entry) -> replaceTitle(entry, postId, title));
+        });
+    }
+
+    /**
+     * 다른 노드의 변경 반영
+     */
+    @EventListener
+    public void onCacheChanged(CacheChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        switch (event.entityType()) {
+            case CacheChangeLog.BOARD -> {
+                if (ALL_BOARDS.equals(event.entityId())) {
+                    evictAll();
+                } else {
+                    evictBoard(BoardType.valueOf(event.entityId()));
+                }
+            }
+            case CacheChangeLog.POST -> evictPost(Long.valueOf(event.entityId()));
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 게시판 하나의 캐시 제거 (전체 목록 페이지도 함께 제거)
+     */
+    public void evictBoard(BoardType boardType) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(key -> key.boardType() == null || key.boardType() == boardType);
+    }
+
+    /**
+     * 게시글 하나가 포함된 페이지 제거
+     */
+    public void evictPost(Long postId) {
+        generation.incrementAndGet();
+        entries.values().removeIf(entry -> entry.page.getContent().stream().anyMatch(s -> s.id().equals(postId)));
+    }
+
+    /**
+     * 전체 캐시 제거 (일괄 삭제 등 게시판을 특정할 수 없는 변경)
+     */
+    public void evictAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    // 보관 중인 페이지 수
+    int size() {
+        return entries.size();
+    }
+
+    private Page<PostSummaryDto> load(Key key, Supplier<Page<PostSummaryDto>> loader) {
+        long startGeneration = generation.get();
+        long loadedAt = System.nanoTime();
+        Page<PostSummaryDto> page = readOnlyTx.execute(status -> loader.get());
+        if (page == null) {
+            return null;
+        }
+        // 세대 확인과 저장을 원자적으로 처리 (확인 후 저장 전에 시작된 무효화가 저장된 항목을 놓치지 않도록)
+        entries.compute(key,
+                (k, existing) -> generation.get() == startGeneration ? new Entry(page, loadedAt) : existing);
+        if (entries.size() > maxEntries) {
+            trim();
+        }
+        return page;
+    }
+
+    // 같은 페이지는 한 번만 다시 조회
+    private void refreshLater(Key key, Entry entry, Supplier<Page<PostSummaryDto>> loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    load(key, loader);
+                } catch (Exception e) {
+                    log.warn("게시판 페이지 캐시 갱신 실패: 게시판={}, 페이지={}, 오류={}",
+                            key.boardType(), key.page(), e.getMessage());
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    // 가장 오래 전에 조회한 항목부터 제거
+    private void trim() {
+        List<Map.Entry<Key, Entry>> snapshot = new ArrayList<>(entries.entrySet());
+        snapshot.sort((a, b) -> Long.compare(a.getValue().loadedAt, b.getValue().loadedAt));
+        for (int i = 0; i < snapshot.size() - maxEntries; i++) {
+            entries.remove(snapshot.get(i).getKey(), snapshot.get(i).getValue());
+        }
+    }
+
+    private static Entry replaceTitle(Entry entry, Long postId, String title) {
+        List<PostSummaryDto> content = entry.page.getContent();
+        if (content.stream().noneMatch(s -> s.id().equals(postId))) {
+            return entry;
+        }
+        List<PostSummaryDto> replaced = content.stream()
+                .map(s -> s.id().equals(postId)
+                        ? new PostSummaryDto(s.id(), title, s.authorName(), s.authorWithdrawn(), s.createdAt(),
+                                s.viewCount(), s.likeCount(), s.boardType())
+                        : s)
+                .toList();
+        return new Entry(new PageImpl<>(replaced, entry.page.getPageable(), entry.page.getTotalElements()),
+                entry.loadedAt);
+    }
+
+    // 캐시를 사용하는 노드만 기록 (호출자 트랜잭션에 참여)
+    private void notifyOtherNodes(String entityType, String entityId, long version) {
+        if (enabled) {
+            changeLog.append(entityType, entityId, version);
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행 (롤백되면 캐시를 건드리지 않음)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.community.service;
+
+import com.example.community.config.SchedulingConfig;
+import com.example.community.config.datasource.BatchPool;
+import com.example.community.domain.CacheChange;
+import com.example.community.repository.CacheChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 노드 간 로컬 캐시 무효화 채널 (DB 변경 로그 주기 조회, 별도 메시지 브로커 없음)
+ *
+ * 쓰기 트랜잭션이 (대상 종류, 식별자, 버전)을 cache_change_log에 함께 기록하고,
+ * 각 노드는 마지막으로 읽은 ID 이후 항목을 PK 범위 조회로 읽어 CacheChangedEvent를 발행합니다.
+ *
+ * AUTO_INCREMENT ID는 커밋 순서와 다를 수 있으므로, 건너뛴 ID는 gap-timeout 동안 다시 조회합니다.
+ * 보관 기간(retention)이 지난 행은 주기적으로 삭제하며,
+ * 그보다 오래 조회하지 못한 노드는 각 캐시의 최대 보관 시간에 의존합니다.
+ */
+@Slf4j
+@Service
+public class CacheChangeLog {
+
+    public static final String BOARD = "board";
+    public static final String POST = "post";
+    public static final String COMMENTS = "comments";
+
+    // 한 번에 새로 추적할 수 있는 빈 ID 수 (AUTO_INCREMENT가 크게 건너뛴 경우 대비)
+    private static final int MAX_GAPS = 1000;
+    // 빈 ID가 없을 때 IN 조건에 넣는 값 (존재하지 않는 ID)
+    private static final Set<Long> NO_GAPS = Set.of(0L);
+
+    // 트랜잭션별로 이미 기록한 대상 (여러 캐시가 같은 변경을 알리는 경우 한 번만 기록)
+    private static final class Appended implements TransactionSynchronization {
+        private final Set<String> targets = new HashSet<>();
+    }
+
+    private final CacheChangeRepository changes;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long gapTimeoutNanos;
+    private final Duration retention;
+
+    // 마지막으로 읽은 ID (첫 조회 전에는 -1)
+    private long cursor = -1;
+    // 커서보다 작지만 아직 보이지 않은 ID → 발견 시각
+    private final Map<Long, Long> gaps = new HashMap<>();
+
+    public CacheChangeLog(CacheChangeRepository changes, ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.cache.change-log.enabled:false}") boolean enabled,
+            @Value("${app.cache.change-log.batch-size:500}") int batchSize,
+            @Value("${app.cache.change-log.gap-timeout:10s}") Duration gapTimeout,
+            @Value("${app.cache.change-log.retention:1h}") Duration retention) {
+        this.changes = changes;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+        this.retention = retention;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 변경 기록
+     * 호출자의 트랜잭션에 참여하므로, 트랜잭션이 롤백되면 기록도 취소됩니다.
+     * 같은 트랜잭션에서 같은 대상은 처음 한 번만 기록합니다.
+     *
+     * @param entityType 대상 종류
+     * @param entityId   대상 식별자
+     * @param version    기록 시점의 엔티티 버전 (버전이 없으면 0)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String entityType, String entityId, long version) {
+        if (!enabled || !firstInTransaction(entityType + ":" + entityId)) {
+            return;
+        }
+        changes.save(CacheChange.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .version(version)
+                .origin(nodeId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 다른 노드의 변경을 읽어 이벤트로 발행
+     * 복제 지연이 없도록 읽기 전용이 아닌 트랜잭션(primary)에서 조회합니다.
+     * 오래 걸리는 배치 작업에 밀리지 않도록 전용 실행기에서 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.change-log.poll-ms:500}",
+            scheduler = SchedulingConfig.POLLING_SCHEDULER)
+    public synchronized void poll() {
+        if (!enabled) {
+            return;
+        }
+        if (cursor < 0) {
+            start();
+            return;
+        }
+        long now = System.nanoTime();
+        Set<Long> pending = gaps.isEmpty() ? NO_GAPS : Set.copyOf(gaps.keySet());
+        List<CacheChange> rows = transactionTemplate.execute(
+                status -> changes.findAfter(cursor, pending, PageRequest.of(0, batchSize)));
+        if (rows == null) {
+            return;
+        }
+        for (CacheChange row : rows) {
+            long id = row.getId();
+            if (gaps.remove(id) == null && id > cursor) {
+                for (long missing = cursor + 1; missing < id && gaps.size() < MAX_GAPS; missing++) {
+                    gaps.put(missing, now);
+                }
+                cursor = id;
+            }
+            if (!nodeId.equals(row.getOrigin())) {
+                publish(row);
+            }
+        }
+        gaps.values().removeIf(foundAt -> now - foundAt > gapTimeoutNanos);
+    }
+
+    /**
+     * 조회 시작 위치 결정 (이미 시작했으면 무시)
+     * 시작 시점의 캐시는 비어 있으므로 이전 기록은 읽지 않습니다.
+     * DB에서 캐시를 채우는 쪽은 채우기 전에 호출해, 채우는 동안의 변경을 놓치지 않도록 합니다.
+     */
+    public synchronized void start() {
+        if (!enabled || cursor >= 0) {
+            return;
+        }
+        Long maxId = transactionTemplate.execute(status -> changes.findMaxId());
+        cursor = maxId == null ? 0 : maxId;
+        log.info("캐시 무효화 로그 조회 시작: 노드={}, 시작 ID={}", nodeId, cursor);
+    }
+
+    /**
+     * 보관 기간이 지난 항목 삭제 (모든 노드가 실행해도 무방)
+     */
+    @Scheduled(fixedDelayString = "${app.cache.change-log.trim-interval-ms:600000}",
+            initialDelayString = "${app.cache.change-log.trim-interval-ms:600000}")
+    public void trim() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        Integer deleted = BatchPool.call(() -> transactionTemplate.execute(status -> changes.deleteOlderThan(cutoff)));
+        if (deleted != null && deleted > 0) {
+            log.debug("캐시 무효화 로그 정리: {}건 삭제", deleted);
+        }
+    }
+
+    private static boolean firstInTransaction(String target) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return true;
+        }
+        Appended appended = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(Appended.class::isInstance)
+                .map(Appended.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    Appended created = new Appended();
+                    TransactionSynchronizationManager.registerSynchronization(created);
+                    return created;
+                });
+        return appended.targets.add(target);
+    }
+
+    // 수신 측 캐시 오류가 조회 진행을 막지 않도록 격리
+    private void publish(CacheChange row) {
+        try {
+            eventPublisher.publishEvent(new CacheChangedEvent(row.getEntityType(), row.getEntityId(), row.getVersion()));
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 처리 실패: 대상={}:{}, 오류={}", row.getEntityType(), row.getEntityId(), e.getMessage());
+        }
+    }
+}
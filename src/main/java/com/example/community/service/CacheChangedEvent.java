@@ -0,0 +1,12 @@
+package com.example.community.service;
+
+/**
+ * 다른 노드가 기록한 캐시 무효화 로그 항목을 읽었을 때 발행되는 이벤트
+ * 로컬 캐시는 이 이벤트를 받아 해당 항목을 제거합니다. (자기 노드의 변경에는 발행되지 않음)
+ *
+ * @param entityType 변경된 대상 종류 (CacheChangeLog.BOARD, CacheChangeLog.POST)
+ * @param entityId   변경된 대상 식별자
+ * @param version    기록 시점의 엔티티 버전 (버전이 없는 대상은 0)
+ */
+public record CacheChangedEvent(String entityType, String entityId, long version) {
+}
@@ -0,0 +1,392 @@
+package com.example.community.service;
+
+import com.example.community.common.FilePolicy;
+import com.example.community.domain.UploadSession;
+import com.example.community.repository.UploadSessionRepository;
+import com.example.community.service.dto.ImageMeta;
+import com.example.community.service.exception.BusinessException;
+import com.example.community.service.exception.EntityNotFoundException;
+import com.example.community.service.exception.ForbiddenOperationException;
+import com.example.community.storage.Storage;
+import com.example.community.storage.StorageException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 이어받기(청크) 업로드 서비스
+ * 세션 생성 → 위치(offset)를 지정한 조각 전송 → 완료 순서로 진행합니다.
+ *
+ * - 조각은 FileChannel 위치 지정 쓰기로 세션 임시 파일에 기록하고(fsync 후), 받은 위치는 DB에 기록합니다.
+ *   연결이 끊겨도 세션 조회로 받은 위치를 확인한 뒤 그 위치부터 다시 보내면 됩니다.
+ * - 같은 세션의 조각 쓰기/완료는 세션 행 잠금으로 직렬화합니다.
+ * - 임시 파일은 노드 로컬 디스크에 있으므로, 여러 노드로 나뉘어 들어온 요청은 DB의 받은 위치가 아니라
+ *   이 노드의 임시 파일 길이까지만 이어 쓰도록 하고, 모자라면 이 노드의 길이를 알려 그 위치부터 다시 보내게 합니다.
+ * - 파일 형식 검증(FilePolicy)과 저장은 완료 시점에 기존 업로드와 같은 경로로 수행합니다.
+ *   저장소 쓰기는 잠금 안에서 완료 처리 중으로 표시한 뒤 잠금 밖에서 진행합니다.
+ * - 만료된 세션은 주기적으로 임시 파일과 함께 정리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadService {
+
+    private final UploadSessionRepository sessions;
+    private final Storage storage;
+    private final TransactionTemplate transactionTemplate;
+
+    // 세션 임시 파일 디렉토리 (재기동 후에도 유지되어야 함)
+    @Value("${app.upload.sessions.dir:upload-sessions}")
+    private String sessionDir;
+
+    // 마지막 조각 수신 후 세션 유지 시간
+    @Value("${app.upload.sessions.ttl:24h}")
+    private Duration ttl;
+
+    // 조각 최대 크기
+    @Value("${app.upload.sessions.max-chunk-bytes:1048576}")
+    private int maxChunkBytes;
+
+    // 회원당 동시 진행 가능한 세션 수
+    @Value("${app.upload.sessions.max-per-member:10}")
+    private int maxPerMember;
+
+    // 완료 처리 중 표시 유지 시간 (이보다 오래된 표시는 중단된 처리로 보고 다시 완료 허용)
+    @Value("${app.upload.sessions.complete-lease:5m}")
+    private Duration completeLease;
+
+    // 만료 세션 정리 배치 크기
+    @Value("${app.upload.sessions.cleanup-batch-size:100}")
+    private int cleanupBatchSize;
+
+    private Path dir;
+
+    @PostConstruct
+    public void init() {
+        dir = Path.of(sessionDir).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new StorageException("업로드 세션 디렉토리를 생성할 수 없습니다: " + dir, e);
+        }
+        log.info("이어받기 업로드 세션 디렉토리: {}", dir);
+    }
+
+    /**
+     * 업로드 세션 생성
+     *
+     * @param memberId    업로드 요청자 ID
+     * @param fileName    원본 파일명
+     * @param contentType 이미지 MIME 타입
+     * @param totalSize   전체 파일 크기 (바이트)
+     * @return 생성된 세션
+     * @throws IllegalArgumentException 형식/크기가 허용되지 않는 경우
+     * @throws BusinessException        진행 중인 세션이 너무 많은 경우
+     */
+    @Transactional
+    public UploadSession create(Long memberId, String fileName, String contentType, long totalSize) {
+        String ct = contentType == null ? "" : contentType.toLowerCase();
+        if (!FilePolicy.ALLOWED_IMAGE_TYPES.contains(ct)) {
+            throw new IllegalArgumentException(
+                    String.format(FilePolicy.ERR_INVALID_FILE_TYPE, String.join(", ", FilePolicy.ALLOWED_IMAGE_TYPES)));
+        }
+        if (totalSize <= 0) {
+            throw new IllegalArgumentException(FilePolicy.ERR_FILE_EMPTY);
+        }
+        if (FilePolicy.isFileSizeExceeded(totalSize)) {
+            throw new IllegalArgumentException(
+                    String.format(FilePolicy.ERR_FILE_TOO_LARGE, FilePolicy.MAX_FILE_SIZE_BYTES));
+        }
+        if (sessions.countActiveByMemberId(memberId, LocalDateTime.now()) >= maxPerMember) {
+            throw new BusinessException("UPLOAD_SESSION_LIMIT",
+                    "진행 중인 업로드가 너무 많습니다. 최대 " + maxPerMember + "개까지 가능합니다");
+        }
+
+        UploadSession session = sessions.save(UploadSession.builder()
+                .id(newSessionId())
+                .memberId(memberId)
+                .fileName(fileName == null || fileName.isBlank() ? "image" : truncate(fileName, 255))
+                .contentType(ct)
+                .totalSize(totalSize)
+                .receivedBytes(0)
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build());
+        log.debug("업로드 세션 생성: 회원={}, 세션={}, 크기={}B", memberId, session.getId(), totalSize);
+        return session;
+    }
+
+    /**
+     * 세션 상태 조회 (연결이 끊긴 뒤 이어서 보낼 위치 확인용)
+     */
+    @Transactional(readOnly = true)
+    public UploadSession get(Long memberId, String sessionId) {
+        UploadSession session = sessions.findById(sessionId)
+                .orElseThrow(() -> new EntityNotFoundException("업로드 세션", sessionId));
+        requireUsable(session, memberId);
+        return session;
+    }
+
+    /**
+     * 조각 기록
+     * offset은 이미 받은 범위 안이어야 하며(재전송 허용), 받은 위치를 넘어선 조각은 거부합니다.
+     * 다른 노드가 받은 조각은 이 노드의 임시 파일에 없으므로 임시 파일 길이를 넘어선 조각도 거부합니다. (빈 구간 방지)
+     * 본문은 트랜잭션 밖에서 먼저 읽어 느린 클라이언트가 DB 연결과 세션 잠금을 오래 잡지 않도록 하며,
+     * 전송 도중 연결이 끊기면 그때까지 받은 바이트만 기록합니다.
+     *
+     * @param memberId      업로드 요청자 ID
+     * @param sessionId     세션 ID
+     * @param offset        조각 시작 위치
+     * @param body          조각 데이터
+     * @param contentLength 요청 본문 길이 (알 수 없으면 -1)
+     * @return 갱신된 세션
+     */
+    public UploadSession appendChunk(Long memberId, String sessionId, long offset, InputStream body,
+            long contentLength) {
+        if (contentLength > maxChunkBytes) {
+            throw new IllegalArgumentException("조각 크기가 허용 범위를 초과했습니다. 최대 " + maxChunkBytes + " 바이트");
+        }
+        byte[] chunk = readChunk(body);
+
+        return transactionTemplate.execute(status -> {
+            UploadSession session = sessions.findByIdForUpdate(sessionId)
+                    .orElseThrow(() -> new EntityNotFoundException("업로드 세션", sessionId));
+            requireUsable(session, memberId);
+            requireNotCompleting(session);
+            Path part = partFile(session);
+            long received = Math.min(session.getReceivedBytes(), localLength(part));
+            if (offset < 0 || offset > received) {
+                throw new BusinessException("UPLOAD_OFFSET_MISMATCH",
+                        "조각 시작 위치가 올바르지 않습니다. 현재 받은 위치: " + received);
+            }
+            if (offset + chunk.length > session.getTotalSize()) {
+                throw new IllegalArgumentException("조각이 선언된 파일 크기를 넘습니다. 전체 크기: " + session.getTotalSize());
+            }
+            long end = write(part, offset, chunk);
+            session.advance(end, LocalDateTime.now().plus(ttl));
+            log.debug("업로드 조각 기록: 세션={}, 위치={}~{}, 받은 위치={}/{}",
+                    sessionId, offset, end, session.getReceivedBytes(), session.getTotalSize());
+            return session;
+        });
+    }
+
+    /**
+     * 업로드 완료
+     * 모든 조각을 받은 경우 기존 업로드와 같은 검증(FilePolicy)을 거쳐 저장소에 저장하고 세션을 제거합니다.
+     * 세션 행 잠금 안에서는 완료 처리 중으로 표시만 하고, 검증과 저장소 쓰기는 잠금을 놓은 뒤 진행합니다.
+     * (그동안 같은 세션의 조각 쓰기/완료/취소는 거부)
+     * 검증에 실패하면 세션도 함께 제거되며, 저장에 실패하면 표시를 되돌려 다시 완료할 수 있습니다.
+     * 이 노드의 임시 파일에 없는 조각이 있으면(다른 노드가 받은 조각) 세션을 유지하고 이 노드의 받은 위치를 알립니다.
+     *
+     * @return 저장된 이미지 메타데이터
+     */
+    public ImageMeta complete(Long memberId, String sessionId) {
+        UploadSession session = transactionTemplate.execute(status -> {
+            UploadSession locked = sessions.findByIdForUpdate(sessionId)
+                    .orElseThrow(() -> new EntityNotFoundException("업로드 세션", sessionId));
+            requireUsable(locked, memberId);
+            requireNotCompleting(locked);
+            if (!locked.isComplete()) {
+                throw new BusinessException("UPLOAD_INCOMPLETE",
+                        "아직 받지 못한 조각이 있습니다. 현재 받은 위치: " + locked.getReceivedBytes());
+            }
+            LocalDateTime now = LocalDateTime.now();
+            locked.startCompleting(now, now.plus(ttl));
+            return locked;
+        });
+
+        Path part = partFile(session);
+        PathMultipartFile file = new PathMultipartFile(part, session.getFileName(), session.getContentType(),
+                session.getTotalSize());
+        long local;
+        try {
+            local = localLength(part);
+        } catch (StorageException e) {
+            completionFailed(sessionId);
+            throw e;
+        }
+        if (local < session.getTotalSize()) {
+            completionFailed(sessionId);
+            throw new BusinessException("UPLOAD_OFFSET_MISMATCH",
+                    "이 서버에 받지 못한 조각이 있습니다. 현재 받은 위치: " + local);
+        }
+        boolean valid;
+        try {
+            valid = local == session.getTotalSize() && FilePolicy.isAllowed(file, FilePolicy.ALLOWED_IMAGE_TYPES);
+        } catch (IOException e) {
+            completionFailed(sessionId);
+            throw new StorageException("업로드 파일 확인 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+        if (!valid) {
+            discard(sessionId);
+            throw new IllegalArgumentException(
+                    String.format(FilePolicy.ERR_INVALID_FILE_TYPE, String.join(", ", FilePolicy.ALLOWED_IMAGE_TYPES)));
+        }
+
+        String fileKey = FileService.newPostImageKey(memberId, session.getContentType());
+        Storage.StoredFile stored;
+        try {
+            stored = storage.storeWithKey(file, fileKey);
+        } catch (RuntimeException e) {
+            completionFailed(sessionId);
+            throw e;
+        }
+        discard(sessionId);
+        log.debug("업로드 세션 완료: 회원={}, 세션={}, 키={}", memberId, sessionId, stored.key());
+        return new ImageMeta(stored.key(), stored.url());
+    }
+
+    /**
+     * 업로드 취소 (세션과 임시 파일 제거)
+     */
+    @Transactional
+    public void cancel(Long memberId, String sessionId) {
+        UploadSession session = sessions.findByIdForUpdate(sessionId)
+                .orElseThrow(() -> new EntityNotFoundException("업로드 세션", sessionId));
+        if (!session.getMemberId().equals(memberId)) {
+            throw new ForbiddenOperationException("본인의 업로드만 취소할 수 있습니다");
+        }
+        requireNotCompleting(session);
+        discard(session);
+    }
+
+    /**
+     * 만료된 세션 정리
+     */
+    @Scheduled(fixedDelayString = "${app.upload.sessions.cleanup-interval-ms:600000}",
+            initialDelayString = "${app.upload.sessions.cleanup-initial-delay-ms:60000}")
+    public void purgeExpired() {
+        int total = 0;
+        while (true) {
+            Integer purged = transactionTemplate.execute(status -> {
+                List<UploadSession> expired = sessions.findExpired(LocalDateTime.now(),
+                        PageRequest.of(0, cleanupBatchSize));
+                expired.forEach(this::discard);
+                return expired.size();
+            });
+            if (purged == null || purged == 0) {
+                break;
+            }
+            total += purged;
+            if (purged < cleanupBatchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("만료된 업로드 세션 정리: {}개", total);
+        }
+    }
+
+    // 조각 본문 읽기 (최대 maxChunkBytes, 연결이 끊기면 그때까지 받은 만큼만 반환)
+    private byte[] readChunk(InputStream body) {
+        byte[] buffer = new byte[maxChunkBytes];
+        int length = 0;
+        try {
+            int n;
+            while (length < buffer.length && (n = body.read(buffer, length, buffer.length - length)) != -1) {
+                length += n;
+            }
+            if (length == buffer.length && body.read() != -1) {
+                throw new IllegalArgumentException("조각 크기가 허용 범위를 초과했습니다. 최대 " + maxChunkBytes + " 바이트");
+            }
+        } catch (IOException e) {
+            log.debug("업로드 조각 수신 중단: 받은 크기={}B, 오류={}", length, e.getMessage());
+        }
+        return Arrays.copyOf(buffer, length);
+    }
+
+    // 이 노드의 세션 임시 파일 길이 (없으면 0)
+    private static long localLength(Path part) {
+        try {
+            return Files.isRegularFile(part) ? Files.size(part) : 0L;
+        } catch (IOException e) {
+            throw new StorageException("업로드 파일 확인 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    // 조각을 세션 임시 파일의 offset 위치에 기록하고 기록이 끝난 위치 반환
+    private long write(Path part, long offset, byte[] chunk) {
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        long pos = offset;
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                pos += channel.write(buffer, pos);
+            }
+            // 받은 위치를 DB에 기록하기 전에 데이터를 디스크에 반영
+            channel.force(false);
+            return pos;
+        } catch (IOException e) {
+            throw new StorageException("업로드 조각 기록 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private void requireUsable(UploadSession session, Long memberId) {
+        if (!session.getMemberId().equals(memberId)) {
+            throw new ForbiddenOperationException("본인의 업로드 세션만 사용할 수 있습니다");
+        }
+        if (session.isExpired(LocalDateTime.now())) {
+            throw new BusinessException("UPLOAD_SESSION_EXPIRED", "업로드 세션이 만료되었습니다. 다시 시작해주세요");
+        }
+    }
+
+    private void requireNotCompleting(UploadSession session) {
+        if (session.isCompleting(LocalDateTime.now().minus(completeLease))) {
+            throw new BusinessException("UPLOAD_COMPLETING", "업로드 완료 처리 중입니다. 잠시 후 세션 상태를 확인해주세요");
+        }
+    }
+
+    // 완료 처리 중 표시 해제 (저장 실패 후 다시 완료할 수 있도록)
+    private void completionFailed(String sessionId) {
+        transactionTemplate.executeWithoutResult(status -> sessions.findByIdForUpdate(sessionId)
+                .ifPresent(UploadSession::completionFailed));
+    }
+
+    // 완료 처리가 끝난 세션 제거 (잠금 밖에서 진행했으므로 다시 잠금 후 제거)
+    private void discard(String sessionId) {
+        transactionTemplate.executeWithoutResult(status -> sessions.findByIdForUpdate(sessionId)
+                .ifPresent(this::discard));
+    }
+
+    // 세션 행과 임시 파일 제거
+    private void discard(UploadSession session) {
+        sessions.delete(session);
+        try {
+            Files.deleteIfExists(partFile(session));
+        } catch (IOException e) {
+            log.warn("업로드 세션 임시 파일 삭제 실패: 세션={}, 오류={}", session.getId(), e.getMessage());
+        }
+    }
+
+    private Path partFile(UploadSession session) {
+        return dir.resolve(session.getId() + ".part");
+    }
+
+    private static String newSessionId() {
+        byte[] randomBytes = new byte[16];
+        new SecureRandom().nextBytes(randomBytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+    }
+
+    private static String truncate(String value, int max) {
+        return value.length() > max ? value.substring(0, max) : value;
+    }
+}
@@ -10,6 +10,7 @@ import com.example.community.repository.CommentRepository;
 import com.example.community.repository.MemberRepository;
 import com.example.community.repository.PostRepository;
 import com.example.community.repository.dto.CommentProjection;
+import com.example.community.repository.dto.CommentVersion;
 import com.example.community.service.exception.EntityNotFoundException;
 import com.example.community.util.PageableUtil;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,8 @@ public class CommentService {
     private final CommentRepository comments;
     private final PostRepository posts;
     private final MemberRepository members;
+    private final MissingPostCache missingPosts;
+    private final AnonymousResponseCache responseCache;
 
     private static final int MAX_CONTENT_LENGTH = 1000;
 
@@ -48,23 +51,45 @@ public class CommentService {
 
     /**
     * 댓글 작성을 위한 서비스 메서드 (memberId 기반)
+     * 게시글 존재 확인과 작성자 조회를 쿼리 한 번으로 처리하고, 게시글은 참조 프록시로만 연결합니다.
+     * (SELECT 1회 + INSERT 1회, 게시글 본문/버전은 읽지 않음)
      * 
      * @param postId     댓글이 작성될 게시글 ID
     * @param memberId   댓글 작성자 ID
      * @param rawContent 댓글 내용
-     * @return 저장된 댓글 엔티티
+     * @return 저장된 댓글 엔티티 (작성자는 로딩된 상태, 게시글은 ID만 가진 프록시)
      * @throws EntityNotFoundException 게시글이나 작성자가 존재하지 않는 경우
      */
     @Transactional
     public Comment add(Long postId, long memberId, String rawContent) {
         String content = normalizeAndValidateContent(rawContent);
-        Post post = posts.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글", postId));
-    Member author = members.findById(memberId)
-        .orElseThrow(() -> new EntityNotFoundException("작성자", memberId));
+        Member author = members.findByIdIfPostExists(memberId, postId)
+                .orElseThrow(() -> members.existsById(memberId)
+                        ? new EntityNotFoundException("게시글", postId)
+                        : new EntityNotFoundException("작성자", memberId));
+        Post post = posts.getReferenceById(postId);
         // 어드민도 작성은 일반 유저와 동일하게 처리(추후 정책 분리 가능)
         Comment c = Comment.builder().post(post).author(author).content(content).build();
-        return comments.save(c);
+        Comment saved = comments.save(c);
+        responseCache.commentAdded(postId);
+        return saved;
+    }
+
+    /**
+     * 게시글 댓글 목록의 변경 여부 판단용 값 조회 (조건부 GET, 댓글 내용을 읽지 않음)
+     *
+     * @param postId 게시글 ID
+     * @return 댓글 수, 마지막 댓글 ID, 활성 작성자의 댓글 수
+     * @throws EntityNotFoundException 게시글이 존재하지 않을 경우
+     */
+    @Transactional(readOnly = true)
+    public CommentVersion getVersionByPost(Long postId) {
+        long token = missingPosts.lookupToken();
+        if (!posts.existsById(postId)) {
+            missingPosts.recordMiss(postId, token);
+            throw new EntityNotFoundException("게시글", postId);
+        }
+        return comments.findVersionByPostId(postId);
     }
 
     /**
@@ -77,10 +102,25 @@ public class CommentService {
     @Transactional(readOnly = true)
     public Page<CommentProjection> getProjectionsByPostWithPaging(Long postId, Pageable pageable) {
         // 게시글 존재 여부 확인
+        long token = missingPosts.lookupToken();
         if (!posts.existsById(postId)) {
+            missingPosts.recordMiss(postId, token);
             throw new EntityNotFoundException("게시글", postId);
         }
+        return getProjectionsByCheckedPost(postId, pageable);
+    }
 
+    /**
+     * 존재를 확인한 게시글의 댓글 프로젝션 페이징 조회
+     * 같은 요청에서 {@link #getVersionByPost(Long)}로 게시글을 확인한 경우 사용하며, 게시글 존재 여부를 다시 조회하지 않습니다.
+     * (그 사이 삭제된 게시글은 빈 페이지 또는 삭제 전 댓글을 반환할 수 있으며, 다음 요청에서 404)
+     *
+     * @param postId   게시글 ID
+     * @param pageable 페이징 정보
+     * @return 페이징된 댓글 프로젝션 목록
+     */
+    @Transactional(readOnly = true)
+    public Page<CommentProjection> getProjectionsByCheckedPost(Long postId, Pageable pageable) {
         // 정렬 필드 화이트리스트 검증
         Pageable safePageable = PageableUtil.getSafeCommentPageable(pageable);
 
@@ -97,12 +137,16 @@ public class CommentService {
      */
     @Transactional
     public void delete(Long commentId, Actor actor) {
+        // 해당 게시글의 댓글 목록 캐시만 무효화하기 위해 삭제 전에 게시글 확인
+        Long postId = comments.findPostIdById(commentId)
+                .orElseThrow(() -> new EntityNotFoundException("삭제할 댓글", commentId));
         if (actor.isAdmin()) {
             // 관리자는 벌크 delete로 처리
             int deleted = comments.deleteByIdBulk(commentId);
             if (deleted == 0) {
                 throw new EntityNotFoundException("삭제할 댓글", commentId);
             }
+            responseCache.commentDeleted(postId);
             return;
         }
     // 작성자 본인만 삭제 가능: id, memberId 모두 일치해야 삭제됨
@@ -111,5 +155,6 @@ public class CommentService {
             // 존재 여부와 무관하게 항상 404 반환
             throw new EntityNotFoundException("삭제할 댓글", commentId);
         }
+        responseCache.commentDeleted(postId);
     }
 }
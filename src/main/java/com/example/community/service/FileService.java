@@ -4,14 +4,20 @@ import com.example.community.common.FilePolicy;
 import com.example.community.repository.PostImageRepository;
 import com.example.community.service.dto.ImageMeta;
 import com.example.community.service.exception.ForbiddenOperationException;
+import com.example.community.service.exception.InvalidImageException;
+import com.example.community.storage.DirectUploadStorage;
+import com.example.community.storage.DirectUploadStorage.PresignedUpload;
 import com.example.community.storage.Storage;
+import com.example.community.storage.StorageException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -27,6 +33,11 @@ public class FileService {
 
     private final Storage storage;
     private final PostImageRepository postImageRepository;
+    private final StorageDeletionQueue deletionQueue;
+
+    // 직접 업로드 URL 유효 시간
+    @Value("${app.storage.s3.presign-ttl:10m}")
+    private Duration presignTtl;
 
     /**
      * 게시글용 이미지 업로드 (키만 반환)
@@ -111,11 +122,133 @@ public class FileService {
         return result;
     }
 
+    /**
+     * 게시글 이미지 직접 업로드 URL 발급
+     * 클라이언트는 발급된 URL로 저장소에 바로 업로드한 뒤 {@link #confirmPostImageUpload(Long, String)}를 호출합니다.
+     * 
+     * @param memberId    업로드 요청자 ID
+     * @param contentType 업로드할 이미지 MIME 타입
+     * @param size        업로드할 이미지 크기 (바이트)
+     * @return 업로드 요청 정보 (URL, 메서드, 필수 헤더, 만료 시각)
+     * @throws IllegalArgumentException 직접 업로드를 지원하지 않는 저장소이거나 타입/크기가 허용되지 않는 경우
+     */
+    public PresignedUpload presignPostImageUpload(Long memberId, String contentType, long size) {
+        DirectUploadStorage direct = requireDirectUpload();
+        String ct = contentType == null ? "" : contentType.toLowerCase();
+        if (!FilePolicy.ALLOWED_IMAGE_TYPES.contains(ct)) {
+            throw new IllegalArgumentException(
+                    String.format(FilePolicy.ERR_INVALID_FILE_TYPE, String.join(", ", FilePolicy.ALLOWED_IMAGE_TYPES)));
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException(FilePolicy.ERR_FILE_EMPTY);
+        }
+        if (FilePolicy.isFileSizeExceeded(size)) {
+            throw new IllegalArgumentException(
+                    String.format(FilePolicy.ERR_FILE_TOO_LARGE, FilePolicy.MAX_FILE_SIZE_BYTES));
+        }
+
+        String fileKey = newPostImageKey(memberId, ct);
+        PresignedUpload upload = direct.presignUpload(fileKey, ct, size, presignTtl);
+        log.debug("이미지 직접 업로드 URL 발급: 회원={}, 키={}, 만료={}", memberId, fileKey, upload.expiresAt());
+        return upload;
+    }
+
+    /**
+     * 게시글 이미지 직접 업로드 확인
+     * 저장된 객체의 크기와 파일 시그니처를 검증하며, 검증에 실패한 객체는 즉시 삭제합니다.
+     * 
+     * @param memberId 업로드 요청자 ID
+     * @param key      발급받은 이미지 키
+     * @return 확인된 이미지 메타데이터
+     * @throws ForbiddenOperationException 본인 디렉토리 키가 아닌 경우
+     * @throws InvalidImageException       업로드되지 않았거나 이미지 검증에 실패한 경우
+     */
+    public ImageMeta confirmPostImageUpload(Long memberId, String key) {
+        DirectUploadStorage direct = requireDirectUpload();
+        requireSafeKey(key);
+        ensureOwnedPathOrThrow(key, memberId);
+
+        Storage.FileMeta meta = storage.stat(key)
+                .orElseThrow(() -> new InvalidImageException("업로드된 이미지를 찾을 수 없습니다: " + key));
+        try {
+            verifyUploadedImage(direct, key, meta.size());
+        } catch (InvalidImageException e) {
+            discardQuietly(key);
+            throw e;
+        }
+        log.debug("이미지 직접 업로드 확인: 회원={}, 키={}, 크기={}B", memberId, key, meta.size());
+        return new ImageMeta(key, storage.url(key));
+    }
+
+    /**
+     * 직접 업로드된 객체의 크기와 파일 시그니처 검증
+     * 확인 단계를 건너뛴 업로드도 걸러지도록 게시글에 첨부할 때 다시 호출합니다.
+     * 
+     * @param direct 직접 업로드 저장소
+     * @param key    이미지 키
+     * @param size   저장된 객체 크기 (바이트)
+     * @throws InvalidImageException 크기 초과, 허용되지 않는 형식, 시그니처 불일치 또는 조회 실패 시
+     */
+    static void verifyUploadedImage(DirectUploadStorage direct, String key, long size) {
+        if (FilePolicy.isFileSizeExceeded(size)) {
+            throw new InvalidImageException(
+                    String.format(FilePolicy.ERR_FILE_TOO_LARGE, FilePolicy.MAX_FILE_SIZE_BYTES));
+        }
+        String contentType = FilePolicy.contentTypeOf(key);
+        byte[] head;
+        try {
+            head = direct.readHead(key, FilePolicy.HEAD_BYTES);
+        } catch (StorageException e) {
+            throw new InvalidImageException("업로드된 이미지를 읽을 수 없습니다: " + key, e);
+        }
+        if (!FilePolicy.ALLOWED_IMAGE_TYPES.contains(contentType)
+                || !FilePolicy.matchesSignature(contentType, head)) {
+            throw new InvalidImageException("이미지 파일 형식이 올바르지 않습니다: " + key);
+        }
+    }
+
+    private DirectUploadStorage requireDirectUpload() {
+        if (storage instanceof DirectUploadStorage direct) {
+            return direct;
+        }
+        throw new IllegalArgumentException("현재 저장소는 직접 업로드를 지원하지 않습니다");
+    }
+
+    // 검증에 실패한 업로드 객체 삭제 (삭제 실패는 고아 이미지 수집기가 정리)
+    private void discardQuietly(String key) {
+        try {
+            storage.delete(key);
+        } catch (StorageException e) {
+            log.warn("검증 실패 이미지 삭제 실패: 키={}, 오류={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 이미지 키 생성 ('posts/{memberId}/{랜덤}.{MIME 타입에 맞는 확장자}')
+     * 직접 업로드/조각 업로드처럼 원본 파일명을 신뢰할 수 없는 경로에서 사용합니다.
+     */
+    static String newPostImageKey(Long memberId, String contentType) {
+        String fileName = generateUniqueFileName("image." + extensionOf(contentType));
+        return String.format("%s/%d/%s", FilePolicy.POST_IMAGES_PATH, memberId, fileName);
+    }
+
+    // MIME 타입 → 확장자 (키의 확장자로 Content-Type을 유추하므로 일치시켜 생성)
+    private static String extensionOf(String contentType) {
+        return switch (contentType) {
+            case "image/png" -> "png";
+            case "image/jpeg" -> "jpg";
+            case "image/gif" -> "gif";
+            case "image/webp" -> "webp";
+            default -> throw new IllegalArgumentException(
+                    String.format(FilePolicy.ERR_INVALID_FILE_TYPE, String.join(", ", FilePolicy.ALLOWED_IMAGE_TYPES)));
+        };
+    }
+
     /**
      * 고유한 파일명 생성
      * UUID를 사용하여 중복을 방지합니다.
      */
-    private String generateUniqueFileName(String originalFilename) {
+    private static String generateUniqueFileName(String originalFilename) {
         String extension = "";
         if (originalFilename != null && originalFilename.contains(".")) {
             extension = originalFilename.substring(originalFilename.lastIndexOf("."));
@@ -148,18 +281,8 @@ public class FileService {
             ensureOwnedPathOrThrow(key, memberId);
         }
 
-        // 2) 커밋 이후 스토리지 삭제
-        org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization(
-                new org.springframework.transaction.support.TransactionSynchronization() {
-                    @Override
-                    public void afterCommit() {
-                        try {
-                            storage.delete(key);
-                        } catch (Exception e) {
-                            log.error("Storage delete failed: key={}", key, e);
-                        }
-                    }
-                });
+        // 2) 스토리지 삭제는 같은 트랜잭션에서 대기열에 기록 (커밋 후 백그라운드 처리)
+        deletionQueue.enqueue(List.of(key));
     }
 
 
@@ -0,0 +1,249 @@
+package com.example.community.service;
+
+import com.example.community.config.datasource.BatchPool;
+import com.example.community.config.datasource.PoolSelection;
+import com.example.community.config.datasource.PrimaryReadContext;
+import com.example.community.config.datasource.ReadWriteRoutingDataSource;
+import com.example.community.repository.PostRepository;
+import com.example.community.service.exception.EntityNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 없는 게시글 ID 요청을 DB 조회 없이 거절하기 위한 부정 캐시
+ *
+ * - 존재하는 게시글 ID의 Bloom filter: 기동 후 백그라운드에서 전체 ID로 채움 (채우는 동안은 사용하지 않음)
+ *   expected-posts를 넘으면 오탐이 늘어 DB 조회가 늘어날 뿐 판정은 틀리지 않음
+ * - 최근 조회에서 없다고 확인된 ID: miss-ttl 동안 보관 (삭제된 게시글 포함, 최대 max-misses개)
+ *
+ * 새 게시글은 저장 시 Bloom filter에 바로 추가하고, 다른 노드에는 CacheChangeLog로 알립니다.
+ * 다른 노드의 생성은 변경 로그 조회 주기만큼 늦게 반영되므로 Bloom filter에 없는 ID도 바로 거절하지 않고,
+ * primary에서 존재 여부만 한 번 조회해 없을 때만 거절합니다. (상세 조회보다 가벼운 조회로 대체)
+ * 조회 도중 생성이 커밋되면 그 조회의 "없음" 결과는 기록하지 않습니다. (lookupToken → recordMiss)
+ * 읽기 복제본을 사용하면 복제 지연으로 방금 생성된 게시글이 없다고 보일 수 있으므로 primary에서 읽은 결과만 기록합니다.
+ * 변경 로그가 꺼져 있으면 다른 노드의 생성을 알 수 없으므로 Bloom filter는 사용하지 않습니다.
+ */
+@Slf4j
+@Service
+public class MissingPostCache {
+
+    private final PostRepository posts;
+    private final CacheChangeLog changeLog;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate primaryRead;
+    private final Counter rejected;
+
+    private final boolean enabled;
+    private final boolean replicaEnabled;
+    private final long missTtlNanos;
+    private final int maxMisses;
+    private final int loadBatchSize;
+
+    private final Map<Long, Long> misses = new ConcurrentHashMap<>();
+    // 게시글 생성 반영 횟수 (조회 시작 후 생성이 반영되었으면 없음 결과를 기록하지 않음)
+    private final AtomicLong creations = new AtomicLong();
+    // 채우는 중에도 새 ID는 추가되며, ready 이후에만 판정에 사용
+    private final LongBloomFilter existing;
+    private volatile boolean ready;
+
+    public MissingPostCache(PostRepository posts, CacheChangeLog changeLog, TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.posts.missing-cache.enabled:false}") boolean enabled,
+            @Value("${app.posts.missing-cache.miss-ttl:30s}") Duration missTtl,
+            @Value("${app.posts.missing-cache.max-misses:100000}") int maxMisses,
+            @Value("${app.posts.missing-cache.expected-posts:1000000}") long expectedPosts,
+            @Value("${app.posts.missing-cache.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${app.posts.missing-cache.load-batch-size:10000}") int loadBatchSize,
+            @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled) {
+        this.posts = posts;
+        this.changeLog = changeLog;
+        this.transactionTemplate = transactionTemplate;
+        this.primaryRead = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.primaryRead.setReadOnly(true);
+        this.rejected = Counter.builder("posts.missing.rejected").register(meterRegistry);
+        this.enabled = enabled;
+        this.replicaEnabled = replicaEnabled;
+        this.missTtlNanos = missTtl.toNanos();
+        this.maxMisses = maxMisses;
+        this.existing = new LongBloomFilter(enabled ? expectedPosts : 1, falsePositiveRate);
+        this.loadBatchSize = loadBatchSize;
+    }
+
+    /**
+     * 기동 후 백그라운드에서 Bloom filter 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        if (!enabled) {
+            return;
+        }
+        Thread loader = new Thread(() -> {
+            try {
+                load();
+            } catch (Exception e) {
+                log.warn("게시글 존재 여부 필터 구성 실패 (필터 없이 동작): {}", e.getMessage());
+            }
+        }, "missing-post-cache-load");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * 없는 게시글이면 상세 조회 전에 예외 발생
+     * 최근 없다고 확인된 ID는 DB를 조회하지 않고, Bloom filter에 없는 ID는 존재 여부만 primary에서 조회합니다.
+     *
+     * @throws EntityNotFoundException 없는 게시글 ID인 경우
+     */
+    public void rejectIfKnownMissing(Long postId) {
+        if (isKnownMissing(postId)) {
+            rejected.increment();
+            throw new EntityNotFoundException("게시글", postId);
+        }
+    }
+
+    boolean isKnownMissing(Long postId) {
+        if (!enabled || postId == null) {
+            return false;
+        }
+        Long expiresAt = misses.get(postId);
+        if (expiresAt != null) {
+            if (System.nanoTime() - expiresAt < 0) {
+                return true;
+            }
+            misses.remove(postId, expiresAt);
+        }
+        if (!ready || existing.mightContain(postId)) {
+            return false;
+        }
+        // 이 노드가 아직 생성을 전달받지 못한 ID일 수 있으므로 primary에서 확인
+        long token = lookupToken();
+        Boolean exists = PoolSelection.call(ReadWriteRoutingDataSource.Route.INTERACTIVE_WRITE,
+                () -> primaryRead.execute(status -> posts.existsById(postId)));
+        if (Boolean.TRUE.equals(exists)) {
+            existing.put(postId);
+            return false;
+        }
+        remember(postId, token);
+        return true;
+    }
+
+    /**
+     * DB 조회 직전에 호출해 {@link #recordMiss(Long, long)}에 전달할 값
+     */
+    public long lookupToken() {
+        return creations.get();
+    }
+
+    /**
+     * DB에서 없다고 확인된 ID 기록
+     * 조회를 시작한 뒤 게시글 생성이 반영되었으면 (조회가 생성 커밋 전의 상태를 읽었을 수 있으므로) 기록하지 않습니다.
+     * 읽기 복제본을 사용하면 primary에서 읽는 요청(PrimaryReadContext)의 결과만 기록합니다.
+     * (복제본 사용 여부는 조회 시점마다 바뀔 수 있으므로 지연 상태와 무관하게 복제본 조회일 수 있으면 기록하지 않음)
+     *
+     * @param postId 게시글 ID
+     * @param token  DB 조회 전에 받은 {@link #lookupToken()} 값
+     */
+    public void recordMiss(Long postId, long token) {
+        if (!enabled || postId == null) {
+            return;
+        }
+        if (replicaEnabled && !PrimaryReadContext.isPrimaryRequired()) {
+            return;
+        }
+        remember(postId, token);
+    }
+
+    private void remember(Long postId, long token) {
+        long now = System.nanoTime();
+        if (misses.size() >= maxMisses) {
+            misses.values().removeIf(expiresAt -> now - expiresAt >= 0);
+            if (misses.size() >= maxMisses) {
+                return;
+            }
+        }
+        misses.put(postId, now + missTtlNanos);
+        // 기록하는 사이에 생성이 반영되었으면 되돌림 (생성 반영은 횟수 증가 후 기록을 지우므로 둘 중 하나는 지움)
+        if (creations.get() != token) {
+            misses.remove(postId);
+        }
+    }
+
+    /**
+     * 게시글 생성 반영
+     * Bloom filter에는 바로 추가하고, 없다고 기록된 ID는 커밋 후 제거합니다. (호출자 트랜잭션에 참여)
+     */
+    public void postCreated(Long postId) {
+        if (!enabled) {
+            return;
+        }
+        existing.put(postId);
+        changeLog.append(CacheChangeLog.POST, postId.toString(), 0L);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    created(postId);
+                }
+            });
+        } else {
+            created(postId);
+        }
+    }
+
+    /**
+     * 다른 노드의 게시글 생성/수정 반영
+     */
+    @EventListener
+    public void onCacheChanged(CacheChangedEvent event) {
+        if (enabled && CacheChangeLog.POST.equals(event.entityType())) {
+            Long postId = Long.valueOf(event.entityId());
+            existing.put(postId);
+            created(postId);
+        }
+    }
+
+    // 진행 중인 조회가 없음 결과를 기록하지 않도록 횟수를 먼저 올린 뒤 기록 제거
+    private void created(Long postId) {
+        creations.incrementAndGet();
+        misses.remove(postId);
+    }
+
+    void load() {
+        if (!changeLog.isEnabled()) {
+            log.info("캐시 무효화 로그가 꺼져 있어 게시글 존재 여부 필터 없이 최근 조회 결과만 사용합니다");
+            return;
+        }
+        // 채우는 동안 다른 노드에서 생성된 게시글을 놓치지 않도록 변경 로그 위치를 먼저 고정
+        changeLog.start();
+        long after = 0;
+        long loaded = 0;
+        while (true) {
+            long from = after;
+            List<Long> ids = BatchPool.call(() -> transactionTemplate.execute(
+                    status -> posts.findIdsAfter(from, PageRequest.of(0, loadBatchSize))));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            ids.forEach(existing::put);
+            loaded += ids.size();
+            after = ids.get(ids.size() - 1);
+        }
+        ready = true;
+        log.info("게시글 존재 여부 필터 구성 완료: {}건", loaded);
+    }
+}
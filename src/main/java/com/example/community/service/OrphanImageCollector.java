@@ -0,0 +1,228 @@
+package com.example.community.service;
+
+import com.example.community.common.FilePolicy;
+import com.example.community.config.datasource.BatchPool;
+import com.example.community.domain.PostImage;
+import com.example.community.domain.StorageGcState;
+import com.example.community.repository.PostImageRepository;
+import com.example.community.repository.StorageGcStateRepository;
+import com.example.community.storage.Storage;
+import com.example.community.storage.Storage.FileMeta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글에 연결되지 않은 이미지 파일(고아 파일)을 정리하는 수집기
+ * 업로드 후 게시글에 첨부되지 않았거나, 게시글 삭제 후 파일 삭제에 실패한 파일을 대상으로 합니다.
+ *
+ * 저장소를 키 순서대로 청크 단위로 훑으면서(mark) post_images.file_key를 일괄 IN 쿼리로 확인하고,
+ * 참조되지 않으며 유예 기간이 지난 파일만 삭제 대기열(StorageDeletionQueue)에 등록합니다(sweep).
+ * 등록은 배치마다 한 트랜잭션에서 처리하며, 삭제를 먼저 등록한 뒤 참조를 잠금과 함께 다시 확인해 첨부된 키는 취소합니다.
+ * 첨부 경로는 저장소 확인 전에 삭제 대기열을 잠금과 함께 확인하므로
+ * - 등록이 먼저 커밋되면 첨부가 거절되고
+ * - 첨부 확인이 먼저면 등록이 첨부 커밋까지 대기한 뒤 재확인에서 첨부를 보고 취소합니다.
+ * 실제 파일 삭제는 대기열이 트랜잭션 밖에서 처리하므로 잠금을 잡은 채 저장소를 호출하지 않습니다.
+ * 마지막 처리 키를 DB에 기록하므로 중단되더라도 다음 실행에서 이어서 진행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrphanImageCollector {
+
+    static final String STATE_NAME = "orphan-images";
+
+    private final Storage storage;
+    private final PostImageRepository postImages;
+    private final StorageGcStateRepository gcStates;
+    private final StorageDeletionQueue deletionQueue;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${app.storage.gc.enabled:false}")
+    private boolean enabled;
+
+    // 업로드 직후 아직 게시글에 첨부되지 않은 파일을 보호하기 위한 유예 기간
+    @Value("${app.storage.gc.grace-period:24h}")
+    private Duration gracePeriod;
+
+    // 한 번에 조회/확인할 파일 수 (IN 쿼리 크기)
+    @Value("${app.storage.gc.batch-size:500}")
+    private int batchSize;
+
+    // 1회 실행당 최대 배치 수
+    @Value("${app.storage.gc.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    // 1회 실행당 최대 삭제 수
+    @Value("${app.storage.gc.max-deletes-per-run:2000}")
+    private int maxDeletesPerRun;
+
+    // 배치 사이 대기 시간 (저장소/DB 부하 제한)
+    @Value("${app.storage.gc.batch-pause-ms:200}")
+    private long batchPauseMs;
+
+    /**
+     * 주기적으로 고아 파일 수집을 실행합니다. (app.storage.gc.enabled=true 일 때만)
+     */
+    @Scheduled(fixedDelayString = "${app.storage.gc.interval-ms:600000}",
+            initialDelayString = "${app.storage.gc.initial-delay-ms:300000}")
+    public void scheduledCollect() {
+        if (!enabled) {
+            return;
+        }
+        collect();
+    }
+
+    /**
+     * 고아 파일 수집 1회 실행
+     * 예산(배치 수/삭제 수)을 소진하거나 전체 순회가 끝나면 종료합니다.
+     *
+     * @return 실행 결과
+     */
+    public RunResult collect() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("고아 이미지 수집이 이미 실행 중입니다");
+            return new RunResult(0, 0, 0L, false);
+        }
+        try {
+            return BatchPool.call(this::doCollect);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private RunResult doCollect() {
+        Instant start = Instant.now();
+        Instant cutoff = start.minus(gracePeriod);
+        StorageGcState state = gcStates.findById(STATE_NAME)
+                .orElseGet(() -> StorageGcState.builder().name(STATE_NAME).build());
+        String cursor = state.getCursorKey();
+        log.info("고아 이미지 수집 시작: 커서={}, 유예기간={}", cursor, gracePeriod);
+
+        int scanned = 0;
+        int deleted = 0;
+        long reclaimed = 0L;
+        boolean passCompleted = false;
+
+        for (int batch = 0; batch < maxBatchesPerRun && deleted < maxDeletesPerRun; batch++) {
+            List<FileMeta> chunk = storage.listKeys(FilePolicy.POST_IMAGES_PATH, cursor, batchSize);
+            Set<String> referenced = chunk.isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(postImages.findReferencedFileKeys(chunk.stream().map(FileMeta::key).toList()));
+
+            List<FileMeta> candidates = new ArrayList<>();
+            int processed = 0;
+            for (FileMeta meta : chunk) {
+                if (deleted + candidates.size() >= maxDeletesPerRun) {
+                    break;
+                }
+                processed++;
+                cursor = meta.key();
+                if (referenced.contains(meta.key())) {
+                    continue;
+                }
+                if (meta.lastModified() != null && meta.lastModified().isAfter(cutoff)) {
+                    continue;
+                }
+                candidates.add(meta);
+            }
+            Swept swept = candidates.isEmpty() ? Swept.NONE : transactionTemplate.execute(status -> sweep(candidates));
+            int batchDeleted = swept.files();
+            long batchBytes = swept.bytes();
+            scanned += processed;
+            deleted += batchDeleted;
+            reclaimed += batchBytes;
+            meterRegistry.counter("storage.gc.reclaimed.files").increment(batchDeleted);
+            Counter.builder("storage.gc.reclaimed.bytes").baseUnit("bytes").register(meterRegistry)
+                    .increment(batchBytes);
+
+            if (processed == chunk.size() && chunk.size() < batchSize) {
+                state.advance(null, batchDeleted, batchBytes);
+                state.completePass();
+                gcStates.save(state);
+                passCompleted = true;
+                break;
+            }
+            state.advance(cursor, batchDeleted, batchBytes);
+            state = gcStates.save(state);
+
+            if (!pause()) {
+                break;
+            }
+        }
+
+        Duration duration = Duration.between(start, Instant.now());
+        log.info("고아 이미지 수집 완료: 확인 {}개, 삭제 {}개, 회수 {}B, 순회완료={}, 누적 회수 {}B, 소요시간: {}ms",
+                scanned, deleted, reclaimed, passCompleted, state.getReclaimedBytes(), duration.toMillis());
+        return new RunResult(scanned, deleted, reclaimed, passCompleted);
+    }
+
+    private record Swept(int files, long bytes) {
+        static final Swept NONE = new Swept(0, 0L);
+    }
+
+    // 삭제 등록 후 참조를 잠금과 함께 다시 확인해 첨부된 키의 등록 취소
+    private Swept sweep(List<FileMeta> candidates) {
+        List<String> keys = candidates.stream().map(FileMeta::key).toList();
+        deletionQueue.enqueue(keys);
+        Set<String> attached = postImages.findByFileKeyInForUpdate(keys)
+                .stream()
+                .map(PostImage::getFileKey)
+                .collect(Collectors.toSet());
+        deletionQueue.cancel(attached);
+        int files = 0;
+        long bytes = 0L;
+        for (FileMeta meta : candidates) {
+            if (attached.contains(meta.key())) {
+                log.debug("고아 이미지 삭제 취소 (확인 후 첨부됨): 파일키={}", meta.key());
+                continue;
+            }
+            files++;
+            bytes += meta.size();
+            log.debug("고아 이미지 삭제 등록: 파일키={}, 크기={}B", meta.key(), meta.size());
+        }
+        return new Swept(files, bytes);
+    }
+
+    // 배치 간 대기 (인터럽트 시 false)
+    private boolean pause() {
+        if (batchPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 수집 1회 실행 결과
+     *
+     * @param scanned       확인한 파일 수
+     * @param deleted       삭제한 파일 수
+     * @param reclaimedBytes 회수한 바이트 수
+     * @param passCompleted 전체 순회 완료 여부
+     */
+    public record RunResult(int scanned, int deleted, long reclaimedBytes, boolean passCompleted) {
+    }
+}
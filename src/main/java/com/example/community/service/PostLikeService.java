@@ -1,6 +1,5 @@
 package com.example.community.service;
 
-import com.example.community.domain.Member;
 import com.example.community.domain.Post;
 import com.example.community.domain.PostLike;
 import com.example.community.repository.MemberRepository;
@@ -25,9 +24,12 @@ public class PostLikeService {
     private final PostLikeRepository postLikes;
     private final PostRepository posts;
     private final MemberRepository members;
+    private final AnonymousResponseCache responseCache;
 
     /**
      * 게시글 좋아요 토글 (추가/취소)
+     * 게시글/회원 존재 확인은 쿼리 한 번으로 처리하고, 좋아요는 참조 프록시로만 연결합니다.
+     * (취소: SELECT 1회 + DELETE 1회 + UPDATE 1회, 추가: SELECT 1회 + DELETE 1회 + INSERT 1회 + UPDATE 1회)
      * 
      * @param postId   게시글 ID
      * @param memberId 회원 ID
@@ -37,12 +39,12 @@ public class PostLikeService {
     @Transactional
     public boolean toggleLike(Long postId, Long memberId) {
         log.info("[좋아요 토글] postId={}, memberId={}", postId, memberId);
-        // 존재 검증만 필요하면 existsById
-        if (!posts.existsById(postId)) {
-            log.error("[좋아요 토글] 존재하지 않는 게시글: postId={}", postId);
-            throw new EntityNotFoundException("게시글", postId);
-        }
-        if (!members.existsById(memberId)) {
+        if (members.findByIdIfPostExists(memberId, postId).isEmpty()) {
+            // 실패 시에만 어느 쪽이 없는지 확인
+            if (!posts.existsById(postId)) {
+                log.error("[좋아요 토글] 존재하지 않는 게시글: postId={}", postId);
+                throw new EntityNotFoundException("게시글", postId);
+            }
             log.error("[좋아요 토글] 존재하지 않는 회원: memberId={}", memberId);
             throw new EntityNotFoundException("회원", memberId);
         }
@@ -51,22 +53,20 @@ public class PostLikeService {
         int deleted = postLikes.deleteByPostIdAndMemberId(postId, memberId);
         if (deleted == 1) {
             posts.decrementLikesSafely(postId); // like_count >= 1 일 때만 감소
+            responseCache.likesChanged(postId);
             return false;
         }
 
-        // 좋아요 추가 시도
+        // 좋아요 추가 시도 (존재는 위에서 확인했으므로 외래 키만 설정)
         log.info("[좋아요 토글] save 시도: postId={}, memberId={}", postId, memberId);
         try {
-            Member member = members.findById(memberId)
-                .orElseThrow(() -> new EntityNotFoundException("회원", memberId));
-            Post post = posts.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글", postId));
             PostLike like = PostLike.builder()
-                    .post(post)
-                    .member(member)
+                    .post(posts.getReferenceById(postId))
+                    .member(members.getReferenceById(memberId))
                     .build();
             postLikes.save(like);
             posts.incrementLikes(postId);
+            responseCache.likesChanged(postId);
             return true;
         } catch (DataIntegrityViolationException e) {
             log.error("[좋아요 토글] DataIntegrityViolationException 발생: {}", e.getMessage(), e);
@@ -0,0 +1,131 @@
+package com.example.community.service;
+
+import com.example.community.config.datasource.BatchPool;
+import com.example.community.domain.PostImage;
+import com.example.community.repository.CommentRepository;
+import com.example.community.repository.PostImageRepository;
+import com.example.community.repository.PostLikeRepository;
+import com.example.community.repository.PostRepository;
+import com.example.community.repository.PostViewSketchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 삭제 표시된 게시글 정리 작업
+ * 게시글 삭제 요청은 삭제 표시(deleted_at)만 남기고, 댓글 → 좋아요 → 이미지 → 조회자 스케치와 게시글 행 순으로
+ * 한 번에 최대 batch-size 행씩 나누어 삭제합니다.
+ *
+ * - 배치마다 별도 트랜잭션으로 처리하므로 댓글이 많은 게시글도 긴 트랜잭션/대량 행 잠금 없이 정리됩니다.
+ * - 진행 상태는 남아 있는 행 자체이므로 중단되어도 다음 실행에서 이어서 처리합니다.
+ * - 이미지 파일은 이미지 행을 지우는 트랜잭션에서 파일 삭제 대기열에 등록합니다.
+ * - 배치마다 게시글 행을 SKIP LOCKED로 잠가 선점하므로, 여러 인스턴스는 서로 다른 게시글을 나누어 처리합니다.
+ * - 게시글 행을 잠근 상태에서는 조회자 스케치 잠금을 기다리지 않습니다. (조회수 반영은 스케치 → 게시글 순으로 잠금)
+ *   스케치가 잠겨 있으면 이번 실행을 멈추고 다음 실행에서 다시 시도합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostPurger {
+
+    private final PostRepository posts;
+    private final CommentRepository comments;
+    private final PostLikeRepository likes;
+    private final PostImageRepository images;
+    private final PostViewSketchRepository viewSketches;
+    private final StorageDeletionQueue deletionQueue;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 배치에서 삭제할 최대 행 수
+    @Value("${app.posts.purge.batch-size:500}")
+    private int batchSize;
+
+    // 1회 실행당 최대 배치 수
+    @Value("${app.posts.purge.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    // 배치 사이 대기 시간 (DB 부하 제한)
+    @Value("${app.posts.purge.batch-pause-ms:50}")
+    private long batchPauseMs;
+
+    /**
+     * 삭제 표시된 게시글을 배치 단위로 정리합니다.
+     * 정리할 게시글이 없거나 배치 수 한도에 도달하면 종료합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.posts.purge.interval-ms:5000}")
+    public void purge() {
+        BatchPool.run(() -> {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                Boolean processed;
+                try {
+                    processed = transactionTemplate.execute(status -> purgeNextBatch());
+                } catch (PessimisticLockingFailureException e) {
+                    log.debug("삭제된 게시글 정리 보류 (조회자 스케치 반영 중), 다음 실행에서 재시도: {}", e.getMessage());
+                    return;
+                }
+                if (processed == null || !processed || !pause()) {
+                    return;
+                }
+            }
+        });
+    }
+
+    // 가장 먼저 삭제된 게시글의 다음 배치 처리 (처리할 게시글이 없으면 false)
+    private boolean purgeNextBatch() {
+        List<Long> ids = posts.findDeletedIdsForUpdate(1);
+        if (ids.isEmpty()) {
+            return false;
+        }
+        Long postId = ids.get(0);
+        PageRequest page = PageRequest.of(0, batchSize);
+
+        List<Long> commentIds = comments.findIdsByPostId(postId, page);
+        if (!commentIds.isEmpty()) {
+            int deleted = comments.deleteByIdIn(commentIds);
+            log.debug("삭제된 게시글 정리: 게시글={}, 댓글 {}건 삭제", postId, deleted);
+            return true;
+        }
+
+        List<Long> likeIds = likes.findIdsByPostId(postId, page);
+        if (!likeIds.isEmpty()) {
+            int deleted = likes.deleteByIdIn(likeIds);
+            log.debug("삭제된 게시글 정리: 게시글={}, 좋아요 {}건 삭제", postId, deleted);
+            return true;
+        }
+
+        List<PostImage> postImages = images.findByPostIdOrderById(postId, page);
+        if (!postImages.isEmpty()) {
+            deletionQueue.enqueue(postImages.stream().map(PostImage::getFileKey).toList());
+            int deleted = images.deleteByIdIn(postImages.stream().map(PostImage::getId).toList());
+            log.debug("삭제된 게시글 정리: 게시글={}, 이미지 {}건 삭제", postId, deleted);
+            return true;
+        }
+
+        // 조회수 반영(PostViewCounter)이 스케치를 잠그고 게시글을 기다리는 중이면 교착되지 않도록 바로 실패
+        viewSketches.findByIdForUpdateNoWait(postId);
+        viewSketches.deleteByPostId(postId);
+        posts.purgeDeleted(postId);
+        log.info("삭제된 게시글 정리 완료: 게시글={}", postId);
+        return true;
+    }
+
+    private boolean pause() {
+        if (batchPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -11,15 +11,16 @@ import com.example.community.domain.Post;
 import com.example.community.domain.PostImage;
 import com.example.community.repository.MemberRepository;
 import com.example.community.repository.PostRepository;
+import com.example.community.repository.dto.PostVersion;
 import com.example.community.service.dto.PostDtos;
 import com.example.community.service.dto.PostSummaryDto;
 import com.example.community.service.exception.EntityNotFoundException;
+import com.example.community.storage.DirectUploadStorage;
 import com.example.community.storage.Storage;
 import com.example.community.util.PageableUtil;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
-import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -29,6 +30,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -42,6 +44,16 @@ public class PostService {
     private final PostRepository posts;
     private final MemberRepository members;
     private final Storage storage;
+    private final StorageDeletionQueue deletionQueue;
+    private final BoardPageCache pageCache;
+    private final MissingPostCache missingPosts;
+    private final SingleFlight singleFlight;
+    private final AnonymousResponseCache responseCache;
+    private final PostViewCounter viewCounter;
+    private final EntityManager entityManager;
+
+    // 관리자 일괄 삭제 최대 건수
+    public static final int MAX_BULK_DELETE = 1000;
 
     private static final int MAX_TITLE_LENGTH = 200;
     private static final int MAX_CONTENT_LENGTH = 5000;
@@ -77,50 +89,58 @@ public class PostService {
     }
 
     /**
-     * 파일 키에서 Content-Type을 유추합니다.
-     * @param key 파일 키
-     * @return Content-Type 문자열
+     * 이미지 키 목록의 메타데이터를 한 번의 저장소 호출로 조회합니다.
+     * 키마다 exists/url을 개별 호출하지 않고 statAll로 일괄 확인합니다.
+     * 직접 업로드 저장소는 클라이언트가 확인 단계를 건너뛸 수 있으므로 첨부 시점에 파일 시그니처를 다시 검증합니다.
+     * 고아 파일 수집이 삭제를 등록한 파일은 저장소에 아직 남아 있어도 첨부하지 않습니다.
+     * (저장소 확인 전에 삭제 대기열을 잠금과 함께 확인하므로, 확인 후 등록되는 삭제는 이 트랜잭션의 첨부를 보고 취소됨)
+     * @param keys 검증을 마친 이미지 파일 키 목록
+     * @return 키 → 메타데이터
+     * @throws InvalidImageException 저장소에 없거나 삭제 대기 중인 키나 이미지가 아닌 객체가 있거나 조회 중 오류 발생 시
      */
-    private String determineContentTypeFromKey(String key) {
-        String lowerKey = key.toLowerCase();
-        if (lowerKey.endsWith(".jpg") || lowerKey.endsWith(".jpeg")) {
-            return "image/jpeg";
-        } else if (lowerKey.endsWith(".png")) {
-            return "image/png";
-        } else if (lowerKey.endsWith(".gif")) {
-            return "image/gif";
-        } else if (lowerKey.endsWith(".webp")) {
-            return "image/webp";
-        } else {
-            // 기본값
-            return "application/octet-stream";
+    private Map<String, Storage.FileMeta> resolveImageMetas(List<String> keys) {
+        if (deletionQueue.hasPending(keys)) {
+            log.error("이미지 처리 중 오류: 파일키={}, 오류=삭제 대기 중인 파일", keys);
+            throw new InvalidImageException("이미지 처리 중 오류가 발생했습니다");
+        }
+        Map<String, Storage.FileMeta> metas;
+        try {
+            metas = storage.statAll(keys);
+        } catch (Exception e) {
+            log.error("이미지 메타데이터 조회 중 오류: 파일키={}, 오류={}", keys, e.getMessage());
+            throw new InvalidImageException("이미지 처리 중 오류가 발생했습니다", e);
         }
+        for (String key : keys) {
+            if (!metas.containsKey(key)) {
+                log.error("이미지 처리 중 오류: 파일키={}, 오류=존재하지 않는 파일", key);
+                throw new InvalidImageException("이미지 처리 중 오류가 발생했습니다");
+            }
+            if (storage instanceof DirectUploadStorage direct) {
+                FileService.verifyUploadedImage(direct, key, metas.get(key).size());
+            }
+        }
+        return metas;
     }
 
     /**
      * 게시글에 이미지 추가를 위한 유틸리티 메서드
-     * 이미지 키를 기반으로 PostImage 엔티티를 생성합니다.
+     * 저장소 메타데이터를 기반으로 PostImage 엔티티를 생성합니다.
      * @param post 게시글 엔티티
-     * @param key 이미지 파일 키
+     * @param meta 이미지 파일 메타데이터
      * @return 생성된 PostImage 엔티티
      * @throws InvalidImageException 이미지 처리 중 오류 발생 시
      */
-    private PostImage createPostImageFromKey(Post post, String key) {
+    private PostImage createPostImage(Post post, Storage.FileMeta meta) {
+        String key = meta.key();
         try {
-            if (!storage.exists(key)) {
-                throw new InvalidImageException("이미지 처리 중 오류가 발생했습니다");
-            }
-            String url = storage.url(key);
             String originalName = key.substring(key.lastIndexOf('/') + 1);
-            String contentType = determineContentTypeFromKey(key);
-            long size = 0;
             return PostImage.builder()
                     .post(post)
                     .fileKey(key)
                     .originalName(originalName)
-                    .contentType(contentType)
-                    .size(size)
-                    .url(url)
+                    .contentType(meta.contentType())
+                    .size(meta.size())
+                    .url(storage.url(key))
                     .build();
         } catch (Exception e) {
             log.error("이미지 처리 중 오류: 파일키={}, 오류={}", key, e.getMessage());
@@ -141,9 +161,6 @@ public class PostService {
      */
     @Transactional
     public Post create(Actor actor, PostDtos.Create req) {
-        Member authorEntity = members.findById(actor.id())
-                .orElseThrow(() -> new EntityNotFoundException("작성자", actor.id()));
-
             // boardType null 방어 (fail-fast)
         if (req.boardType() == null) {
             throw new IllegalArgumentException("게시판 유형은 필수입니다.");
@@ -163,6 +180,10 @@ public class PostService {
             throw new ForbiddenOperationException("공지사항은 관리자만 작성할 수 있습니다");
         }
 
+        // 입력 검증을 모두 통과한 뒤에만 조회 (응답의 작성자 정보로 그대로 사용)
+        Member authorEntity = members.findById(actor.id())
+                .orElseThrow(() -> new EntityNotFoundException("작성자", actor.id()));
+
         Post p = Post.builder()
                 .author(authorEntity)
                 .title(title)
@@ -174,6 +195,7 @@ public class PostService {
         if (req.imageKeys() != null && !req.imageKeys().isEmpty()) {
             String ownerPrefix = FilePolicy.POST_IMAGES_PATH + "/" + actor.id() + "/";
             Set<String> processedKeys = new HashSet<>();
+            List<String> newKeys = new ArrayList<>();
             for (String key : req.imageKeys()) {
                 try {
                     if (!processedKeys.add(key)) {
@@ -186,93 +208,134 @@ public class PostService {
                     if (!key.startsWith(ownerPrefix)) {
                         throw new InvalidImageException("이미지 처리 중 오류가 발생했습니다");
                     }
-                    PostImage image = createPostImageFromKey(p, key);
-                    p.addImage(image);
+                    newKeys.add(key);
                 } catch (InvalidImageException e) {
                     log.error("이미지 처리 중 오류: 파일키={}, 오류={}", key, e.getMessage());
                     throw e;
                 }
             }
+            Map<String, Storage.FileMeta> metas = resolveImageMetas(newKeys);
+            for (String key : newKeys) {
+                p.addImage(createPostImage(p, metas.get(key)));
+            }
         }
-        return posts.save(p);
+        Post saved = posts.save(p);
+        pageCache.postCreated(saved.getBoardType());
+        missingPosts.postCreated(saved.getId());
+        responseCache.postCreated(saved.getBoardType());
+        return saved;
     }
 
 
     /**
      * 제목 또는 내용에 특정 검색어가 포함된 게시글을 조회합니다 (요약 정보 반환)
+     * 검색어가 없는 앞쪽 페이지는 BoardPageCache에서 응답하며, 조회가 필요할 때만 읽기 전용 트랜잭션을 시작합니다.
      * @param query 검색어 (null이면 전체 조회)
      * @param pageable 페이징 정보
      * @return 게시글 요약 정보 페이지
      */
-    @Transactional(readOnly = true)
     public Page<PostSummaryDto> searchSummary(String query, Pageable pageable) {
         // 정렬 필드 화이트리스트 검증
         Pageable safePageable = PageableUtil.getSafePostPageable(pageable);
 
-        // 검색어가 없는 경우 전체 조회
-        Page<Post> postPage;
-        if (query == null || query.isBlank()) {
-            postPage = posts.findAllWithAuthor(safePageable);
-        } else {
-            postPage = posts.findByTitleOrContentContainingIgnoreCaseWithAuthor(query, safePageable);
-        }
+        return pageCache.get(null, query, safePageable, () -> {
+            // 검색어가 없는 경우 전체 조회
+            Page<Post> postPage;
+            if (query == null || query.isBlank()) {
+                postPage = posts.findAllWithAuthor(safePageable);
+            } else {
+                postPage = posts.findByTitleOrContentContainingIgnoreCaseWithAuthor(query, safePageable);
+            }
 
-        // DTO로 변환하여 반환
-        return postPage.map(post -> PostSummaryDto.from(
-                post.getId(),
-                post.getTitle(),
-                post.getAuthor() != null ? post.getAuthor().getUsername() : null,
-                post.getCreatedAt(),
-                post.getViewCount(),
-                post.getLikeCount(),
-                post.getBoardType()));
+            // DTO로 변환하여 반환
+            return postPage.map(PostService::toSummary);
+        });
     }
 
     /**
-     * 게시글 조회 및 조회수 증가
+     * 게시글 조회 및 조회 기록
+     * 같은 게시글의 동시 조회는 DB 조회 한 번을 함께 사용하고(SingleFlight), 조회 기록은 요청마다 실행합니다.
+     * 함께 조회한 요청들은 같은 게시글 객체를 받으므로 응답의 조회수는 같은 값입니다.
+     * 공유되는 게시글은 작성자/이미지까지 읽은 뒤 영속성 컨텍스트에서 분리합니다. (OSIV에서 leader 요청의 컨텍스트에 남지 않도록)
+     * 고유 조회자 집계가 켜져 있으면 조회수는 주기적으로 반영되므로 응답의 조회수는 반영된 값까지입니다.
      * @param id 게시글 ID
-     * @return 이미지와 작성자 정보가 포함된 게시글 엔티티
+     * @param viewer 조회자 식별값 (null이면 봇)
+     * @return 이미지와 작성자 정보가 포함된 게시글 엔티티 (공유될 수 있으므로 수정 금지)
      * @throws EntityNotFoundException 게시글이 존재하지 않을 경우
      */
-    @Transactional
-    public Post getAndIncrementViewCount(Long id) {
+    public Post getAndIncrementViewCount(Long id, String viewer) {
         // 이미지를 함께 로드하는 새 메서드 사용
-        Post post = posts.findByIdWithAuthorAndImages(id)
-                .orElseThrow(() -> new EntityNotFoundException("게시글", id));
-
-    // 별도 쿼리로 조회수 증가 (낙관적 락 충돌 방지)
-        posts.incrementViews(id);
+        Post post = singleFlight.execute("post-detail", id, () -> {
+            // 없음 기록은 실제로 조회한 요청만 (함께 받은 요청의 조회 시작 시점은 조회보다 늦음)
+            long token = missingPosts.lookupToken();
+            Post loaded = posts.findByIdWithAuthorAndImages(id).orElse(null);
+            if (loaded == null) {
+                missingPosts.recordMiss(id, token);
+                return null;
+            }
+            // 작성자/이미지는 fetch join으로 이미 읽음, 분리 후에는 다른 요청 스레드에서 읽어도 지연 로딩 없음
+            entityManager.detach(loaded);
+            if (viewCounter.countsEveryView()) {
+                // 메모리상 객체도 증가 (응답 일관성 보장, 분리된 객체라 반영되지 않음)
+                loaded.incrementViewCount();
+            }
+            return loaded;
+        });
+        if (post == null) {
+            throw new EntityNotFoundException("게시글", id);
+        }
 
-    // 메모리상 객체도 증가 (응답 일관성 보장)
-        post.incrementViewCount();
+        // 별도 쿼리/주기 반영으로 조회수 증가 (낙관적 락 충돌 방지)
+        viewCounter.recordView(id, viewer);
 
         return post;
     }
 
 
+    /**
+     * 게시글 상세 응답의 변경 여부 판단용 값 조회 (조건부 GET, 본문을 읽지 않음)
+     * @param id 게시글 ID
+     * @return 게시글 버전 정보
+     * @throws EntityNotFoundException 게시글이 존재하지 않을 경우
+     */
+    @Transactional(readOnly = true)
+    public PostVersion getVersion(Long id) {
+        long token = missingPosts.lookupToken();
+        return posts.findVersionById(id)
+                .orElseThrow(() -> {
+                    missingPosts.recordMiss(id, token);
+                    return new EntityNotFoundException("게시글", id);
+                });
+    }
+
+    /**
+     * 조회만 기록 (변경되지 않은 게시글을 304 또는 캐시된 응답으로 응답하는 경우)
+     * @param id 게시글 ID
+     * @param viewer 조회자 식별값 (null이면 봇)
+     */
+    public void countView(Long id, String viewer) {
+        viewCounter.recordView(id, viewer);
+    }
+
+
     /**
      * 특정 좋아요 수 이상의 인기/베스트 게시글 조회 (요약 정보 반환)
      * @param minLikeCount 최소 좋아요 수 (인기 게시글: 10, 베스트 게시글: 30)
      * @param pageable 페이징 정보
      * @return 인기/베스트 게시글 페이지
      */
-    @Transactional(readOnly = true)
     private Page<PostSummaryDto> getPostsByMinLikes(long minLikeCount, Pageable pageable) {
     // 정렬 필드 화이트리스트 검증
         Pageable safePageable = PageableUtil.getSafePostPageable(pageable);
 
-    // 요약 정보 조회 시 작성자 정보만 함께 로딩하는 최적화된 쿼리 사용
-        Page<Post> postPage = posts.findWithAuthorByLikeCountAndQuery("", minLikeCount, safePageable);
+    // 같은 페이지의 동시 요청은 조회 한 번을 함께 사용 (읽기 전용 트랜잭션)
+        return singleFlight.execute("posts-by-likes", List.of(minLikeCount, safePageable), () -> {
+        // 요약 정보 조회 시 작성자 정보만 함께 로딩하는 최적화된 쿼리 사용
+            Page<Post> postPage = posts.findWithAuthorByLikeCountAndQuery("", minLikeCount, safePageable);
 
-    // DTO로 변환하여 반환
-        return postPage.map(post -> PostSummaryDto.from(
-                post.getId(),
-                post.getTitle(),
-                post.getAuthor() != null ? post.getAuthor().getUsername() : null,
-                post.getCreatedAt(),
-                post.getViewCount(),
-                post.getLikeCount(),
-                post.getBoardType()));
+        // DTO로 변환하여 반환
+            return postPage.map(PostService::toSummary);
+        });
     }
 
     /**
@@ -280,7 +343,6 @@ public class PostService {
      * @param pageable 페이징 정보
      * @return 인기 게시글 페이지
      */
-    @Transactional(readOnly = true)
     public Page<PostSummaryDto> getPopularPostsSummary(Pageable pageable) {
         return getPostsByMinLikes(10L, pageable);
     }
@@ -290,7 +352,6 @@ public class PostService {
      * @param pageable 페이징 정보
      * @return 베스트 게시글 페이지
      */
-    @Transactional(readOnly = true)
     public Page<PostSummaryDto> getBestPostsSummary(Pageable pageable) {
         return getPostsByMinLikes(30L, pageable);
     }
@@ -324,6 +385,8 @@ public class PostService {
         String title = normalizeAndValidateTitle(req.title());
         String content = normalizeAndValidateContent(req.content());
         p.updateContent(title, content);
+        pageCache.postUpdated(p.getId(), p.getVersion(), title);
+        responseCache.postUpdated(p.getId(), p.getVersion());
         // 이미지 처리 (기존 로직과 동일)
         if (req.imageKeys() != null) {
             List<PostImage> oldImages = new ArrayList<>(p.getImages());
@@ -340,6 +403,7 @@ public class PostService {
                 }
             }
             Set<String> processedKeys = new HashSet<>();
+            List<String> newKeys = new ArrayList<>();
             for (String key : req.imageKeys()) {
                 if (!processedKeys.add(key)) {
                     log.debug("중복 이미지 키 무시: {}", key);
@@ -356,36 +420,33 @@ public class PostService {
                         if (!key.startsWith(expectedPathPattern)) {
                             throw new RuntimeException("이미지 소유권 검증 실패: 작성자 ID와 파일 경로가 일치하지 않습니다");
                         }
-                        PostImage image = createPostImageFromKey(p, key);
-                        p.addImage(image);
+                        newKeys.add(key);
                     } catch (Exception e) {
                         log.error("새 이미지 추가 실패: 파일키={}, 오류={}", key, e.getMessage());
                         throw new RuntimeException("이미지 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
                     }
                 }
             }
-            if (!keysToDelete.isEmpty()) {
-                final List<String> finalKeysToDelete = new ArrayList<>(keysToDelete);
-                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                    @Override
-                    public void afterCommit() {
-                        for (String key : finalKeysToDelete) {
-                            try {
-                                storage.delete(key);
-                                log.debug("트랜잭션 커밋 후 이미지 삭제 성공: 이미지키={}", key);
-                            } catch (Exception e) {
-                                log.error("트랜잭션 커밋 후 이미지 삭제 실패: 이미지키={}, 오류={}", key, e.getMessage());
-                            }
-                        }
+            if (!newKeys.isEmpty()) {
+                try {
+                    Map<String, Storage.FileMeta> metas = resolveImageMetas(newKeys);
+                    for (String key : newKeys) {
+                        p.addImage(createPostImage(p, metas.get(key)));
                     }
-                });
+                } catch (Exception e) {
+                    log.error("새 이미지 추가 실패: 파일키={}, 오류={}", newKeys, e.getMessage());
+                    throw new RuntimeException("이미지 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
+                }
             }
+            // 파일 삭제는 같은 트랜잭션에서 대기열에 기록하고 백그라운드에서 처리
+            deletionQueue.enqueue(keysToDelete);
         }
         return p;
     }
 
     /**
     * Actor 기반 게시글 삭제
+    * 삭제 표시만 남겨 즉시 모든 조회에서 제외하고, 댓글/좋아요/이미지와 게시글 행은 PostPurger가 나누어 삭제합니다.
     * @param postId 게시글 ID
     * @param actor 요청자 정보
      * @throws ForbiddenOperationException 권한 없는 사용자가 삭제 시
@@ -405,25 +466,37 @@ public class PostService {
                             return new EntityNotFoundException("게시글", postId);
                     }
                 });
-        final List<String> keysToDelete = post.getImages().stream()
-                .map(PostImage::getFileKey)
-                .collect(java.util.stream.Collectors.toList());
-        posts.delete(post);
-        if (!keysToDelete.isEmpty()) {
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    for (String key : keysToDelete) {
-                        try {
-                            storage.delete(key);
-                            log.debug("트랜잭션 커밋 후 이미지 삭제 성공: 게시글ID={}, 이미지키={}", postId, key);
-                        } catch (Exception e) {
-                            log.error("트랜잭션 커밋 후 이미지 삭제 실패: 게시글ID={}, 이미지키={}, 오류={}", postId, key, e.getMessage());
-                        }
-                    }
-                }
-            });
+        post.markDeleted(LocalDateTime.now());
+        pageCache.postDeleted(post.getBoardType());
+        responseCache.postDeleted(post.getId(), post.getBoardType());
+    }
+
+    /**
+     * 관리자 게시글 일괄 삭제
+     * 단건 삭제와 같이 삭제 표시만 남기고 실제 정리는 PostPurger가 처리합니다.
+     * @param postIds 삭제할 게시글 ID 목록 (최대 MAX_BULK_DELETE개)
+     * @param actor 요청자 정보
+     * @return 삭제 표시된 게시글 수 (없거나 이미 삭제된 ID는 제외)
+     * @throws ForbiddenOperationException 관리자가 아닌 경우
+     * @throws IllegalArgumentException ID 목록이 비었거나 너무 많은 경우
+     */
+    @Transactional
+    public int deleteAll(List<Long> postIds, Actor actor) {
+        if (!actor.isAdmin()) {
+            throw new ForbiddenOperationException("일괄 삭제 권한이 없습니다.");
         }
+        if (postIds == null || postIds.isEmpty()) {
+            throw new IllegalArgumentException("삭제할 게시글을 선택해주세요.");
+        }
+        Set<Long> ids = new HashSet<>(postIds);
+        if (ids.size() > MAX_BULK_DELETE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_DELETE + "개까지 삭제할 수 있습니다.");
+        }
+        int marked = posts.markDeletedByIds(ids, LocalDateTime.now());
+        pageCache.postsDeleted();
+        responseCache.postsDeleted();
+        log.info("게시글 일괄 삭제: 요청 {}건, 삭제 표시 {}건, 관리자 ID={}", ids.size(), marked, actor.id());
+        return marked;
     }
 
 
@@ -450,14 +523,7 @@ public class PostService {
         Page<Post> postPage = posts.findRecentWithAuthorOrderByLikes(from, safePageable);
 
     // DTO로 변환하여 반환
-        return postPage.map(post -> PostSummaryDto.from(
-                post.getId(),
-                post.getTitle(),
-                post.getAuthor() != null ? post.getAuthor().getUsername() : null,
-                post.getCreatedAt(),
-                post.getViewCount(),
-                post.getLikeCount(),
-                post.getBoardType()));
+        return postPage.map(PostService::toSummary);
     }
 
     /**
@@ -476,40 +542,37 @@ public class PostService {
         Page<Post> postPage = posts.findWithAuthorByLikeCountAndQuery(query, minLikes, safePageable);
 
         // DTO로 변환하여 반환
-        return postPage.map(post -> PostSummaryDto.from(
-                post.getId(),
-                post.getTitle(),
-                post.getAuthor() != null ? post.getAuthor().getUsername() : null,
-                post.getCreatedAt(),
-                post.getViewCount(),
-                post.getLikeCount(),
-                post.getBoardType()));
+        return postPage.map(PostService::toSummary);
     }
 
     /**
      * 게시판 타입별 게시글 목록 조회 (요약 정보 반환)
+     * 검색어가 없는 앞쪽 페이지는 BoardPageCache에서 응답합니다.
      * @param boardType 게시판 타입
      * @param q 검색어 (null이면 전체 조회)
      * @param pageable 페이징 정보
      * @return 게시글 페이지
      */
-    @Transactional(readOnly = true)
     public Page<PostSummaryDto> searchByBoardTypeSummary(BoardType boardType, String q, Pageable pageable) {
         // 정렬 필드 화이트리스트 검증
         Pageable safePageable = PageableUtil.getSafePostPageable(pageable);
 
-    // 요약 정보 조회를 위한 최적화된 쿼리 사용
-        Page<Post> postPage = posts.findWithAuthorByBoardTypeAndQuery(boardType, q, safePageable);
+        // 요약 정보 조회를 위한 최적화된 쿼리 사용
+        return pageCache.get(boardType, q, safePageable,
+                () -> posts.findWithAuthorByBoardTypeAndQuery(boardType, q, safePageable).map(PostService::toSummary));
+    }
 
-    // DTO로 변환하여 반환
-        return postPage.map(post -> PostSummaryDto.from(
+    // 게시글 → 요약 DTO (탈퇴 여부는 작성자 상태에서 판단, 표시는 응답 변환 시 결정)
+    private static PostSummaryDto toSummary(Post post) {
+        Member author = post.getAuthor();
+        return PostSummaryDto.from(
                 post.getId(),
                 post.getTitle(),
-                post.getAuthor() != null ? post.getAuthor().getUsername() : null,
+                author != null ? author.getUsername() : null,
+                author != null && !author.isActive(),
                 post.getCreatedAt(),
                 post.getViewCount(),
                 post.getLikeCount(),
-                post.getBoardType()));
+                post.getBoardType());
     }
-
 }
@@ -1,5 +1,6 @@
 package com.example.community.service;
 
+import com.example.community.config.datasource.BatchPool;
 import com.example.community.repository.RefreshTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,7 +33,7 @@ public class RefreshTokenCleanupService {
         Instant start = Instant.now();
         log.info("만료된 리프레시 토큰 정리 작업 시작");
 
-        int deletedCount = refreshTokenRepository.deleteExpired(start);
+        int deletedCount = BatchPool.call(() -> refreshTokenRepository.deleteExpired(start));
 
         Duration duration = Duration.between(start, Instant.now());
         log.info("만료된 리프레시 토큰 정리 완료: {}개 삭제, 소요시간: {}ms",
@@ -0,0 +1,147 @@
+package com.example.community.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합치는 single-flight
+ * 먼저 들어온 요청(leader)만 DB를 조회하고, 조회 중에 들어온 같은 키의 요청(follower)은 그 결과를 함께 받습니다.
+ * 조회가 끝나면 키를 제거하므로 결과를 보관하지 않습니다. (캐시가 아님)
+ *
+ * - 조회는 호출자 트랜잭션과 분리된 읽기 전용 트랜잭션에서 실행 (호출자 트랜잭션의 롤백과 무관)
+ *   단, OSIV(open-in-view)가 켜져 있으면 이 트랜잭션도 leader 요청의 영속성 컨텍스트를 사용하므로
+ *   loader가 엔티티를 반환하면 leader 요청에 관리되는 상태로 남고, 지연 로딩은 leader의 세션을 다른 스레드에서 사용하게 됩니다.
+ *   엔티티를 공유하려면 loader 안에서 필요한 연관을 모두 읽고 분리(detach)하거나 DTO로 변환해 반환해야 합니다.
+ *   공유된 결과는 여러 스레드가 함께 읽으므로 호출자가 수정하면 안 됩니다.
+ * - follower는 그룹별 timeout까지만 기다리고, 넘으면 직접 조회합니다.
+ *   (app.single-flight.groups.&lt;그룹&gt;.timeout, 없으면 app.single-flight.timeout)
+ * - leader의 조회가 실패하면 기다리던 follower도 같은 예외를 받습니다.
+ *
+ * 지표: single.flight.calls{group, role=leader|follower}, single.flight.timeouts{group}
+ * 합쳐진 비율 = follower / (leader + follower)
+ */
+@Slf4j
+@Service
+public class SingleFlight {
+
+    private record Key(String group, Object key) {
+    }
+
+    private static final class Group {
+        private final long timeoutNanos;
+        private final Counter leaders;
+        private final Counter followers;
+        private final Counter timeouts;
+
+        Group(String name, Duration timeout, MeterRegistry meterRegistry) {
+            this.timeoutNanos = timeout.toNanos();
+            this.leaders = Counter.builder("single.flight.calls").tag("group", name).tag("role", "leader")
+                    .register(meterRegistry);
+            this.followers = Counter.builder("single.flight.calls").tag("group", name).tag("role", "follower")
+                    .register(meterRegistry);
+            this.timeouts = Counter.builder("single.flight.timeouts").tag("group", name).register(meterRegistry);
+        }
+    }
+
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Group> groups = new ConcurrentHashMap<>();
+    private final TransactionTemplate readOnlyTx;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    private final boolean enabled;
+    private final Duration defaultTimeout;
+
+    public SingleFlight(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${app.single-flight.enabled:true}") boolean enabled,
+            @Value("${app.single-flight.timeout:2s}") Duration defaultTimeout) {
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        this.enabled = enabled;
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    /**
+     * 같은 그룹/키로 진행 중인 조회가 있으면 그 결과를 기다리고, 없으면 직접 조회
+     *
+     * @param group  조회 종류 (지표 태그와 timeout 설정 단위)
+     * @param key    조회 대상 (equals/hashCode로 비교)
+     * @param loader DB 조회 (null 결과도 공유, 관리 상태의 엔티티를 반환하지 않음)
+     * @return 조회 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String group, Object key, Supplier<T> loader) {
+        if (!enabled) {
+            return load(loader);
+        }
+        Group g = groups.computeIfAbsent(group, this::newGroup);
+        Key k = new Key(group, key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(k, mine);
+
+        if (running == null) {
+            g.leaders.increment();
+            try {
+                T value = load(loader);
+                mine.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(k, mine);
+            }
+        }
+
+        g.followers.increment();
+        try {
+            return (T) running.get(g.timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            g.timeouts.increment();
+            log.debug("합쳐진 조회 대기 시간 초과, 직접 조회: 그룹={}, 키={}", group, key);
+            return load(loader);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error err) {
+                throw err;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("합쳐진 조회 대기 중 인터럽트", e);
+        }
+    }
+
+    private <T> T load(Supplier<T> loader) {
+        return readOnlyTx.execute(status -> loader.get());
+    }
+
+    private Group newGroup(String name) {
+        Duration timeout = environment.getProperty("app.single-flight.groups." + name + ".timeout",
+                Duration.class, defaultTimeout);
+        return new Group(name, timeout, meterRegistry);
+    }
+}
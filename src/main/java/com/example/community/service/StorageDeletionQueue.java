@@ -0,0 +1,200 @@
+package com.example.community.service;
+
+import com.example.community.config.datasource.BatchPool;
+import com.example.community.domain.StorageDeletion;
+import com.example.community.repository.StorageDeletionRepository;
+import com.example.community.storage.Storage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 저장소 파일 삭제 대기열 (트랜잭셔널 아웃박스)
+ * 요청 트랜잭션에서는 삭제할 파일 키만 기록하고, 실제 파일 삭제는 백그라운드 작업이 처리합니다.
+ * 삭제 실패 시 지수 백오프로 재시도하므로 일시적인 저장소 오류로 파일이 남지 않습니다.
+ *
+ * 한 배치는 짧은 트랜잭션 두 개로 나누어 처리하며, 저장소 호출 동안에는 DB 연결과 행 잠금을 잡지 않습니다.
+ * - 선점: 처리 시각이 도래한 항목을 잠그고(SKIP LOCKED) 다음 시도 시각을 claim-timeout 뒤로 미룬 뒤 커밋
+ * - 파일 삭제: 트랜잭션 밖에서 저장소 호출
+ * - 결과 기록: 성공한 항목은 제거, 실패한 항목은 시도 횟수와 백오프 시각 기록
+ * 결과 기록 전에 인스턴스가 중단되면 claim-timeout 후 다시 처리합니다. (파일 삭제는 여러 번 실행해도 안전)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageDeletionQueue {
+
+    private final StorageDeletionRepository deletions;
+    private final Storage storage;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 번에 처리할 항목 수
+    @Value("${app.storage.deletion.batch-size:100}")
+    private int batchSize;
+
+    // 1회 폴링당 최대 배치 수
+    @Value("${app.storage.deletion.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll;
+
+    // 재시도 백오프 초기값 / 최대값
+    @Value("${app.storage.deletion.initial-backoff:5s}")
+    private Duration initialBackoff;
+
+    @Value("${app.storage.deletion.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    // 선점한 항목을 다른 인스턴스가 가져가지 않는 시간 (한 배치의 저장소 호출보다 충분히 길게)
+    @Value("${app.storage.deletion.claim-timeout:5m}")
+    private Duration claimTimeout;
+
+    // 이 횟수 이상 실패한 항목은 에러 로그로 알림 (재시도는 계속)
+    @Value("${app.storage.deletion.alert-attempts:10}")
+    private int alertAttempts;
+
+    /**
+     * 삭제할 파일 키를 대기열에 등록합니다.
+     * 호출자의 트랜잭션에 참여하므로, 트랜잭션이 롤백되면 등록도 취소됩니다.
+     *
+     * @param keys 삭제할 파일 키 목록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<StorageDeletion> rows = new LinkedHashSet<>(keys).stream()
+                .map(key -> StorageDeletion.builder()
+                        .fileKey(key)
+                        .attempts(0)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList();
+        deletions.saveAll(rows);
+        log.debug("파일 삭제 대기열 등록: {}개", rows.size());
+    }
+
+    /**
+     * 등록한 삭제를 취소합니다. (호출자의 트랜잭션에 참여)
+     *
+     * @param keys 삭제하지 않을 파일 키 목록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void cancel(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        int removed = deletions.deleteByFileKeyIn(keys);
+        log.debug("파일 삭제 대기열 취소: {}개", removed);
+    }
+
+    /**
+     * 삭제 대기 중인 파일 키가 있는지 잠금과 함께 확인합니다. (호출자의 트랜잭션에 참여)
+     * 같은 키의 삭제 등록은 호출자 트랜잭션이 끝날 때까지 대기하므로, 확인 후 첨부한 파일이 삭제 대상이 되지 않습니다.
+     *
+     * @param keys 확인할 파일 키 목록
+     * @return 하나라도 삭제 대기 중이면 true
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean hasPending(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return false;
+        }
+        return !deletions.findByFileKeyInForUpdate(keys).isEmpty();
+    }
+
+    /**
+     * 대기열을 주기적으로 비웁니다.
+     * 처리할 항목이 배치 크기보다 적어지거나 배치 수 한도에 도달하면 종료합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.storage.deletion.poll-ms:1000}")
+    public void drain() {
+        BatchPool.run(() -> {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                if (processBatch() < batchSize) {
+                    return;
+                }
+            }
+        });
+    }
+
+    // 처리 시각이 도래한 항목 한 배치 처리 (선점 커밋 → 파일 삭제 → 결과 기록)
+    private int processBatch() {
+        List<StorageDeletion> claimed = transactionTemplate.execute(status -> claimBatch());
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        List<Long> succeeded = new ArrayList<>();
+        Map<Long, Exception> failed = new HashMap<>();
+        for (StorageDeletion d : claimed) {
+            try {
+                storage.delete(d.getFileKey());
+                succeeded.add(d.getId());
+            } catch (Exception e) {
+                failed.put(d.getId(), e);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> recordResults(succeeded, failed));
+        log.debug("파일 삭제 대기열 처리: 대상 {}개, 성공 {}개", claimed.size(), succeeded.size());
+        return claimed.size();
+    }
+
+    private List<StorageDeletion> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<StorageDeletion> due = deletions.findDueForUpdate(now, PageRequest.of(0, batchSize));
+        LocalDateTime until = now.plus(claimTimeout);
+        due.forEach(d -> d.claim(until));
+        return due;
+    }
+
+    private void recordResults(List<Long> succeeded, Map<Long, Exception> failed) {
+        if (!succeeded.isEmpty()) {
+            deletions.deleteAllByIdInBatch(succeeded);
+        }
+        if (failed.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, StorageDeletion> rows = deletions.findAllById(failed.keySet()).stream()
+                .collect(Collectors.toMap(StorageDeletion::getId, Function.identity()));
+        failed.forEach((id, e) -> {
+            StorageDeletion d = rows.get(id);
+            if (d == null) {
+                return;
+            }
+            LocalDateTime next = now.plus(backoff(d.getAttempts()));
+            d.markFailed(e.getMessage(), next);
+            if (d.getAttempts() >= alertAttempts) {
+                log.error("파일 삭제 반복 실패: 파일키={}, 시도={}회, 다음시도={}, 오류={}",
+                        d.getFileKey(), d.getAttempts(), next, e.getMessage());
+            } else {
+                log.warn("파일 삭제 실패 (재시도 예정): 파일키={}, 시도={}회, 다음시도={}, 오류={}",
+                        d.getFileKey(), d.getAttempts(), next, e.getMessage());
+            }
+        });
+    }
+
+    // 지수 백오프 (initialBackoff * 2^attempts, 최대 maxBackoff)
+    private Duration backoff(int attempts) {
+        int shift = Math.min(attempts, 20);
+        Duration delay = initialBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
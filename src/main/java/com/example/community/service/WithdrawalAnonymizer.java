@@ -0,0 +1,160 @@
+package com.example.community.service;
+
+import com.example.community.config.datasource.BatchPool;
+import com.example.community.domain.WithdrawalAnonymization;
+import com.example.community.repository.CommentRepository;
+import com.example.community.repository.WithdrawalAnonymizationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 탈퇴 회원 댓글 익명화 작업 처리기
+ * 탈퇴 트랜잭션에서는 작업만 등록하고, 댓글 내용 삭제는 백그라운드에서 ID 구간 단위로 처리합니다.
+ * (탈퇴 표시는 응답 변환 시 작성자 상태로 결정하므로 게시글은 수정하지 않음)
+ *
+ * - 구간 하나(최대 batch-size 행)를 트랜잭션 하나로 처리하고 같은 트랜잭션에서 커서를 기록합니다.
+ *   중간에 프로세스가 종료되어도 마지막으로 커밋된 구간 다음부터 이어서 처리합니다.
+ * - 작업 행은 SKIP LOCKED로 잠그므로 여러 인스턴스가 같은 작업을 동시에 처리하지 않습니다.
+ * - 구간 사이에 잠시 쉬어 활발한 게시판의 행 잠금 경합을 줄입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WithdrawalAnonymizer {
+
+    private final WithdrawalAnonymizationRepository jobs;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 구간에서 처리할 최대 행 수
+    @Value("${app.withdrawal.anonymization.batch-size:500}")
+    private int batchSize;
+
+    // 1회 폴링당 최대 구간 수
+    @Value("${app.withdrawal.anonymization.max-batches-per-poll:50}")
+    private int maxBatchesPerPoll;
+
+    // 구간 사이 대기 시간 (DB 부하 제한)
+    @Value("${app.withdrawal.anonymization.batch-pause-ms:50}")
+    private long batchPauseMs;
+
+    // 실패 시 재시도 백오프 초기값 / 최대값
+    @Value("${app.withdrawal.anonymization.initial-backoff:10s}")
+    private Duration initialBackoff;
+
+    @Value("${app.withdrawal.anonymization.max-backoff:30m}")
+    private Duration maxBackoff;
+
+    /**
+     * 익명화 작업 등록
+     * 호출자(탈퇴) 트랜잭션에 참여하므로, 탈퇴가 롤백되면 작업 등록도 취소됩니다.
+     *
+     * @param memberId 탈퇴한 회원 ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Long memberId) {
+        if (jobs.existsByMemberId(memberId)) {
+            return;
+        }
+        jobs.save(WithdrawalAnonymization.start(memberId, LocalDateTime.now()));
+    }
+
+    /**
+     * 처리 시각이 도래한 작업을 구간 단위로 진행합니다.
+     * 처리할 작업이 없거나 구간 수 한도에 도달하면 종료합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.withdrawal.anonymization.poll-ms:2000}")
+    public void drain() {
+        BatchPool.run(() -> {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                if (!processBatch() || !pause()) {
+                    return;
+                }
+            }
+        });
+    }
+
+    // 도래한 작업 하나의 다음 구간 처리 (작업 행 잠금 상태에서 처리 후 커서 기록)
+    private boolean processBatch() {
+        WithdrawalAnonymization[] claimed = new WithdrawalAnonymization[1];
+        try {
+            Boolean processed = transactionTemplate.execute(status -> {
+                List<WithdrawalAnonymization> due = jobs.findDueForUpdate(LocalDateTime.now(), PageRequest.of(0, 1));
+                if (due.isEmpty()) {
+                    return false;
+                }
+                claimed[0] = due.get(0);
+                step(claimed[0]);
+                return true;
+            });
+            return Boolean.TRUE.equals(processed);
+        } catch (RuntimeException e) {
+            if (claimed[0] == null) {
+                throw e;
+            }
+            // 구간 처리 실패: 해당 트랜잭션은 롤백되어 커서가 그대로이므로 재시도 시각만 미룸
+            recordFailure(claimed[0].getId(), e);
+            return true;
+        }
+    }
+
+    // 다음 구간 처리, 더 처리할 댓글이 없으면 작업 제거
+    private void step(WithdrawalAnonymization job) {
+        Long memberId = job.getMemberId();
+        long from = job.getCursorId();
+        List<Long> ids = commentRepository.findIdsByAuthorIdAfter(memberId, from, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            jobs.delete(job);
+            log.info("회원 ID {}의 댓글 {}건이 익명화 처리되었습니다.", memberId, job.getProcessedComments());
+            return;
+        }
+
+        long to = ids.get(ids.size() - 1);
+        int updated = commentRepository.anonymizeInRange(memberId, from, to);
+        job.advance(to, updated);
+        // 벌크 UPDATE가 영속성 컨텍스트를 비우므로(clearAutomatically) 작업 상태는 병합으로 반영
+        jobs.save(job);
+        log.debug("탈퇴 회원 댓글 익명화 구간 처리: 회원={}, 구간=({}, {}], 갱신={}건", memberId, from, to, updated);
+    }
+
+    private void recordFailure(Long jobId, RuntimeException error) {
+        transactionTemplate.executeWithoutResult(status -> jobs.findById(jobId).ifPresent(job -> {
+            LocalDateTime next = LocalDateTime.now().plus(backoff(job.getAttempts()));
+            job.markFailed(error.getMessage(), next);
+            log.warn("탈퇴 회원 익명화 실패 (재시도 예정): 회원={}, 커서={}, 시도={}회, 다음시도={}, 오류={}",
+                    job.getMemberId(), job.getCursorId(), job.getAttempts(), next,
+                    error.getMessage());
+        }));
+    }
+
+    private boolean pause() {
+        if (batchPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 지수 백오프 (initialBackoff * 2^attempts, 최대 maxBackoff)
+    private Duration backoff(int attempts) {
+        int shift = Math.min(attempts, 20);
+        Duration delay = initialBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -1,9 +1,7 @@
 package com.example.community.service;
 
 import com.example.community.domain.Member;
-import com.example.community.repository.CommentRepository;
 import com.example.community.repository.MemberRepository;
-import com.example.community.repository.PostRepository;
 import com.example.community.repository.RefreshTokenRepository;
 import com.example.community.service.exception.EntityNotFoundException;
 import com.example.community.service.exception.WithdrawalException;
@@ -24,10 +22,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class WithdrawalService {
 
     private final MemberRepository memberRepository;
-    private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final WithdrawalAnonymizer withdrawalAnonymizer;
 
     private static final Logger log = LoggerFactory.getLogger(WithdrawalService.class);
 
@@ -35,8 +32,12 @@ public class WithdrawalService {
      * 회원 탈퇴 처리를 위한 통합 메소드:
      * 1. 비밀번호 확인
      * 2. 회원 계정 비활성화
-     * 3. 작성 게시글의 작성자 정보 익명화
-     * 4. 작성 댓글의 작성자 정보 익명화
+     * 3. 토큰 무효화 및 리프레시 토큰 폐기
+     * 4. 작성 댓글 익명화 작업 등록 (WithdrawalAnonymizer가 백그라운드에서 구간 단위로 처리)
+     *
+     * 작성글 익명화를 이 트랜잭션에서 하지 않으므로 회원 행 잠금은 짧게 유지되고,
+     * 작성글이 많은 회원이 탈퇴해도 게시글/댓글 행을 한꺼번에 잠그지 않습니다.
+     * 게시글/댓글의 탈퇴 표시는 저장하지 않고 응답 변환 시 작성자 상태로 결정하므로 게시글은 수정하지 않습니다.
      *
      * @param memberId 탈퇴할 회원 ID
      * @param password 비밀번호 확인용
@@ -87,13 +88,9 @@ public class WithdrawalService {
         refreshTokenRepository.deleteAllByUserId(memberId);
         log.info("회원 ID {}의 리프레시 토큰이 폐기되었습니다.", memberId);
 
-        // 작성 게시글의 작성자 정보 익명화
-        int updatedPosts = anonymizePosts(memberId);
-        log.info("회원 ID {}의 게시글 {}건이 익명화 처리되었습니다.", memberId, updatedPosts);
-
-        // 작성 댓글의 작성자 정보 익명화
-        int updatedComments = anonymizeComments(memberId);
-        log.info("회원 ID {}의 댓글 {}건이 익명화 처리되었습니다.", memberId, updatedComments);
+        // 작성 댓글 익명화 작업 등록 (커밋 후 백그라운드에서 처리)
+        withdrawalAnonymizer.enqueue(memberId);
+        log.info("회원 ID {}의 댓글 익명화 작업이 등록되었습니다.", memberId);
 
         log.info("회원 ID {}의 탈퇴 처리가 완료되었습니다.", memberId);
         // 예외는 Spring의 트랜잭션 관리자가 자동으로 처리하므로 try-catch 불필요
@@ -118,18 +115,4 @@ public class WithdrawalService {
         // 영속 상태 엔티티 변경 사항은 트랜잭션 커밋 시 자동으로 flush 됨
         // 명시적 save() 불필요
     }
-
-    /**
-     * 특정 회원이 작성한 모든 게시글을 익명화 처리
-     */
-    private int anonymizePosts(Long memberId) {
-        return postRepository.markPostsByAuthorIdAsWithdrawn(memberId);
-    }
-
-    /**
-     * 특정 회원이 작성한 모든 댓글을 익명화 처리
-     */
-    private int anonymizeComments(Long memberId) {
-        return commentRepository.anonymizeByAuthorId(memberId);
-    }
 }
@@ -12,6 +12,7 @@ public record PostSummaryDto(
         Long id,
         String title,
         String authorName,
+        boolean authorWithdrawn,
         LocalDateTime createdAt,
         long viewCount,
         long likeCount,
@@ -23,6 +24,7 @@ public record PostSummaryDto(
             Long id,
             String title,
             String authorName,
+            boolean authorWithdrawn,
             LocalDateTime createdAt,
             long viewCount,
             long likeCount,
@@ -31,6 +33,6 @@ public record PostSummaryDto(
             throw new IllegalArgumentException("id cannot be null");
         if (createdAt == null)
             throw new IllegalArgumentException("createdAt cannot be null");
-        return new PostSummaryDto(id, title, authorName, createdAt, viewCount, likeCount, boardType);
+        return new PostSummaryDto(id, title, authorName, authorWithdrawn, createdAt, viewCount, likeCount, boardType);
     }
 }
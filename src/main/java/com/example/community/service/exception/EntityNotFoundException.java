@@ -2,6 +2,7 @@ package com.example.community.service.exception;
 
 /**
  * 엔티티를 찾을 수 없을 때 발생하는 예외
+ * 없는 ID 요청(크롤러 등)마다 생성되고 항상 404 응답으로만 처리되므로 스택 트레이스를 만들지 않습니다.
  */
 public class EntityNotFoundException extends RuntimeException {
 
@@ -16,4 +17,9 @@ public class EntityNotFoundException extends RuntimeException {
     public EntityNotFoundException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
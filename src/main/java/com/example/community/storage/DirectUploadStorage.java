@@ -0,0 +1,49 @@
+package com.example.community.storage;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트 직접 업로드(presigned URL)를 지원하는 저장소
+ * 이미지 바이트가 애플리케이션 서버를 거치지 않고 저장소로 바로 업로드되며,
+ * 애플리케이션은 업로드 완료 후 키만 확인합니다.
+ */
+public interface DirectUploadStorage {
+
+    /**
+     * 지정된 키로 업로드할 수 있는 서명된 URL 발급
+     * 
+     * @param key           업로드할 파일 키
+     * @param contentType   업로드할 파일 MIME 타입 (서명에 포함됨)
+     * @param contentLength 업로드할 파일 크기 (서명에 포함됨)
+     * @param ttl           URL 유효 시간
+     * @return 업로드 요청 정보
+     * @throws StorageException 서명 생성 실패 시
+     */
+    PresignedUpload presignUpload(String key, String contentType, long contentLength, Duration ttl)
+            throws StorageException;
+
+    /**
+     * 파일 앞부분 바이트 조회 (범위 요청)
+     * 업로드 확인 시 매직 넘버 검증에 사용합니다.
+     * 
+     * @param key    파일 키
+     * @param length 읽을 바이트 수
+     * @return 파일 앞부분 (파일이 더 짧으면 파일 전체)
+     * @throws StorageException 파일이 없거나 조회 실패 시
+     */
+    byte[] readHead(String key, int length) throws StorageException;
+
+    /**
+     * 서명된 업로드 요청 정보
+     * 
+     * @param key       업로드 파일 키
+     * @param url       업로드 URL
+     * @param method    HTTP 메서드 (PUT)
+     * @param headers   요청에 그대로 포함해야 하는 헤더
+     * @param expiresAt URL 만료 시각
+     */
+    record PresignedUpload(String key, String url, String method, Map<String, String> headers, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.community.storage;
+
+/**
+ * 접근 빈도 추정용 Count-Min Sketch (TinyLFU 승인 정책)
+ * 4개 행의 4비트 포화 카운터로 키별 최근 접근 빈도를 근사하며,
+ * 일정 횟수마다 모든 카운터를 절반으로 줄여 오래된 인기도를 잊어버립니다.
+ * 동기화하지 않으므로 호출자의 잠금 하에서만 사용해야 합니다.
+ */
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = { 0x97CB3127, 0xB0A53D29, 0x3C6EF372, 0x7F4A7C15 };
+
+    private final int[][] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param expectedEntries 캐시에 들어갈 것으로 예상되는 항목 수
+     */
+    FrequencySketch(int expectedEntries) {
+        int width = Integer.highestOneBit(Math.max(expectedEntries, 16) * 2 - 1) << 1;
+        this.table = new int[DEPTH][width];
+        this.mask = width - 1;
+        this.sampleSize = width * 10;
+    }
+
+    void increment(Object key) {
+        int h = spread(key.hashCode());
+        for (int i = 0; i < DEPTH; i++) {
+            int idx = index(h, i);
+            if (table[i][idx] < MAX_COUNT) {
+                table[i][idx]++;
+            }
+        }
+        if (++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(Object key) {
+        int h = spread(key.hashCode());
+        int min = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            min = Math.min(min, table[i][index(h, i)]);
+        }
+        return min;
+    }
+
+    // 모든 카운터를 절반으로 감소 (에이징)
+    private void reset() {
+        for (int[] row : table) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] >>>= 1;
+            }
+        }
+        additions >>>= 1;
+    }
+
+    private int index(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * 0x9E3779B1;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int spread(int h) {
+        h ^= h >>> 17;
+        h *= 0xED5AD4BB;
+        h ^= h >>> 11;
+        return h;
+    }
+}
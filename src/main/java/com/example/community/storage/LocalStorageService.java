@@ -5,31 +5,84 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.example.community.storage.Storage.FileMeta;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 @Service
 @Profile({ "default", "local", "prod", "test" }) // test 프로필 추가
+@ConditionalOnProperty(name = "app.storage.provider", havingValue = "local", matchIfMissing = true)
 @RequiredArgsConstructor
-public class LocalStorageService implements Storage {
+public class LocalStorageService implements Storage, ApplicationEventPublisherAware {
     private static final Logger log = LoggerFactory.getLogger(LocalStorageService.class);
 
     @Value("${app.storage.local.base-path:uploads}")
     private String basePath;
     @Value("${app.public-base-url}")
     private String publicBaseUrl;
+    // 기동 시 메타데이터 인덱스 재구성에 사용할 병렬 스캔 스레드 수 (0 이하면 CPU 수)
+    @Value("${app.storage.local.index-scan-threads:0}")
+    private int indexScanThreads;
 
     private Path base;
 
+    // 키 → 크기/타입/수정시각/다이제스트 인메모리 인덱스 (exists/url/stat 조회용)
+    private final StorageMetadataIndex index = new StorageMetadataIndex();
+
     // 안전 임시파일 디렉터리(.tmp) 경로
     private Path tempDir;
 
+    // 삭제 이벤트 발행 (이미지 캐시 무효화 등). 직접 생성한 경우(null)에는 발행하지 않음
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.eventPublisher = applicationEventPublisher;
+    }
+
+    private void publishDeleted(String key, boolean replicated) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new StoredObjectDeletedEvent(key, replicated));
+        }
+    }
+
+    private void publishCreated(String key) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new StoredObjectCreatedEvent(key));
+        }
+    }
+
+    // 로컬에 없는 파일을 다른 노드에서 가져오는 공급자 (노드 간 복제 사용 시 PeerReplicator가 등록)
+    private volatile ReplicaSource replicaSource;
+
+    public void setReplicaSource(ReplicaSource replicaSource) {
+        this.replicaSource = replicaSource;
+    }
+
     @PostConstruct
     public void init() {
         base = Path.of(basePath).toAbsolutePath().normalize();
@@ -68,6 +121,7 @@ public class LocalStorageService implements Storage {
             if (publicBaseUrl == null || publicBaseUrl.trim().isEmpty()) {
                 throw new StorageException("publicBaseUrl 설정이 비어 있습니다. app.public-base-url 을 설정하세요.");
             }
+            rebuildIndex();
             log.info("스토리지 설정 완료:");
             log.info("- 기본 경로: {}", base);
             log.info("- 쓰기 가능: {}", Files.isWritable(base));
@@ -89,21 +143,7 @@ public class LocalStorageService implements Storage {
      * @throws StorageException 안전하지 않은 경로인 경우 발생
      */
     private void assertSafeKey(String key) {
-        if (key == null) {
-            log.warn("파일 키가 null입니다");
-            throw new StorageException("파일 키가 null입니다");
-        }
-
-        if (!FilePolicy.isPathSafe(key)) {
-            log.warn("잘못된 경로 접근 시도: {}", key);
-            throw new StorageException("잘못된 경로입니다: " + key);
-        }
-
-        Path target = base.resolve(key).normalize();
-        if (!target.startsWith(base)) {
-            log.warn("저장소 외부 접근 시도: {}", key);
-            throw new StorageException("저장소 외부 접근은 금지됩니다: " + key);
-        }
+        Path target = assertLexicallySafeKey(key);
 
         // TOCTOU 공격 방지를 위한 canonical path 검증
         if (Files.exists(target)) {
@@ -121,6 +161,33 @@ public class LocalStorageService implements Storage {
         }
     }
 
+    /**
+     * 키 문자열 자체의 안전성 검증 (파일시스템 접근 없음)
+     * 인덱스 조회 경로에서 사용되며, 실제 경로 검증은 assertSafeKey에서 수행합니다.
+     * 
+     * @param key 검증할 파일 키
+     * @return 정규화된 대상 경로
+     * @throws StorageException 안전하지 않은 경로인 경우 발생
+     */
+    private Path assertLexicallySafeKey(String key) {
+        if (key == null) {
+            log.warn("파일 키가 null입니다");
+            throw new StorageException("파일 키가 null입니다");
+        }
+
+        if (!FilePolicy.isPathSafe(key)) {
+            log.warn("잘못된 경로 접근 시도: {}", key);
+            throw new StorageException("잘못된 경로입니다: " + key);
+        }
+
+        Path target = base.resolve(key).normalize();
+        if (!target.startsWith(base)) {
+            log.warn("저장소 외부 접근 시도: {}", key);
+            throw new StorageException("저장소 외부 접근은 금지됩니다: " + key);
+        }
+        return target;
+    }
+
     /**
      * 경로 내 심볼릭 링크 확인
      * 대상 경로부터 base 경로까지 모든 상위 디렉토리를 확인하여 심볼릭 링크가 있는지 검사
@@ -174,94 +241,165 @@ public class LocalStorageService implements Storage {
             if (!FilePolicy.isAllowed(file, FilePolicy.ALLOWED_IMAGE_TYPES)) {
                 throw new StorageException("허용되지 않은 파일 유형입니다.");
             }
-            assertSafeKey(key);
-            Path target = base.resolve(key).normalize();
-            assertNoSymlinkInPath(target);
             String safeName = sanitize(file.getOriginalFilename());
-            Files.createDirectories(target.getParent());
-            String tempPrefix = "upload-";
-            String tempSuffix = ".tmp";
-            Path tempFile = null;
-            try {
-                tempFile = Files.createTempFile(tempDir, tempPrefix, tempSuffix);
-            } catch (IOException e) {
-                log.error("임시파일 생성 실패: {}", e.getMessage(), e);
-                throw new StorageException("임시파일 생성 실패: " + e.getMessage(), e);
-            }
-            try {
-                if (Files.isSymbolicLink(tempFile) || !Files.isRegularFile(tempFile, LinkOption.NOFOLLOW_LINKS)) {
-                    Files.deleteIfExists(tempFile);
-                    throw new StorageException("임시파일이 심볼릭 링크이거나 regular file이 아닙니다: " + tempFile);
-                }
-            } catch (IOException e) {
-                Files.deleteIfExists(tempFile);
-                throw new StorageException("임시파일 검증 실패: " + e.getMessage(), e);
-            }
-            // 2. 임시파일에 먼저 저장 (REPLACE_EXISTING 적용)
             try (InputStream in = file.getInputStream()) {
-                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                writeFile(key, in, contentType(file));
             }
-            // 3. 타깃 파일이 이미 존재하면 예외(덮어쓰기 금지)
-            if (Files.exists(target)) {
-                Files.deleteIfExists(tempFile);
-                throw new StorageException("동일한 파일이 이미 존재합니다: " + key);
-            }
-            // 4. 이동 전 symlink/regular file/부모 toRealPath() 재확인
-            assertNoSymlinkInPath(target);
-            if (Files.isSymbolicLink(target)
-                    || (Files.exists(target) && !Files.isRegularFile(target, LinkOption.NOFOLLOW_LINKS))) {
-                Files.deleteIfExists(tempFile);
-                throw new StorageException("타깃 경로가 심볼릭 링크이거나 regular file이 아닙니다: " + target);
-            }
-            assertNoSymlinkInPath(target.getParent());
-            Path realBase = base.toRealPath();
-            Path parentReal = target.getParent().toRealPath();
-            if (!parentReal.startsWith(realBase)) {
-                Files.deleteIfExists(tempFile);
-                throw new StorageException("타깃 부모 디렉토리가 저장소 외부입니다: " + parentReal);
+            publishCreated(key);
+            String url = publicBaseUrl.replaceAll("/+$", "") + "/" + key.replace("\\", "/");
+            return new StoredFile(key, safeName, contentType(file), file.getSize(), url);
+        } catch (StorageException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("파일 저장 중 오류 발생: {}", e.getMessage(), e);
+            throw new StorageException("파일 저장 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 복제된 파일 저장
+     * 이미 존재하는 키는 건너뛰며, 복제 저장은 다시 전파하지 않습니다(StoredObjectCreatedEvent 미발행).
+     * 
+     * @param key  파일 키
+     * @param data 파일 내용
+     * @return 새로 저장했으면 true, 이미 존재하면 false
+     * @throws StorageException 크기/형식 검증 실패 또는 저장 중 오류 발생 시
+     */
+    public boolean storeReplica(String key, byte[] data) throws StorageException {
+        assertLexicallySafeKey(key);
+        if (index.contains(key)) {
+            return false;
+        }
+        if (FilePolicy.isFileSizeExceeded(data.length)) {
+            throw new StorageException(String.format(FilePolicy.ERR_FILE_TOO_LARGE, FilePolicy.MAX_FILE_SIZE_BYTES));
+        }
+        String contentType = FilePolicy.contentTypeOf(key);
+        if (!FilePolicy.matchesSignature(contentType, data)) {
+            throw new StorageException("허용되지 않은 파일 유형입니다.");
+        }
+        try {
+            writeFile(key, new java.io.ByteArrayInputStream(data), contentType);
+            log.debug("복제 파일 저장: {}", key);
+            return true;
+        } catch (StorageException e) {
+            // 동시에 같은 키를 가져온 경우 (다른 요청이 먼저 저장)
+            if (index.contains(key)) {
+                return false;
             }
-            // 타깃 자체 regular file + symlink 여부 최종 검사(쓰기 직전)
-            if (Files.exists(target)
-                    && (Files.isSymbolicLink(target) || !Files.isRegularFile(target, LinkOption.NOFOLLOW_LINKS))) {
+            throw e;
+        } catch (Exception e) {
+            log.error("복제 파일 저장 중 오류 발생: {}", e.getMessage(), e);
+            throw new StorageException("파일 저장 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 파일 쓰기 공통 로직 (임시파일에 쓴 뒤 원자적 이동, 덮어쓰기 금지)
+     * 
+     * @param key         저장 경로와 파일명
+     * @param source      파일 내용
+     * @param contentType 인덱스에 기록할 MIME 타입
+     * @return 인덱스에 등록된 메타데이터
+     */
+    private FileMeta writeFile(String key, InputStream source, String contentType) throws Exception {
+        assertSafeKey(key);
+        Path target = base.resolve(key).normalize();
+        assertNoSymlinkInPath(target);
+        Files.createDirectories(target.getParent());
+        String tempPrefix = "upload-";
+        String tempSuffix = ".tmp";
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(tempDir, tempPrefix, tempSuffix);
+        } catch (IOException e) {
+            log.error("임시파일 생성 실패: {}", e.getMessage(), e);
+            throw new StorageException("임시파일 생성 실패: " + e.getMessage(), e);
+        }
+        try {
+            if (Files.isSymbolicLink(tempFile) || !Files.isRegularFile(tempFile, LinkOption.NOFOLLOW_LINKS)) {
                 Files.deleteIfExists(tempFile);
-                throw new StorageException("타깃 경로가 심볼릭 링크이거나 regular file이 아닙니다(최종): " + target);
+                throw new StorageException("임시파일이 심볼릭 링크이거나 regular file이 아닙니다: " + tempFile);
             }
-            boolean moved = false;
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw new StorageException("임시파일 검증 실패: " + e.getMessage(), e);
+        }
+        // 2. 임시파일에 먼저 저장 (REPLACE_EXISTING 적용, 복사하면서 다이제스트 계산)
+        MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+        long written;
+        try (InputStream in = new DigestInputStream(source, sha256)) {
+            written = Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        // 3. 타깃 파일이 이미 존재하면 예외(덮어쓰기 금지)
+        if (Files.exists(target)) {
+            Files.deleteIfExists(tempFile);
+            throw new StorageException("동일한 파일이 이미 존재합니다: " + key);
+        }
+        // 4. 이동 전 symlink/regular file/부모 toRealPath() 재확인
+        assertNoSymlinkInPath(target);
+        if (Files.isSymbolicLink(target)
+                || (Files.exists(target) && !Files.isRegularFile(target, LinkOption.NOFOLLOW_LINKS))) {
+            Files.deleteIfExists(tempFile);
+            throw new StorageException("타깃 경로가 심볼릭 링크이거나 regular file이 아닙니다: " + target);
+        }
+        assertNoSymlinkInPath(target.getParent());
+        Path realBase = base.toRealPath();
+        Path parentReal = target.getParent().toRealPath();
+        if (!parentReal.startsWith(realBase)) {
+            Files.deleteIfExists(tempFile);
+            throw new StorageException("타깃 부모 디렉토리가 저장소 외부입니다: " + parentReal);
+        }
+        // 타깃 자체 regular file + symlink 여부 최종 검사(쓰기 직전)
+        if (Files.exists(target)
+                && (Files.isSymbolicLink(target) || !Files.isRegularFile(target, LinkOption.NOFOLLOW_LINKS))) {
+            Files.deleteIfExists(tempFile);
+            throw new StorageException("타깃 경로가 심볼릭 링크이거나 regular file이 아닙니다(최종): " + target);
+        }
+        boolean moved = false;
+        try {
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            moved = true;
+        } catch (AtomicMoveNotSupportedException e) {
+            log.warn("ATOMIC_MOVE 미지원: 일반 MOVE로 대체 (경쟁 조건 위험 있음): {}", e.getMessage());
             try {
-                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+                Files.move(tempFile, target);
                 moved = true;
-            } catch (AtomicMoveNotSupportedException e) {
-                log.warn("ATOMIC_MOVE 미지원: 일반 MOVE로 대체 (경쟁 조건 위험 있음): {}", e.getMessage());
-                try {
-                    Files.move(tempFile, target);
-                    moved = true;
-                } catch (Exception moveEx) {
-                    Files.deleteIfExists(tempFile);
-                    throw new StorageException("파일 이동 실패: " + moveEx.getMessage(), moveEx);
-                }
-            } catch (Exception e) {
+            } catch (Exception moveEx) {
                 Files.deleteIfExists(tempFile);
-                throw new StorageException("파일 이동 실패: " + e.getMessage(), e);
+                throw new StorageException("파일 이동 실패: " + moveEx.getMessage(), moveEx);
             }
-            // 6. 이동 후 최종 경로 symlink/regular file 검사 (NOFOLLOW)
-            assertNoSymlinkInPath(target);
-            if (!Files.isRegularFile(target, LinkOption.NOFOLLOW_LINKS) || Files.isSymbolicLink(target)) {
-                if (!moved)
-                    Files.deleteIfExists(tempFile);
-                throw new StorageException("저장된 파일이 regular file이 아니거나 symlink입니다: " + target);
-            }
-            String url = publicBaseUrl.replaceAll("/+$", "") + "/" + key.replace("\\", "/");
-            return new StoredFile(key, safeName, contentType(file), file.getSize(), url);
-        } catch (StorageException e) {
-            throw e;
         } catch (Exception e) {
-            log.error("파일 저장 중 오류 발생: {}", e.getMessage(), e);
-            throw new StorageException("파일 저장 중 오류가 발생했습니다: " + e.getMessage(), e);
+            Files.deleteIfExists(tempFile);
+            throw new StorageException("파일 이동 실패: " + e.getMessage(), e);
         }
+        // 6. 이동 후 최종 경로 symlink/regular file 검사 (NOFOLLOW)
+        assertNoSymlinkInPath(target);
+        if (!Files.isRegularFile(target, LinkOption.NOFOLLOW_LINKS) || Files.isSymbolicLink(target)) {
+            if (!moved)
+                Files.deleteIfExists(tempFile);
+            throw new StorageException("저장된 파일이 regular file이 아니거나 symlink입니다: " + target);
+        }
+        FileMeta meta = new FileMeta(key, written, contentType, Instant.now(),
+                Base64.getEncoder().encodeToString(sha256.digest()));
+        index.put(meta);
+        return meta;
     }
 
     @Override
     public void delete(String key) throws StorageException {
+        deleteInternal(key, false);
+    }
+
+    /**
+     * 다른 노드의 삭제를 복제하여 로컬 파일 삭제 (다시 전파하지 않음)
+     * 
+     * @param key 삭제할 파일 키
+     */
+    public void deleteReplica(String key) throws StorageException {
+        deleteInternal(key, true);
+    }
+
+    private void deleteInternal(String key, boolean replicated) throws StorageException {
         try {
             assertSafeKey(key);
             Path p = base.resolve(key).normalize();
@@ -271,6 +409,8 @@ public class LocalStorageService implements Storage {
                 throw new StorageException("지원하지 않는 파일 유형입니다(regular file만 허용): " + p);
             }
             boolean deleted = Files.deleteIfExists(p);
+            index.remove(key);
+            publishDeleted(key, replicated);
             if (deleted) {
                 log.debug("파일 삭제됨: {}", key);
             } else {
@@ -290,6 +430,11 @@ public class LocalStorageService implements Storage {
             throw new StorageException("파일 키가 null입니다");
         }
         try {
+            // 인덱스에 등록된 키는 저장 시 검증을 통과한 regular file이므로 파일시스템 검사 생략
+            assertLexicallySafeKey(key);
+            if (index.contains(key)) {
+                return publicBaseUrl.replaceAll("/+$", "") + "/" + key.replace("\\", "/");
+            }
             assertSafeKey(key);
             Path p = base.resolve(key).normalize();
             assertNoSymlinkInPath(p);
@@ -312,14 +457,11 @@ public class LocalStorageService implements Storage {
             if (key == null) {
                 throw new StorageException("파일 키가 null입니다");
             }
-            assertSafeKey(key);
-            Path p = base.resolve(key).normalize();
-            assertNoSymlinkInPath(p);
-            // 타깃 자체 regular file + symlink 여부 최종 검사
-            if (Files.exists(p) && (Files.isSymbolicLink(p) || !Files.isRegularFile(p, LinkOption.NOFOLLOW_LINKS))) {
-                throw new StorageException("지원하지 않는 파일 유형입니다(regular file만 허용): " + p);
+            assertLexicallySafeKey(key);
+            if (index.contains(key)) {
+                return true;
             }
-            return Files.exists(p);
+            return statFromDisk(key) != null || fetchReplica(key) != null;
         } catch (StorageException e) {
             throw e;
         } catch (Exception e) {
@@ -328,6 +470,265 @@ public class LocalStorageService implements Storage {
         }
     }
 
+    @Override
+    public Map<String, FileMeta> statAll(Collection<String> keys) throws StorageException {
+        Map<String, FileMeta> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            assertLexicallySafeKey(key);
+            FileMeta meta = index.get(key);
+            if (meta == null) {
+                // 인덱스 미스: 외부에서 추가된 파일일 수 있으므로 디스크 확인 후 인덱스 보충
+                try {
+                    meta = statFromDisk(key);
+                    if (meta == null) {
+                        meta = fetchReplica(key);
+                    }
+                } catch (StorageException e) {
+                    throw e;
+                } catch (Exception e) {
+                    log.error("파일 메타데이터 조회 중 오류: {}", e.getMessage());
+                    throw new StorageException("파일 메타데이터 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+                }
+            }
+            if (meta != null) {
+                result.put(key, meta);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<FileMeta> listKeys(String prefix, String startAfter, int limit) throws StorageException {
+        Path root = assertLexicallySafeKey(prefix);
+        List<FileMeta> result = new ArrayList<>();
+        if (limit <= 0 || !Files.isDirectory(root, LinkOption.NOFOLLOW_LINKS)) {
+            return result;
+        }
+        String rootKey = base.relativize(root).toString().replace("\\", "/");
+        try {
+            // 하위 디렉토리(회원별)는 한 번에 하나씩만 읽어 메모리 사용량을 디렉토리 하나 분량으로 제한
+            for (String child : sortedChildren(root)) {
+                String childKey = rootKey + "/" + child;
+                if (child.endsWith("/")) {
+                    // startAfter보다 앞선 디렉토리는 통째로 건너뜀
+                    if (startAfter != null && startAfter.compareTo(childKey) > 0 && !startAfter.startsWith(childKey)) {
+                        continue;
+                    }
+                    Path dir = root.resolve(child);
+                    for (String name : sortedChildren(dir)) {
+                        if (name.endsWith("/")) {
+                            continue;
+                        }
+                        String key = childKey + name;
+                        if (startAfter != null && key.compareTo(startAfter) <= 0) {
+                            continue;
+                        }
+                        if (addListed(result, key, dir.resolve(name), limit)) {
+                            return result;
+                        }
+                    }
+                } else if (startAfter == null || childKey.compareTo(startAfter) > 0) {
+                    if (addListed(result, childKey, root.resolve(child), limit)) {
+                        return result;
+                    }
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            log.error("파일 목록 조회 중 오류: 접두사={}, 오류={}", prefix, e.getMessage());
+            throw new StorageException("파일 목록 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<Resource> load(String key) throws StorageException {
+        Optional<Resource> local = loadLocal(key);
+        if (local.isPresent() || fetchReplica(key) == null) {
+            return local;
+        }
+        return loadLocal(key);
+    }
+
+    /**
+     * 로컬 디스크에서만 파일 조회 (다른 노드에서 가져오지 않음)
+     * 다른 노드의 복제 조회 요청에 응답할 때 사용하여 노드 간 순환 조회를 막습니다.
+     * 
+     * @param key 파일 키
+     * @return 파일 리소스 (로컬에 없으면 Optional.empty())
+     */
+    public Optional<Resource> loadLocal(String key) throws StorageException {
+        assertLexicallySafeKey(key);
+        try {
+            FileMeta meta = index.get(key);
+            if (meta == null) {
+                meta = statFromDisk(key);
+            }
+            if (meta == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new FileSystemResource(base.resolve(key).normalize()));
+        } catch (StorageException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("파일 조회 중 오류: {}", e.getMessage());
+            throw new StorageException("파일 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 디렉토리 항목을 키 순서와 일치하도록 정렬하여 반환
+     * 하위 디렉토리 이름에는 '/'를 붙여 'posts/1/..'과 'posts/1-a/..'의 순서가 키 비교와 같도록 합니다.
+     */
+    private List<String> sortedChildren(Path dir) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path p : stream) {
+                if (p.equals(tempDir) || Files.isSymbolicLink(p)) {
+                    continue;
+                }
+                String name = p.getFileName().toString();
+                names.add(Files.isDirectory(p, LinkOption.NOFOLLOW_LINKS) ? name + "/" : name);
+            }
+        }
+        names.sort(null);
+        return names;
+    }
+
+    // 목록에 항목 추가 (limit 도달 시 true)
+    private boolean addListed(List<FileMeta> result, String key, Path file, int limit) throws IOException {
+        FileMeta meta = index.get(key);
+        if (meta == null) {
+            BasicFileAttributes attrs;
+            try {
+                attrs = Files.readAttributes(file, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (NoSuchFileException e) {
+                return false;
+            }
+            if (!attrs.isRegularFile()) {
+                return false;
+            }
+            meta = toMeta(key, attrs);
+        }
+        result.add(meta);
+        return result.size() >= limit;
+    }
+
+    /**
+     * 인덱스 미스 시 디스크에서 직접 메타데이터를 확인하고 인덱스에 등록
+     * 기존 exists와 동일하게 심볼릭 링크/regular file 검증을 수행합니다.
+     * 
+     * @param key 파일 키
+     * @return 메타데이터 (파일이 없으면 null)
+     */
+    private FileMeta statFromDisk(String key) throws IOException {
+        assertSafeKey(key);
+        Path p = base.resolve(key).normalize();
+        assertNoSymlinkInPath(p);
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(p, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        // 타깃 자체 regular file + symlink 여부 최종 검사
+        if (!attrs.isRegularFile()) {
+            throw new StorageException("지원하지 않는 파일 유형입니다(regular file만 허용): " + p);
+        }
+        FileMeta meta = toMeta(key, attrs);
+        index.put(meta);
+        return meta;
+    }
+
+    /**
+     * 로컬에 없는 파일을 다른 노드에서 가져와 로컬에 채움 (pull-on-miss)
+     * 복제 공급자가 없거나 어느 노드에도 없으면 null을 반환합니다.
+     * 
+     * @param key 파일 키
+     * @return 채운 파일의 메타데이터 (없으면 null)
+     */
+    private FileMeta fetchReplica(String key) {
+        ReplicaSource source = replicaSource;
+        if (source == null) {
+            return null;
+        }
+        Optional<byte[]> data = source.fetch(key);
+        if (data.isEmpty()) {
+            return null;
+        }
+        try {
+            storeReplica(key, data.get());
+        } catch (StorageException e) {
+            log.warn("다른 노드에서 가져온 파일 저장 실패: 키={}, 오류={}", key, e.getMessage());
+            return null;
+        }
+        return index.get(key);
+    }
+
+    /**
+     * 기동 시 메타데이터 인덱스 재구성
+     * 최상위 디렉토리(posts 등) 아래의 하위 디렉토리(회원별)를 병렬로 스캔합니다.
+     * 스캔 시에는 다이제스트를 계산하지 않습니다(저장 시에만 기록).
+     */
+    private void rebuildIndex() throws IOException {
+        long started = System.nanoTime();
+        List<Path> roots = new ArrayList<>();
+        Map<String, FileMeta> scanned = new ConcurrentHashMap<>();
+        try (DirectoryStream<Path> top = Files.newDirectoryStream(base)) {
+            for (Path dir : top) {
+                if (dir.equals(tempDir)) {
+                    continue;
+                }
+                if (Files.isDirectory(dir, LinkOption.NOFOLLOW_LINKS)) {
+                    try (DirectoryStream<Path> children = Files.newDirectoryStream(dir)) {
+                        children.forEach(roots::add);
+                    }
+                } else {
+                    roots.add(dir);
+                }
+            }
+        }
+
+        int threads = indexScanThreads > 0 ? indexScanThreads : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.submit(() -> roots.parallelStream().forEach(root -> scanTree(root, scanned))).join();
+        } finally {
+            pool.shutdown();
+        }
+        index.replaceAll(scanned);
+        log.info("스토리지 메타데이터 인덱스 재구성 완료: 파일 수={}, 총 크기={}B, 소요시간={}ms",
+                index.size(), index.totalBytes(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // 단일 서브트리 스캔 (심볼릭 링크는 따라가지 않고 regular file만 등록)
+    private void scanTree(Path root, Map<String, FileMeta> sink) {
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile()) {
+                        String key = base.relativize(file).toString().replace("\\", "/");
+                        sink.put(key, toMeta(key, attrs));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    log.warn("인덱스 스캔 중 파일 접근 실패: {}, 오류={}", file, exc.getMessage());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.warn("인덱스 스캔 실패: {}, 오류={}", root, e.getMessage());
+        }
+    }
+
+    private FileMeta toMeta(String key, BasicFileAttributes attrs) {
+        return new FileMeta(key, attrs.size(), FilePolicy.contentTypeOf(key),
+                attrs.lastModifiedTime().toInstant(), null);
+    }
+
     private String contentType(MultipartFile f) {
         return f.getContentType() == null ? "application/octet-stream" : f.getContentType();
     }
@@ -0,0 +1,296 @@
+package com.example.community.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 자주 조회되는 이미지 바이트의 프로세스 내 캐시 (app.storage.cache.enabled=true)
+ * 데이터는 Direct ByteBuffer(힙 외부)에 보관하여 MaxRAMPercentage로 정해지는 힙 크기에 영향을 주지 않습니다.
+ *
+ * - 제거 정책: 전체 바이트 한도 기반 LRU + TinyLFU 승인(새 항목이 제거 대상보다 자주 조회될 때만 교체)
+ * - 무효화: 저장소 삭제 이벤트(StoredObjectDeletedEvent) 수신 시 해당 키 제거
+ * - 지표: storage.image.cache.requests(result=hit/miss), size, entries, evictions
+ *
+ * Direct 버퍼 메모리는 버퍼 객체가 GC될 때 해제되므로 -XX:MaxDirectMemorySize를 캐시 용량보다 넉넉히 설정해야 합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.cache.enabled", havingValue = "true")
+public class OffHeapImageCache {
+
+    private final long capacityBytes;
+    private final long maxEntryBytes;
+
+    // 접근 순서 LinkedHashMap (가장 오래전에 조회된 항목이 맨 앞)
+    private final LinkedHashMap<String, CachedBlob> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long usedBytes;
+    private long evictions;
+    // 무효화 횟수 (조회~등록 사이에 삭제된 파일이 캐시에 다시 들어가는 것을 방지)
+    private long invalidationStamp;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public OffHeapImageCache(MeterRegistry meterRegistry,
+            @Value("${app.storage.cache.capacity-bytes:67108864}") long capacityBytes,
+            @Value("${app.storage.cache.max-entry-bytes:1048576}") long maxEntryBytes,
+            @Value("${app.storage.cache.expected-entries:2048}") int expectedEntries) {
+        this.capacityBytes = capacityBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, capacityBytes);
+        this.sketch = new FrequencySketch(expectedEntries);
+        this.hits = Counter.builder("storage.image.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("storage.image.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("storage.image.cache.size", this, OffHeapImageCache::usedBytes)
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("storage.image.cache.entries", this, OffHeapImageCache::size).register(meterRegistry);
+        FunctionCounter.builder("storage.image.cache.evictions", this, OffHeapImageCache::evictions)
+                .register(meterRegistry);
+        log.info("이미지 캐시 활성화: 용량={}B, 항목 최대={}B", capacityBytes, this.maxEntryBytes);
+    }
+
+    /**
+     * 캐시 조회 (조회 빈도도 함께 기록)
+     *
+     * @param key 파일 키
+     * @return 캐시된 리소스 (없으면 null)
+     */
+    public Resource get(String key) {
+        CachedBlob blob;
+        lock.lock();
+        try {
+            sketch.increment(key);
+            blob = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+        if (blob == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return new CachedResource(key, blob);
+    }
+
+    /**
+     * 현재 무효화 스탬프
+     * 원본을 읽기 전에 조회하여 put에 전달하면, 그 사이 무효화가 있었을 경우 등록하지 않습니다.
+     */
+    public long stamp() {
+        lock.lock();
+        try {
+            return invalidationStamp;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 등록 시도
+     * 용량이 부족하면 LRU 항목을 제거하되, 제거 대상이 새 항목보다 자주 조회되었다면 등록하지 않습니다.
+     *
+     * @param stamp 원본을 읽기 전에 조회한 stamp() 값
+     * @return 등록 여부
+     */
+    public boolean put(String key, byte[] data, long lastModified, long stamp) {
+        if (data.length > maxEntryBytes) {
+            return false;
+        }
+        lock.lock();
+        try {
+            if (stamp != invalidationStamp) {
+                return false;
+            }
+            if (entries.containsKey(key)) {
+                return true;
+            }
+            // 1) 필요한 만큼의 LRU 제거 대상이 모두 새 항목보다 덜 조회되었는지 먼저 확인 (TinyLFU 승인)
+            int candidateFrequency = sketch.frequency(key);
+            long reclaimable = 0L;
+            int victims = 0;
+            for (Map.Entry<String, CachedBlob> e : entries.entrySet()) {
+                if (usedBytes - reclaimable + data.length <= capacityBytes) {
+                    break;
+                }
+                if (candidateFrequency <= sketch.frequency(e.getKey())) {
+                    return false;
+                }
+                reclaimable += e.getValue().length();
+                victims++;
+            }
+            // 2) 승인된 경우에만 제거 후 등록
+            Iterator<Map.Entry<String, CachedBlob>> it = entries.entrySet().iterator();
+            for (int i = 0; i < victims; i++) {
+                usedBytes -= it.next().getValue().length();
+                it.remove();
+                evictions++;
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+            buffer.put(data).flip();
+            entries.put(key, new CachedBlob(buffer.asReadOnlyBuffer(), lastModified));
+            usedBytes += data.length;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 항목 제거
+     */
+    public void invalidate(String key) {
+        lock.lock();
+        try {
+            invalidationStamp++;
+            CachedBlob removed = entries.remove(key);
+            if (removed != null) {
+                usedBytes -= removed.length();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onStoredObjectDeleted(StoredObjectDeletedEvent event) {
+        invalidate(event.key());
+    }
+
+    public long maxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    long usedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long evictions() {
+        lock.lock();
+        try {
+            return evictions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 항목 (읽기 전용 Direct 버퍼)
+     */
+    private record CachedBlob(ByteBuffer data, long lastModified) {
+        int length() {
+            return data.capacity();
+        }
+    }
+
+    /**
+     * 캐시된 바이트를 정적 리소스로 노출 (요청마다 독립된 버퍼 뷰 사용)
+     */
+    private static final class CachedResource extends AbstractResource {
+        private final String key;
+        private final CachedBlob blob;
+
+        private CachedResource(String key, CachedBlob blob) {
+            this.key = key;
+            this.blob = blob;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return blob.length();
+        }
+
+        @Override
+        public long lastModified() {
+            return blob.lastModified();
+        }
+
+        @Override
+        public String getFilename() {
+            return key.substring(key.lastIndexOf('/') + 1);
+        }
+
+        @Override
+        public String getDescription() {
+            return "cached image [" + key + "]";
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteBufferInputStream(blob.data().duplicate());
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,544 @@
+package com.example.community.storage;
+
+import com.example.community.common.FilePolicy;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 팩 파일 저장소 (app.storage.provider=pack)
+ * 작은 이미지를 개별 파일 대신 대용량 세그먼트 파일에 추가 기록하여 inode/dentry 사용량과
+ * 백업(rsync) 대상 파일 수를 줄입니다.
+ *
+ * - 인덱스: 키 → (세그먼트, 위치, 길이) 정렬 맵. 기동 시 세그먼트 스캔으로 재구성합니다.
+ * - 쓰기: 단일 잠금 하에서 활성 세그먼트 끝에 추가하며, 크기 한도를 넘으면 새 세그먼트로 전환합니다.
+ * - 읽기: 잠금 없이 위치 지정 읽기(FileChannel positional read)로 수행합니다.
+ * - 삭제: TOMBSTONE 레코드를 추가하고 인덱스에서 제거합니다. 공간은 압축(compaction) 시 회수됩니다.
+ *   TOMBSTONE은 더 오래된 세그먼트에 같은 키의 PUT 레코드가 남아 있는 동안만 압축 후에도 유지합니다.
+ */
+@Service
+@ConditionalOnProperty(name = "app.storage.provider", havingValue = "pack")
+@RequiredArgsConstructor
+public class PackFileStorageService implements Storage, ApplicationEventPublisherAware {
+    private static final Logger log = LoggerFactory.getLogger(PackFileStorageService.class);
+    private static final Pattern SEGMENT_NAME = Pattern.compile("seg-(\\d+)\\.pack");
+
+    @Value("${app.storage.pack.base-path:uploads-pack}")
+    private String basePath;
+    @Value("${app.public-base-url}")
+    private String publicBaseUrl;
+    // 세그먼트 최대 크기 (기본 256MB)
+    @Value("${app.storage.pack.segment-max-bytes:268435456}")
+    private long segmentMaxBytes;
+    // 레코드 기록 후 fsync 여부
+    @Value("${app.storage.pack.fsync:true}")
+    private boolean fsync;
+    // 기동 시 봉인된 세그먼트까지 CRC 검증 여부 (활성 세그먼트는 항상 검증)
+    @Value("${app.storage.pack.verify-on-open:false}")
+    private boolean verifyOnOpen;
+    // 살아있는 데이터 비율이 이 값 미만인 세그먼트를 압축
+    @Value("${app.storage.pack.compaction-live-ratio:0.5}")
+    private double compactionLiveRatio;
+
+    private Path base;
+
+    // 키 정렬 순서 유지 (listKeys 지원)
+    private final ConcurrentSkipListMap<String, Location> index = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Long, PackSegment> segments = new ConcurrentSkipListMap<>();
+    // 세그먼트 추가/전환, 인덱스 변경은 이 잠금 하에서만 수행
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // 세그먼트 ID → 그 세그먼트에 남아 있는 죽은(삭제/대체된) PUT 레코드의 키 (쓰기 잠금 하에서만 변경)
+    // 압축 시 TOMBSTONE을 유지할지 판단하며, 세그먼트가 압축되어 삭제되면 함께 제거
+    private final ConcurrentSkipListMap<Long, Set<String>> deadPuts = new ConcurrentSkipListMap<>();
+    private volatile PackSegment active;
+
+    // 삭제 이벤트 발행 (이미지 캐시 무효화 등). 직접 생성한 경우(null)에는 발행하지 않음
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.eventPublisher = applicationEventPublisher;
+    }
+
+    private void publishDeleted(String key) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new StoredObjectDeletedEvent(key));
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        base = Path.of(basePath).toAbsolutePath().normalize();
+        long started = System.nanoTime();
+        try {
+            Files.createDirectories(base);
+            List<Long> found = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(base, "seg-*.pack")) {
+                for (Path p : stream) {
+                    Matcher m = SEGMENT_NAME.matcher(p.getFileName().toString());
+                    if (m.matches()) {
+                        found.add(Long.parseLong(m.group(1)));
+                    }
+                }
+            }
+            found.sort(null);
+            for (int i = 0; i < found.size(); i++) {
+                long id = found.get(i);
+                boolean last = i == found.size() - 1;
+                PackSegment seg = PackSegment.open(base.resolve(PackSegment.fileName(id)), id);
+                long truncated = seg.scan(verifyOnOpen || last, r -> applyScanned(seg, r));
+                if (truncated > 0) {
+                    log.warn("팩 세그먼트 끝의 손상된 레코드 제거: 세그먼트={}, 제거={}B", seg.path, truncated);
+                }
+                segments.put(id, seg);
+            }
+            for (Location loc : index.values()) {
+                segments.get(loc.segmentId()).addLive(loc.recordSize());
+            }
+            active = segments.isEmpty() ? newSegment(1L) : segments.lastEntry().getValue();
+            if (publicBaseUrl == null || publicBaseUrl.trim().isEmpty()) {
+                throw new StorageException("publicBaseUrl 설정이 비어 있습니다. app.public-base-url 을 설정하세요.");
+            }
+            log.info("팩 저장소 설정 완료: 경로={}, 세그먼트 수={}, 파일 수={}, 소요시간={}ms",
+                    base, segments.size(), index.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (StorageException e) {
+            throw e;
+        } catch (Exception e) {
+            String message = "팩 저장소를 초기화할 수 없습니다: " + e.getMessage();
+            log.error(message, e);
+            throw new StorageException(message, e);
+        }
+    }
+
+    // 스캔 결과 반영 (세그먼트 순서대로 적용되므로 나중 레코드가 우선)
+    private void applyScanned(PackSegment seg, PackSegment.PackRecord r) {
+        Location previous;
+        if (r.flag() == PackSegment.FLAG_TOMBSTONE) {
+            previous = index.remove(r.key());
+        } else {
+            // 압축 도중 중단되어 이전 세그먼트에 같은 PUT이 남은 경우 이전 레코드는 죽은 레코드
+            previous = index.put(r.key(), new Location(seg.id, r.offset(), r.size(), r.dataOffset(), r.dataLength(),
+                    Instant.ofEpochMilli(r.timestamp()), Base64.getEncoder().encodeToString(r.digest())));
+        }
+        if (previous != null) {
+            markDeadPut(previous.segmentId(), r.key());
+        }
+    }
+
+    private void markDeadPut(long segmentId, String key) {
+        deadPuts.computeIfAbsent(segmentId, id -> new HashSet<>()).add(key);
+    }
+
+    // segmentId보다 오래된 세그먼트에 이 키의 PUT 레코드가 남아 있는지 (쓰기 잠금 하에서 호출)
+    private boolean hasDeadPutBefore(String key, long segmentId) {
+        for (Set<String> keys : deadPuts.headMap(segmentId).values()) {
+            if (keys.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @PreDestroy
+    public void close() {
+        for (PackSegment seg : segments.values()) {
+            try {
+                seg.close();
+            } catch (IOException e) {
+                log.warn("팩 세그먼트 닫기 실패: {}, 오류={}", seg.path, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public StoredFile store(MultipartFile file, String directory) throws StorageException {
+        // 암호학적으로 안전한 랜덤 파일명 생성
+        byte[] randomBytes = new byte[16];
+        new java.security.SecureRandom().nextBytes(randomBytes);
+        String randomId = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+        String ext = extensionOf(file.getOriginalFilename());
+        String key = (directory != null && !directory.isBlank() ? directory + "/" : "")
+                + randomId + (ext.isEmpty() ? "" : "." + ext);
+        return storeWithKey(file, key);
+    }
+
+    @Override
+    public StoredFile storeWithKey(MultipartFile file, String key) throws StorageException {
+        try {
+            if (!FilePolicy.isAllowed(file, FilePolicy.ALLOWED_IMAGE_TYPES)) {
+                throw new StorageException("허용되지 않은 파일 유형입니다.");
+            }
+            assertSafeKey(key);
+            if (FilePolicy.isFileSizeExceeded(file.getSize())) {
+                throw new StorageException(String.format(FilePolicy.ERR_FILE_TOO_LARGE, FilePolicy.MAX_FILE_SIZE_BYTES));
+            }
+            byte[] data = file.getBytes();
+            if (!append(key, data, Instant.now())) {
+                throw new StorageException("동일한 파일이 이미 존재합니다: " + key);
+            }
+            String originalName = file.getOriginalFilename() == null ? "file" : file.getOriginalFilename();
+            return new StoredFile(key, originalName, file.getContentType(), data.length, url(key));
+        } catch (StorageException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("파일 저장 중 오류 발생: {}", e.getMessage(), e);
+            throw new StorageException("파일 저장 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 기존 디렉토리 구조의 파일을 팩 저장소로 가져옵니다. (PackMigrationRunner에서 사용)
+     * 이미 존재하는 키는 건너뜁니다. (동시에 같은 키가 저장되어도 쓰기 잠금 안에서 다시 확인)
+     *
+     * @param key    파일 키
+     * @param source 원본 파일 경로
+     * @return 가져왔으면 true, 이미 존재하면 false
+     */
+    public boolean importFile(String key, Path source) throws StorageException {
+        assertSafeKey(key);
+        // 이미 가져온 파일은 읽지 않고 건너뜀
+        if (index.containsKey(key)) {
+            return false;
+        }
+        try {
+            byte[] data = Files.readAllBytes(source);
+            return append(key, data, Files.getLastModifiedTime(source).toInstant());
+        } catch (StorageException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new StorageException("파일 가져오기 중 오류가 발생했습니다: " + key + ", " + e.getMessage(), e);
+        }
+    }
+
+    // PUT 레코드 추가 (덮어쓰기 금지, 이미 존재하면 기록하지 않고 false)
+    private boolean append(String key, byte[] data, Instant modified) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+        ByteBuffer[] record = PackSegment.encodePut(key, digest, data, modified.toEpochMilli());
+        int recordSize = PackSegment.recordSize(PackSegment.FLAG_PUT, record[1].remaining(), data.length);
+        writeLock.lock();
+        try {
+            if (index.containsKey(key)) {
+                return false;
+            }
+            PackSegment seg = segmentFor(recordSize);
+            long offset = seg.append(record);
+            if (fsync) {
+                seg.force();
+            }
+            long dataOffset = offset + recordSize - data.length;
+            index.put(key, new Location(seg.id, offset, recordSize, dataOffset, data.length, modified,
+                    Base64.getEncoder().encodeToString(digest)));
+            seg.addLive(recordSize);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 활성 세그먼트가 가득 찼으면 봉인 후 새 세그먼트로 전환 (잠금 하에서 호출)
+    private PackSegment segmentFor(int recordSize) throws IOException {
+        PackSegment seg = active;
+        if (seg.size() > PackSegment.SEGMENT_HEADER_SIZE && seg.size() + recordSize > segmentMaxBytes) {
+            seg.force();
+            seg = newSegment(seg.id + 1);
+            active = seg;
+        }
+        return seg;
+    }
+
+    private PackSegment newSegment(long id) throws IOException {
+        PackSegment seg = PackSegment.create(base, id);
+        segments.put(id, seg);
+        log.info("새 팩 세그먼트 생성: {}", seg.path);
+        return seg;
+    }
+
+    @Override
+    public void delete(String key) throws StorageException {
+        assertSafeKey(key);
+        writeLock.lock();
+        try {
+            Location loc = index.get(key);
+            if (loc == null) {
+                log.debug("삭제할 파일이 존재하지 않습니다: {}", key);
+                return;
+            }
+            ByteBuffer[] tombstone = PackSegment.encodeTombstone(key, System.currentTimeMillis());
+            PackSegment seg = segmentFor(PackSegment.recordSize(PackSegment.FLAG_TOMBSTONE, tombstone[1].remaining(), 0));
+            seg.append(tombstone);
+            if (fsync) {
+                seg.force();
+            }
+            index.remove(key);
+            markDeadPut(loc.segmentId(), key);
+            PackSegment owner = segments.get(loc.segmentId());
+            if (owner != null) {
+                owner.addLive(-loc.recordSize());
+            }
+            log.info("파일 삭제 완료: {}", key);
+        } catch (IOException e) {
+            log.error("파일 삭제 중 오류: {}", e.getMessage(), e);
+            throw new StorageException("파일 삭제 중 오류가 발생했습니다: " + e.getMessage(), e);
+        } finally {
+            writeLock.unlock();
+        }
+        publishDeleted(key);
+    }
+
+    @Override
+    public String url(String key) throws StorageException {
+        assertSafeKey(key);
+        return publicBaseUrl.replaceAll("/+$", "") + "/" + key;
+    }
+
+    @Override
+    public boolean exists(String key) throws StorageException {
+        assertSafeKey(key);
+        return index.containsKey(key);
+    }
+
+    @Override
+    public Map<String, FileMeta> statAll(Collection<String> keys) throws StorageException {
+        Map<String, FileMeta> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            assertSafeKey(key);
+            Location loc = index.get(key);
+            if (loc != null) {
+                result.put(key, toMeta(key, loc));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<FileMeta> listKeys(String prefix, String startAfter, int limit) throws StorageException {
+        assertSafeKey(prefix);
+        String from = prefix.endsWith("/") ? prefix : prefix + "/";
+        List<FileMeta> result = new ArrayList<>();
+        var view = startAfter != null && startAfter.compareTo(from) >= 0
+                ? index.tailMap(startAfter, false)
+                : index.tailMap(from, true);
+        for (Map.Entry<String, Location> e : view.entrySet()) {
+            if (result.size() >= limit || !e.getKey().startsWith(from)) {
+                break;
+            }
+            result.add(toMeta(e.getKey(), e.getValue()));
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Resource> load(String key) throws StorageException {
+        assertSafeKey(key);
+        Location loc = index.get(key);
+        return loc == null ? Optional.empty() : Optional.of(new PackBlobResource(key, loc));
+    }
+
+    /**
+     * 블롭 데이터 읽기
+     * 읽는 도중 압축으로 세그먼트가 닫히면 인덱스에서 새 위치를 다시 조회하여 한 번 재시도합니다.
+     */
+    byte[] read(String key, Location loc) throws IOException {
+        try {
+            return readAt(loc);
+        } catch (ClosedChannelException e) {
+            Location moved = index.get(key);
+            if (moved == null) {
+                throw new java.io.FileNotFoundException("파일이 삭제되었습니다: " + key);
+            }
+            return readAt(moved);
+        }
+    }
+
+    private byte[] readAt(Location loc) throws IOException {
+        PackSegment seg = segments.get(loc.segmentId());
+        if (seg == null) {
+            throw new ClosedChannelException();
+        }
+        ByteBuffer buf = ByteBuffer.allocate(loc.length());
+        seg.read(buf, loc.dataOffset());
+        return buf.array();
+    }
+
+    /**
+     * 세그먼트 압축
+     * 살아있는 데이터 비율이 기준 미만인 봉인 세그먼트의 유효 레코드를 활성 세그먼트로 옮긴 뒤 파일을 삭제합니다.
+     * 레코드 단위로 잠금을 잡으므로 압축 중에도 저장/삭제가 가능합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.storage.pack.compaction-interval-ms:3600000}",
+            initialDelayString = "${app.storage.pack.compaction-initial-delay-ms:600000}")
+    public void compact() {
+        for (PackSegment seg : new ArrayList<>(segments.values())) {
+            if (seg == active || seg.liveRatio() >= compactionLiveRatio) {
+                continue;
+            }
+            try {
+                compactSegment(seg);
+            } catch (Exception e) {
+                log.error("팩 세그먼트 압축 실패: 세그먼트={}, 오류={}", seg.path, e.getMessage(), e);
+            }
+        }
+    }
+
+    void compactSegment(PackSegment seg) throws IOException {
+        long started = System.nanoTime();
+        long before = seg.size();
+        int moved = 0;
+        long movedBytes = 0L;
+        List<PackSegment.PackRecord> records = new ArrayList<>();
+        seg.scan(false, records::add);
+        for (PackSegment.PackRecord r : records) {
+            writeLock.lock();
+            try {
+                if (r.flag() == PackSegment.FLAG_PUT) {
+                    Location loc = index.get(r.key());
+                    if (loc != null && loc.segmentId() == seg.id && loc.recordOffset() == r.offset()) {
+                        PackSegment target = segmentFor(r.size());
+                        long offset = target.append(readRecord(seg, r));
+                        index.put(r.key(), new Location(target.id, offset, r.size(),
+                                offset + (r.dataOffset() - r.offset()), r.dataLength(),
+                                loc.lastModified(), loc.digest()));
+                        target.addLive(r.size());
+                        moved++;
+                        movedBytes += r.size();
+                    }
+                } else if (!index.containsKey(r.key()) && hasDeadPutBefore(r.key(), seg.id)) {
+                    // 더 오래된 세그먼트에 이전 PUT이 남아 있으면 재기동 시 되살아나지 않도록 삭제 표시를 유지
+                    // (그 세그먼트가 압축된 뒤의 압축에서는 버림)
+                    segmentFor(r.size()).append(readRecord(seg, r));
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        writeLock.lock();
+        try {
+            active.force();
+            segments.remove(seg.id);
+            deadPuts.remove(seg.id);
+        } finally {
+            writeLock.unlock();
+        }
+        seg.deleteFile();
+        log.info("팩 세그먼트 압축 완료: 세그먼트={}, 이동 레코드={}개, 회수={}B, 소요시간={}ms",
+                seg.path.getFileName(), moved, before - movedBytes, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private ByteBuffer readRecord(PackSegment seg, PackSegment.PackRecord r) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(r.size());
+        seg.read(buf, r.offset());
+        return buf.flip();
+    }
+
+    private void assertSafeKey(String key) {
+        if (key == null) {
+            log.warn("파일 키가 null입니다");
+            throw new StorageException("파일 키가 null입니다");
+        }
+        if (!FilePolicy.isPathSafe(key)) {
+            log.warn("잘못된 경로 접근 시도: {}", key);
+            throw new StorageException("잘못된 경로입니다: " + key);
+        }
+    }
+
+    private FileMeta toMeta(String key, Location loc) {
+        return new FileMeta(key, loc.length(), FilePolicy.contentTypeOf(key), loc.lastModified(), loc.digest());
+    }
+
+    private String extensionOf(String name) {
+        if (name == null) {
+            return "";
+        }
+        int i = name.lastIndexOf('.');
+        if (i < 0 || i == name.length() - 1) {
+            return "";
+        }
+        String ext = name.substring(i + 1).toLowerCase();
+        return ext.matches("[a-z0-9]{1,10}") ? ext : "";
+    }
+
+    /**
+     * 인덱스 항목: 블롭의 세그먼트 내 위치
+     */
+    record Location(long segmentId, long recordOffset, int recordSize, long dataOffset, int length,
+            Instant lastModified, String digest) {
+    }
+
+    /**
+     * 팩에 저장된 블롭을 정적 리소스로 노출하기 위한 Resource 구현
+     */
+    private final class PackBlobResource extends AbstractResource {
+        private final String key;
+        private final Location location;
+
+        private PackBlobResource(String key, Location location) {
+            this.key = key;
+            this.location = location;
+        }
+
+        @Override
+        public boolean exists() {
+            return index.containsKey(key);
+        }
+
+        @Override
+        public long contentLength() {
+            return location.length();
+        }
+
+        @Override
+        public long lastModified() {
+            return location.lastModified().toEpochMilli();
+        }
+
+        @Override
+        public String getFilename() {
+            return key.substring(key.lastIndexOf('/') + 1);
+        }
+
+        @Override
+        public String getDescription() {
+            return "pack blob [" + key + "]";
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new ByteArrayInputStream(read(key, location));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.community.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * 로컬 디렉토리 저장소(LocalStorageService) → 팩 저장소 마이그레이션 도구
+ * app.storage.provider=pack 이고 app.storage.pack.migrate-from 에 기존 base-path가 지정된 경우 기동 시 1회 실행됩니다.
+ *
+ * 이미 팩에 존재하는 키는 건너뛰므로 중단 후 다시 실행해도 이어서 진행됩니다.
+ * 원본 파일은 기본적으로 유지하며, migrate-delete-source=true 인 경우에만 가져온 뒤 삭제합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.pack.migrate-from")
+@RequiredArgsConstructor
+public class PackMigrationRunner implements ApplicationRunner {
+
+    private final Storage storage;
+
+    @Value("${app.storage.pack.migrate-from}")
+    private String migrateFrom;
+
+    @Value("${app.storage.pack.migrate-delete-source:false}")
+    private boolean deleteSource;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!(storage instanceof PackFileStorageService pack)) {
+            log.warn("팩 저장소 마이그레이션 건너뜀: app.storage.provider=pack 이 아닙니다");
+            return;
+        }
+        Path source = Path.of(migrateFrom).toAbsolutePath().normalize();
+        if (!Files.isDirectory(source, LinkOption.NOFOLLOW_LINKS)) {
+            log.warn("팩 저장소 마이그레이션 건너뜀: 원본 디렉토리가 없습니다: {}", source);
+            return;
+        }
+        long started = System.nanoTime();
+        long[] counts = new long[4]; // 가져옴, 건너뜀, 실패, 바이트
+        log.info("팩 저장소 마이그레이션 시작: 원본={}", source);
+
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                // 업로드 임시 디렉토리는 제외
+                return dir.getFileName() != null && dir.getFileName().toString().equals(".tmp")
+                        ? FileVisitResult.SKIP_SUBTREE
+                        : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (!attrs.isRegularFile()) {
+                    return FileVisitResult.CONTINUE;
+                }
+                String key = source.relativize(file).toString().replace("\\", "/");
+                try {
+                    if (pack.importFile(key, file)) {
+                        counts[0]++;
+                        counts[3] += attrs.size();
+                        if (deleteSource) {
+                            Files.deleteIfExists(file);
+                        }
+                    } else {
+                        counts[1]++;
+                    }
+                } catch (Exception e) {
+                    counts[2]++;
+                    log.warn("파일 마이그레이션 실패: 파일키={}, 오류={}", key, e.getMessage());
+                }
+                long done = counts[0] + counts[1] + counts[2];
+                if (done % 1000 == 0) {
+                    log.info("팩 저장소 마이그레이션 진행 중: 처리 {}개 (가져옴 {}개)", done, counts[0]);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                counts[2]++;
+                log.warn("파일 접근 실패: {}, 오류={}", file, exc.getMessage());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        log.info("팩 저장소 마이그레이션 완료: 가져옴 {}개({}B), 건너뜀 {}개, 실패 {}개, 소요시간: {}ms",
+                counts[0], counts[3], counts[1], counts[2], (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -0,0 +1,324 @@
+package com.example.community.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * 팩 파일 저장소의 세그먼트 파일 (추가 전용 로그)
+ *
+ * 세그먼트 헤더(8바이트 매직) 뒤에 레코드가 연속으로 기록됩니다.
+ * 레코드 = [매직 4][플래그 1][키 길이 2][데이터 길이 4][타임스탬프 8][CRC32C 4][키][다이제스트 32(PUT만)][데이터]
+ * 레코드가 스스로를 설명하므로 인덱스는 세그먼트를 순차 스캔하여 언제든 재구성할 수 있습니다.
+ * 쓰기는 호출자(PackFileStorageService)의 잠금 하에서만 수행되고, 읽기는 위치 지정 읽기로 잠금 없이 수행됩니다.
+ */
+final class PackSegment implements Closeable {
+
+    static final long SEGMENT_MAGIC = 0x43504B5345473031L; // "CPKSEG01"
+    static final int SEGMENT_HEADER_SIZE = 8;
+    static final int RECORD_MAGIC = 0x43504B31; // "CPK1"
+    static final int RECORD_HEADER_SIZE = 4 + 1 + 2 + 4 + 8 + 4;
+    static final int DIGEST_SIZE = 32;
+    static final byte FLAG_PUT = 0;
+    static final byte FLAG_TOMBSTONE = 1;
+
+    final long id;
+    final Path path;
+    // 읽기 스레드가 인터럽트되면 공유 채널이 닫히므로 필요 시 다시 엽니다
+    private volatile FileChannel channel;
+    private volatile boolean deleted;
+    private final ReentrantLock reopenLock = new ReentrantLock();
+    // 기록된 끝 위치 (다음 레코드 시작 위치)
+    private final AtomicLong size;
+    // 현재 인덱스가 가리키는 PUT 레코드의 바이트 합 (압축 대상 선정용)
+    private final AtomicLong liveBytes = new AtomicLong();
+
+    private PackSegment(long id, Path path, FileChannel channel, long size) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.size = new AtomicLong(size);
+    }
+
+    static String fileName(long id) {
+        return String.format("seg-%010d.pack", id);
+    }
+
+    /**
+     * 새 세그먼트 생성 (헤더 기록)
+     */
+    static PackSegment create(Path dir, long id) throws IOException {
+        Path path = dir.resolve(fileName(id));
+        FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE).putLong(SEGMENT_MAGIC).flip();
+        while (header.hasRemaining()) {
+            ch.write(header, SEGMENT_HEADER_SIZE - header.remaining());
+        }
+        ch.force(true);
+        return new PackSegment(id, path, ch, SEGMENT_HEADER_SIZE);
+    }
+
+    /**
+     * 기존 세그먼트 열기 (헤더 검증)
+     */
+    static PackSegment open(Path path, long id) throws IOException {
+        FileChannel ch = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE);
+        readFully(ch, header, 0);
+        if (header.flip().getLong() != SEGMENT_MAGIC) {
+            ch.close();
+            throw new StorageException("팩 세그먼트 헤더가 올바르지 않습니다: " + path);
+        }
+        return new PackSegment(id, path, ch, ch.size());
+    }
+
+    long size() {
+        return size.get();
+    }
+
+    long liveBytes() {
+        return liveBytes.get();
+    }
+
+    void addLive(long bytes) {
+        liveBytes.addAndGet(bytes);
+    }
+
+    // 헤더를 제외한 기록 바이트 중 살아있는 비율
+    double liveRatio() {
+        long payload = size.get() - SEGMENT_HEADER_SIZE;
+        return payload <= 0 ? 1.0 : (double) liveBytes.get() / payload;
+    }
+
+    /**
+     * 레코드 추가 (호출자 잠금 하에서만 호출)
+     *
+     * @return 레코드 시작 위치
+     */
+    long append(ByteBuffer... buffers) throws IOException {
+        // 실패 시 size를 갱신하지 않으므로 일부 기록된 바이트는 다음 레코드가 덮어씁니다
+        FileChannel ch = channel;
+        long start = size.get();
+        long pos = start;
+        try {
+            for (ByteBuffer b : buffers) {
+                while (b.hasRemaining()) {
+                    pos += ch.write(b, pos);
+                }
+            }
+        } catch (ClosedChannelException e) {
+            reopen(ch);
+            throw e;
+        }
+        size.set(pos);
+        return start;
+    }
+
+    void force() throws IOException {
+        FileChannel ch = channel;
+        try {
+            ch.force(false);
+        } catch (ClosedChannelException e) {
+            reopen(ch).force(false);
+        }
+    }
+
+    /**
+     * 위치 지정 읽기 (dst가 가득 찰 때까지)
+     * 다른 스레드의 인터럽트로 채널이 닫힌 경우 다시 열어 재시도합니다.
+     */
+    void read(ByteBuffer dst, long position) throws IOException {
+        FileChannel ch = channel;
+        int start = dst.position();
+        try {
+            readFully(ch, dst, position);
+        } catch (ClosedByInterruptException e) {
+            reopen(ch);
+            throw e;
+        } catch (ClosedChannelException e) {
+            dst.position(start);
+            readFully(reopen(ch), dst, position);
+        }
+    }
+
+    // 닫힌 채널 교체 (삭제된 세그먼트는 다시 열지 않음)
+    private FileChannel reopen(FileChannel stale) throws IOException {
+        if (deleted) {
+            throw new ClosedChannelException();
+        }
+        reopenLock.lock();
+        try {
+            if (channel == stale && !stale.isOpen()) {
+                channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            return channel;
+        } finally {
+            reopenLock.unlock();
+        }
+    }
+
+    private static void readFully(FileChannel ch, ByteBuffer dst, long position) throws IOException {
+        long pos = position;
+        while (dst.hasRemaining()) {
+            int n = ch.read(dst, pos);
+            if (n < 0) {
+                throw new java.io.EOFException("세그먼트 끝을 넘어 읽으려 했습니다: " + position);
+            }
+            pos += n;
+        }
+    }
+
+    /**
+     * PUT 레코드 인코딩
+     */
+    static ByteBuffer[] encodePut(String key, byte[] digest, byte[] data, long timestamp) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        CRC32C crc = new CRC32C();
+        crc.update(keyBytes);
+        crc.update(digest);
+        crc.update(data);
+        ByteBuffer header = header(FLAG_PUT, keyBytes.length, data.length, timestamp, (int) crc.getValue());
+        return new ByteBuffer[] { header, ByteBuffer.wrap(keyBytes), ByteBuffer.wrap(digest), ByteBuffer.wrap(data) };
+    }
+
+    /**
+     * 삭제 표시(TOMBSTONE) 레코드 인코딩
+     */
+    static ByteBuffer[] encodeTombstone(String key, long timestamp) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        CRC32C crc = new CRC32C();
+        crc.update(keyBytes);
+        ByteBuffer header = header(FLAG_TOMBSTONE, keyBytes.length, 0, timestamp, (int) crc.getValue());
+        return new ByteBuffer[] { header, ByteBuffer.wrap(keyBytes) };
+    }
+
+    private static ByteBuffer header(byte flag, int keyLength, int dataLength, long timestamp, int crc) {
+        if (keyLength > Short.MAX_VALUE) {
+            throw new StorageException("파일 키가 너무 깁니다");
+        }
+        return ByteBuffer.allocate(RECORD_HEADER_SIZE)
+                .putInt(RECORD_MAGIC)
+                .put(flag)
+                .putShort((short) keyLength)
+                .putInt(dataLength)
+                .putLong(timestamp)
+                .putInt(crc)
+                .flip();
+    }
+
+    static int recordSize(byte flag, int keyLength, int dataLength) {
+        return RECORD_HEADER_SIZE + keyLength + (flag == FLAG_PUT ? DIGEST_SIZE + dataLength : 0);
+    }
+
+    /**
+     * 세그먼트를 처음부터 순차 스캔하여 레코드를 전달합니다.
+     * 잘린 레코드나 손상된 레코드를 만나면 그 위치에서 멈추고 이후 바이트를 잘라냅니다.
+     *
+     * @param verifyCrc 데이터까지 읽어 CRC를 검증할지 여부
+     * @param visitor   레코드 처리기
+     * @return 잘라낸 바이트 수 (정상이면 0)
+     */
+    long scan(boolean verifyCrc, Consumer<PackRecord> visitor) throws IOException {
+        long fileSize = channel.size();
+        long pos = SEGMENT_HEADER_SIZE;
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        while (pos + RECORD_HEADER_SIZE <= fileSize) {
+            header.clear();
+            readFully(channel, header, pos);
+            header.flip();
+            if (header.getInt() != RECORD_MAGIC) {
+                break;
+            }
+            byte flag = header.get();
+            int keyLength = header.getShort();
+            int dataLength = header.getInt();
+            long timestamp = header.getLong();
+            int storedCrc = header.getInt();
+            if ((flag != FLAG_PUT && flag != FLAG_TOMBSTONE) || keyLength <= 0 || dataLength < 0) {
+                break;
+            }
+            int recordSize = recordSize(flag, keyLength, dataLength);
+            if (pos + recordSize > fileSize) {
+                break;
+            }
+            int metaLength = keyLength + (flag == FLAG_PUT ? DIGEST_SIZE : 0);
+            ByteBuffer meta = ByteBuffer.allocate(metaLength);
+            readFully(channel, meta, pos + RECORD_HEADER_SIZE);
+            byte[] metaBytes = meta.array();
+            long dataOffset = pos + RECORD_HEADER_SIZE + metaLength;
+            if (verifyCrc && !crcMatches(metaBytes, dataOffset, dataLength, storedCrc)) {
+                break;
+            }
+            String key = new String(metaBytes, 0, keyLength, StandardCharsets.UTF_8);
+            byte[] digest = null;
+            if (flag == FLAG_PUT) {
+                digest = java.util.Arrays.copyOfRange(metaBytes, keyLength, metaLength);
+            }
+            visitor.accept(new PackRecord(flag, key, pos, recordSize, dataOffset, dataLength, timestamp, digest));
+            pos += recordSize;
+        }
+        size.set(pos);
+        long truncated = fileSize - pos;
+        if (truncated > 0) {
+            channel.truncate(pos);
+            channel.force(true);
+        }
+        return truncated;
+    }
+
+    private boolean crcMatches(byte[] meta, long dataOffset, int dataLength, int expected) throws IOException {
+        CRC32C crc = new CRC32C();
+        crc.update(meta);
+        ByteBuffer buf = ByteBuffer.allocate(Math.min(Math.max(dataLength, 1), 64 * 1024));
+        long pos = dataOffset;
+        long remaining = dataLength;
+        while (remaining > 0) {
+            buf.clear().limit((int) Math.min(buf.capacity(), remaining));
+            readFully(channel, buf, pos);
+            buf.flip();
+            crc.update(buf);
+            pos += buf.limit();
+            remaining -= buf.limit();
+        }
+        return (int) crc.getValue() == expected;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    void deleteFile() throws IOException {
+        deleted = true;
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * 스캔된 레코드 정보
+     *
+     * @param flag       PUT / TOMBSTONE
+     * @param key        파일 키
+     * @param offset     레코드 시작 위치
+     * @param size       레코드 전체 크기
+     * @param dataOffset 데이터 시작 위치
+     * @param dataLength 데이터 길이
+     * @param timestamp  기록 시각 (epoch millis)
+     * @param digest     SHA-256 다이제스트 (TOMBSTONE이면 null)
+     */
+    record PackRecord(byte flag, String key, long offset, int size, long dataOffset, int dataLength,
+            long timestamp, byte[] digest) {
+    }
+}
@@ -0,0 +1,353 @@
+package com.example.community.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 저장소 노드 간 복제 (app.storage.replication.enabled=true, provider=local)
+ * 여러 인스턴스가 각자 디스크에 파일을 저장할 때, 어느 노드에서든 같은 파일을 제공할 수 있게 합니다.
+ *
+ * - 저장: 새 파일을 백그라운드에서 모든 피어에 PUT으로 전송 (실패 시 재시도 없이 pull-on-miss로 보완)
+ * - 조회: 로컬에 없으면 피어에서 GET으로 가져와 로컬에 채움 (LocalStorageService의 ReplicaSource)
+ *   동시 조회는 fetch-concurrency개까지만 진행하고(fetch-timeout 동안 대기), 모든 피어에 없던 키는 miss-ttl 동안 다시 묻지 않습니다.
+ * - 삭제: 피어에 DELETE 전파, 실패하면 delete-retry-delay부터 두 배씩 늘려 delete-retries번까지 재시도
+ *   (그래도 남은 파일은 각 노드의 고아 이미지 수집기가 정리)
+ *   삭제된 키는 tombstone-ttl 동안 피어에서 가져오지 않습니다. (삭제 전파가 늦은 피어에서 되살아나지 않도록)
+ *
+ * 노드 간 통신은 평문 HTTP이며, 공유 토큰(X-Replication-Token)으로 요청을 인증합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${app.storage.replication.enabled:false} and '${app.storage.provider:local}' == 'local'")
+public class PeerReplicator {
+
+    public static final String BLOB_PATH = "/internal/replication/blobs";
+    public static final String TOKEN_HEADER = "X-Replication-Token";
+
+    private final LocalStorageService localStorage;
+    private final MeterRegistry meterRegistry;
+    private final List<String> peers;
+    private final byte[] token;
+    private final Duration requestTimeout;
+    private final Duration fetchTimeout;
+    private final HttpClient httpClient;
+    private final ThreadPoolExecutor pushExecutor;
+    private final ScheduledThreadPoolExecutor retryScheduler;
+    private final Semaphore fetchPermits;
+
+    // 모든 피어에 없던 키 / 삭제된 키 → 만료 시각(nanoTime)
+    private final Map<String, Long> recentMisses = new ConcurrentHashMap<>();
+    private final Map<String, Long> tombstones = new ConcurrentHashMap<>();
+    private final long missTtlNanos;
+    private final long tombstoneTtlNanos;
+    private final int maxRememberedKeys;
+    private final int deleteRetries;
+    private final Duration deleteRetryDelay;
+
+    public PeerReplicator(LocalStorageService localStorage, MeterRegistry meterRegistry,
+            @Value("${app.storage.replication.peers:}") List<String> peers,
+            @Value("${app.storage.replication.token:}") String token,
+            @Value("${app.storage.replication.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${app.storage.replication.request-timeout:5s}") Duration requestTimeout,
+            @Value("${app.storage.replication.push-threads:2}") int pushThreads,
+            @Value("${app.storage.replication.push-queue-capacity:1000}") int pushQueueCapacity,
+            @Value("${app.storage.replication.fetch-timeout:1s}") Duration fetchTimeout,
+            @Value("${app.storage.replication.fetch-concurrency:8}") int fetchConcurrency,
+            @Value("${app.storage.replication.miss-ttl:10s}") Duration missTtl,
+            @Value("${app.storage.replication.tombstone-ttl:10m}") Duration tombstoneTtl,
+            @Value("${app.storage.replication.max-remembered-keys:100000}") int maxRememberedKeys,
+            @Value("${app.storage.replication.delete-retries:3}") int deleteRetries,
+            @Value("${app.storage.replication.delete-retry-delay:1s}") Duration deleteRetryDelay) {
+        if (token == null || token.isBlank()) {
+            throw new StorageException("복제 토큰이 설정되지 않았습니다. app.storage.replication.token 을 설정하세요.");
+        }
+        this.localStorage = localStorage;
+        this.meterRegistry = meterRegistry;
+        this.peers = peers.stream()
+                .map(String::trim)
+                .filter(p -> !p.isEmpty())
+                .map(p -> p.replaceAll("/+$", ""))
+                .toList();
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.requestTimeout = requestTimeout;
+        this.fetchTimeout = fetchTimeout;
+        this.fetchPermits = new Semaphore(Math.max(1, fetchConcurrency));
+        this.missTtlNanos = missTtl.toNanos();
+        this.tombstoneTtlNanos = tombstoneTtl.toNanos();
+        this.maxRememberedKeys = maxRememberedKeys;
+        this.deleteRetries = deleteRetries;
+        this.deleteRetryDelay = deleteRetryDelay;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+        // 전송 대기열이 가득 차면 버림 (요청 스레드를 막지 않음, 피어는 pull-on-miss로 보완)
+        this.pushExecutor = new ThreadPoolExecutor(pushThreads, pushThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(pushQueueCapacity), r -> {
+                    Thread t = new Thread(r, "storage-replication");
+                    t.setDaemon(true);
+                    return t;
+                });
+        // 삭제 전파 재시도 예약 (실제 전송은 전송 대기열에서)
+        this.retryScheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "storage-replication-retry");
+            t.setDaemon(true);
+            return t;
+        });
+        this.retryScheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    @PostConstruct
+    public void register() {
+        localStorage.setReplicaSource(this::fetch);
+        log.info("저장소 노드 간 복제 활성화: 피어={}", peers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        localStorage.setReplicaSource(null);
+        retryScheduler.shutdownNow();
+        pushExecutor.shutdown();
+        try {
+            if (!pushExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("복제 전송 대기열을 모두 처리하지 못하고 종료합니다: 남은 작업={}", pushExecutor.getQueue().size());
+                pushExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pushExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 요청의 복제 토큰 검증 (상수 시간 비교)
+     */
+    public boolean isAuthorized(String presentedToken) {
+        return presentedToken != null
+                && MessageDigest.isEqual(token, presentedToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @EventListener
+    public void onStoredObjectCreated(StoredObjectCreatedEvent event) {
+        tombstones.remove(event.key());
+        recentMisses.remove(event.key());
+        for (String peer : peers) {
+            submit(() -> push(peer, event.key()));
+        }
+    }
+
+    @EventListener
+    public void onStoredObjectDeleted(StoredObjectDeletedEvent event) {
+        // 다른 노드의 삭제를 복제한 경우도 기록 (아직 삭제가 전파되지 않은 피어에서 가져오지 않도록)
+        remember(tombstones, event.key(), tombstoneTtlNanos);
+        if (event.replicated()) {
+            return;
+        }
+        for (String peer : peers) {
+            submit(() -> propagateDelete(peer, event.key(), 0));
+        }
+    }
+
+    /**
+     * 피어에서 파일 가져오기 (순서대로 시도, 첫 번째로 찾은 노드의 내용 반환)
+     * 최근 삭제된 키와 최근 모든 피어에 없던 키는 묻지 않으며, 동시 조회 한도를 넘으면 fetch-timeout까지만 기다립니다.
+     *
+     * @param key 파일 키
+     * @return 파일 내용 (어느 피어에도 없으면 Optional.empty())
+     */
+    public Optional<byte[]> fetch(String key) {
+        if (isRemembered(tombstones, key)) {
+            count("fetch", "deleted");
+            return Optional.empty();
+        }
+        if (isRemembered(recentMisses, key)) {
+            count("fetch", "cached-miss");
+            return Optional.empty();
+        }
+        try {
+            if (!fetchPermits.tryAcquire(fetchTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                count("fetch", "rejected");
+                log.warn("피어 파일 조회 동시 한도 초과: 키={}", key);
+                return Optional.empty();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+        try {
+            return fetchFromPeers(key);
+        } finally {
+            fetchPermits.release();
+        }
+    }
+
+    private Optional<byte[]> fetchFromPeers(String key) {
+        // 모든 피어가 404로 응답한 경우만 없음으로 기억 (오류/시간 초과는 다음 조회에서 다시 시도)
+        boolean allAnswered = true;
+        for (String peer : peers) {
+            try {
+                HttpResponse<byte[]> response = httpClient.send(request(peer, key, fetchTimeout).GET().build(),
+                        HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() == 200) {
+                    count("fetch", "hit");
+                    log.debug("피어에서 파일 가져옴: 피어={}, 키={}, 크기={}B", peer, key, response.body().length);
+                    return Optional.of(response.body());
+                }
+                if (response.statusCode() != 404) {
+                    allAnswered = false;
+                    log.warn("피어 파일 조회 실패: 피어={}, 키={}, 상태={}", peer, key, response.statusCode());
+                }
+            } catch (IOException e) {
+                allAnswered = false;
+                log.warn("피어 파일 조회 실패: 피어={}, 키={}, 오류={}", peer, key, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+        }
+        if (allAnswered) {
+            remember(recentMisses, key, missTtlNanos);
+        }
+        count("fetch", "miss");
+        return Optional.empty();
+    }
+
+    private void push(String peer, String key) {
+        Optional<Resource> resource = localStorage.loadLocal(key);
+        if (resource.isEmpty()) {
+            // 전송 전에 삭제된 파일
+            return;
+        }
+        try {
+            byte[] data;
+            try (InputStream in = resource.get().getInputStream()) {
+                data = in.readAllBytes();
+            }
+            HttpResponse<Void> response = httpClient.send(request(peer, key)
+                            .header("Content-Type", "application/octet-stream")
+                            .PUT(HttpRequest.BodyPublishers.ofByteArray(data))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 == 2) {
+                count("push", "success");
+                log.debug("피어로 파일 전송: 피어={}, 키={}", peer, key);
+            } else {
+                count("push", "failure");
+                log.warn("피어로 파일 전송 실패: 피어={}, 키={}, 상태={}", peer, key, response.statusCode());
+            }
+        } catch (IOException e) {
+            count("push", "failure");
+            log.warn("피어로 파일 전송 실패: 피어={}, 키={}, 오류={}", peer, key, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void propagateDelete(String peer, String key, int attempt) {
+        try {
+            HttpResponse<Void> response = httpClient.send(request(peer, key).DELETE().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 == 2) {
+                count("delete", "success");
+                return;
+            }
+            log.warn("피어 파일 삭제 전파 실패: 피어={}, 키={}, 상태={}, 시도={}", peer, key, response.statusCode(), attempt + 1);
+        } catch (IOException e) {
+            log.warn("피어 파일 삭제 전파 실패: 피어={}, 키={}, 오류={}, 시도={}", peer, key, e.getMessage(), attempt + 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (attempt >= deleteRetries) {
+            count("delete", "failure");
+            return;
+        }
+        count("delete", "retry");
+        long delayMillis = deleteRetryDelay.toMillis() << Math.min(attempt, 10);
+        try {
+            retryScheduler.schedule(() -> submit(() -> propagateDelete(peer, key, attempt + 1)),
+                    delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            count("delete", "failure");
+        }
+    }
+
+    private HttpRequest.Builder request(String peer, String key) {
+        return request(peer, key, requestTimeout);
+    }
+
+    private HttpRequest.Builder request(String peer, String key, Duration timeout) {
+        return HttpRequest.newBuilder(URI.create(peer + BLOB_PATH + "?key=" + URLEncoder.encode(key, StandardCharsets.UTF_8)))
+                .timeout(timeout)
+                .header(TOKEN_HEADER, new String(token, StandardCharsets.UTF_8));
+    }
+
+    private static boolean isRemembered(Map<String, Long> keys, String key) {
+        Long expiresAt = keys.get(key);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiresAt < 0) {
+            return true;
+        }
+        keys.remove(key, expiresAt);
+        return false;
+    }
+
+    // 만료 시각과 함께 기록 (가득 차면 만료된 항목을 정리하고, 그래도 가득 차면 기록하지 않음)
+    private void remember(Map<String, Long> keys, String key, long ttlNanos) {
+        if (ttlNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (keys.size() >= maxRememberedKeys) {
+            keys.values().removeIf(expiresAt -> now - expiresAt >= 0);
+            if (keys.size() >= maxRememberedKeys) {
+                return;
+            }
+        }
+        keys.put(key, now + ttlNanos);
+    }
+
+    private void submit(Runnable task) {
+        try {
+            pushExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            count("queue", "rejected");
+            log.warn("복제 전송 대기열이 가득 차 작업을 버립니다 (피어는 조회 시 가져옴)");
+        }
+    }
+
+    private void count(String operation, String result) {
+        meterRegistry.counter("storage.replication", "operation", operation, "result", result).increment();
+    }
+}
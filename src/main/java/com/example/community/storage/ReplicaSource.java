@@ -0,0 +1,19 @@
+package com.example.community.storage;
+
+import java.util.Optional;
+
+/**
+ * 로컬에 없는 파일을 다른 노드에서 가져오는 공급자
+ * LocalStorageService는 조회 시 파일이 없으면 이 공급자로 가져와 로컬에 채웁니다.
+ */
+@FunctionalInterface
+public interface ReplicaSource {
+
+    /**
+     * 다른 노드에서 파일 내용 조회
+     *
+     * @param key 파일 키
+     * @return 파일 내용 (어느 노드에도 없으면 Optional.empty())
+     */
+    Optional<byte[]> fetch(String key);
+}
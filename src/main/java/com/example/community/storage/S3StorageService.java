@@ -0,0 +1,502 @@
+package com.example.community.storage;
+
+import com.example.community.common.FilePolicy;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * S3 호환 객체 저장소 (app.storage.provider=s3)
+ * AWS S3 외에도 endpoint 설정으로 MinIO 등 S3 호환 저장소를 사용할 수 있습니다.
+ *
+ * - 연결: Apache HTTP 클라이언트 커넥션 풀을 재사용합니다. (max-connections)
+ * - 쓰기: multipart-threshold 이상인 파일은 멀티파트 업로드로 나누어 전송하고, 실패 시 업로드를 중단(abort)합니다.
+ * - 직접 업로드: 서명된 PUT URL을 발급하여 클라이언트가 저장소로 바로 업로드합니다. (DirectUploadStorage)
+ * - 메타데이터: HEAD/ListObjectsV2 응답을 사용하며, digest에는 ETag를 기록합니다.
+ */
+@Service
+@ConditionalOnProperty(name = "app.storage.provider", havingValue = "s3")
+public class S3StorageService implements Storage, DirectUploadStorage, ApplicationEventPublisherAware {
+    private static final Logger log = LoggerFactory.getLogger(S3StorageService.class);
+
+    @Value("${app.storage.s3.bucket:}")
+    private String bucket;
+    @Value("${app.storage.s3.region:ap-northeast-2}")
+    private String region;
+    // S3 호환 저장소 주소 (비어 있으면 AWS 기본 엔드포인트)
+    @Value("${app.storage.s3.endpoint:}")
+    private String endpoint;
+    // 경로 방식 주소 사용 여부 (MinIO 등은 true)
+    @Value("${app.storage.s3.path-style:false}")
+    private boolean pathStyle;
+    // 정적 자격 증명 (비어 있으면 기본 자격 증명 체인: 환경 변수, 인스턴스 프로파일 등)
+    @Value("${app.storage.s3.access-key:}")
+    private String accessKey;
+    @Value("${app.storage.s3.secret-key:}")
+    private String secretKey;
+    // 파일 URL 기준 주소 (애플리케이션 정적 리소스 경로 또는 CDN)
+    @Value("${app.public-base-url}")
+    private String publicBaseUrl;
+    // 커넥션 풀 크기 / 타임아웃
+    @Value("${app.storage.s3.max-connections:50}")
+    private int maxConnections;
+    @Value("${app.storage.s3.connection-timeout:2s}")
+    private Duration connectionTimeout;
+    @Value("${app.storage.s3.socket-timeout:30s}")
+    private Duration socketTimeout;
+    // 이 크기 이상이면 멀티파트 업로드 (기본 8MB)
+    @Value("${app.storage.s3.multipart-threshold:8388608}")
+    private long multipartThreshold;
+    // 멀티파트 파트 크기 (S3 최소 5MB, 마지막 파트 제외)
+    @Value("${app.storage.s3.part-size:5242880}")
+    private int partSize;
+    // 요청 본문 aws-chunked 인코딩 사용 여부 (지원하지 않는 호환 저장소에서는 false)
+    @Value("${app.storage.s3.chunked-encoding:true}")
+    private boolean chunkedEncoding;
+    // 서명된 업로드 URL 기본 유효 시간
+    @Value("${app.storage.s3.presign-ttl:10m}")
+    private Duration presignTtl;
+
+    private SdkHttpClient httpClient;
+    private S3Client s3;
+    private S3Presigner presigner;
+
+    // 삭제 이벤트 발행 (이미지 캐시 무효화 등). 직접 생성한 경우(null)에는 발행하지 않음
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.eventPublisher = applicationEventPublisher;
+    }
+
+    private void publishDeleted(String key) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new StoredObjectDeletedEvent(key));
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        if (bucket == null || bucket.isBlank()) {
+            throw new StorageException("S3 버킷이 설정되지 않았습니다. app.storage.s3.bucket 을 설정하세요.");
+        }
+        if (publicBaseUrl == null || publicBaseUrl.trim().isEmpty()) {
+            throw new StorageException("publicBaseUrl 설정이 비어 있습니다. app.public-base-url 을 설정하세요.");
+        }
+        try {
+            S3Configuration serviceConfig = S3Configuration.builder()
+                    .pathStyleAccessEnabled(pathStyle)
+                    .chunkedEncodingEnabled(chunkedEncoding)
+                    .build();
+            AwsCredentialsProvider credentials = accessKey == null || accessKey.isBlank()
+                    ? DefaultCredentialsProvider.create()
+                    : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+
+            httpClient = ApacheHttpClient.builder()
+                    .maxConnections(maxConnections)
+                    .connectionTimeout(connectionTimeout)
+                    .socketTimeout(socketTimeout)
+                    .build();
+            S3ClientBuilder clientBuilder = S3Client.builder()
+                    .httpClient(httpClient)
+                    .region(Region.of(region))
+                    .credentialsProvider(credentials)
+                    .serviceConfiguration(serviceConfig);
+            S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                    .region(Region.of(region))
+                    .credentialsProvider(credentials)
+                    .serviceConfiguration(serviceConfig);
+            if (endpoint != null && !endpoint.isBlank()) {
+                clientBuilder.endpointOverride(URI.create(endpoint));
+                presignerBuilder.endpointOverride(URI.create(endpoint));
+            }
+            s3 = clientBuilder.build();
+            presigner = presignerBuilder.build();
+            log.info("S3 저장소 설정 완료: 버킷={}, 리전={}, 엔드포인트={}, 최대연결={}",
+                    bucket, region, endpoint == null || endpoint.isBlank() ? "(기본)" : endpoint, maxConnections);
+        } catch (Exception e) {
+            String message = "S3 저장소를 초기화할 수 없습니다: " + e.getMessage();
+            log.error(message, e);
+            throw new StorageException(message, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (presigner != null) {
+            presigner.close();
+        }
+        if (s3 != null) {
+            s3.close();
+        }
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+
+    @Override
+    public StoredFile store(MultipartFile file, String directory) throws StorageException {
+        // 암호학적으로 안전한 랜덤 파일명 생성
+        byte[] randomBytes = new byte[16];
+        new SecureRandom().nextBytes(randomBytes);
+        String randomId = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+        String ext = extensionOf(file.getOriginalFilename());
+        String key = (directory != null && !directory.isBlank() ? directory + "/" : "")
+                + randomId + (ext.isEmpty() ? "" : "." + ext);
+        return storeWithKey(file, key);
+    }
+
+    @Override
+    public StoredFile storeWithKey(MultipartFile file, String key) throws StorageException {
+        try {
+            if (!FilePolicy.isAllowed(file, FilePolicy.ALLOWED_IMAGE_TYPES)) {
+                throw new StorageException("허용되지 않은 파일 유형입니다.");
+            }
+            assertSafeKey(key);
+            if (FilePolicy.isFileSizeExceeded(file.getSize())) {
+                throw new StorageException(String.format(FilePolicy.ERR_FILE_TOO_LARGE, FilePolicy.MAX_FILE_SIZE_BYTES));
+            }
+            String contentType = file.getContentType() == null ? FilePolicy.contentTypeOf(key) : file.getContentType();
+            try (InputStream in = file.getInputStream()) {
+                if (file.getSize() >= multipartThreshold) {
+                    putMultipart(key, contentType, in, file.getSize());
+                } else {
+                    s3.putObject(PutObjectRequest.builder()
+                                    .bucket(bucket)
+                                    .key(key)
+                                    .contentType(contentType)
+                                    .contentLength(file.getSize())
+                                    .build(),
+                            RequestBody.fromInputStream(in, file.getSize()));
+                }
+            }
+            log.info("파일 저장 완료: {}", key);
+            String originalName = file.getOriginalFilename() == null ? "file" : file.getOriginalFilename();
+            return new StoredFile(key, originalName, contentType, file.getSize(), url(key));
+        } catch (StorageException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("파일 저장 중 오류 발생: {}", e.getMessage(), e);
+            throw new StorageException("파일 저장 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    // 멀티파트 업로드 (파트 단위로 읽어 전송, 실패 시 업로드 중단하여 미완성 파트 정리)
+    private void putMultipart(String key, String contentType, InputStream in, long size) throws IOException {
+        String uploadId = s3.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[partSize];
+            long remaining = size;
+            int partNumber = 1;
+            while (remaining > 0) {
+                int n = in.readNBytes(buffer, 0, (int) Math.min(partSize, remaining));
+                if (n <= 0) {
+                    throw new IOException("업로드 파일이 예상보다 짧습니다: " + key);
+                }
+                String etag = s3.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) n)
+                                .build(),
+                        RequestBody.fromBytes(n == buffer.length ? buffer : Arrays.copyOf(buffer, n)))
+                        .eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(etag).build());
+                remaining -= n;
+                partNumber++;
+            }
+            s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("멀티파트 업로드 완료: 키={}, 파트 수={}", key, parts.size());
+        } catch (IOException | RuntimeException e) {
+            try {
+                s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build());
+            } catch (SdkException abortError) {
+                log.warn("멀티파트 업로드 중단 실패: 키={}, 업로드ID={}, 오류={}", key, uploadId, abortError.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(String key) throws StorageException {
+        assertSafeKey(key);
+        try {
+            // S3 DELETE는 존재하지 않는 키에도 성공을 반환 (멱등)
+            s3.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+            log.info("파일 삭제 완료: {}", key);
+        } catch (SdkException e) {
+            log.error("파일 삭제 중 오류: {}", e.getMessage(), e);
+            throw new StorageException("파일 삭제 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+        publishDeleted(key);
+    }
+
+    @Override
+    public String url(String key) throws StorageException {
+        assertSafeKey(key);
+        return publicBaseUrl.replaceAll("/+$", "") + "/" + key;
+    }
+
+    @Override
+    public boolean exists(String key) throws StorageException {
+        return head(key).isPresent();
+    }
+
+    @Override
+    public Map<String, FileMeta> statAll(Collection<String> keys) throws StorageException {
+        Map<String, FileMeta> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            head(key).ifPresent(h -> result.put(key, new FileMeta(key, h.contentLength(),
+                    h.contentType() == null ? FilePolicy.contentTypeOf(key) : h.contentType(),
+                    h.lastModified(), stripQuotes(h.eTag()))));
+        }
+        return result;
+    }
+
+    @Override
+    public List<FileMeta> listKeys(String prefix, String startAfter, int limit) throws StorageException {
+        assertSafeKey(prefix);
+        String from = prefix.endsWith("/") ? prefix : prefix + "/";
+        try {
+            ListObjectsV2Request.Builder request = ListObjectsV2Request.builder()
+                    .bucket(bucket)
+                    .prefix(from)
+                    .maxKeys(limit);
+            if (startAfter != null && startAfter.compareTo(from) >= 0) {
+                request.startAfter(startAfter);
+            }
+            ListObjectsV2Response response = s3.listObjectsV2(request.build());
+            List<FileMeta> result = new ArrayList<>(response.contents().size());
+            for (S3Object o : response.contents()) {
+                result.add(new FileMeta(o.key(), o.size(), FilePolicy.contentTypeOf(o.key()),
+                        o.lastModified(), stripQuotes(o.eTag())));
+            }
+            return result;
+        } catch (SdkException e) {
+            throw new StorageException("파일 목록 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<Resource> load(String key) throws StorageException {
+        return head(key).map(h -> new S3ObjectResource(key, h.contentLength(), h.lastModified()));
+    }
+
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, long contentLength, Duration ttl)
+            throws StorageException {
+        assertSafeKey(key);
+        Duration duration = ttl == null ? presignTtl : ttl;
+        try {
+            PresignedPutObjectRequest presigned = presigner.presignPutObject(PutObjectPresignRequest.builder()
+                    .signatureDuration(duration)
+                    .putObjectRequest(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .contentType(contentType)
+                            .contentLength(contentLength)
+                            .build())
+                    .build());
+            // 서명에 포함된 헤더 중 클라이언트가 직접 보내야 하는 값만 전달 (host는 HTTP 클라이언트가 설정)
+            Map<String, String> headers = new LinkedHashMap<>();
+            presigned.signedHeaders().forEach((name, values) -> {
+                if (!"host".equalsIgnoreCase(name) && !values.isEmpty()) {
+                    headers.put(name, String.join(",", values));
+                }
+            });
+            return new PresignedUpload(key, presigned.url().toString(), presigned.httpRequest().method().name(),
+                    headers, presigned.expiration());
+        } catch (SdkException e) {
+            throw new StorageException("업로드 URL 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public byte[] readHead(String key, int length) throws StorageException {
+        assertSafeKey(key);
+        try {
+            return s3.getObjectAsBytes(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .range("bytes=0-" + (length - 1))
+                    .build()).asByteArray();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new StorageException("파일이 존재하지 않습니다: " + key, e);
+            }
+            throw new StorageException("파일 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        } catch (SdkException e) {
+            throw new StorageException("파일 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    // HEAD 요청 (존재하지 않으면 Optional.empty())
+    private Optional<HeadObjectResponse> head(String key) {
+        assertSafeKey(key);
+        try {
+            return Optional.of(s3.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build()));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new StorageException("파일 메타데이터 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        } catch (SdkException e) {
+            throw new StorageException("파일 메타데이터 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private void assertSafeKey(String key) {
+        if (key == null) {
+            log.warn("파일 키가 null입니다");
+            throw new StorageException("파일 키가 null입니다");
+        }
+        if (!FilePolicy.isPathSafe(key)) {
+            log.warn("잘못된 경로 접근 시도: {}", key);
+            throw new StorageException("잘못된 경로입니다: " + key);
+        }
+    }
+
+    private static String stripQuotes(String etag) {
+        if (etag == null) {
+            return null;
+        }
+        return etag.length() >= 2 && etag.startsWith("\"") && etag.endsWith("\"")
+                ? etag.substring(1, etag.length() - 1)
+                : etag;
+    }
+
+    private String extensionOf(String name) {
+        if (name == null) {
+            return "";
+        }
+        int i = name.lastIndexOf('.');
+        if (i < 0 || i == name.length() - 1) {
+            return "";
+        }
+        String ext = name.substring(i + 1).toLowerCase();
+        return ext.matches("[a-z0-9]{1,10}") ? ext : "";
+    }
+
+    /**
+     * S3 객체를 정적 리소스로 노출하기 위한 Resource 구현 (본문은 읽을 때 GET 요청)
+     */
+    private final class S3ObjectResource extends AbstractResource {
+        private final String key;
+        private final long length;
+        private final Instant lastModified;
+
+        private S3ObjectResource(String key, long length, Instant lastModified) {
+            this.key = key;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return length;
+        }
+
+        @Override
+        public long lastModified() {
+            return lastModified == null ? 0L : lastModified.toEpochMilli();
+        }
+
+        @Override
+        public String getFilename() {
+            return key.substring(key.lastIndexOf('/') + 1);
+        }
+
+        @Override
+        public String getDescription() {
+            return "s3 object [" + bucket + "/" + key + "]";
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            try {
+                return s3.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+            } catch (S3Exception e) {
+                if (e.statusCode() == 404) {
+                    throw new java.io.FileNotFoundException("파일이 삭제되었습니다: " + key);
+                }
+                throw new IOException(e.getMessage(), e);
+            } catch (SdkException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package com.example.community.storage;
 
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * 파일 저장소 인터페이스
  * 파일 키는 '{directory}/{memberId}/{uuid.ext}' 형식의 전체 경로를 사용합니다.
@@ -51,6 +58,48 @@ public interface Storage {
      */
     boolean exists(String key) throws StorageException;
 
+    /**
+     * 파일 메타데이터 일괄 조회
+     * 게시글 생성/수정 시 첨부 이미지 키 전체를 한 번에 확인하기 위해 사용합니다.
+     * 
+     * @param keys 조회할 파일 키 목록
+     * @return 키 → 메타데이터 맵 (존재하지 않는 키는 포함되지 않음)
+     * @throws StorageException 경로가 안전하지 않거나 처리 중 오류 발생 시
+     */
+    Map<String, FileMeta> statAll(Collection<String> keys) throws StorageException;
+
+    /**
+     * 단일 파일 메타데이터 조회
+     * 
+     * @param key 파일 키 (전체 경로를 포함한 고유 식별자)
+     * @return 메타데이터 (존재하지 않으면 Optional.empty())
+     * @throws StorageException 경로가 안전하지 않거나 처리 중 오류 발생 시
+     */
+    default Optional<FileMeta> stat(String key) throws StorageException {
+        return Optional.ofNullable(statAll(List.of(key)).get(key));
+    }
+
+    /**
+     * 접두사 아래의 파일 목록을 키 순서대로 조회 (청크 단위 순회용)
+     * 고아 파일 수집기처럼 전체 저장소를 나누어 훑는 작업에서 사용합니다.
+     * 
+     * @param prefix     조회할 디렉토리 접두사 (예: 'posts')
+     * @param startAfter 이 키 이후부터 조회 (null이면 처음부터)
+     * @param limit      최대 조회 건수
+     * @return 키 오름차순으로 정렬된 메타데이터 목록 (limit 미만이면 끝까지 조회한 것)
+     * @throws StorageException 경로가 안전하지 않거나 처리 중 오류 발생 시
+     */
+    List<FileMeta> listKeys(String prefix, String startAfter, int limit) throws StorageException;
+
+    /**
+     * 파일 내용을 Resource로 조회 (정적 리소스 서빙용)
+     * 
+     * @param key 파일 키 (전체 경로를 포함한 고유 식별자)
+     * @return 파일 Resource (존재하지 않으면 Optional.empty())
+     * @throws StorageException 경로가 안전하지 않거나 처리 중 오류 발생 시
+     */
+    Optional<Resource> load(String key) throws StorageException;
+
     /**
      * 저장된 파일 정보
      * 
@@ -62,4 +111,16 @@ public interface Storage {
      */
     record StoredFile(String key, String originalName, String contentType, long size, String url) {
     }
+
+    /**
+     * 저장소 메타데이터 (인덱스 항목)
+     * 
+     * @param key          파일의 고유 식별자
+     * @param size         파일 크기 (바이트)
+     * @param contentType  파일 MIME 타입
+     * @param lastModified 최종 수정 시각
+     * @param digest       SHA-256 다이제스트(Base64, 알 수 없으면 null)
+     */
+    record FileMeta(String key, long size, String contentType, Instant lastModified, String digest) {
+    }
 }
@@ -0,0 +1,74 @@
+package com.example.community.storage;
+
+import com.example.community.storage.Storage.FileMeta;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 저장소 메타데이터 인메모리 인덱스
+ * 키 → 크기, Content-Type, 수정 시각, 다이제스트를 보관하여
+ * 존재 여부/크기 조회 시 파일시스템 stat 호출을 생략합니다.
+ * 저장 시 등록, 삭제 시 제거되며 기동 시 디렉토리 스캔으로 재구성됩니다.
+ */
+public class StorageMetadataIndex {
+
+    private final Map<String, FileMeta> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 메타데이터 조회
+     *
+     * @param key 파일 키
+     * @return 메타데이터 (없으면 null)
+     */
+    public FileMeta get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 키 등록 여부
+     */
+    public boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * 메타데이터 등록 (동일 키는 덮어씀)
+     */
+    public void put(FileMeta meta) {
+        entries.put(meta.key(), meta);
+    }
+
+    /**
+     * 메타데이터 제거
+     *
+     * @return 제거된 메타데이터 (없으면 null)
+     */
+    public FileMeta remove(String key) {
+        return entries.remove(key);
+    }
+
+    /**
+     * 스캔 결과로 인덱스 전체 교체 (기동 시 재구성용)
+     *
+     * @param scanned 디렉토리 스캔 결과
+     */
+    public void replaceAll(Map<String, FileMeta> scanned) {
+        entries.keySet().retainAll(scanned.keySet());
+        entries.putAll(scanned);
+    }
+
+    /**
+     * 등록된 항목 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 등록된 전체 바이트 수
+     */
+    public long totalBytes() {
+        return entries.values().stream().mapToLong(FileMeta::size).sum();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.community.storage;
+
+/**
+ * 저장소에 새 파일이 저장되었을 때 발행되는 이벤트
+ * 노드 간 복제(PeerReplicator)에서 다른 노드로 파일을 전송하는 데 사용됩니다.
+ * 다른 노드에서 복제되어 저장된 파일에는 발행되지 않습니다.
+ *
+ * @param key 저장된 파일 키
+ */
+public record StoredObjectCreatedEvent(String key) {
+}
@@ -0,0 +1,15 @@
+package com.example.community.storage;
+
+/**
+ * 저장소에서 파일이 삭제되었을 때 발행되는 이벤트
+ * 이미지 바이트 캐시 등 파일 내용을 보관하는 구성 요소의 무효화에 사용됩니다.
+ *
+ * @param key        삭제된 파일 키
+ * @param replicated 다른 노드의 삭제를 복제하여 발생한 삭제 여부 (복제 삭제는 다시 전파하지 않음)
+ */
+public record StoredObjectDeletedEvent(String key, boolean replicated) {
+
+    public StoredObjectDeletedEvent(String key) {
+        this(key, false);
+    }
+}
@@ -2,10 +2,12 @@ package com.example.community.web;
 
 import com.example.community.domain.Comment;
 import com.example.community.repository.dto.CommentProjection;
+import com.example.community.repository.dto.CommentVersion;
 import com.example.community.security.MemberDetails;
 import com.example.community.auth.Actor;
 import com.example.community.auth.ActorMapper;
 import com.example.community.service.CommentService;
+import com.example.community.service.MissingPostCache;
 import com.example.community.web.dto.CommentRes;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -15,6 +17,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -29,6 +33,7 @@ import java.util.Map;
 @Validated
 public class CommentController {
     private final CommentService commentService;
+    private final MissingPostCache missingPosts;
 
     public record CreateReq(
             @NotBlank @Size(max = 1000) String content) {
@@ -55,6 +60,8 @@ public class CommentController {
      * 게시글에 달린 댓글을 최적화된 방식으로 페이징하여 조회
      * - N+1 쿼리 문제가 해결된 API
      * 
+     * - If-None-Match가 현재 ETag(댓글 수, 마지막 댓글 ID, 활성 작성자 댓글 수)와 같으면 댓글을 읽지 않고 304
+     * 
      * @param postId   게시글 ID
      * @param pageable 페이징 정보 (page, size, sort)
      * @return 페이징된 댓글 목록과 페이지 정보
@@ -62,7 +69,8 @@ public class CommentController {
     @GetMapping("/api/posts/{postId}/comments")
     public ResponseEntity<?> getCommentsByPost(
             @PathVariable Long postId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable) {
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         // 페이지 크기 상한 제한 (최대 50개)
         final int MAX_PAGE_SIZE = 50;
         Pageable cappedPageable = pageable.getPageSize() > MAX_PAGE_SIZE
@@ -70,8 +78,18 @@ public class CommentController {
                         pageable.getSort())
                 : pageable;
 
-        Page<CommentProjection> projectionPage = commentService.getProjectionsByPostWithPaging(postId, cappedPageable);
-        return ResponseEntity.ok(Map.of(
+        // 없다고 알려진 게시글은 트랜잭션 시작 전에 404
+        missingPosts.rejectIfKnownMissing(postId);
+        // 목록보다 먼저 조회 (사이에 추가된 댓글은 다음 요청에서 ETag 불일치로 반영)
+        CommentVersion current = commentService.getVersionByPost(postId);
+        String etag = ETags.weak("c" + postId, current.count(), current.lastId(), current.idSum(),
+                current.activeAuthorCount());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(ETags.REVALIDATE).build();
+        }
+        // 게시글 확인은 getVersionByPost에서 마침
+        Page<CommentProjection> projectionPage = commentService.getProjectionsByCheckedPost(postId, cappedPageable);
+        return ResponseEntity.ok().eTag(etag).cacheControl(ETags.REVALIDATE).body(Map.of(
                 "success", true,
                 "content", projectionPage.getContent().stream().map(CommentRes::from).toList(),
                 "pageInfo", Map.of(
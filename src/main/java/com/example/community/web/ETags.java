@@ -0,0 +1,51 @@
+package com.example.community.web;
+
+import org.springframework.http.CacheControl;
+
+/**
+ * 조건부 GET(If-None-Match)용 약한 ETag 생성/비교
+ * 조회수처럼 요청마다 바뀌는 값은 제외하므로 약한 ETag(W/)로만 응답합니다.
+ */
+final class ETags {
+
+    // 클라이언트에 보관하되 매번 다시 확인 (공유 캐시에는 저장하지 않음)
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    /**
+     * 값들을 이어 붙인 약한 ETag
+     */
+    static String weak(Object... parts) {
+        StringBuilder sb = new StringBuilder("W/\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                sb.append('-');
+            }
+            sb.append(parts[i]);
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * If-None-Match 헤더가 ETag와 일치하는지 확인 (약한 비교, 여러 값 및 * 허용)
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaque = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaque(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
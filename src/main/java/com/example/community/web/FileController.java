@@ -2,7 +2,14 @@ package com.example.community.web;
 
 import com.example.community.common.FilePolicy;
 import com.example.community.security.MemberDetails;
+import com.example.community.domain.UploadSession;
+import com.example.community.service.ChunkedUploadService;
 import com.example.community.service.FileService;
+import com.example.community.service.dto.ImageMeta;
+import com.example.community.storage.DirectUploadStorage.PresignedUpload;
+import com.example.community.web.dto.FileWebDtos;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +18,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +33,7 @@ import java.util.Map;
 public class FileController {
 
     private final FileService fileService;
+    private final ChunkedUploadService chunkedUploadService;
 
     /**
      * 게시글용 이미지 업로드 API - 다중 파일 업로드 지원
@@ -82,6 +91,129 @@ public class FileController {
                 "fileKeys", uploaded));
     }
 
+    /**
+     * 게시글 이미지 직접 업로드 URL 발급 API
+     * 클라이언트는 응답의 URL/메서드/헤더 그대로 저장소에 업로드한 뒤 확인 API를 호출합니다.
+     * 직접 업로드를 지원하는 저장소(S3)에서만 사용할 수 있습니다.
+     */
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/posts/images/presign")
+    public ResponseEntity<?> presignPostImageUpload(
+            @Valid @RequestBody FileWebDtos.PresignRequest req,
+            @AuthenticationPrincipal MemberDetails me) {
+        PresignedUpload upload = fileService.presignPostImageUpload(me.getId(), req.contentType(), req.size());
+        log.info("게시글 이미지 업로드 URL 발급: 키={}, 사용자ID={}", upload.key(), me.getId());
+
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "fileKey", upload.key(),
+                "uploadUrl", upload.url(),
+                "method", upload.method(),
+                "headers", upload.headers(),
+                "expiresAt", upload.expiresAt().toString()));
+    }
+
+    /**
+     * 게시글 이미지 직접 업로드 확인 API
+     * 업로드된 객체의 크기와 파일 시그니처를 검증합니다. 검증에 통과한 키만 게시글에 첨부할 수 있습니다.
+     */
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/posts/images/confirm")
+    public ResponseEntity<?> confirmPostImageUpload(
+            @Valid @RequestBody FileWebDtos.ConfirmRequest req,
+            @AuthenticationPrincipal MemberDetails me) {
+        if (!FilePolicy.isPathSafe(req.key())) {
+            throw new IllegalArgumentException(FilePolicy.ERR_PATH_TRAVERSAL);
+        }
+        ImageMeta confirmed = fileService.confirmPostImageUpload(me.getId(), req.key());
+        log.info("게시글 이미지 업로드 확인: 키={}, 사용자ID={}", confirmed.key(), me.getId());
+
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "fileKey", confirmed.key(),
+                "url", confirmed.url()));
+    }
+
+    /**
+     * 이어받기 업로드 세션 생성 API
+     * 불안정한 네트워크에서 파일을 조각으로 나누어 보낼 때 사용합니다.
+     * 생성 → 조각 전송(PUT, offset 지정) → 완료 순서로 호출하며, 연결이 끊기면 세션 조회로 받은 위치를 확인합니다.
+     */
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/posts/images/uploads")
+    public ResponseEntity<?> createUploadSession(
+            @Valid @RequestBody FileWebDtos.CreateUploadSessionRequest req,
+            @AuthenticationPrincipal MemberDetails me) {
+        UploadSession session = chunkedUploadService.create(me.getId(), req.fileName(), req.contentType(), req.size());
+        log.info("이어받기 업로드 세션 생성: 세션={}, 크기={}B, 사용자ID={}", session.getId(), req.size(), me.getId());
+        return ResponseEntity.ok(sessionBody(session));
+    }
+
+    /**
+     * 이어받기 업로드 세션 조회 API (다음 조각의 시작 위치 확인)
+     */
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/posts/images/uploads/{sessionId}")
+    public ResponseEntity<?> getUploadSession(
+            @PathVariable String sessionId,
+            @AuthenticationPrincipal MemberDetails me) {
+        return ResponseEntity.ok(sessionBody(chunkedUploadService.get(me.getId(), sessionId)));
+    }
+
+    /**
+     * 이어받기 업로드 조각 전송 API
+     * 요청 본문은 조각의 원시 바이트(application/octet-stream)이며, offset은 현재 받은 위치 이하여야 합니다.
+     */
+    @PreAuthorize("isAuthenticated()")
+    @PutMapping(value = "/posts/images/uploads/{sessionId}", consumes = "application/octet-stream")
+    public ResponseEntity<?> uploadChunk(
+            @PathVariable String sessionId,
+            @RequestParam("offset") long offset,
+            HttpServletRequest request,
+            @AuthenticationPrincipal MemberDetails me) throws IOException {
+        UploadSession session = chunkedUploadService.appendChunk(me.getId(), sessionId, offset,
+                request.getInputStream(), request.getContentLengthLong());
+        return ResponseEntity.ok(sessionBody(session));
+    }
+
+    /**
+     * 이어받기 업로드 완료 API
+     * 파일 형식을 검증한 뒤 저장하고, 게시글 생성/수정에 사용할 이미지 키를 반환합니다.
+     */
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/posts/images/uploads/{sessionId}/complete")
+    public ResponseEntity<?> completeUploadSession(
+            @PathVariable String sessionId,
+            @AuthenticationPrincipal MemberDetails me) {
+        ImageMeta stored = chunkedUploadService.complete(me.getId(), sessionId);
+        log.info("이어받기 업로드 완료: 세션={}, 키={}, 사용자ID={}", sessionId, stored.key(), me.getId());
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "fileKey", stored.key(),
+                "url", stored.url()));
+    }
+
+    /**
+     * 이어받기 업로드 취소 API
+     */
+    @PreAuthorize("isAuthenticated()")
+    @DeleteMapping("/posts/images/uploads/{sessionId}")
+    public ResponseEntity<?> cancelUploadSession(
+            @PathVariable String sessionId,
+            @AuthenticationPrincipal MemberDetails me) {
+        chunkedUploadService.cancel(me.getId(), sessionId);
+        return ResponseEntity.ok(Map.of("success", true));
+    }
+
+    private Map<String, Object> sessionBody(UploadSession session) {
+        return Map.of(
+                "success", true,
+                "sessionId", session.getId(),
+                "offset", session.getReceivedBytes(),
+                "size", session.getTotalSize(),
+                "expiresAt", session.getExpiresAt().toString());
+    }
+
     /**
      * 게시글 이미지 삭제 API
      * 이미지 키를 기준으로 이미지를 삭제합니다.
@@ -6,12 +6,15 @@ import com.example.community.auth.ActorMapper;
 
 import com.example.community.domain.BoardType;
 import com.example.community.domain.Post;
+import com.example.community.repository.dto.PostVersion;
 import com.example.community.security.MemberDetails;
+import com.example.community.service.MissingPostCache;
 import com.example.community.service.PostLikeService;
 import com.example.community.service.PostService;
 import com.example.community.web.dto.PostRes;
 import com.example.community.web.dto.PostSummaryRes;
 import com.example.community.web.dto.PostWebDtos;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -21,6 +24,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -44,6 +49,7 @@ public class PostController {
     
     private final PostService postService;
     private final PostLikeService postLikeService;
+    private final MissingPostCache missingPosts;
 
     /**
      * 게시글 생성 API
@@ -163,12 +169,34 @@ public class PostController {
 
     /**
      * 게시글 상세 조회 API
-     * 조회 시 조회수가 증가됨
+     * 조회 시 조회수가 증가됨 (없다고 알려진 ID는 트랜잭션 시작 전에 404)
+     * If-None-Match가 현재 ETag와 같으면 본문을 읽지 않고 304 (조회는 기록)
+     * 조회자는 회원 ID 또는 IP+User-Agent로 구분하며, 봇 조회는 조회수에 포함하지 않음 (고유 조회자 집계 시)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PostRes> get(@PathVariable Long id) {
-        Post post = postService.getAndIncrementViewCount(id);
-        return ResponseEntity.ok(PostRes.of(post));
+    public ResponseEntity<PostRes> get(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal MemberDetails me,
+            HttpServletRequest request) {
+        missingPosts.rejectIfKnownMissing(id);
+        String viewer = ViewerKey.of(me == null ? null : me.getId(), request);
+        if (ifNoneMatch != null) {
+            PostVersion current = postService.getVersion(id);
+            String etag = etag(current.postId(), current.version(), current.likeCount(), current.authorActive());
+            if (ETags.matches(ifNoneMatch, etag)) {
+                postService.countView(id, viewer);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(ETags.REVALIDATE).build();
+            }
+        }
+        Post post = postService.getAndIncrementViewCount(id, viewer);
+        // 응답 본문과 같은 시점의 값으로 ETag 생성
+        String etag = etag(post.getId(), post.getVersion(), post.getLikeCount(), post.getAuthor().isActive());
+        return ResponseEntity.ok().eTag(etag).cacheControl(ETags.REVALIDATE).body(PostRes.of(post));
+    }
+
+    // 게시글 상세 ETag: 버전(수정 시 증가), 좋아요 수, 작성자 탈퇴 여부 (조회수 제외)
+    private static String etag(Long postId, Long version, long likeCount, boolean authorActive) {
+        return ETags.weak("p" + postId, version, likeCount, authorActive ? "a" : "w");
     }
 
     /**
@@ -199,6 +227,19 @@ public class PostController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 게시글 일괄 삭제 API
+     * 관리자만 사용 가능하며, 삭제 표시 후 댓글/좋아요/이미지는 백그라운드에서 정리
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<Map<String, Object>> bulkDelete(
+            @Valid @RequestBody PostWebDtos.BulkDeleteRequest req,
+            @AuthenticationPrincipal MemberDetails me) {
+        int deleted = postService.deleteAll(req.ids(), ActorMapper.from(me));
+        return ResponseEntity.ok(Map.of("requested", req.ids().size(), "deleted", deleted));
+    }
+
     // ====== 좋아요 ======
 
     /**
@@ -0,0 +1,96 @@
+package com.example.community.web;
+
+import com.example.community.common.FilePolicy;
+import com.example.community.storage.LocalStorageService;
+import com.example.community.storage.PeerReplicator;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 노드 간 파일 복제 내부 API (PeerReplicator가 다른 노드에서 호출)
+ * 사용자 인증 대신 공유 복제 토큰(X-Replication-Token)으로 요청을 검증하며,
+ * 토큰 검증은 본문을 읽기 전에 ReplicationTokenFilter에서 처리합니다.
+ * 수신 파일은 FilePolicy.MAX_FILE_SIZE_BYTES까지만 읽습니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping(PeerReplicator.BLOB_PATH)
+@RequiredArgsConstructor
+@ConditionalOnExpression("${app.storage.replication.enabled:false} and '${app.storage.provider:local}' == 'local'")
+public class ReplicationController {
+
+    private final LocalStorageService localStorage;
+
+    /**
+     * 로컬 파일 조회 (다른 노드의 pull-on-miss 요청, 로컬에 없어도 다시 다른 노드에 묻지 않음)
+     */
+    @GetMapping
+    public ResponseEntity<?> get(
+            @RequestParam("key") String key) {
+        requireSafeKey(key);
+        Optional<Resource> resource = localStorage.loadLocal(key);
+        if (resource.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(resource.get());
+    }
+
+    /**
+     * 다른 노드에서 전송한 파일 저장 (이미 있으면 무시)
+     */
+    @PutMapping(consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<?> put(@RequestParam("key") String key, HttpServletRequest request) throws IOException {
+        requireSafeKey(key);
+        if (request.getContentLengthLong() > FilePolicy.MAX_FILE_SIZE_BYTES) {
+            return tooLarge();
+        }
+        byte[] data;
+        try (InputStream in = request.getInputStream()) {
+            // 길이 헤더 없이(chunked) 보낸 경우에도 한도 + 1바이트까지만 읽음
+            data = in.readNBytes((int) FilePolicy.MAX_FILE_SIZE_BYTES + 1);
+        }
+        if (data.length > FilePolicy.MAX_FILE_SIZE_BYTES) {
+            return tooLarge();
+        }
+        boolean stored = localStorage.storeReplica(key, data);
+        log.debug("복제 파일 수신: 키={}, 저장={}", key, stored);
+        return ResponseEntity.ok(Map.of("success", true, "stored", stored));
+    }
+
+    /**
+     * 다른 노드의 파일 삭제 전파
+     */
+    @DeleteMapping
+    public ResponseEntity<?> delete(
+            @RequestParam("key") String key) {
+        requireSafeKey(key);
+        localStorage.deleteReplica(key);
+        log.debug("복제 파일 삭제: 키={}", key);
+        return ResponseEntity.ok(Map.of("success", true, "deleted", true));
+    }
+
+    private void requireSafeKey(String key) {
+        if (!FilePolicy.isPathSafe(key) || !key.startsWith(FilePolicy.POST_IMAGES_PATH + "/")) {
+            throw new IllegalArgumentException(FilePolicy.ERR_PATH_TRAVERSAL);
+        }
+    }
+
+    private ResponseEntity<?> tooLarge() {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(Map.of("message", String.format(FilePolicy.ERR_FILE_TOO_LARGE, FilePolicy.MAX_FILE_SIZE_BYTES)));
+    }
+}
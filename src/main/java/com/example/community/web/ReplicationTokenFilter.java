@@ -0,0 +1,50 @@
+package com.example.community.web;
+
+import com.example.community.storage.PeerReplicator;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 노드 간 복제 API의 복제 토큰 검증 필터
+ * 복제 경로는 보안 설정에서 인증 없이 허용되므로, 요청 본문을 읽기 전에 토큰이 없거나 틀린 요청을 403으로 거절합니다.
+ */
+@Component
+@ConditionalOnExpression("${app.storage.replication.enabled:false} and '${app.storage.provider:local}' == 'local'")
+public class ReplicationTokenFilter extends OncePerRequestFilter {
+
+    private static final String FORBIDDEN_BODY = "{\"message\":\"복제 토큰이 올바르지 않습니다\"}";
+
+    private final PeerReplicator replicator;
+
+    public ReplicationTokenFilter(PeerReplicator replicator) {
+        this.replicator = replicator;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(PeerReplicator.BLOB_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        if (!replicator.isAuthorized(req.getHeader(PeerReplicator.TOKEN_HEADER))) {
+            res.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            res.getWriter().write(FORBIDDEN_BODY);
+            return;
+        }
+        chain.doFilter(req, res);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.community.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+import java.util.Locale;
+
+/**
+ * 게시글 고유 조회자 식별값
+ * 회원은 회원 ID, 비회원은 IP와 User-Agent 조합으로 구분합니다. (IP는 getRemoteAddr 기준)
+ * 값은 스케치에 해시로만 기록되고 저장되지 않습니다.
+ */
+public final class ViewerKey {
+
+    // 검색/수집 봇 User-Agent에 흔히 포함되는 단어
+    private static final String[] BOT_MARKERS = {"bot", "crawl", "spider", "slurp"};
+
+    private ViewerKey() {
+    }
+
+    /**
+     * @param memberId 로그인 회원 ID (비회원이면 null)
+     * @param req      요청
+     * @return 조회자 식별값 (봇이면 null)
+     */
+    public static String of(Long memberId, HttpServletRequest req) {
+        String userAgent = req.getHeader(HttpHeaders.USER_AGENT);
+        if (userAgent == null || isBot(userAgent)) {
+            return null;
+        }
+        if (memberId != null) {
+            return "m:" + memberId;
+        }
+        return "a:" + req.getRemoteAddr() + "|" + userAgent;
+    }
+
+    private static boolean isBot(String userAgent) {
+        String ua = userAgent.toLowerCase(Locale.ROOT);
+        for (String marker : BOT_MARKERS) {
+            if (ua.contains(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
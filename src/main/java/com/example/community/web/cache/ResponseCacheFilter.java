@@ -0,0 +1,129 @@
+package com.example.community.web.cache;
+
+import com.example.community.service.AnonymousResponseCache;
+import com.example.community.service.AnonymousResponseCache.CachedResponse;
+import com.example.community.web.ViewerKey;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 비로그인 GET 응답 캐시 필터 (보안 필터 체인에서 AuthorizationFilter 뒤에 등록)
+ * 인가 이후에 동작하므로 접근 제어, CORS, 보안 헤더는 캐시 적중 시에도 그대로 적용됩니다.
+ *
+ * - 대상: 로그인하지 않은 /api/posts/** GET 요청 (If-None-Match가 있으면 컨트롤러의 304 처리로 넘김)
+ * - 적중: 저장된 본문을 그대로 응답 (gzip을 받는 클라이언트에는 미리 압축한 본문), MVC/JPA/Jackson을 거치지 않음
+ *   게시글 상세는 적중 시에도 조회를 기록합니다. (비회원 조회자: IP+User-Agent)
+ * - 미적중: 응답을 기록해 두었다가 200이고 태그가 붙은 응답만 저장 (Set-Cookie가 있는 응답은 저장하지 않음)
+ * 같은 URL이 적중 시 gzip으로 응답될 수 있으므로 적중 여부와 관계없이 Vary: Accept-Encoding을 붙입니다.
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String CACHED_PATH_PREFIX = "/api/posts/";
+
+    private final AnonymousResponseCache cache;
+    private final BiConsumer<Long, String> viewCounter;
+
+    public ResponseCacheFilter(AnonymousResponseCache cache, BiConsumer<Long, String> viewCounter) {
+        this.cache = cache;
+        this.viewCounter = viewCounter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest req) {
+        return !cache.isEnabled() || !"GET".equals(req.getMethod()) || !path(req).startsWith(CACHED_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        if (!isAnonymous(req) || req.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            chain.doFilter(req, res);
+            return;
+        }
+        String key = req.getQueryString() == null ? path(req) : path(req) + "?" + req.getQueryString();
+        res.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        CachedResponse cached = cache.get(key);
+        if (cached != null) {
+            if (cached.viewedPostId() != null) {
+                viewCounter.accept(cached.viewedPostId(), ViewerKey.of(null, req));
+            }
+            write(cached, req, res);
+            return;
+        }
+
+        long begin = cache.beginStore();
+        req.setAttribute(ResponseCacheTagAdvice.CACHEABLE, Boolean.TRUE);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(res);
+        try {
+            chain.doFilter(req, wrapper);
+            store(key, begin, req, wrapper);
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void store(String key, long begin, HttpServletRequest req, ContentCachingResponseWrapper wrapper) {
+        Object tags = req.getAttribute(ResponseCacheTagAdvice.TAGS);
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || tags == null
+                || wrapper.getHeader(HttpHeaders.SET_COOKIE) != null
+                || wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            return;
+        }
+        cache.put(key, begin, (Set<String>) tags, new CachedResponse(
+                wrapper.getContentType(),
+                wrapper.getHeader(HttpHeaders.ETAG),
+                wrapper.getHeader(HttpHeaders.CACHE_CONTROL),
+                wrapper.getContentAsByteArray(),
+                null,
+                (Long) req.getAttribute(ResponseCacheTagAdvice.VIEWED_POST)));
+    }
+
+    private static void write(CachedResponse cached, HttpServletRequest req, HttpServletResponse res)
+            throws IOException {
+        res.setStatus(HttpServletResponse.SC_OK);
+        res.setContentType(cached.contentType());
+        if (cached.etag() != null) {
+            res.setHeader(HttpHeaders.ETAG, cached.etag());
+        }
+        if (cached.cacheControl() != null) {
+            res.setHeader(HttpHeaders.CACHE_CONTROL, cached.cacheControl());
+        }
+        byte[] body = cached.body();
+        if (cached.gzipBody() != null && acceptsGzip(req)) {
+            res.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = cached.gzipBody();
+        }
+        res.setContentLength(body.length);
+        res.getOutputStream().write(body);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest req) {
+        String acceptEncoding = req.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private static boolean isAnonymous(HttpServletRequest req) {
+        if (req.getHeader(HttpHeaders.AUTHORIZATION) != null) {
+            return false;
+        }
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth == null || auth instanceof AnonymousAuthenticationToken;
+    }
+
+    private static String path(HttpServletRequest req) {
+        return req.getRequestURI().substring(req.getContextPath().length());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.community.web.cache;
+
+import com.example.community.domain.BoardType;
+import com.example.community.service.AnonymousResponseCache;
+import com.example.community.web.dto.PostRes;
+import com.example.community.web.dto.PostSummaryRes;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 비로그인 응답 캐시 대상 요청(ResponseCacheFilter가 표시)의 응답 본문에서 캐시 태그 추출
+ * - 게시글 상세(PostRes): post:{id} (캐시 적중 시 조회수 증가 대상)
+ * - 게시글 목록(Page&lt;PostSummaryRes&gt;): 포함된 post:{id} + board:{유형} (게시판 구분 없는 목록은 board:*)
+ * - 댓글 목록(/api/posts/{postId}/comments): comments:{postId}
+ * 태그를 붙이지 못한 응답은 저장하지 않습니다.
+ */
+@ControllerAdvice
+public class ResponseCacheTagAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String CACHEABLE = ResponseCacheTagAdvice.class.getName() + ".cacheable";
+    static final String TAGS = ResponseCacheTagAdvice.class.getName() + ".tags";
+    static final String VIEWED_POST = ResponseCacheTagAdvice.class.getName() + ".viewedPost";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        HttpServletRequest req = servletRequest.getServletRequest();
+        if (req.getAttribute(CACHEABLE) == null || body == null) {
+            return body;
+        }
+        Set<String> tags = new HashSet<>();
+        Map<String, String> vars = uriVariables(req);
+        if (body instanceof PostRes post) {
+            tags.add(AnonymousResponseCache.postTag(post.id()));
+            req.setAttribute(VIEWED_POST, post.id());
+        } else if (body instanceof Page<?> page && isPostSummaryPage(page)) {
+            page.getContent().forEach(item -> tags.add(AnonymousResponseCache.postTag(((PostSummaryRes) item).id())));
+            String boardType = vars.get("boardType");
+            tags.add(boardType == null
+                    ? AnonymousResponseCache.ALL_BOARDS_TAG
+                    : AnonymousResponseCache.boardTag(BoardType.valueOf(boardType)));
+        } else if (body instanceof Map<?, ?> && req.getRequestURI().endsWith("/comments") && vars.containsKey("postId")) {
+            tags.add(AnonymousResponseCache.commentsTag(Long.valueOf(vars.get("postId"))));
+        }
+        if (!tags.isEmpty()) {
+            req.setAttribute(TAGS, tags);
+        }
+        return body;
+    }
+
+    private static boolean isPostSummaryPage(Page<?> page) {
+        return page.getContent().stream().allMatch(PostSummaryRes.class::isInstance);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> uriVariables(HttpServletRequest req) {
+        Object vars = req.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return vars instanceof Map<?, ?> map ? (Map<String, String>) map : Map.of();
+    }
+}
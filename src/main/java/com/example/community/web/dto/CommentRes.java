@@ -6,6 +6,10 @@ import com.example.community.repository.dto.CommentProjection;
 import java.time.LocalDateTime;
 
 public record CommentRes(Long id, String content, MemberRes author, Long postId, LocalDateTime createdAt) {
+
+    // 탈퇴한 회원의 댓글 내용 대신 노출하는 문구
+    public static final String WITHDRAWN_CONTENT = "[삭제된 댓글입니다]";
+
     /**
      * Comment 엔티티로부터 응답 DTO 생성
      * 
@@ -22,10 +26,11 @@ public record CommentRes(Long id, String content, MemberRes author, Long postId,
             throw new IllegalArgumentException("Comment post cannot be null");
         }
 
+        MemberRes author = MemberRes.of(c.getAuthor());
         return new CommentRes(
                 c.getId(),
-                c.getContent(),
-                MemberRes.of(c.getAuthor()),
+                author.withdrawn() ? WITHDRAWN_CONTENT : c.getContent(),
+                author,
                 c.getPost().getId(),
                 c.getCreatedAt());
     }
@@ -43,10 +48,12 @@ public record CommentRes(Long id, String content, MemberRes author, Long postId,
             throw new IllegalArgumentException("Comment author cannot be null in projection");
         }
 
+        CommentProjection.MemberDto author = projection.author();
+        boolean withdrawn = !author.active();
         return new CommentRes(
                 projection.id(),
-                projection.content(),
-                new MemberRes(projection.author().id(), projection.author().username(), null),
+                withdrawn ? WITHDRAWN_CONTENT : projection.content(),
+                withdrawn ? MemberRes.withdrawn(author.id()) : new MemberRes(author.id(), author.username(), null, false),
                 projection.postId(),
                 projection.createdAt());
     }
@@ -0,0 +1,56 @@
+package com.example.community.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 파일 관련 웹 계층 DTO 클래스
+ * 직접 업로드(presigned URL) 요청의 유효성 검증을 담당합니다.
+ */
+public class FileWebDtos {
+    /**
+     * 직접 업로드 URL 발급 요청 DTO
+     */
+    public record PresignRequest(
+            /**
+             * 업로드할 이미지 MIME 타입 (예: image/png)
+             */
+            @NotBlank(message = "파일 형식을 입력해주세요") String contentType,
+
+            /**
+             * 업로드할 이미지 크기 (바이트)
+             */
+            @Positive(message = "파일 크기는 0보다 커야 합니다") long size) {
+    }
+
+    /**
+     * 직접 업로드 확인 요청 DTO
+     */
+    public record ConfirmRequest(
+            /**
+             * 발급받은 이미지 키
+             */
+            @NotBlank(message = "이미지 키는 비어있을 수 없습니다") @Size(max = 512, message = "이미지 키는 최대 512자까지 허용됩니다") String key) {
+    }
+
+    /**
+     * 이어받기 업로드 세션 생성 요청 DTO
+     */
+    public record CreateUploadSessionRequest(
+            /**
+             * 원본 파일명
+             */
+            @Size(max = 255, message = "파일명은 최대 255자까지 허용됩니다") String fileName,
+
+            /**
+             * 업로드할 이미지 MIME 타입 (예: image/png)
+             */
+            @NotBlank(message = "파일 형식을 입력해주세요") String contentType,
+
+            /**
+             * 업로드할 이미지 전체 크기 (바이트)
+             */
+            @Positive(message = "파일 크기는 0보다 커야 합니다") long size) {
+    }
+}
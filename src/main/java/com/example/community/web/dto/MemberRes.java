@@ -5,8 +5,13 @@ import com.example.community.domain.Member;
 /**
  * 회원 정보를 위한 응답 DTO
  * 클라이언트에 전송할 회원 기본 정보를 포함
+ * 탈퇴한 회원은 저장된 값 대신 탈퇴 표시(WITHDRAWN_LABEL)로 응답합니다.
  */
-public record MemberRes(Long id, String username, String email) {
+public record MemberRes(Long id, String username, String email, boolean withdrawn) {
+
+    // 탈퇴한 작성자 표시 (게시글/댓글 작성자 이름 대신 노출)
+    public static final String WITHDRAWN_LABEL = "[탈퇴한 회원]";
+
     /**
      * Member 엔티티로부터 응답 DTO 생성
      *
@@ -18,6 +23,16 @@ public record MemberRes(Long id, String username, String email) {
         if (m == null) {
             throw new IllegalArgumentException("Member cannot be null");
         }
-        return new MemberRes(m.getId(), m.getUsername(), m.getEmail());
+        if (!m.isActive()) {
+            return withdrawn(m.getId());
+        }
+        return new MemberRes(m.getId(), m.getUsername(), m.getEmail(), false);
+    }
+
+    /**
+     * 탈퇴한 회원의 응답 DTO 생성 (이름은 탈퇴 표시, 이메일은 제외)
+     */
+    public static MemberRes withdrawn(Long id) {
+        return new MemberRes(id, WITHDRAWN_LABEL, null, true);
     }
 }
\ No newline at end of file
@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 public record PostSummaryRes(
         Long id,
         String title,
-        String authorName, // null 대신 항상 빈 문자열 이상 보장
+        String authorName, // null 대신 항상 빈 문자열 이상 보장 (탈퇴한 작성자는 탈퇴 표시)
+        boolean authorWithdrawn,
         long viewCount,
         long likeCount,
         BoardType boardType,
@@ -26,8 +27,10 @@ public record PostSummaryRes(
         if (dto.createdAt() == null)
             throw new IllegalArgumentException("Post createdAt cannot be null");
 
-        String authorName = java.util.Optional.ofNullable(dto.authorName())
-                .map(String::trim).orElse(""); // 항상 빈 문자열 이상 보장
+        String authorName = dto.authorWithdrawn()
+                ? MemberRes.WITHDRAWN_LABEL
+                : java.util.Optional.ofNullable(dto.authorName())
+                        .map(String::trim).orElse(""); // 항상 빈 문자열 이상 보장
         String boardTypeDescription = dto.boardType() != null
                 ? dto.boardType().getDescription()
                 : ""; // 항상 빈 문자열 이상 보장
@@ -36,6 +39,7 @@ public record PostSummaryRes(
                 dto.id(),
                 dto.title(),
                 authorName,
+                dto.authorWithdrawn(),
                 dto.viewCount(),
                 dto.likeCount(),
                 dto.boardType(),
@@ -3,6 +3,7 @@ package com.example.community.web.dto;
 import com.example.community.domain.BoardType;
 import com.example.community.service.dto.PostDtos;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
@@ -109,4 +110,15 @@ public class PostWebDtos {
             return new PostDtos.Update(safeTitle, safeContent, safeImageKeys);
         }
     }
+
+    /**
+     * 관리자 게시글 일괄 삭제 요청 DTO
+     */
+    public record BulkDeleteRequest(
+            /**
+             * 삭제할 게시글 ID 목록
+             * 최대 1000개까지 허용됩니다.
+             */
+            @NotEmpty(message = "삭제할 게시글을 선택해주세요") @Size(max = 1000, message = "한 번에 최대 1000개까지 삭제할 수 있습니다") List<@NotNull Long> ids) {
+    }
 }
@@ -8,6 +8,7 @@ import com.example.community.service.exception.WithdrawalException;
 import com.example.community.storage.StorageException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +24,7 @@ import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
+import java.sql.SQLTransientConnectionException;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
@@ -57,6 +59,35 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
     }
 
+    /**
+     * DB 커넥션 획득 실패(풀/벌크헤드 한도 초과 등)를 503(SERVICE_UNAVAILABLE)으로 매핑
+     * 과부하 상황이므로 재시도 간격을 Retry-After로 안내합니다.
+     */
+    @ExceptionHandler({
+            org.springframework.transaction.CannotCreateTransactionException.class,
+            org.springframework.jdbc.CannotGetJdbcConnectionException.class
+    })
+    public ResponseEntity<Map<String, Object>> dbUnavailable(RuntimeException e) {
+        log.warn("DB 커넥션 획득 실패: {}", e.getMessage());
+        Map<String, Object> body = base(HttpStatus.SERVICE_UNAVAILABLE, "DB_UNAVAILABLE");
+        body.put("message", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").body(body);
+    }
+
+    /**
+     * 트랜잭션 안에서 커넥션을 얻지 못한 경우 (Hibernate가 DataAccessResourceFailureException으로 변환)
+     * 원인이 커넥션 획득 시간 초과(SQLTransientConnectionException: 풀/벌크헤드 한도)이면 503, 그 외 자원 오류는 500
+     */
+    @ExceptionHandler(DataAccessResourceFailureException.class)
+    public ResponseEntity<Map<String, Object>> dbResourceFailure(DataAccessResourceFailureException e) {
+        for (Throwable cause = e.getCause(); cause != null && cause != cause.getCause(); cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return dbUnavailable(e);
+            }
+        }
+        return handleUnexpected(e);
+    }
+
     /**
      * 기본 응답 형식 생성
      */
@@ -0,0 +1,122 @@
+package com.example.community.web.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지연 시간 기반 적응형 동시 처리 한도 (gradient 알고리즘)
+ * 동시에 처리 중인 요청 수가 한도에 도달하면 새 요청을 대기시키지 않고 바로 거절합니다.
+ *
+ * 완료된 요청의 지연 시간으로 한도를 조정합니다.
+ * - 단기 지연(최근 요청 평균)과 장기 지연(기준선)의 비율을 gradient로 사용
+ *   단기 지연이 기준선 * tolerance 이내면 한도 유지/증가, 넘으면 비율만큼 감소 (최대 절반)
+ * - 증가 폭은 sqrt(한도) (작을 때는 빠르게, 클 때는 천천히)
+ * - 과부하 응답(503)이나 처리 중 예외는 한도를 10% 줄임
+ * - 한도의 절반도 사용하지 않는 상태에서는 늘리지 않음 (부하가 없을 때 한도가 무한정 커지는 것 방지)
+ * - 지연이 회복되면 기준선도 서서히 따라 내려가 느린 상태가 새 기준이 되지 않도록 함
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double SHORT_WINDOW = 10;
+    private static final double LONG_WINDOW = 600;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * 처리 슬롯 획득 시도
+     *
+     * @return 획득한 슬롯 (한도 초과 시 null), 처리 후 반드시 release 호출
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return new Permit(System.nanoTime(), current + 1);
+            }
+        }
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    // 완료된 요청의 지연 시간 반영
+    void onSample(long rttNanos, int inflightAtStart, boolean dropped) {
+        lock.lock();
+        try {
+            if (dropped) {
+                estimatedLimit = Math.max(minLimit, estimatedLimit * BACKOFF_RATIO);
+                limit = (int) estimatedLimit;
+                return;
+            }
+            shortRtt = shortRtt == 0 ? rttNanos : shortRtt + (rttNanos - shortRtt) / SHORT_WINDOW;
+            longRtt = longRtt == 0 ? rttNanos : longRtt + (rttNanos - longRtt) / LONG_WINDOW;
+            if (longRtt > shortRtt * 2) {
+                longRtt *= 0.95;
+            }
+            if (inflightAtStart < estimatedLimit / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            estimatedLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+            estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+            limit = (int) estimatedLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 획득한 처리 슬롯
+     */
+    public final class Permit {
+        private final long startNanos;
+        private final int inflightAtStart;
+        private boolean released;
+
+        private Permit(long startNanos, int inflightAtStart) {
+            this.startNanos = startNanos;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        /**
+         * 슬롯 반환 및 지연 시간 반영
+         *
+         * @param dropped 과부하로 실패한 요청인지 여부 (한도 감소)
+         */
+        public void release(boolean dropped) {
+            if (released) {
+                return;
+            }
+            released = true;
+            inflight.decrementAndGet();
+            onSample(System.nanoTime() - startNanos, inflightAtStart, dropped);
+        }
+    }
+}
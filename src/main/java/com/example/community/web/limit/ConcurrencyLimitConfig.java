@@ -0,0 +1,65 @@
+package com.example.community.web.limit;
+
+import com.example.community.web.limit.ConcurrencyLimitFilter.Group;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 적응형 동시 처리 한도 설정 (app.concurrency-limit.enabled=true)
+ * 그룹별 한도는 app.concurrency-limit.{reads|writes|auth|uploads}.{initial-limit|min-limit|max-limit}로 조정합니다.
+ *
+ * 지표: http.concurrency.limit / http.concurrency.inflight (gauge), http.concurrency.rejected (counter), 태그 group
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    // 그룹별 기본값 {initial, min, max}
+    private static final Map<Group, int[]> DEFAULTS = Map.of(
+            Group.READS, new int[] { 40, 10, 400 },
+            Group.WRITES, new int[] { 20, 5, 200 },
+            Group.AUTH, new int[] { 10, 5, 100 },
+            Group.UPLOADS, new int[] { 5, 2, 50 });
+
+    // 요청 범위(읽기 라우팅) 필터 다음, 보안 필터 체인(토큰 검증 조회) 앞에서 제한
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(Environment env,
+            MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        Map<Group, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(Group.class);
+        Map<Group, Counter> rejections = new EnumMap<>(Group.class);
+        for (Group group : Group.values()) {
+            String prefix = "app.concurrency-limit." + group.tag() + ".";
+            int[] defaults = DEFAULTS.get(group);
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                    env.getProperty(prefix + "initial-limit", Integer.class, defaults[0]),
+                    env.getProperty(prefix + "min-limit", Integer.class, defaults[1]),
+                    env.getProperty(prefix + "max-limit", Integer.class, defaults[2]));
+            limiters.put(group, limiter);
+            Gauge.builder("http.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                    .tag("group", group.tag()).register(meterRegistry);
+            Gauge.builder("http.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::inflight)
+                    .tag("group", group.tag()).register(meterRegistry);
+            rejections.put(group, Counter.builder("http.concurrency.rejected")
+                    .tag("group", group.tag()).register(meterRegistry));
+            log.info("동시 처리 한도 적용: 그룹={}, 초기 한도={}", group.tag(), limiter.limit());
+        }
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(limiters, rejections, objectMapper));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.community.web.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * API 요청 그룹별 적응형 동시 처리 한도 필터
+ * 그룹(읽기/쓰기/인증/업로드)마다 별도 한도를 두어 느린 그룹이 다른 그룹의 처리 능력을 잠식하지 않게 합니다.
+ * 한도를 넘는 요청은 대기열에 쌓지 않고 즉시 503 + Retry-After로 응답합니다.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * 요청 그룹 (API 외 경로는 제한하지 않음)
+     */
+    public enum Group {
+        READS, WRITES, AUTH, UPLOADS;
+
+        public String tag() {
+            return name().toLowerCase();
+        }
+
+        static Group of(HttpServletRequest req) {
+            String path = req.getRequestURI().substring(req.getContextPath().length());
+            if (!path.startsWith("/api/")) {
+                return null;
+            }
+            if (path.startsWith("/api/auth/")) {
+                return AUTH;
+            }
+            if (path.startsWith("/api/files/")) {
+                return UPLOADS;
+            }
+            String method = req.getMethod();
+            return "GET".equals(method) || "HEAD".equals(method) ? READS : WRITES;
+        }
+    }
+
+    private final Map<Group, AdaptiveConcurrencyLimiter> limiters;
+    private final Map<Group, Counter> rejections;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(Map<Group, AdaptiveConcurrencyLimiter> limiters, Map<Group, Counter> rejections,
+            ObjectMapper objectMapper) {
+        this.limiters = limiters;
+        this.rejections = rejections;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        Group group = "OPTIONS".equals(req.getMethod()) ? null : Group.of(req);
+        AdaptiveConcurrencyLimiter limiter = group == null ? null : limiters.get(group);
+        if (limiter == null) {
+            chain.doFilter(req, res);
+            return;
+        }
+
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            rejections.get(group).increment();
+            reject(res);
+            return;
+        }
+        boolean dropped = true;
+        try {
+            chain.doFilter(req, res);
+            dropped = res.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+        } finally {
+            permit.release(dropped);
+        }
+    }
+
+    private void reject(HttpServletResponse res) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", Instant.now().toString());
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("code", "OVERLOADED");
+        body.put("message", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        res.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        res.setHeader("Retry-After", "1");
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(res.getOutputStream(), body);
+    }
+}
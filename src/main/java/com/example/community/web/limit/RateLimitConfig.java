@@ -0,0 +1,32 @@
+package com.example.community.web.limit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * 요청 빈도 제한 설정 (app.rate-limit.enabled=true)
+ * 규칙은 app.rate-limit.rules 목록으로 지정하며, 필터는 SecurityConfig에서 보안 필터 체인에 등록합니다.
+ *
+ * 지표: http.ratelimit.rejected (태그 rule)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(Environment env, MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.max-entries:100000}") int maxEntries) {
+        List<RateLimiter.Rule> rules = Binder.get(env)
+                .bind("app.rate-limit.rules", Bindable.listOf(RateLimiter.Rule.class))
+                .orElse(List.of());
+        return new RateLimiter(rules, maxEntries, meterRegistry);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.community.web.limit;
+
+import com.example.community.config.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 빈도 제한 필터 (보안 필터 체인에서 JwtAuthenticationFilter 앞에 등록)
+ * 회원 식별은 JWT 서명 검증만으로 처리하고 DB는 조회하지 않으므로, 거절된 요청은 DB 작업을 일으키지 않습니다.
+ * (토큰 버전 확인 등 실제 인증은 이후 JwtAuthenticationFilter가 수행)
+ *
+ * 클라이언트 IP는 getRemoteAddr 기준입니다. (server.forward-headers-strategy=native로 프록시 헤더 반영)
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, JwtUtil jwtUtil, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        String method = req.getMethod();
+        String path = req.getRequestURI().substring(req.getContextPath().length());
+        if (!rateLimiter.matches(method, path)) {
+            chain.doFilter(req, res);
+            return;
+        }
+
+        RateLimiter.Decision decision = rateLimiter.check(method, path, memberId(req), req.getRemoteAddr());
+        if (decision.allowed()) {
+            chain.doFilter(req, res);
+            return;
+        }
+        long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", Instant.now().toString());
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("code", "RATE_LIMITED");
+        body.put("message", "요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+        res.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        res.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(res.getOutputStream(), body);
+    }
+
+    // 유효한 access 토큰의 회원 ID (없거나 유효하지 않으면 null → IP 기준)
+    private Long memberId(HttpServletRequest req) {
+        String auth = req.getHeader("Authorization");
+        if (auth == null || !auth.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(jwtUtil.parseClaims(auth.substring(7)).getSubject());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
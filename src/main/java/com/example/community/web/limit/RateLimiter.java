@@ -0,0 +1,166 @@
+package com.example.community.web.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 경로별 요청 빈도 제한 (회원 ID 또는 클라이언트 IP 단위 토큰 버킷)
+ * 요청에 처음 일치하는 규칙 하나만 적용합니다.
+ *
+ * 규칙마다 버킷 저장소의 최대 항목 수를 두고, 넘으면 가득 찬(유휴) 버킷부터 제거합니다.
+ * 그래도 넘으면 임의의 버킷을 제거하므로 메모리는 규칙 수 * max-entries로 제한됩니다.
+ */
+@Slf4j
+public class RateLimiter {
+
+    /**
+     * 버킷 키 기준
+     * MEMBER: 인증된 요청은 회원 ID, 아니면 IP / IP: 항상 IP
+     */
+    public enum KeyType {
+        MEMBER, IP
+    }
+
+    /**
+     * 제한 규칙
+     *
+     * @param name     규칙 이름 (지표 태그)
+     * @param method   HTTP 메서드 (비우면 전체)
+     * @param path     경로 패턴 (예: /api/posts/{id}/like, /api/files/**)
+     * @param capacity 주기당 허용 요청 수 (연속 요청 허용량)
+     * @param period   버킷 전체가 채워지는 시간
+     * @param key      버킷 키 기준 (기본 MEMBER)
+     */
+    public record Rule(String name, String method, String path, int capacity, Duration period, KeyType key) {
+    }
+
+    /**
+     * 판정 결과
+     *
+     * @param rule       적용된 규칙 (일치하는 규칙이 없으면 null)
+     * @param retryAfter 거절 시 다음 요청까지 기다릴 시간 (허용이면 null)
+     */
+    public record Decision(Rule rule, Duration retryAfter) {
+        public boolean allowed() {
+            return retryAfter == null;
+        }
+    }
+
+    private static final Decision UNLIMITED = new Decision(null, null);
+
+    private final List<Limit> limits = new ArrayList<>();
+    private final int maxEntries;
+
+    public RateLimiter(List<Rule> rules, int maxEntries, MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        PathPatternParser parser = new PathPatternParser();
+        for (Rule rule : rules) {
+            limits.add(new Limit(rule, parser.parse(rule.path()),
+                    Counter.builder("http.ratelimit.rejected").tag("rule", rule.name()).register(meterRegistry)));
+            log.info("요청 빈도 제한 규칙: {} {} {} → {}회/{} ({} 기준)", rule.name(),
+                    rule.method() == null ? "*" : rule.method(), rule.path(), rule.capacity(), rule.period(),
+                    keyType(rule));
+        }
+    }
+
+    /**
+     * 요청 판정
+     *
+     * @param method   HTTP 메서드
+     * @param path     요청 경로 (컨텍스트 경로 제외)
+     * @param memberId 인증된 회원 ID (없으면 null)
+     * @param clientIp 클라이언트 IP
+     */
+    public Decision check(String method, String path, Long memberId, String clientIp) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (Limit limit : limits) {
+            if (limit.matches(method, container)) {
+                String key = keyType(limit.rule) == KeyType.MEMBER && memberId != null
+                        ? "m:" + memberId
+                        : "ip:" + clientIp;
+                return limit.acquire(key);
+            }
+        }
+        return UNLIMITED;
+    }
+
+    // 규칙에 해당하는 요청인지 (회원 키가 필요한지 판단할 때 사용, 토큰은 소모하지 않음)
+    public boolean matches(String method, String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        return limits.stream().anyMatch(limit -> limit.matches(method, container));
+    }
+
+    // 전체 규칙의 보관 중인 버킷 수
+    int bucketCount() {
+        return limits.stream().mapToInt(limit -> limit.buckets.size()).sum();
+    }
+
+    private static KeyType keyType(Rule rule) {
+        return rule.key() == null ? KeyType.MEMBER : rule.key();
+    }
+
+    private final class Limit {
+        private final Rule rule;
+        private final PathPattern pattern;
+        private final Counter rejected;
+        private final long intervalNanos;
+        private final long periodNanos;
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final ReentrantLock trimLock = new ReentrantLock();
+
+        Limit(Rule rule, PathPattern pattern, Counter rejected) {
+            this.rule = rule;
+            this.pattern = pattern;
+            this.rejected = rejected;
+            this.periodNanos = rule.period().toNanos();
+            this.intervalNanos = Math.max(1, periodNanos / rule.capacity());
+        }
+
+        boolean matches(String method, PathContainer path) {
+            return (rule.method() == null || rule.method().equalsIgnoreCase(method)) && pattern.matches(path);
+        }
+
+        Decision acquire(String key) {
+            long now = System.nanoTime();
+            TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+            if (buckets.size() > maxEntries) {
+                trim(now);
+            }
+            long waitNanos = bucket.tryAcquire(now, intervalNanos, periodNanos);
+            if (waitNanos == 0) {
+                return new Decision(rule, null);
+            }
+            rejected.increment();
+            return new Decision(rule, Duration.ofNanos(waitNanos));
+        }
+
+        // 한 스레드만 정리 (다른 스레드는 기다리지 않고 진행)
+        private void trim(long now) {
+            if (!trimLock.tryLock()) {
+                return;
+            }
+            try {
+                buckets.values().removeIf(bucket -> bucket.isIdle(now));
+                Iterator<String> it = buckets.keySet().iterator();
+                while (buckets.size() > maxEntries && it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+            } finally {
+                trimLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.community.web.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA 방식)
+ * 남은 토큰 수 대신 "버킷이 가득 차는 이론상 시각(TAT)" 하나만 보관하고 CAS로 갱신합니다.
+ * 용량 capacity, 주기 period일 때 토큰 1개는 period / capacity마다 채워지며
+ * 가득 찬 상태에서는 capacity개까지 연속 요청을 허용합니다.
+ */
+final class TokenBucket {
+
+    // 이론상 도착 시각 (nanoTime 기준), 현재 시각 이하이면 버킷이 가득 찬 상태
+    private final AtomicLong tat;
+
+    TokenBucket(long nowNanos) {
+        this.tat = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     *
+     * @param nowNanos       현재 시각 (nanoTime)
+     * @param intervalNanos  토큰 1개가 채워지는 간격 (period / capacity)
+     * @param periodNanos    버킷 전체가 채워지는 시간
+     * @return 0이면 허용, 양수이면 다음 토큰까지 기다려야 하는 시간(ns)
+     */
+    long tryAcquire(long nowNanos, long intervalNanos, long periodNanos) {
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long excess = next - nowNanos - periodNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 버킷이 가득 찬 상태 (제거해도 새 버킷과 동일)
+    boolean isIdle(long nowNanos) {
+        return tat.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,15 @@
+-- V16__add_storage_gc_state.sql
+-- 고아 이미지 수집기: 파일 키 참조 확인용 인덱스 및 진행 상태(커서/회수량) 테이블
+
+CREATE INDEX idx_post_images_file_key ON post_images (file_key);
+
+CREATE TABLE IF NOT EXISTS storage_gc_state (
+    name VARCHAR(50) NOT NULL PRIMARY KEY,
+    cursor_key VARCHAR(255) NULL,
+    pass_started_at DATETIME(6) NULL,
+    last_pass_completed_at DATETIME(6) NULL,
+    reclaimed_files BIGINT NOT NULL DEFAULT 0,
+    reclaimed_bytes BIGINT NOT NULL DEFAULT 0,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,14 @@
+-- V17__add_storage_deletion_outbox.sql
+-- 커밋 후 파일 삭제를 요청 스레드에서 분리하기 위한 삭제 대기열(아웃박스) 테이블
+
+CREATE TABLE IF NOT EXISTS storage_deletion_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_key VARCHAR(255) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(500) NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NULL,
+
+    INDEX idx_storage_deletion_next_attempt (next_attempt_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
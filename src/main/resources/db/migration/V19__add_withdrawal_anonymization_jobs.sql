@@ -0,0 +1,19 @@
+-- V19__add_withdrawal_anonymization_jobs.sql
+-- 탈퇴 회원 작성글 익명화를 탈퇴 트랜잭션에서 분리하여 ID 구간 단위로 처리하기 위한 작업 테이블
+
+CREATE TABLE IF NOT EXISTS withdrawal_anonymization_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id BIGINT NOT NULL,
+    stage VARCHAR(20) NOT NULL,
+    cursor_id BIGINT NOT NULL DEFAULT 0,
+    processed_posts BIGINT NOT NULL DEFAULT 0,
+    processed_comments BIGINT NOT NULL DEFAULT 0,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(500) NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NULL,
+
+    UNIQUE KEY uk_withdrawal_anon_member (member_id),
+    INDEX idx_withdrawal_anon_next_attempt (next_attempt_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,9 @@
+-- V20__drop_withdrawal_post_stage.sql
+-- 게시글의 탈퇴 표시를 응답 변환 시 작성자 상태로 결정하도록 변경하여 게시글 단계 제거
+-- 게시글 단계에 있던 작업은 댓글 처음부터 진행
+
+UPDATE withdrawal_anonymization_jobs SET cursor_id = 0 WHERE stage = 'POSTS';
+
+ALTER TABLE withdrawal_anonymization_jobs
+    DROP COLUMN stage,
+    DROP COLUMN processed_posts;
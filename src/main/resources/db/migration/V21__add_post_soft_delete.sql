@@ -0,0 +1,6 @@
+-- V21__add_post_soft_delete.sql
+-- 게시글 삭제를 삭제 표시(deleted_at)로 바꾸고, 댓글/좋아요/이미지와 행 삭제는 백그라운드에서 나누어 처리
+
+ALTER TABLE posts ADD COLUMN deleted_at DATETIME(6) NULL;
+
+CREATE INDEX idx_post_deleted_at ON posts (deleted_at);
@@ -0,0 +1,16 @@
+-- V22__add_id_sequences.sql
+-- IDENTITY 대신 테이블 기반(pooled) ID 생성을 사용하여 JDBC 배치 INSERT를 가능하게 함
+-- 기존 ID는 그대로 유지하고, 각 시퀀스는 현재 최대 ID 이후 구간부터 할당하도록 초기화
+-- (pooled 방식은 저장된 값 V에 대해 V-49 ~ V 구간을 사용하므로 MAX(id) + 51 로 설정)
+-- 할당 구간과 충돌하는 AUTO_INCREMENT 속성은 V26에서 제거
+
+CREATE TABLE IF NOT EXISTS id_sequences (
+    seq_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO id_sequences (seq_name, next_val) SELECT 'posts', COALESCE(MAX(id), 0) + 51 FROM posts;
+INSERT INTO id_sequences (seq_name, next_val) SELECT 'comments', COALESCE(MAX(id), 0) + 51 FROM comments;
+INSERT INTO id_sequences (seq_name, next_val) SELECT 'post_images', COALESCE(MAX(id), 0) + 51 FROM post_images;
+INSERT INTO id_sequences (seq_name, next_val) SELECT 'post_likes', COALESCE(MAX(id), 0) + 51 FROM post_likes;
+INSERT INTO id_sequences (seq_name, next_val) SELECT 'refresh_tokens', COALESCE(MAX(id), 0) + 51 FROM refresh_tokens;
@@ -0,0 +1,9 @@
+-- V23__add_replica_heartbeat.sql
+-- 읽기 복제본 지연 측정용 하트비트 (primary에 주기적으로 기록하고 복제본에서 읽어 지연 계산)
+
+CREATE TABLE replica_heartbeat (
+    id      TINYINT NOT NULL PRIMARY KEY,
+    beat_at BIGINT  NOT NULL
+);
+
+INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, 0);
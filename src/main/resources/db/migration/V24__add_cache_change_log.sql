@@ -0,0 +1,14 @@
+-- V24__add_cache_change_log.sql
+-- 노드 간 로컬 캐시 무효화용 변경 로그 (쓰기 트랜잭션에서 기록, 각 노드가 id 순으로 주기 조회)
+-- 보관 기간이 지난 행은 CacheChangeLog가 주기적으로 삭제
+
+CREATE TABLE cache_change_log (
+    id          BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    entity_type VARCHAR(30)  NOT NULL,
+    entity_id   VARCHAR(100) NOT NULL,
+    version     BIGINT       NOT NULL,
+    origin      VARCHAR(36)  NOT NULL,
+    created_at  DATETIME(6)  NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE INDEX idx_cache_change_created_at ON cache_change_log (created_at);
@@ -0,0 +1,11 @@
+-- V25__add_post_view_sketches.sql
+-- 게시글별 고유 조회자 HyperLogLog 스케치 (PostViewCounter가 주기적으로 병합 저장)
+-- 게시글 행은 PostPurger가 정리하며, 같은 트랜잭션에서 스케치도 삭제
+
+CREATE TABLE post_view_sketches (
+    post_id    BIGINT          NOT NULL PRIMARY KEY,
+    sketch     VARBINARY(8192) NOT NULL,
+    counted    BIGINT          NOT NULL DEFAULT 0,
+    created_at DATETIME(6)     NOT NULL,
+    updated_at DATETIME(6)     NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,17 @@
+-- V26__drop_auto_increment_from_pooled_ids.sql
+-- 테이블 기반(pooled) ID를 쓰는 테이블의 AUTO_INCREMENT 제거
+-- pooled 방식은 id_sequences 값 아래 구간을 노드별로 미리 할당하므로, AUTO_INCREMENT로 들어온 행
+-- (수동 INSERT, 배포 중인 이전 버전 인스턴스)은 이미 할당된 구간의 ID를 차지해 이후 저장이 중복 키로 실패함
+-- 이제 ID 없는 INSERT는 즉시 실패하며, 수동 INSERT는 id_sequences에서 구간을 할당받아 ID를 지정해야 함
+-- 배포 시 V22 이전 버전 인스턴스를 모두 내린 뒤 적용 (롤링 배포 불가)
+
+-- 참조되는 PK 컬럼 속성 변경 (자료형은 그대로이므로 참조 무결성에 영향 없음)
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE posts MODIFY id BIGINT NOT NULL;
+ALTER TABLE comments MODIFY id BIGINT NOT NULL;
+ALTER TABLE post_images MODIFY id BIGINT NOT NULL;
+ALTER TABLE post_likes MODIFY id BIGINT NOT NULL;
+ALTER TABLE refresh_tokens MODIFY id BIGINT NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
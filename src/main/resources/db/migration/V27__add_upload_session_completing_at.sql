@@ -0,0 +1,4 @@
+-- V27__add_upload_session_completing_at.sql
+-- 업로드 완료 처리 시작 시각 (저장소 쓰기를 세션 행 잠금 밖에서 하는 동안 다른 조각 쓰기/완료/취소 차단)
+
+ALTER TABLE upload_sessions ADD COLUMN completing_at DATETIME(6) NULL;
@@ -0,0 +1,5 @@
+-- V28__add_storage_deletion_file_key_index.sql
+-- 이미지 첨부 시 삭제 대기 중인 파일 키를 잠금과 함께 확인하기 위한 인덱스
+-- (인덱스가 없으면 잠금 조회가 대기열 전체를 잠가 삭제 처리와 다른 첨부가 함께 대기함)
+
+CREATE INDEX idx_storage_deletion_file_key ON storage_deletion_outbox (file_key);
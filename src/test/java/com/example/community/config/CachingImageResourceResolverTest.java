@@ -0,0 +1,60 @@
+package com.example.community.config;
+
+import com.example.community.storage.OffHeapImageCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingImageResourceResolverTest {
+
+    @Test
+    @DisplayName("미스 시 읽은 바이트로 응답하고 캐시를 다시 조회하지 않음, 다음 요청은 캐시 적중")
+    void miss_serves_loaded_bytes_without_second_lookup() throws Exception {
+        Path file = Files.createTempFile("resolver", ".png");
+        try {
+            byte[] data = { (byte) 0x89, 'P', 'N', 'G', 1, 2, 3 };
+            Files.write(file, data);
+            FileSystemResource original = new FileSystemResource(file);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            OffHeapImageCache cache = new OffHeapImageCache(registry, 1024, 512, 16);
+            ResourceResolverChain chain = mock(ResourceResolverChain.class);
+            when(chain.resolveResource(any(), eq("posts/1/a.png"), any())).thenReturn(original);
+            CachingImageResourceResolver resolver = new CachingImageResourceResolver(cache);
+
+            Resource loaded = resolver.resolveResource(null, "posts/1/a.png", List.of(), chain);
+            assertThat(read(loaded)).isEqualTo(data);
+            assertThat(loaded.getFilename()).isEqualTo(original.getFilename());
+            assertThat(loaded.lastModified()).isEqualTo(original.lastModified());
+            assertThat(registry.counter("storage.image.cache.requests", "result", "hit").count()).isZero();
+
+            Resource cached = resolver.resolveResource(null, "posts/1/a.png", List.of(), chain);
+            assertThat(read(cached)).isEqualTo(data);
+            verify(chain, times(1)).resolveResource(any(), eq("posts/1/a.png"), any());
+            assertThat(registry.counter("storage.image.cache.requests", "result", "hit").count()).isEqualTo(1.0);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static byte[] read(Resource r) throws Exception {
+        try (InputStream in = r.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.community.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig(SchedulingConfigTest.TestConfig.class)
+@TestPropertySource(properties = "spring.task.scheduling.pool.size=1")
+class SchedulingConfigTest {
+
+    @Configuration
+    @EnableScheduling
+    @Import(SchedulingConfig.class)
+    static class TestConfig {
+        @Bean
+        Jobs jobs() {
+            return new Jobs();
+        }
+    }
+
+    static class Jobs {
+        private final CountDownLatch longJobStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseLongJob = new CountDownLatch(1);
+        private final AtomicInteger polls = new AtomicInteger();
+        private final AtomicInteger shortJobRuns = new AtomicInteger();
+
+        // 일반 실행기(스레드 1개)를 계속 차지하는 배치 작업
+        @Scheduled(fixedDelay = 10)
+        void longJob() throws InterruptedException {
+            longJobStarted.countDown();
+            releaseLongJob.await(10, TimeUnit.SECONDS);
+        }
+
+        @Scheduled(fixedDelay = 10)
+        void shortJob() {
+            shortJobRuns.incrementAndGet();
+        }
+
+        @Scheduled(fixedDelay = 10, scheduler = SchedulingConfig.POLLING_SCHEDULER)
+        void poll() {
+            polls.incrementAndGet();
+        }
+    }
+
+    @Autowired
+    private Jobs jobs;
+
+    @Test
+    @DisplayName("오래 걸리는 배치 작업이 일반 실행기를 차지해도 조회 작업은 계속 실행")
+    void polling_runs_while_long_job_is_active() throws InterruptedException {
+        try {
+            assertThat(jobs.longJobStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            int shortRunsBefore = jobs.shortJobRuns.get();
+            int pollsBefore = jobs.polls.get();
+
+            Thread.sleep(300);
+
+            assertThat(jobs.polls.get() - pollsBefore).isGreaterThanOrEqualTo(5);
+            // 같은 실행기의 다른 작업은 배치 작업이 끝날 때까지 밀림 (전용 실행기가 필요한 이유)
+            assertThat(jobs.shortJobRuns.get()).isLessThanOrEqualTo(shortRunsBefore + 1);
+        } finally {
+            jobs.releaseLongJob.countDown();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.community.config.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkheadDataSourceTest {
+
+    private DataSource target;
+    private BulkheadDataSource bulkhead;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(inv -> mock(Connection.class));
+        bulkhead = new BulkheadDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("동시 사용 한도를 넘으면 대기 후 즉시 실패, 반납하면 다시 획득 가능")
+    void rejects_beyond_limit_until_released() throws SQLException {
+        Connection first = bulkhead.getConnection();
+        bulkhead.getConnection();
+        assertThat(bulkhead.inUse()).isEqualTo(2);
+
+        assertThatThrownBy(() -> bulkhead.getConnection()).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        assertThat(bulkhead.inUse()).isEqualTo(1);
+        bulkhead.getConnection();
+        verify(target, times(3)).getConnection();
+    }
+
+    @Test
+    @DisplayName("같은 커넥션을 여러 번 닫아도 허가는 한 번만 반환")
+    void close_releases_permit_once() throws SQLException {
+        Connection con = bulkhead.getConnection();
+        con.close();
+        con.close();
+
+        assertThat(bulkhead.inUse()).isZero();
+    }
+
+    @Test
+    @DisplayName("풀에서 커넥션 획득이 실패하면 허가를 즉시 반환")
+    void failed_acquire_returns_permit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool timeout"));
+
+        assertThatThrownBy(() -> bulkhead.getConnection()).hasMessage("pool timeout");
+        assertThat(bulkhead.inUse()).isZero();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.community.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 실행 방식 비교 벤치마크 (플랫폼 스레드 200개 vs 요청마다 가상 스레드 + DB 벌크헤드)
+ * 요청 하나 = 파일/외부 I/O 대기(io-ms) + 커넥션을 잡은 채 DB 작업(db-ms), 커넥션 풀 10개
+ *
+ * 실행: BENCHMARK=true ./gradlew test --tests '*ExecutionModeBenchmarkTest' -i
+ * 결과(처리량, p99 지연, 거절 수)는 INFO 로그로 확인합니다.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ExecutionModeBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionModeBenchmarkTest.class);
+
+    private static final int REQUESTS = 20_000;
+    private static final int POOL_SIZE = 10;
+    private static final long IO_MS = 50;
+    private static final long DB_MS = 1;
+
+    @Test
+    @DisplayName("플랫폼 스레드 모드와 가상 스레드 모드의 처리량/p99 비교")
+    void compare_platform_and_virtual_threads() throws Exception {
+        Result platform = run("platform(200)", Executors.newFixedThreadPool(200), pool("bench_platform"));
+        Result virtual = run("virtual+bulkhead", Executors.newVirtualThreadPerTaskExecutor(),
+                new BulkheadDataSource(pool("bench_virtual"), POOL_SIZE + 20, Duration.ofSeconds(1)));
+
+        log.info("{}", platform);
+        log.info("{}", virtual);
+        assertThat(platform.completed() + platform.rejected()).isEqualTo(REQUESTS);
+        assertThat(virtual.completed() + virtual.rejected()).isEqualTo(REQUESTS);
+        // 플랫폼 스레드 모드는 풀 대기(connectionTimeout 30초) 안에 모두 처리, 가상 스레드 모드는 한도 초과분만 거절
+        assertThat(platform.rejected()).isZero();
+        assertThat(virtual.completed()).isPositive();
+        assertThat(platform.throughputPerSec()).isPositive();
+        assertThat(virtual.throughputPerSec()).isPositive();
+    }
+
+    private Result run(String name, ExecutorService executor, DataSource dataSource) throws Exception {
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(REQUESTS);
+        long start = System.nanoTime();
+        try (executor) {
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                long submitted = System.nanoTime();
+                futures.add(executor.submit(() -> {
+                    try {
+                        handleRequest(dataSource);
+                    } catch (SQLException e) {
+                        rejected.incrementAndGet();
+                    }
+                    latencies[index] = System.nanoTime() - submitted;
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (dataSource instanceof BulkheadDataSource bulkhead) {
+            ((HikariDataSource) bulkhead.getTargetDataSource()).close();
+        } else {
+            ((HikariDataSource) dataSource).close();
+        }
+        Arrays.sort(latencies);
+        return new Result(name, REQUESTS - rejected.get(), rejected.get(),
+                REQUESTS / (elapsed / 1_000_000_000.0),
+                latencies[(int) (REQUESTS * 0.99) - 1] / 1_000_000);
+    }
+
+    // 외부 I/O 대기 후 커넥션을 잡고 DB 작업
+    private static void handleRequest(DataSource dataSource) throws SQLException, InterruptedException {
+        Thread.sleep(IO_MS);
+        try (Connection con = dataSource.getConnection(); Statement st = con.createStatement()) {
+            st.execute("SELECT 1");
+            Thread.sleep(DB_MS);
+        }
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(POOL_SIZE);
+        dataSource.setPoolName(name);
+        return dataSource;
+    }
+
+    private record Result(String mode, int completed, int rejected, double throughputPerSec, long p99Ms) {
+        @Override
+        public String toString() {
+            return String.format("%-18s 처리량=%8.1f req/s, p99=%5d ms, 완료=%d, 거절=%d",
+                    mode, throughputPerSec, p99Ms, completed, rejected);
+        }
+    }
+}
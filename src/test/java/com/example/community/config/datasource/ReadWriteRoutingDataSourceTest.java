@@ -0,0 +1,238 @@
+package com.example.community.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 인메모리 DB를 primary/replica/batch 풀로 사용해 라우팅 동작 검증
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private DataSource batch;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate readWriteTx;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing_primary");
+        replica = h2("routing_replica");
+        batch = h2("routing_batch");
+        lagMonitor = new ReplicaLagMonitor(primary, replica, Duration.ofSeconds(3), Duration.ofSeconds(1),
+                new SimpleMeterRegistry());
+
+        use(new ReadWriteRoutingDataSource(primary, replica, batch, lagMonitor));
+    }
+
+    private void use(ReadWriteRoutingDataSource routingDataSource) {
+        DataSource routing = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbc = new JdbcTemplate(routing);
+        DataSourceTransactionManager txManager = new DataSourceTransactionManager(routing);
+        readOnlyTx = new TransactionTemplate(txManager);
+        readOnlyTx.setReadOnly(true);
+        readWriteTx = new TransactionTemplate(txManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PrimaryReadContext.end();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 그 외 트랜잭션은 primary에서 실행")
+    void routes_by_transaction_read_only_flag() {
+        replicaHeartbeat(System.currentTimeMillis());
+        lagMonitor.check();
+
+        assertThat(readOnlyTx.execute(status -> currentDb())).isEqualTo("replica");
+        assertThat(readWriteTx.execute(status -> currentDb())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 primary로")
+    void falls_back_to_primary_when_replica_lags() {
+        replicaHeartbeat(System.currentTimeMillis() - 60_000);
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readOnlyTx.execute(status -> currentDb())).isEqualTo("primary");
+
+        replicaHeartbeat(System.currentTimeMillis());
+        lagMonitor.check();
+        assertThat(readOnlyTx.execute(status -> currentDb())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("지연 측정이 멈춰 마지막 측정이 오래되면 읽기 전용 트랜잭션도 primary로")
+    void falls_back_to_primary_when_measurement_is_stale() throws InterruptedException {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, replica, Duration.ofMillis(100),
+                Duration.ofMillis(50), new SimpleMeterRegistry());
+        use(new ReadWriteRoutingDataSource(primary, replica, batch, monitor));
+        replicaHeartbeat(System.currentTimeMillis());
+        monitor.check();
+        assertThat(readOnlyTx.execute(status -> currentDb())).isEqualTo("replica");
+
+        Thread.sleep(300); // check()가 실행되지 않는 상태 (스케줄러 지연, 조회 멈춤)
+
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(readOnlyTx.execute(status -> currentDb())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("첫 지연 측정 전에는 복제본을 사용하지 않음")
+    void uses_primary_before_first_measurement() {
+        assertThat(readOnlyTx.execute(status -> currentDb())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("BatchPool 범위의 작업은 트랜잭션 종류와 무관하게 batch 풀 사용")
+    void background_jobs_use_batch_pool() {
+        replicaHeartbeat(System.currentTimeMillis());
+        lagMonitor.check();
+
+        assertThat(BatchPool.call(() -> readWriteTx.execute(status -> currentDb()))).isEqualTo("batch");
+        assertThat(BatchPool.call(() -> readOnlyTx.execute(status -> currentDb()))).isEqualTo("batch");
+        // 트랜잭션 시작 후 범위에 들어가도 첫 SQL 시점에 결정됨
+        assertThat(readWriteTx.execute(status -> BatchPool.call(this::currentDb))).isEqualTo("batch");
+
+        assertThat(BatchPool.isActive()).isFalse();
+        assertThat(readWriteTx.execute(status -> currentDb())).isEqualTo("primary");
+    }
+
+    interface Jobs {
+        String fresh();
+
+        String background();
+
+        String plain();
+    }
+
+    @Test
+    @DisplayName("@UsePool로 메서드 단위 풀 지정, 읽기 전용 트랜잭션도 INTERACTIVE_WRITE면 primary")
+    void use_pool_selects_pool_per_method() {
+        replicaHeartbeat(System.currentTimeMillis());
+        lagMonitor.check();
+        Jobs target = new Jobs() {
+            @Override
+            @UsePool(ReadWriteRoutingDataSource.Route.INTERACTIVE_WRITE)
+            public String fresh() {
+                return readOnlyTx.execute(status -> currentDb());
+            }
+
+            @Override
+            @UsePool(ReadWriteRoutingDataSource.Route.BATCH)
+            public String background() {
+                return readWriteTx.execute(status -> currentDb());
+            }
+
+            @Override
+            public String plain() {
+                return readOnlyTx.execute(status -> currentDb());
+            }
+        };
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addAdvisor(ConnectionPoolsConfig.usePoolAdvisor());
+        Jobs jobs = (Jobs) proxyFactory.getProxy();
+
+        assertThat(jobs.fresh()).isEqualTo("primary");
+        assertThat(jobs.background()).isEqualTo("batch");
+        assertThat(jobs.plain()).isEqualTo("replica");
+        assertThat(PoolSelection.current()).isNull();
+        // 선택 범위는 중첩되고 끝나면 바깥 선택으로 돌아감
+        assertThat(BatchPool.call(() -> jobs.fresh() + "," + currentDbReadOnly())).isEqualTo("primary,batch");
+    }
+
+    private String currentDbReadOnly() {
+        return readOnlyTx.execute(status -> currentDb());
+    }
+
+    @Test
+    @DisplayName("복제본 없이 풀만 분리하면 읽기 전용 트랜잭션은 지연 측정 없이 읽기 풀 사용")
+    void read_pool_without_replica_needs_no_lag_check() {
+        use(new ReadWriteRoutingDataSource(primary, replica, batch, null));
+
+        assertThat(readOnlyTx.execute(status -> currentDb())).isEqualTo("replica");
+        assertThat(readWriteTx.execute(status -> currentDb())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 요청 후 sticky-window 동안 같은 클라이언트의 읽기는 primary로")
+    void read_your_writes_window_pins_reads_to_primary() throws Exception {
+        replicaHeartbeat(System.currentTimeMillis());
+        lagMonitor.check();
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+        MockHttpServletResponse writeRes = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/posts"), writeRes, new MockFilterChain());
+        Cookie sticky = writeRes.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(sticky).isNotNull();
+
+        MockHttpServletRequest stickyRead = new MockHttpServletRequest("GET", "/api/posts/summary");
+        stickyRead.setCookies(sticky);
+        assertThat(readThrough(filter, stickyRead)).isEqualTo("primary");
+
+        assertThat(readThrough(filter, new MockHttpServletRequest("GET", "/api/posts/summary")))
+                .isEqualTo("replica");
+
+        // 만료되었거나 window를 넘는 쿠키는 무시
+        MockHttpServletRequest forged = new MockHttpServletRequest("GET", "/api/posts/summary");
+        forged.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                Long.toString(System.currentTimeMillis() + Duration.ofDays(1).toMillis())));
+        assertThat(readThrough(filter, forged)).isEqualTo("replica");
+    }
+
+    // 필터를 거친 요청 안에서 읽기 전용 트랜잭션이 사용한 DB
+    private String readThrough(ReadYourWritesFilter filter, MockHttpServletRequest req) throws Exception {
+        String[] db = new String[1];
+        AtomicBoolean called = new AtomicBoolean();
+        filter.doFilter(req, new MockHttpServletResponse(), (request, response) -> {
+            called.set(true);
+            db[0] = readOnlyTx.execute(status -> currentDb());
+        });
+        assertThat(called).isTrue();
+        return db[0];
+    }
+
+    private String currentDb() {
+        return jdbc.queryForObject("SELECT name FROM db_marker", String.class);
+    }
+
+    private void replicaHeartbeat(long beatAt) {
+        new JdbcTemplate(replica).update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", beatAt);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS db_marker");
+        jdbc.execute("DROP TABLE IF EXISTS replica_heartbeat");
+        jdbc.execute("CREATE TABLE db_marker (name VARCHAR(20))");
+        jdbc.update("INSERT INTO db_marker (name) VALUES (?)", name.substring(name.indexOf('_') + 1));
+        jdbc.execute("CREATE TABLE replica_heartbeat (id TINYINT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+        jdbc.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, 0)");
+        return dataSource;
+    }
+}
@@ -3,6 +3,10 @@ package com.example.community.repository;
 import com.example.community.domain.BoardType;
 import com.example.community.domain.Member;
 import com.example.community.domain.Post;
+import com.example.community.domain.PostImage;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,11 +14,13 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @org.springframework.test.context.ActiveProfiles("test")
 class PostRepositoryTest {
 
@@ -22,6 +28,8 @@ class PostRepositoryTest {
     private PostRepository posts;
     @Autowired
     private MemberRepository members;
+    @Autowired
+    private EntityManager em;
 
     @Test
     @DisplayName("BoardType별 페이징 조회 동작")
@@ -34,4 +42,52 @@ class PostRepositoryTest {
         Page<Post> page = posts.findWithAuthorByBoardTypeAndQuery(BoardType.FREE, "", PageRequest.of(0, 10));
         assertThat(page.getTotalElements()).isEqualTo(2);
     }
+
+    @Test
+    @DisplayName("게시글과 이미지 10개 저장 시 ID는 미리 할당되고 INSERT는 배치로 전송")
+    void post_with_images_is_batch_inserted() {
+        Member m = members.save(
+                Member.builder().username("u2").email("u2@test.com").password("p").roles(Set.of("ROLE_USER")).build());
+        Post post = Post.builder().title("t").content("c").author(m).build();
+        for (int i = 0; i < 10; i++) {
+            post.addImage(PostImage.builder().fileKey("posts/" + m.getId() + "/" + i + ".png")
+                    .originalName(i + ".png").contentType("image/png").size(1).url("http://x/" + i).build());
+        }
+        posts.save(post);
+        // 테이블 기반 ID 생성: flush 전에 ID가 정해짐 (IDENTITY라면 저장 즉시 INSERT 필요)
+        assertThat(post.getId()).isNotNull();
+        assertThat(post.getImages()).allSatisfy(img -> assertThat(img.getId()).isNotNull());
+
+        Statistics stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        em.flush();
+
+        // 게시글 INSERT 1회 + 이미지 INSERT 배치 1회
+        assertThat(stats.getEntityInsertCount()).isEqualTo(11);
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 표시는 버전을 올리고, 정리 작업은 삭제 표시된 게시글만 선점")
+    void bulk_mark_deleted_bumps_version() {
+        Member m = members.save(
+                Member.builder().username("u3").email("u3@test.com").password("p").roles(Set.of("ROLE_USER")).build());
+        Post deleted = posts.save(Post.builder().title("a").content("c").author(m).build());
+        posts.save(Post.builder().title("b").content("c").author(m).build());
+        em.flush();
+        long versionBefore = deleted.getVersion();
+
+        int marked = posts.markDeletedByIds(List.of(deleted.getId()), LocalDateTime.now());
+        // 이미 삭제 표시된 게시글은 다시 올리지 않음
+        int markedAgain = posts.markDeletedByIds(List.of(deleted.getId()), LocalDateTime.now());
+
+        assertThat(marked).isEqualTo(1);
+        assertThat(markedAgain).isZero();
+        Number version = (Number) em.createNativeQuery("SELECT version FROM posts WHERE id = :id")
+                .setParameter("id", deleted.getId())
+                .getSingleResult();
+        assertThat(version.longValue()).isEqualTo(versionBefore + 1);
+        assertThat(posts.findById(deleted.getId())).isEmpty();
+        assertThat(posts.findDeletedIdsForUpdate(10)).containsExactly(deleted.getId());
+    }
 }
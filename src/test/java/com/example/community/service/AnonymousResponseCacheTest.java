@@ -0,0 +1,160 @@
+package com.example.community.service;
+
+import com.example.community.domain.BoardType;
+import com.example.community.service.AnonymousResponseCache.CachedResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AnonymousResponseCacheTest {
+
+    private final CacheChangeLog changeLog = mock(CacheChangeLog.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AnonymousResponseCache cache(Duration ttl, long maxBytes) {
+        return new AnonymousResponseCache(changeLog, meterRegistry, true, ttl, maxBytes, 64 * 1024, 16);
+    }
+
+    private static CachedResponse response(String body) {
+        return new CachedResponse("application/json", "W/\"1\"", "no-cache, private",
+                body.getBytes(StandardCharsets.UTF_8), null, null);
+    }
+
+    private static void store(AnonymousResponseCache cache, String key, String body, String... tags) {
+        cache.put(key, cache.beginStore(), Set.of(tags), response(body));
+    }
+
+    @Test
+    @DisplayName("쓰기는 관련 태그의 응답만 제거")
+    void writes_purge_only_tagged_entries() {
+        AnonymousResponseCache cache = cache(Duration.ofMinutes(1), 1 << 20);
+        store(cache, "/api/posts/1", "상세1", AnonymousResponseCache.postTag(1L));
+        store(cache, "/api/posts/2", "상세2", AnonymousResponseCache.postTag(2L));
+        store(cache, "/api/posts/board/FREE/summary", "자유",
+                AnonymousResponseCache.postTag(1L), AnonymousResponseCache.boardTag(BoardType.FREE));
+        store(cache, "/api/posts/board/NOTICE/summary", "공지", AnonymousResponseCache.boardTag(BoardType.NOTICE));
+        store(cache, "/api/posts/2/comments", "댓글", AnonymousResponseCache.commentsTag(2L));
+
+        cache.postUpdated(1L, 3L);
+        verify(changeLog).append(CacheChangeLog.POST, "1", 3L);
+        assertThat(cache.get("/api/posts/1")).isNull();
+        assertThat(cache.get("/api/posts/board/FREE/summary")).isNull();
+        assertThat(cache.get("/api/posts/2")).isNotNull();
+        assertThat(cache.get("/api/posts/board/NOTICE/summary")).isNotNull();
+
+        cache.commentAdded(2L);
+        assertThat(cache.get("/api/posts/2/comments")).isNull();
+        assertThat(cache.get("/api/posts/2")).isNotNull();
+
+        cache.onCacheChanged(new CacheChangedEvent(CacheChangeLog.BOARD, "NOTICE", 0L));
+        assertThat(cache.get("/api/posts/board/NOTICE/summary")).isNull();
+
+        assertThat(meterRegistry.get("http.response.cache").tag("result", "hit").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("댓글 삭제는 해당 게시글의 댓글 목록만 제거")
+    void comment_delete_purges_only_its_post() {
+        AnonymousResponseCache cache = cache(Duration.ofMinutes(1), 1 << 20);
+        store(cache, "/api/posts/2/comments", "댓글2", AnonymousResponseCache.commentsTag(2L));
+        store(cache, "/api/posts/3/comments", "댓글3", AnonymousResponseCache.commentsTag(3L));
+        store(cache, "/api/posts/4/comments", "댓글4", AnonymousResponseCache.commentsTag(4L));
+
+        cache.commentDeleted(2L);
+        cache.onCacheChanged(new CacheChangedEvent(CacheChangeLog.COMMENTS, "3", 0L));
+
+        verify(changeLog).append(CacheChangeLog.COMMENTS, "2", 0L);
+        assertThat(cache.get("/api/posts/2/comments")).isNull();
+        assertThat(cache.get("/api/posts/3/comments")).isNull();
+        assertThat(cache.get("/api/posts/4/comments")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("응답 생성 중에 제거된 태그의 응답은 저장하지 않음")
+    void responses_rendered_before_a_purge_are_not_stored() {
+        AnonymousResponseCache cache = cache(Duration.ofMinutes(1), 1 << 20);
+        long begin = cache.beginStore();
+        cache.likesChanged(1L);
+
+        cache.put("/api/posts/1", begin, Set.of(AnonymousResponseCache.postTag(1L)), response("이전 값"));
+        cache.put("/api/posts/2", begin, Set.of(AnonymousResponseCache.postTag(2L)), response("무관한 게시글"));
+
+        assertThat(cache.get("/api/posts/1")).isNull();
+        assertThat(cache.get("/api/posts/2")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 응답은 사용하지 않음")
+    void expired_entries_are_not_served() {
+        AnonymousResponseCache cache = cache(Duration.ZERO, 1 << 20);
+        store(cache, "/api/posts/1", "상세", AnonymousResponseCache.postTag(1L));
+
+        assertThat(cache.get("/api/posts/1")).isNull();
+        assertThat(cache.bytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("본문과 색인 크기 합이 max-bytes를 넘으면 오래된 응답부터 제거")
+    void total_size_is_bounded() {
+        AnonymousResponseCache cache = cache(Duration.ofMinutes(1), 1000);
+        for (int i = 0; i < 20; i++) {
+            store(cache, "/api/posts/" + i, "0123456789", AnonymousResponseCache.postTag((long) i));
+        }
+
+        assertThat(cache.bytes()).isLessThanOrEqualTo(1000);
+        assertThat(cache.indexedTags()).isLessThan(20);
+        assertThat(cache.get("/api/posts/19")).isNotNull();
+        assertThat(cache.get("/api/posts/0")).isNull();
+    }
+
+    @Test
+    @DisplayName("제거된 응답의 태그 색인은 남기지 않고, 크기에는 키와 태그 색인도 포함")
+    void index_does_not_keep_empty_tags() {
+        AnonymousResponseCache cache = cache(Duration.ofMinutes(1), 1 << 20);
+        store(cache, "/api/posts/1", "상세", AnonymousResponseCache.postTag(1L));
+        assertThat(cache.bytes()).isGreaterThan("상세".getBytes(StandardCharsets.UTF_8).length
+                + 2L * ("/api/posts/1".length() + AnonymousResponseCache.postTag(1L).length()));
+
+        for (long id = 2; id <= 100; id++) {
+            store(cache, "/api/posts/board/FREE/summary?page=" + id, "목록",
+                    AnonymousResponseCache.postTag(id), AnonymousResponseCache.boardTag(BoardType.FREE));
+        }
+        // 같은 키를 다른 태그로 다시 저장하면 이전 태그 색인 제거
+        store(cache, "/api/posts/1", "상세", AnonymousResponseCache.postTag(1L), AnonymousResponseCache.ALL_BOARDS_TAG);
+        store(cache, "/api/posts/1", "상세", AnonymousResponseCache.postTag(1L));
+        assertThat(cache.indexedTags()).isEqualTo(101);
+
+        cache.purge(AnonymousResponseCache.boardTag(BoardType.FREE));
+        assertThat(cache.indexedTags()).isEqualTo(1);
+
+        AnonymousResponseCache expiring = cache(Duration.ZERO, 1 << 20);
+        store(expiring, "/api/posts/1", "상세", AnonymousResponseCache.postTag(1L));
+        assertThat(expiring.get("/api/posts/1")).isNull();
+        assertThat(expiring.indexedTags()).isZero();
+        assertThat(expiring.bytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("큰 본문은 gzip으로 미리 압축해 보관")
+    void large_bodies_are_precompressed() throws Exception {
+        AnonymousResponseCache cache = cache(Duration.ofMinutes(1), 1 << 20);
+        String body = "{\"title\":\"같은 제목\"}".repeat(50);
+        store(cache, "/api/posts/summary", body, AnonymousResponseCache.ALL_BOARDS_TAG);
+
+        CachedResponse cached = cache.get("/api/posts/summary");
+        assertThat(cached.gzipBody()).isNotNull().hasSizeLessThan(cached.body().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(cached.gzipBody()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(body);
+        }
+    }
+}
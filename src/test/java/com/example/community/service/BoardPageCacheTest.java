@@ -0,0 +1,186 @@
+package com.example.community.service;
+
+import com.example.community.domain.BoardType;
+import com.example.community.service.dto.PostSummaryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class BoardPageCacheTest {
+
+    private static final Pageable FIRST = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private final CacheChangeLog changeLog = mock(CacheChangeLog.class);
+    private BoardPageCache cache;
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.shutdown();
+        }
+    }
+
+    private BoardPageCache cache(int maxEntries, Duration freshFor) {
+        cache = new BoardPageCache(changeLog, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+                true, 3, maxEntries, freshFor, Duration.ofMinutes(1));
+        return cache;
+    }
+
+    @Test
+    @DisplayName("검색어 없는 첫 페이지들만 캐시하고, 검색/뒤쪽 페이지는 매번 조회")
+    void caches_only_first_pages_without_query() {
+        BoardPageCache cache = cache(100, Duration.ofMinutes(1));
+        CountingLoader loader = new CountingLoader("제목");
+
+        cache.get(BoardType.FREE, null, FIRST, loader);
+        cache.get(BoardType.FREE, " ", FIRST, loader);
+        assertThat(loader.calls).hasValue(1);
+
+        cache.get(BoardType.FREE, "검색", FIRST, loader);
+        cache.get(BoardType.FREE, null, PageRequest.of(3, 20, FIRST.getSort()), loader);
+        cache.get(BoardType.FREE, null, PageRequest.of(3, 20, FIRST.getSort()), loader);
+        assertThat(loader.calls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("게시글 생성/삭제는 해당 게시판과 전체 목록만 제거")
+    void create_and_delete_evict_board_and_all_pages() {
+        BoardPageCache cache = cache(100, Duration.ofMinutes(1));
+        CountingLoader free = new CountingLoader("자유");
+        CountingLoader notice = new CountingLoader("공지");
+        CountingLoader all = new CountingLoader("전체");
+        cache.get(BoardType.FREE, null, FIRST, free);
+        cache.get(BoardType.NOTICE, null, FIRST, notice);
+        cache.get(null, null, FIRST, all);
+
+        cache.postCreated(BoardType.FREE);
+        cache.get(BoardType.FREE, null, FIRST, free);
+        cache.get(BoardType.NOTICE, null, FIRST, notice);
+        cache.get(null, null, FIRST, all);
+
+        assertThat(free.calls).hasValue(2);
+        assertThat(notice.calls).hasValue(1);
+        assertThat(all.calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("게시글 수정은 캐시된 페이지의 제목만 교체 (다시 조회하지 않음)")
+    void update_writes_title_through() {
+        BoardPageCache cache = cache(100, Duration.ofMinutes(1));
+        CountingLoader loader = new CountingLoader("이전 제목");
+        cache.get(BoardType.FREE, null, FIRST, loader);
+
+        cache.postUpdated(1L, 3L, "새 제목");
+        Page<PostSummaryDto> page = cache.get(BoardType.FREE, null, FIRST, loader);
+
+        assertThat(page.getContent().get(0).title()).isEqualTo("새 제목");
+        assertThat(page.getContent().get(1).title()).isEqualTo("이전 제목");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(loader.calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("변경은 다른 노드용 로그에 기록하고, 다른 노드의 변경 이벤트를 받으면 해당 페이지 제거")
+    void propagates_changes_between_nodes() {
+        BoardPageCache cache = cache(100, Duration.ofMinutes(1));
+        CountingLoader free = new CountingLoader("자유");
+        CountingLoader notice = new CountingLoader("공지");
+        cache.get(BoardType.FREE, null, FIRST, free);
+        cache.get(BoardType.NOTICE, null, FIRST, notice);
+
+        cache.postUpdated(1L, 3L, "새 제목");
+        verify(changeLog).append(CacheChangeLog.POST, "1", 3L);
+
+        cache.onCacheChanged(new CacheChangedEvent(CacheChangeLog.BOARD, "NOTICE", 0L));
+        cache.get(BoardType.FREE, null, FIRST, free);
+        cache.get(BoardType.NOTICE, null, FIRST, notice);
+        assertThat(free.calls).hasValue(1);
+        assertThat(notice.calls).hasValue(2);
+
+        cache.onCacheChanged(new CacheChangedEvent(CacheChangeLog.POST, "2", 5L));
+        cache.get(BoardType.FREE, null, FIRST, free);
+        assertThat(free.calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("fresh-for가 지난 페이지는 이전 값을 응답하고 백그라운드에서 다시 조회")
+    void serves_stale_page_while_revalidating() throws Exception {
+        BoardPageCache cache = cache(100, Duration.ZERO);
+        CountingLoader loader = new CountingLoader("제목");
+        cache.get(BoardType.FREE, null, FIRST, loader);
+        long viewsBefore = cache.get(BoardType.FREE, null, FIRST, loader).getContent().get(0).viewCount();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (loader.calls.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(viewsBefore).isEqualTo(1);
+        assertThat(loader.calls.get()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("항목 수가 max-entries를 넘으면 오래된 페이지부터 제거")
+    void entry_count_is_bounded() {
+        BoardPageCache cache = cache(2, Duration.ofMinutes(1));
+        CountingLoader loader = new CountingLoader("제목");
+        for (int size = 1; size <= 10; size++) {
+            cache.get(BoardType.FREE, null, PageRequest.of(0, size, FIRST.getSort()), loader);
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+    }
+
+    // 호출될 때마다 조회수가 1씩 늘어난 페이지를 반환
+    @Test
+    @DisplayName("조회 도중 무효화된 페이지는 저장하지 않음")
+    void does_not_store_page_invalidated_during_load() {
+        BoardPageCache cache = cache(100, Duration.ofMinutes(1));
+        CountingLoader loader = new CountingLoader("제목");
+
+        cache.get(BoardType.FREE, null, FIRST, () -> {
+            Page<PostSummaryDto> page = loader.get();
+            cache.evictBoard(BoardType.FREE);
+            return page;
+        });
+
+        assertThat(cache.size()).isZero();
+        cache.get(BoardType.FREE, null, FIRST, loader);
+        assertThat(loader.calls).hasValue(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private static final class CountingLoader implements Supplier<Page<PostSummaryDto>> {
+        private final String title;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        CountingLoader(String title) {
+            this.title = title;
+        }
+
+        @Override
+        public Page<PostSummaryDto> get() {
+            int views = calls.incrementAndGet();
+            LocalDateTime now = LocalDateTime.now();
+            return new PageImpl<>(List.of(
+                    PostSummaryDto.from(1L, title, "작성자", false, now, views, 0, BoardType.FREE),
+                    PostSummaryDto.from(2L, title, "작성자", false, now, views, 0, BoardType.FREE)),
+                    FIRST, 2);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.community.service;
+
+import com.example.community.domain.CacheChange;
+import com.example.community.repository.CacheChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하나의 H2 DB를 공유하는 여러 노드(CacheChangeLog 인스턴스)의 무효화 전파 검증
+ * 실제 커밋 순서를 재현해야 하므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CacheChangeLogTest {
+
+    @Autowired
+    private CacheChangeRepository changes;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        changes.deleteAll();
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    private CacheChangeLog node(List<Object> received) {
+        CacheChangeLog node = new CacheChangeLog(changes, received::add, tx, true, 100,
+                Duration.ofSeconds(10), Duration.ofHours(1));
+        node.poll(); // 시작 위치 결정
+        return node;
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경만 이벤트로 받음 (자기 변경은 건너뜀)")
+    void other_nodes_receive_changes() {
+        List<Object> receivedA = new CopyOnWriteArrayList<>();
+        List<Object> receivedB = new CopyOnWriteArrayList<>();
+        CacheChangeLog nodeA = node(receivedA);
+        CacheChangeLog nodeB = node(receivedB);
+
+        tx.executeWithoutResult(status -> nodeA.append(CacheChangeLog.POST, "7", 2L));
+        nodeA.poll();
+        nodeB.poll();
+        nodeB.poll();
+
+        assertThat(receivedA).isEmpty();
+        assertThat(receivedB).containsExactly(new CacheChangedEvent(CacheChangeLog.POST, "7", 2L));
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 변경은 전파되지 않음")
+    void rolled_back_changes_are_not_published() {
+        List<Object> received = new CopyOnWriteArrayList<>();
+        CacheChangeLog writer = node(new CopyOnWriteArrayList<>());
+        CacheChangeLog reader = node(received);
+
+        tx.executeWithoutResult(status -> {
+            writer.append(CacheChangeLog.BOARD, "FREE", 0L);
+            status.setRollbackOnly();
+        });
+        reader.poll();
+
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("늦게 커밋된 트랜잭션의 변경(앞선 ID)도 놓치지 않음")
+    void late_commits_behind_the_cursor_are_picked_up() throws Exception {
+        List<Object> received = new CopyOnWriteArrayList<>();
+        CacheChangeLog writer = node(new CopyOnWriteArrayList<>());
+        CacheChangeLog reader = node(received);
+
+        CountDownLatch appended = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slow = new Thread(() -> tx.executeWithoutResult(status -> {
+            writer.append(CacheChangeLog.POST, "1", 0L);
+            appended.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        slow.start();
+        assertThat(appended.await(5, TimeUnit.SECONDS)).isTrue();
+
+        tx.executeWithoutResult(status -> writer.append(CacheChangeLog.POST, "2", 0L));
+        reader.poll();
+        assertThat(received).containsExactly(new CacheChangedEvent(CacheChangeLog.POST, "2", 0L));
+
+        release.countDown();
+        slow.join(5000);
+        reader.poll();
+        assertThat(received).containsExactly(
+                new CacheChangedEvent(CacheChangeLog.POST, "2", 0L),
+                new CacheChangedEvent(CacheChangeLog.POST, "1", 0L));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 항목은 정리")
+    void trims_old_rows() {
+        CacheChangeLog node = node(new CopyOnWriteArrayList<>());
+        changes.save(CacheChange.builder().entityType(CacheChangeLog.BOARD).entityId("FREE").origin("old")
+                .createdAt(LocalDateTime.now().minusHours(2)).build());
+        tx.executeWithoutResult(status -> node.append(CacheChangeLog.BOARD, "FREE", 0L));
+
+        node.trim();
+
+        assertThat(changes.findAll()).extracting(CacheChange::getOrigin).doesNotContain("old").hasSize(1);
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.community.service;
+
+import com.example.community.domain.UploadSession;
+import com.example.community.repository.UploadSessionRepository;
+import com.example.community.service.dto.ImageMeta;
+import com.example.community.service.exception.BusinessException;
+import com.example.community.service.exception.ForbiddenOperationException;
+import com.example.community.storage.Storage;
+import com.example.community.storage.StorageException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChunkedUploadServiceTest {
+
+    private final Path sessionDir = Path.of(System.getProperty("java.io.tmpdir"), "chunked-upload-test");
+
+    private UploadSessionRepository sessions;
+    private Storage storage;
+    private PlatformTransactionManager txManager;
+    private ChunkedUploadService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        deleteDir();
+        sessions = mock(UploadSessionRepository.class);
+        storage = mock(Storage.class);
+        txManager = mock(PlatformTransactionManager.class);
+        service = new ChunkedUploadService(sessions, storage, new TransactionTemplate(txManager));
+        ReflectionTestUtils.setField(service, "sessionDir", sessionDir.toString());
+        ReflectionTestUtils.setField(service, "ttl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(service, "maxChunkBytes", 8);
+        ReflectionTestUtils.setField(service, "maxPerMember", 10);
+        ReflectionTestUtils.setField(service, "completeLease", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(service, "cleanupBatchSize", 100);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        deleteDir();
+    }
+
+    private void deleteDir() throws IOException {
+        if (Files.exists(sessionDir)) {
+            try (Stream<Path> paths = Files.walk(sessionDir)) {
+                for (Path p : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(p);
+                }
+            }
+        }
+    }
+
+    private UploadSession session(long totalSize) {
+        UploadSession session = UploadSession.builder()
+                .id("s1")
+                .memberId(1L)
+                .fileName("a.png")
+                .contentType("image/png")
+                .totalSize(totalSize)
+                .receivedBytes(0)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+        when(sessions.findByIdForUpdate("s1")).thenReturn(Optional.of(session));
+        return session;
+    }
+
+    private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 1, 2, 3, 4 };
+
+    @Test
+    @DisplayName("조각을 위치대로 기록하고, 재전송된 조각은 덮어씀")
+    void append_chunks_then_complete() throws Exception {
+        UploadSession session = session(PNG.length);
+
+        service.appendChunk(1L, "s1", 0, new ByteArrayInputStream(Arrays.copyOfRange(PNG, 0, 8)), 8);
+        assertThat(session.getReceivedBytes()).isEqualTo(8);
+        // 마지막 조각 응답을 받지 못해 같은 위치부터 다시 보낸 경우
+        service.appendChunk(1L, "s1", 4, new ByteArrayInputStream(Arrays.copyOfRange(PNG, 4, 12)), 8);
+        assertThat(session.getReceivedBytes()).isEqualTo(PNG.length);
+        assertThat(Files.readAllBytes(sessionDir.resolve("s1.part"))).isEqualTo(PNG);
+
+        when(storage.storeWithKey(any(MultipartFile.class), anyString())).thenAnswer(inv -> {
+            String key = inv.getArgument(1);
+            return new Storage.StoredFile(key, "a.png", "image/png", PNG.length, "http://localhost/files/" + key);
+        });
+        ImageMeta meta = service.complete(1L, "s1");
+
+        assertThat(meta.key()).startsWith("posts/1/").endsWith(".png");
+        verify(sessions).delete(session);
+        assertThat(sessionDir.resolve("s1.part")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("받은 위치를 넘어선 조각은 거부")
+    void append_rejects_gap() {
+        UploadSession session = session(PNG.length);
+
+        assertThatThrownBy(() -> service.appendChunk(1L, "s1", 4,
+                new ByteArrayInputStream(Arrays.copyOfRange(PNG, 4, 8)), 4))
+                .isInstanceOf(BusinessException.class);
+        assertThat(session.getReceivedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 받은 조각은 이 노드의 임시 파일 길이부터 다시 받음")
+    void append_resumes_from_local_part_length() throws Exception {
+        UploadSession session = session(PNG.length);
+        // 앞 조각은 이 노드, 다음 조각은 다른 노드가 받아 DB의 받은 위치만 앞서 있는 상태
+        service.appendChunk(1L, "s1", 0, new ByteArrayInputStream(Arrays.copyOfRange(PNG, 0, 4)), 4);
+        session.advance(8, LocalDateTime.now().plusHours(1));
+
+        BusinessException e = (BusinessException) catchThrowable(() -> service.appendChunk(1L, "s1", 8,
+                new ByteArrayInputStream(Arrays.copyOfRange(PNG, 8, 12)), 4));
+        assertThat(e.getErrorCode()).isEqualTo("UPLOAD_OFFSET_MISMATCH");
+        assertThat(e.getMessage()).endsWith(": 4");
+        assertThat(Files.size(sessionDir.resolve("s1.part"))).isEqualTo(4);
+
+        service.appendChunk(1L, "s1", 4, new ByteArrayInputStream(Arrays.copyOfRange(PNG, 4, 12)), 8);
+        assertThat(Files.readAllBytes(sessionDir.resolve("s1.part"))).isEqualTo(PNG);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 세션 사용 불가, 미완료 세션은 완료 불가")
+    void rejects_other_member_and_incomplete_session() {
+        session(PNG.length);
+
+        assertThatThrownBy(() -> service.appendChunk(2L, "s1", 0,
+                new ByteArrayInputStream(Arrays.copyOfRange(PNG, 0, 8)), 8))
+                .isInstanceOf(ForbiddenOperationException.class);
+        assertThatThrownBy(() -> service.complete(1L, "s1"))
+                .isInstanceOf(BusinessException.class);
+        verify(storage, never()).storeWithKey(any(MultipartFile.class), anyString());
+    }
+
+    @Test
+    @DisplayName("완료 처리 중 표시를 커밋한 뒤 잠금 밖에서 저장, 그동안 조각 쓰기/취소 거부, 저장 실패 시 다시 완료 가능")
+    void complete_stores_outside_session_lock() throws Exception {
+        UploadSession session = session(PNG.length);
+        service.appendChunk(1L, "s1", 0, new ByteArrayInputStream(Arrays.copyOfRange(PNG, 0, 8)), 8);
+        service.appendChunk(1L, "s1", 8, new ByteArrayInputStream(Arrays.copyOfRange(PNG, 8, 12)), 4);
+
+        when(storage.storeWithKey(any(MultipartFile.class), anyString()))
+                .thenAnswer(inv -> {
+                    assertThatThrownBy(() -> service.appendChunk(1L, "s1", 0,
+                            new ByteArrayInputStream(Arrays.copyOfRange(PNG, 0, 8)), 8))
+                            .isInstanceOf(BusinessException.class);
+                    assertThatThrownBy(() -> service.cancel(1L, "s1")).isInstanceOf(BusinessException.class);
+                    assertThatThrownBy(() -> service.complete(1L, "s1")).isInstanceOf(BusinessException.class);
+                    throw new StorageException("저장소 오류");
+                })
+                .thenAnswer(inv -> {
+                    String key = inv.getArgument(1);
+                    return new Storage.StoredFile(key, "a.png", "image/png", PNG.length, "http://localhost/files/" + key);
+                });
+
+        assertThatThrownBy(() -> service.complete(1L, "s1")).isInstanceOf(StorageException.class);
+        assertThat(session.getCompletingAt()).isNull();
+        verify(sessions, never()).delete(any());
+        assertThat(sessionDir.resolve("s1.part")).exists();
+
+        clearInvocations(txManager, storage);
+        InOrder order = inOrder(txManager, storage);
+        service.complete(1L, "s1");
+        order.verify(txManager).commit(any());
+        order.verify(storage).storeWithKey(any(MultipartFile.class), anyString());
+        order.verify(txManager).commit(any());
+        verify(sessions).delete(session);
+    }
+
+    @Test
+    @DisplayName("중단된 완료 처리는 유지 시간이 지나면 다시 완료 가능")
+    void stale_completion_can_be_retried() {
+        UploadSession session = session(PNG.length);
+        session.advance(PNG.length, LocalDateTime.now().plusHours(1));
+        session.startCompleting(LocalDateTime.now().minusMinutes(10), LocalDateTime.now().plusHours(1));
+
+        assertThat(session.isCompleting(LocalDateTime.now().minusMinutes(5))).isFalse();
+        // 이 노드에 임시 파일이 없으므로 (다른 노드가 받은 조각) 세션을 유지하고 이 노드의 받은 위치를 알림
+        BusinessException e = (BusinessException) catchThrowable(() -> service.complete(1L, "s1"));
+        assertThat(e.getErrorCode()).isEqualTo("UPLOAD_OFFSET_MISMATCH");
+        assertThat(session.getCompletingAt()).isNull();
+        verify(sessions, never()).delete(any());
+    }
+}
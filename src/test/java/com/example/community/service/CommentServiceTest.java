@@ -1,5 +1,6 @@
 package com.example.community.service;
 
+import com.example.community.auth.Actor;
 import com.example.community.domain.Comment;
 import com.example.community.domain.Member;
 import com.example.community.domain.Post;
@@ -18,13 +19,18 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import com.example.community.repository.dto.CommentProjection;
+import com.example.community.service.exception.EntityNotFoundException;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +45,12 @@ class CommentServiceTest {
         @Mock
         private MemberRepository memberRepository;
 
+        @Mock
+        private MissingPostCache missingPosts;
+
+        @Mock
+        private AnonymousResponseCache responseCache;
+
         @InjectMocks
         private CommentService commentService;
 
@@ -108,4 +120,65 @@ class CommentServiceTest {
                 assertThat(result.getContent().get(1).content()).isEqualTo("두 번째 댓글");
                 assertThat(result.getTotalElements()).isEqualTo(2);
         }
+
+        @Test
+        @DisplayName("버전 조회로 확인한 게시글의 댓글 페이지는 게시글 존재 여부를 다시 조회하지 않음")
+        void getProjectionsByCheckedPost_skipsExistenceCheck() {
+                Pageable pageable = PageRequest.of(0, 10);
+                when(commentRepository.findProjectionsByPostId(eq(post.getId()), any(Pageable.class)))
+                                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+                Page<CommentProjection> result = commentService.getProjectionsByCheckedPost(post.getId(), pageable);
+
+                assertThat(result.getContent()).isEmpty();
+                verify(postRepository, never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("댓글 작성 시 게시글은 조회하지 않고 참조 프록시로 연결")
+        void add_usesPostReferenceWithoutLoadingPost() {
+                when(memberRepository.findByIdIfPostExists(1L, 1L)).thenReturn(Optional.of(author));
+                when(postRepository.getReferenceById(1L)).thenReturn(post);
+                when(commentRepository.save(any(Comment.class))).thenAnswer(inv -> inv.getArgument(0));
+
+                Comment saved = commentService.add(1L, 1L, "  새 댓글  ");
+
+                assertThat(saved.getContent()).isEqualTo("새 댓글");
+                assertThat(saved.getAuthor()).isSameAs(author);
+                verify(postRepository, never()).findById(any());
+                verify(memberRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("게시글이 없으면 게시글 미존재 예외, 작성자가 없으면 작성자 미존재 예외")
+        void add_reportsMissingPostOrAuthor() {
+                when(memberRepository.findByIdIfPostExists(1L, 99L)).thenReturn(Optional.empty());
+                when(memberRepository.existsById(1L)).thenReturn(true);
+                assertThatThrownBy(() -> commentService.add(99L, 1L, "댓글"))
+                                .isInstanceOf(EntityNotFoundException.class)
+                                .hasMessageContaining("게시글");
+
+                when(memberRepository.findByIdIfPostExists(2L, 1L)).thenReturn(Optional.empty());
+                when(memberRepository.existsById(2L)).thenReturn(false);
+                assertThatThrownBy(() -> commentService.add(1L, 2L, "댓글"))
+                                .isInstanceOf(EntityNotFoundException.class)
+                                .hasMessageContaining("작성자");
+                verify(commentRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("댓글 삭제 시 해당 게시글의 댓글 목록 캐시만 무효화, 없는 댓글은 삭제 시도 없이 404")
+        void delete_purgesOnlyItsPostComments() {
+                when(commentRepository.findPostIdById(1L)).thenReturn(Optional.of(7L));
+                when(commentRepository.deleteByIdAndAuthor_Id(1L, 1L)).thenReturn(1);
+
+                commentService.delete(1L, new Actor(1L, Set.of("ROLE_USER")));
+
+                verify(responseCache).commentDeleted(7L);
+
+                when(commentRepository.findPostIdById(2L)).thenReturn(Optional.empty());
+                assertThatThrownBy(() -> commentService.delete(2L, new Actor(9L, Set.of("ROLE_ADMIN"))))
+                                .isInstanceOf(EntityNotFoundException.class);
+                verify(commentRepository, never()).deleteByIdBulk(any());
+        }
 }
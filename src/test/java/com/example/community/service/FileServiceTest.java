@@ -3,6 +3,8 @@ package com.example.community.service;
 import com.example.community.common.FilePolicy;
 import com.example.community.repository.PostImageRepository;
 import com.example.community.service.dto.ImageMeta;
+import com.example.community.service.exception.InvalidImageException;
+import com.example.community.storage.DirectUploadStorage;
 import com.example.community.storage.Storage;
 import com.example.community.storage.Storage.StoredFile;
 import org.junit.jupiter.api.DisplayName;
@@ -14,14 +16,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @ExtendWith(MockitoExtension.class)
 class FileServiceTest {
@@ -32,6 +39,9 @@ class FileServiceTest {
         @Mock
         private PostImageRepository postImageRepository;
 
+        @Mock
+        private StorageDeletionQueue deletionQueue;
+
         @InjectMocks
         private FileService fileService;
 
@@ -100,4 +110,45 @@ class FileServiceTest {
                 assertThat(imageMetas.get(0).key()).isEqualTo(fileKey);
                 assertThat(imageMetas.get(0).url()).isEqualTo("http://localhost:8080/files/" + fileKey);
         }
+
+        @Test
+        @DisplayName("직접 업로드를 지원하지 않는 저장소에서는 업로드 URL 발급 거부")
+        void presign_rejected_when_storage_does_not_support_direct_upload() {
+                assertThatThrownBy(() -> fileService.presignPostImageUpload(1L, "image/png", 100))
+                                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("직접 업로드 확인: 시그니처가 일치하면 키와 URL 반환")
+        void confirm_direct_upload_returns_image_meta() {
+                Storage direct = mock(Storage.class, withSettings().extraInterfaces(DirectUploadStorage.class));
+                FileService service = new FileService(direct, postImageRepository, deletionQueue);
+                String key = "posts/1/abc.png";
+                when(direct.stat(key)).thenReturn(Optional.of(
+                                new Storage.FileMeta(key, 12, "image/png", Instant.now(), "etag")));
+                when(((DirectUploadStorage) direct).readHead(key, FilePolicy.HEAD_BYTES)).thenReturn(
+                                new byte[] { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0 });
+                when(direct.url(key)).thenReturn("http://localhost:8080/files/" + key);
+
+                ImageMeta meta = service.confirmPostImageUpload(1L, key);
+
+                assertThat(meta.key()).isEqualTo(key);
+                assertThat(meta.url()).isEqualTo("http://localhost:8080/files/" + key);
+        }
+
+        @Test
+        @DisplayName("직접 업로드 확인: 시그니처가 다르면 객체를 삭제하고 거부")
+        void confirm_direct_upload_deletes_object_on_signature_mismatch() {
+                Storage direct = mock(Storage.class, withSettings().extraInterfaces(DirectUploadStorage.class));
+                FileService service = new FileService(direct, postImageRepository, deletionQueue);
+                String key = "posts/1/abc.png";
+                when(direct.stat(key)).thenReturn(Optional.of(
+                                new Storage.FileMeta(key, 12, "image/png", Instant.now(), "etag")));
+                when(((DirectUploadStorage) direct).readHead(key, FilePolicy.HEAD_BYTES))
+                                .thenReturn("<html>".getBytes());
+
+                assertThatThrownBy(() -> service.confirmPostImageUpload(1L, key))
+                                .isInstanceOf(InvalidImageException.class);
+                verify(direct).delete(key);
+        }
 }
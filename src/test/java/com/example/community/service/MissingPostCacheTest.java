@@ -0,0 +1,185 @@
+package com.example.community.service;
+
+import com.example.community.config.datasource.PrimaryReadContext;
+import com.example.community.repository.PostRepository;
+import com.example.community.service.exception.EntityNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MissingPostCacheTest {
+
+    private final PostRepository posts = mock(PostRepository.class);
+    private final CacheChangeLog changeLog = mock(CacheChangeLog.class);
+
+    @BeforeEach
+    void setUp() {
+        when(changeLog.isEnabled()).thenReturn(true);
+        when(posts.findIdsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        when(posts.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L, 3L));
+    }
+
+    private MissingPostCache cache(Duration missTtl) {
+        return cache(missTtl, false);
+    }
+
+    private MissingPostCache cache(Duration missTtl, boolean replicaEnabled) {
+        return new MissingPostCache(posts, changeLog, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry(), true, missTtl, 1000, 10_000, 0.01, 100, replicaEnabled);
+    }
+
+    @Test
+    @DisplayName("필터 구성 후 없는 ID는 존재 여부 확인 후 스택 트레이스 없는 404 예외, 이후 DB 조회 없이 거절")
+    void rejects_ids_absent_from_filter() {
+        MissingPostCache cache = cache(Duration.ofSeconds(30));
+        assertThat(cache.isKnownMissing(999L)).isFalse(); // 구성 전에는 판정하지 않음
+
+        cache.load();
+
+        verify(changeLog).start();
+        assertThatCode(() -> cache.rejectIfKnownMissing(2L)).doesNotThrowAnyException();
+        EntityNotFoundException e = catchThrowableOfType(() -> cache.rejectIfKnownMissing(999L),
+                EntityNotFoundException.class);
+        assertThat(e).isNotNull();
+        assertThat(e.getStackTrace()).isEmpty();
+        verify(posts, never()).existsById(2L);
+
+        assertThat(cache.isKnownMissing(999L)).isTrue();
+        verify(posts, times(1)).existsById(999L);
+    }
+
+    @Test
+    @DisplayName("필터에 없어도 DB에 있는 게시글(다른 노드에서 생성, 변경 로그 반영 전)은 허용")
+    void filter_negative_is_checked_against_db() {
+        MissingPostCache cache = cache(Duration.ofSeconds(30));
+        cache.load();
+        when(posts.existsById(50L)).thenReturn(true);
+
+        assertThatCode(() -> cache.rejectIfKnownMissing(50L)).doesNotThrowAnyException();
+        assertThatCode(() -> cache.rejectIfKnownMissing(50L)).doesNotThrowAnyException();
+
+        // 확인된 ID는 필터에 추가되어 다시 조회하지 않음
+        verify(posts, times(1)).existsById(50L);
+    }
+
+    @Test
+    @DisplayName("읽기 복제본을 사용하면 primary에서 읽은 요청의 없음 결과만 기록")
+    void records_only_primary_misses_with_replica() {
+        MissingPostCache cache = cache(Duration.ofSeconds(30), true);
+
+        cache.recordMiss(5L, cache.lookupToken());
+        assertThat(cache.isKnownMissing(5L)).isFalse();
+
+        PrimaryReadContext.begin(true);
+        try {
+            cache.recordMiss(5L, cache.lookupToken());
+        } finally {
+            PrimaryReadContext.end();
+        }
+        assertThat(cache.isKnownMissing(5L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB에서 없다고 확인된 ID는 miss-ttl 동안만 거절")
+    void remembers_misses_for_ttl() {
+        MissingPostCache shortLived = cache(Duration.ZERO);
+        shortLived.recordMiss(5L, shortLived.lookupToken());
+        assertThat(shortLived.isKnownMissing(5L)).isFalse();
+
+        MissingPostCache cache = cache(Duration.ofSeconds(30));
+        cache.recordMiss(5L, cache.lookupToken());
+        assertThat(cache.isKnownMissing(5L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이 노드와 다른 노드에서 생성된 게시글은 바로 허용")
+    void new_posts_are_accepted() {
+        MissingPostCache cache = cache(Duration.ofSeconds(30));
+        cache.load();
+        cache.recordMiss(10L, cache.lookupToken());
+        cache.recordMiss(11L, cache.lookupToken());
+
+        cache.postCreated(10L);
+        cache.onCacheChanged(new CacheChangedEvent(CacheChangeLog.POST, "11", 0L));
+        cache.onCacheChanged(new CacheChangedEvent(CacheChangeLog.POST, "12", 0L));
+
+        verify(changeLog).append(CacheChangeLog.POST, "10", 0L);
+        assertThat(cache.isKnownMissing(10L)).isFalse();
+        assertThat(cache.isKnownMissing(11L)).isFalse();
+        assertThat(cache.isKnownMissing(12L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회 도중 생성이 반영되면 그 조회의 없음 결과는 기록하지 않음")
+    void miss_observed_before_creation_is_not_recorded() {
+        MissingPostCache cache = cache(Duration.ofSeconds(30));
+        cache.load();
+
+        // 조회 시작 → 이 노드에서 생성 커밋 → 커밋 전 상태를 읽은 조회가 없음 기록
+        long token = cache.lookupToken();
+        cache.postCreated(20L);
+        cache.recordMiss(20L, token);
+
+        // 조회 시작 → 다른 노드의 생성 반영 → 없음 기록
+        long remoteToken = cache.lookupToken();
+        cache.onCacheChanged(new CacheChangedEvent(CacheChangeLog.POST, "21", 0L));
+        cache.recordMiss(21L, remoteToken);
+
+        assertThat(cache.isKnownMissing(20L)).isFalse();
+        assertThat(cache.isKnownMissing(21L)).isFalse();
+
+        // 생성 반영 이후 시작한 조회의 없음 결과는 기록 (삭제된 게시글)
+        cache.recordMiss(20L, cache.lookupToken());
+        assertThat(cache.isKnownMissing(20L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("변경 로그가 꺼져 있으면 다른 노드의 생성을 알 수 없으므로 필터를 사용하지 않음")
+    void filter_requires_change_log() {
+        when(changeLog.isEnabled()).thenReturn(false);
+        MissingPostCache cache = cache(Duration.ofSeconds(30));
+
+        cache.load();
+
+        verify(posts, never()).findIdsAfter(anyLong(), any(Pageable.class));
+        assertThat(cache.isKnownMissing(999L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Bloom filter: 추가한 값은 항상 포함, 오탐률은 목표 근처")
+    void bloom_filter_has_no_false_negatives() {
+        LongBloomFilter filter = new LongBloomFilter(10_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            filter.put(id);
+        }
+        for (long id = 1; id <= 10_000; id++) {
+            assertThat(filter.mightContain(id)).isTrue();
+        }
+        long falsePositives = 0;
+        for (long id = 10_001; id <= 110_000; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(3_000);
+    }
+}
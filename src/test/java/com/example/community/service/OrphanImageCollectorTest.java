@@ -0,0 +1,136 @@
+package com.example.community.service;
+
+import com.example.community.common.FilePolicy;
+import com.example.community.domain.PostImage;
+import com.example.community.domain.StorageGcState;
+import com.example.community.repository.PostImageRepository;
+import com.example.community.repository.StorageGcStateRepository;
+import com.example.community.storage.Storage;
+import com.example.community.storage.Storage.FileMeta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrphanImageCollectorTest {
+    @Mock
+    private Storage storage;
+    @Mock
+    private PostImageRepository postImages;
+    @Mock
+    private StorageGcStateRepository gcStates;
+    @Mock
+    private StorageDeletionQueue deletionQueue;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrphanImageCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        collector = new OrphanImageCollector(storage, postImages, gcStates, deletionQueue, meterRegistry,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(collector, "gracePeriod", Duration.ofHours(24));
+        ReflectionTestUtils.setField(collector, "batchSize", 3);
+        ReflectionTestUtils.setField(collector, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(collector, "maxDeletesPerRun", 100);
+        ReflectionTestUtils.setField(collector, "batchPauseMs", 0L);
+        when(gcStates.save(any(StorageGcState.class))).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    private FileMeta meta(String key, long size, Instant modified) {
+        return new FileMeta(key, size, "image/png", modified, null);
+    }
+
+    @Test
+    @DisplayName("참조되지 않고 유예 기간이 지난 파일만 삭제 대기열에 등록하고 회수 바이트를 기록")
+    void collect_deletesOnlyOldUnreferencedFiles() {
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        FileMeta referenced = meta("posts/1/a.png", 10, old);
+        FileMeta orphan = meta("posts/1/b.png", 20, old);
+        FileMeta recent = meta("posts/1/c.png", 30, Instant.now());
+        FileMeta orphan2 = meta("posts/2/d.png", 40, old);
+
+        when(gcStates.findById(OrphanImageCollector.STATE_NAME)).thenReturn(Optional.empty());
+        when(storage.listKeys(FilePolicy.POST_IMAGES_PATH, null, 3)).thenReturn(List.of(referenced, orphan, recent));
+        when(storage.listKeys(FilePolicy.POST_IMAGES_PATH, "posts/1/c.png", 3)).thenReturn(List.of(orphan2));
+        when(postImages.findReferencedFileKeys(anyCollection())).thenReturn(List.of("posts/1/a.png"), List.of());
+
+        OrphanImageCollector.RunResult result = collector.collect();
+
+        verify(deletionQueue).enqueue(List.of("posts/1/b.png"));
+        verify(deletionQueue).enqueue(List.of("posts/2/d.png"));
+        verify(storage, never()).delete(anyString());
+        assertThat(result.deleted()).isEqualTo(2);
+        assertThat(result.reclaimedBytes()).isEqualTo(60L);
+        assertThat(result.passCompleted()).isTrue();
+        assertThat(meterRegistry.counter("storage.gc.reclaimed.files").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("삭제 예산 소진 시 마지막 처리 키를 커서로 저장하고 다음 실행에서 이어서 진행")
+    void collect_stopsAtBudgetAndResumesFromCursor() {
+        ReflectionTestUtils.setField(collector, "maxDeletesPerRun", 1);
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        StorageGcState state = StorageGcState.builder().name(OrphanImageCollector.STATE_NAME)
+                .cursorKey("posts/1/0.png").build();
+
+        when(gcStates.findById(OrphanImageCollector.STATE_NAME)).thenReturn(Optional.of(state));
+        when(storage.listKeys(FilePolicy.POST_IMAGES_PATH, "posts/1/0.png", 3))
+                .thenReturn(List.of(meta("posts/1/a.png", 5, old), meta("posts/1/b.png", 7, old)));
+        when(postImages.findReferencedFileKeys(anyCollection())).thenReturn(List.of());
+
+        OrphanImageCollector.RunResult result = collector.collect();
+
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(result.passCompleted()).isFalse();
+        ArgumentCaptor<StorageGcState> saved = ArgumentCaptor.forClass(StorageGcState.class);
+        verify(gcStates, atLeastOnce()).save(saved.capture());
+        assertThat(saved.getValue().getCursorKey()).isEqualTo("posts/1/a.png");
+        assertThat(saved.getValue().getReclaimedBytes()).isEqualTo(5L);
+        verify(deletionQueue).enqueue(List.of("posts/1/a.png"));
+    }
+
+    @Test
+    @DisplayName("삭제를 먼저 등록한 뒤 잠금 재확인에서 첨부된 파일의 등록을 취소")
+    void collect_skipsFilesAttachedBeforeSweep() {
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        when(gcStates.findById(OrphanImageCollector.STATE_NAME)).thenReturn(Optional.empty());
+        when(storage.listKeys(FilePolicy.POST_IMAGES_PATH, null, 3))
+                .thenReturn(List.of(meta("posts/1/a.png", 5, old), meta("posts/1/b.png", 7, old)));
+        when(postImages.findReferencedFileKeys(anyCollection())).thenReturn(List.of());
+        when(postImages.findByFileKeyInForUpdate(List.of("posts/1/a.png", "posts/1/b.png")))
+                .thenReturn(List.of(PostImage.builder().fileKey("posts/1/a.png").build()));
+
+        OrphanImageCollector.RunResult result = collector.collect();
+
+        InOrder order = inOrder(deletionQueue, postImages);
+        order.verify(deletionQueue).enqueue(List.of("posts/1/a.png", "posts/1/b.png"));
+        order.verify(postImages).findByFileKeyInForUpdate(List.of("posts/1/a.png", "posts/1/b.png"));
+        order.verify(deletionQueue).cancel(Set.of("posts/1/a.png"));
+        verify(storage, never()).delete(anyString());
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(result.reclaimedBytes()).isEqualTo(7L);
+    }
+}
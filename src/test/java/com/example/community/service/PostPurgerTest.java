@@ -0,0 +1,105 @@
+package com.example.community.service;
+
+import com.example.community.domain.PostImage;
+import com.example.community.repository.CommentRepository;
+import com.example.community.repository.PostImageRepository;
+import com.example.community.repository.PostLikeRepository;
+import com.example.community.repository.PostRepository;
+import com.example.community.repository.PostViewSketchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostPurgerTest {
+
+    private PostRepository posts;
+    private CommentRepository comments;
+    private PostLikeRepository likes;
+    private PostImageRepository images;
+    private PostViewSketchRepository viewSketches;
+    private StorageDeletionQueue deletionQueue;
+    private PostPurger purger;
+
+    @BeforeEach
+    void setUp() {
+        posts = mock(PostRepository.class);
+        comments = mock(CommentRepository.class);
+        likes = mock(PostLikeRepository.class);
+        images = mock(PostImageRepository.class);
+        viewSketches = mock(PostViewSketchRepository.class);
+        deletionQueue = mock(StorageDeletionQueue.class);
+        purger = new PostPurger(posts, comments, likes, images, viewSketches, deletionQueue,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(purger, "batchSize", 2);
+        ReflectionTestUtils.setField(purger, "maxBatchesPerRun", 20);
+        ReflectionTestUtils.setField(purger, "batchPauseMs", 0L);
+    }
+
+    @Test
+    @DisplayName("댓글 → 좋아요 → 이미지 → 조회자 스케치와 게시글 행 순으로 배치 단위 삭제")
+    void purges_children_in_batches_then_post_row() {
+        PostImage image = PostImage.builder().id(5L).fileKey("posts/1/a.png").build();
+        when(posts.findDeletedIdsForUpdate(1)).thenReturn(List.of(10L), List.of(10L), List.of(10L), List.of(10L),
+                List.of(10L), List.of());
+        when(comments.findIdsByPostId(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        when(likes.findIdsByPostId(eq(10L), any(Pageable.class))).thenReturn(List.of(7L), List.of());
+        when(images.findByPostIdOrderById(eq(10L), any(Pageable.class))).thenReturn(List.of(image), List.of());
+
+        purger.purge();
+
+        InOrder order = inOrder(comments, likes, images, deletionQueue, viewSketches, posts);
+        order.verify(comments).deleteByIdIn(List.of(1L, 2L));
+        order.verify(comments).deleteByIdIn(List.of(3L));
+        order.verify(likes).deleteByIdIn(List.of(7L));
+        order.verify(deletionQueue).enqueue(List.of("posts/1/a.png"));
+        order.verify(images).deleteByIdIn(List.of(5L));
+        order.verify(viewSketches).deleteByPostId(10L);
+        order.verify(posts).purgeDeleted(10L);
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 게시글이 없으면 아무것도 하지 않음")
+    void does_nothing_without_deleted_posts() {
+        when(posts.findDeletedIdsForUpdate(1)).thenReturn(List.of());
+
+        purger.purge();
+
+        verify(comments, never()).findIdsByPostId(any(), any(Pageable.class));
+        verify(posts, never()).purgeDeleted(any());
+    }
+
+    @Test
+    @DisplayName("조회자 스케치가 잠겨 있으면 기다리지 않고 이번 실행을 멈춤")
+    void stops_when_view_sketch_is_locked() {
+        when(posts.findDeletedIdsForUpdate(1)).thenReturn(List.of(10L));
+        when(comments.findIdsByPostId(eq(10L), any(Pageable.class))).thenReturn(List.of());
+        when(likes.findIdsByPostId(eq(10L), any(Pageable.class))).thenReturn(List.of());
+        when(images.findByPostIdOrderById(eq(10L), any(Pageable.class))).thenReturn(List.of());
+        when(viewSketches.findByIdForUpdateNoWait(10L))
+                .thenThrow(new PessimisticLockingFailureException("locked"));
+
+        purger.purge();
+
+        verify(posts, times(1)).findDeletedIdsForUpdate(1);
+        verify(viewSketches, never()).deleteByPostId(any());
+        verify(posts, never()).purgeDeleted(any());
+    }
+}
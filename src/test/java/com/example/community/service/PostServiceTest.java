@@ -3,27 +3,46 @@ package com.example.community.service;
 import com.example.community.domain.BoardType;
 import com.example.community.domain.Member;
 import com.example.community.domain.Post;
+import com.example.community.domain.PostImage;
 import com.example.community.repository.MemberRepository;
 import com.example.community.repository.PostRepository;
 import com.example.community.service.dto.PostDtos;
 import com.example.community.common.FilePolicy;
+import com.example.community.storage.DirectUploadStorage;
 import com.example.community.storage.Storage;
 import com.example.community.auth.Actor;
+import com.example.community.service.exception.ForbiddenOperationException;
+import com.example.community.service.exception.InvalidImageException;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @ExtendWith(MockitoExtension.class)
 class PostServiceTest {
@@ -33,6 +52,20 @@ class PostServiceTest {
     private MemberRepository memberRepository;
     @Mock
     private Storage storage;
+    @Mock
+    private StorageDeletionQueue deletionQueue;
+    @Mock
+    private BoardPageCache pageCache;
+    @Mock
+    private MissingPostCache missingPosts;
+    @Mock
+    private AnonymousResponseCache responseCache;
+    @Mock
+    private SingleFlight singleFlight;
+    @Mock
+    private PostViewCounter viewCounter;
+    @Mock
+    private EntityManager entityManager;
     @InjectMocks
     private PostService postService;
     private Member testMember;
@@ -55,7 +88,8 @@ class PostServiceTest {
     void createPost_withOwnedImage_attachesImage() {
         String key = FilePolicy.POST_IMAGES_PATH + "/" + actor.id() + "/img1.jpg";
         when(memberRepository.findById(actor.id())).thenReturn(Optional.of(testMember));
-        when(storage.exists(key)).thenReturn(true);
+        when(storage.statAll(List.of(key))).thenReturn(Map.of(key,
+                new Storage.FileMeta(key, 1234L, "image/jpeg", Instant.now(), null)));
         when(storage.url(key)).thenReturn("http://x/img1.jpg");
         when(postRepository.save(any(Post.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -63,6 +97,89 @@ class PostServiceTest {
 
         assertThat(res.getImages()).hasSize(1);
         assertThat(res.getImages().get(0).getFileKey()).isEqualTo(key);
+        assertThat(res.getImages().get(0).getSize()).isEqualTo(1234L);
+        assertThat(res.getImages().get(0).getContentType()).isEqualTo("image/jpeg");
         verify(storage).url(key);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("게시글 생성 - 고아 파일 수집이 삭제를 등록한 이미지는 저장소 확인 없이 첨부 거부")
+    void createPost_withImagePendingDeletion_rejected() {
+        String key = FilePolicy.POST_IMAGES_PATH + "/" + actor.id() + "/img1.jpg";
+        when(memberRepository.findById(actor.id())).thenReturn(Optional.of(testMember));
+        when(deletionQueue.hasPending(List.of(key))).thenReturn(true);
+
+        assertThatThrownBy(() -> postService.create(actor, new PostDtos.Create("t", "c", BoardType.FREE, List.of(key))))
+                .isInstanceOf(InvalidImageException.class);
+        verify(storage, never()).statAll(any());
+        verify(postRepository, never()).save(any(Post.class));
+    }
+
+    @Test
+    @DisplayName("게시글 생성 - 확인 단계를 건너뛴 직접 업로드 객체는 첨부 거부")
+    void createPost_withUnconfirmedDirectUpload_rejected() {
+        Storage direct = mock(Storage.class, withSettings().extraInterfaces(DirectUploadStorage.class));
+        PostService service = new PostService(postRepository, memberRepository, direct, deletionQueue, pageCache,
+                missingPosts, singleFlight, responseCache, viewCounter, entityManager);
+        String key = FilePolicy.POST_IMAGES_PATH + "/" + actor.id() + "/img1.png";
+        when(memberRepository.findById(actor.id())).thenReturn(Optional.of(testMember));
+        when(direct.statAll(List.of(key))).thenReturn(Map.of(key,
+                new Storage.FileMeta(key, 6L, "image/png", Instant.now(), null)));
+        when(((DirectUploadStorage) direct).readHead(key, FilePolicy.HEAD_BYTES)).thenReturn("<html>".getBytes());
+
+        assertThatThrownBy(() -> service.create(actor, new PostDtos.Create("t", "c", BoardType.FREE, List.of(key))))
+                .isInstanceOf(InvalidImageException.class);
+        verify(postRepository, never()).save(any(Post.class));
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 - 삭제 표시만 남기고 행/이미지 파일은 정리 작업에 맡김")
+    void deletePost_marksDeletedWithoutRemovingRowsOrFiles() {
+        String key = FilePolicy.POST_IMAGES_PATH + "/" + actor.id() + "/img1.jpg";
+        Post post = Post.builder().id(10L).title("t").content("c").author(testMember).build();
+        post.addImage(PostImage.builder().fileKey(key).originalName("img1.jpg")
+                .contentType("image/jpeg").url("http://x/img1.jpg").build());
+        when(postRepository.findByIdAndAuthorIdForUpdate(10L, actor.id())).thenReturn(Optional.of(post));
+
+        postService.delete(10L, actor);
+
+        assertThat(post.getDeletedAt()).isNotNull();
+        verify(postRepository, never()).delete(any(Post.class));
+        verify(deletionQueue, never()).enqueue(any());
+        verify(storage, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 삭제 - 관리자만 가능, 중복 ID는 한 번만 처리")
+    void deleteAll_requiresAdminAndMarksDistinctIds() {
+        Actor admin = new Actor(99L, Set.of("ROLE_ADMIN"));
+        when(postRepository.markDeletedByIds(eq(Set.of(1L, 2L)), any(LocalDateTime.class))).thenReturn(2);
+
+        assertThat(postService.deleteAll(List.of(1L, 2L, 2L), admin)).isEqualTo(2);
+        verify(pageCache).postsDeleted();
+        assertThatThrownBy(() -> postService.deleteAll(List.of(1L), actor))
+                .isInstanceOf(ForbiddenOperationException.class);
+        assertThatThrownBy(() -> postService.deleteAll(List.of(), admin))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 - 함께 사용할 게시글은 연관까지 읽은 뒤 영속성 컨텍스트에서 분리하고 조회수는 분리 후 증가")
+    void getPost_detachesSharedEntity() {
+        Post post = Post.builder().id(10L).title("t").content("c").author(testMember).build();
+        when(singleFlight.execute(eq("post-detail"), eq(10L), any()))
+                .thenAnswer(inv -> inv.<Supplier<Post>>getArgument(2).get());
+        when(postRepository.findByIdWithAuthorAndImages(10L)).thenReturn(Optional.of(post));
+        when(viewCounter.countsEveryView()).thenReturn(true);
+
+        Post res = postService.getAndIncrementViewCount(10L, "m:1");
+
+        assertThat(res).isSameAs(post);
+        assertThat(res.getViewCount()).isEqualTo(1L);
+        InOrder order = inOrder(postRepository, entityManager, viewCounter);
+        order.verify(postRepository).findByIdWithAuthorAndImages(10L);
+        order.verify(entityManager).detach(same(post));
+        order.verify(viewCounter).recordView(10L, "m:1");
+        verify(missingPosts, never()).recordMiss(any(), anyLong());
+    }
+}
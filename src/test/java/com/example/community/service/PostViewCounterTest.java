@@ -0,0 +1,135 @@
+package com.example.community.service;
+
+import com.example.community.domain.PostViewSketch;
+import com.example.community.repository.PostRepository;
+import com.example.community.repository.PostViewSketchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostViewCounterTest {
+
+    private final PostRepository posts = mock(PostRepository.class);
+    private final PostViewSketchRepository sketches = mock(PostViewSketchRepository.class);
+
+    private PostViewCounter counter(boolean enabled) {
+        return new PostViewCounter(posts, sketches, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry(), enabled, 100);
+    }
+
+    private static HyperLogLog sketchOf(int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.add(HyperLogLog.hash("m:" + i));
+        }
+        return sketch;
+    }
+
+    @Test
+    @DisplayName("같은 조회자의 반복 조회와 봇은 조회수에 포함하지 않고, 새 조회자 추정값만 주기적으로 반영")
+    void counts_unique_viewers_once() {
+        PostViewCounter counter = counter(true);
+        when(sketches.findByIdForUpdate(1L)).thenReturn(Optional.empty());
+        when(posts.addViews(eq(1L), anyLong())).thenReturn(1);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 100; i++) {
+                counter.recordView(1L, "m:" + i);
+            }
+            counter.recordView(1L, null);
+        }
+        verify(posts, never()).incrementViews(any());
+
+        counter.flush();
+        counter.flush(); // 새 조회자가 없으면 반영하지 않음
+
+        ArgumentCaptor<Long> delta = ArgumentCaptor.forClass(Long.class);
+        verify(posts, times(1)).addViews(eq(1L), delta.capture());
+        assertThat(delta.getValue()).isCloseTo(100L, within(2L));
+        ArgumentCaptor<PostViewSketch> saved = ArgumentCaptor.forClass(PostViewSketch.class);
+        verify(sketches).save(saved.capture());
+        assertThat(saved.getValue().getCounted()).isEqualTo(delta.getValue());
+        assertThat(saved.getValue().getSketch().length).isLessThan(1024); // 적은 조회자는 sparse 형식
+    }
+
+    @Test
+    @DisplayName("다른 노드가 저장한 스케치와 병합해 겹치지 않는 조회자만 더함")
+    void merges_with_stored_sketch() {
+        PostViewCounter counter = counter(true);
+        HyperLogLog other = sketchOf(0, 1000);
+        PostViewSketch stored = PostViewSketch.builder()
+                .postId(1L).sketch(other.toBytes()).counted(other.estimate()).build();
+        when(sketches.findByIdForUpdate(1L)).thenReturn(Optional.of(stored));
+        for (int i = 500; i < 1500; i++) {
+            counter.recordView(1L, "m:" + i);
+        }
+
+        counter.flush();
+
+        ArgumentCaptor<Long> delta = ArgumentCaptor.forClass(Long.class);
+        verify(posts).addViews(eq(1L), delta.capture());
+        assertThat(delta.getValue()).isCloseTo(500L, within(30L));
+        assertThat(stored.getCounted()).isCloseTo(1500L, within(30L));
+        assertThat(HyperLogLog.fromBytes(stored.getSketch()).estimate()).isEqualTo(stored.getCounted());
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 스케치를 저장하지 않음")
+    void skips_deleted_post() {
+        PostViewCounter counter = counter(true);
+        when(sketches.findByIdForUpdate(1L)).thenReturn(Optional.empty());
+        when(posts.addViews(eq(1L), anyLong())).thenReturn(0);
+        counter.recordView(1L, "m:1");
+
+        counter.flush();
+
+        verify(sketches, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("비활성화 시 조회마다 조회수 1 증가")
+    void increments_every_view_when_disabled() {
+        PostViewCounter counter = counter(false);
+
+        counter.recordView(1L, "m:1");
+        counter.recordView(1L, "m:1");
+        counter.recordView(1L, null);
+        counter.flush();
+
+        assertThat(counter.countsEveryView()).isTrue();
+        verify(posts, times(3)).incrementViews(1L);
+        verify(posts, never()).addViews(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("HyperLogLog: 많은 조회자도 오차 범위 내 추정, 직렬화 후 같은 추정값")
+    void hyper_log_log_estimates_and_round_trips() {
+        HyperLogLog sparse = sketchOf(0, 500);
+        HyperLogLog dense = sketchOf(0, 100_000);
+
+        assertThat(sparse.estimate()).isCloseTo(500L, within(10L));
+        assertThat(dense.estimate()).isCloseTo(100_000L, within(4_000L)); // 표준 오차 약 1.15%
+        assertThat(dense.toBytes()).hasSize(1 + 8192 * 6 / 8);
+        assertThat(HyperLogLog.fromBytes(sparse.toBytes()).estimate()).isEqualTo(sparse.estimate());
+        assertThat(HyperLogLog.fromBytes(dense.toBytes()).estimate()).isEqualTo(dense.estimate());
+
+        HyperLogLog merged = sketchOf(0, 60_000);
+        merged.merge(sketchOf(40_000, 100_000));
+        assertThat(merged.estimate()).isEqualTo(dense.estimate());
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.community.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private SingleFlight singleFlight(Duration timeout) {
+        return new SingleFlight(mock(PlatformTransactionManager.class), meterRegistry, new StandardEnvironment(),
+                true, timeout);
+    }
+
+    private double calls(String role) {
+        return meterRegistry.get("single.flight.calls").tag("group", "post").tag("role", role).counter().count();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 조회 한 번의 결과를 함께 받음")
+    void concurrent_callers_share_one_load() throws Exception {
+        SingleFlight singleFlight = singleFlight(Duration.ofSeconds(5));
+        BlockingLoader loader = new BlockingLoader("게시글");
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("post", 1L, loader));
+        assertThat(loader.started.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute("post", 1L, loader)));
+        }
+        awaitFollowers(5);
+        loader.release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("게시글");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("게시글");
+        }
+        assertThat(loader.calls).hasValue(1);
+        assertThat(calls("leader")).isEqualTo(1);
+
+        // 조회가 끝난 키는 보관하지 않음
+        singleFlight.execute("post", 1L, loader);
+        assertThat(loader.calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("timeout까지 결과가 없으면 follower가 직접 조회")
+    void follower_loads_itself_after_timeout() throws Exception {
+        SingleFlight singleFlight = singleFlight(Duration.ofMillis(50));
+        BlockingLoader slow = new BlockingLoader("느린 조회");
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("post", 1L, slow));
+        assertThat(slow.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        String result = singleFlight.execute("post", 1L, () -> "직접 조회");
+        slow.release.countDown();
+
+        assertThat(result).isEqualTo("직접 조회");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("느린 조회");
+        assertThat(meterRegistry.get("single.flight.timeouts").tag("group", "post").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("leader의 조회가 실패하면 기다리던 follower도 같은 예외")
+    void leader_failure_is_shared() throws Exception {
+        SingleFlight singleFlight = singleFlight(Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> failing = () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("DB 오류");
+        };
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("post", 1L, failing));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> singleFlight.execute("post", 1L, () -> "호출되지 않음"));
+        awaitFollowers(1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("DB 오류");
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("DB 오류");
+    }
+
+    @Test
+    @DisplayName("다른 키는 각자 조회")
+    void different_keys_load_separately() {
+        SingleFlight singleFlight = singleFlight(Duration.ofSeconds(5));
+
+        assertThat(singleFlight.execute("post", 1L, () -> "1번")).isEqualTo("1번");
+        assertThat(singleFlight.execute("post", 2L, () -> "2번")).isEqualTo("2번");
+        assertThat(singleFlight.<String>execute("post", 3L, () -> null)).isNull();
+        assertThat(calls("leader")).isEqualTo(3);
+    }
+
+    private void awaitFollowers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (calls("follower") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(calls("follower")).isEqualTo(expected);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // release 전까지 조회가 끝나지 않는 로더
+    private static final class BlockingLoader implements Supplier<String> {
+        private final String value;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingLoader(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String get() {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return value;
+        }
+    }
+}
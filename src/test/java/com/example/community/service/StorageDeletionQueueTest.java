@@ -0,0 +1,107 @@
+package com.example.community.service;
+
+import com.example.community.domain.StorageDeletion;
+import com.example.community.repository.StorageDeletionRepository;
+import com.example.community.storage.Storage;
+import com.example.community.storage.StorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StorageDeletionQueueTest {
+
+    private final StorageDeletionRepository deletions = mock(StorageDeletionRepository.class);
+    private final Storage storage = mock(Storage.class);
+    private final PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+    private StorageDeletionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new StorageDeletionQueue(deletions, storage, new TransactionTemplate(txManager));
+        ReflectionTestUtils.setField(queue, "batchSize", 100);
+        ReflectionTestUtils.setField(queue, "maxBatchesPerPoll", 10);
+        ReflectionTestUtils.setField(queue, "initialBackoff", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(queue, "maxBackoff", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(queue, "claimTimeout", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(queue, "alertAttempts", 10);
+    }
+
+    private static StorageDeletion row(long id, String key) {
+        return StorageDeletion.builder().id(id).fileKey(key).attempts(0).nextAttemptAt(LocalDateTime.now()).build();
+    }
+
+    @Test
+    @DisplayName("선점을 커밋한 뒤 트랜잭션 밖에서 파일 삭제, 성공한 항목만 제거")
+    void claims_then_deletes_outside_transaction() {
+        StorageDeletion ok = row(1L, "posts/1/a.png");
+        StorageDeletion broken = row(2L, "posts/1/b.png");
+        when(deletions.findDueForUpdate(any(), any())).thenReturn(List.of(ok, broken));
+        when(deletions.findAllById(anyCollection())).thenReturn(List.of(broken));
+        doThrow(new StorageException("저장소 오류")).when(storage).delete("posts/1/b.png");
+
+        queue.drain();
+
+        InOrder order = inOrder(txManager, storage, deletions);
+        order.verify(deletions).findDueForUpdate(any(), any());
+        order.verify(txManager).commit(any());
+        order.verify(storage).delete("posts/1/a.png");
+        order.verify(storage).delete("posts/1/b.png");
+        order.verify(deletions).deleteAllByIdInBatch(List.of(1L));
+        order.verify(txManager).commit(any());
+        assertThat(ok.getNextAttemptAt())
+                .isCloseTo(LocalDateTime.now().plusMinutes(5), within(5, ChronoUnit.SECONDS));
+        assertThat(broken.getAttempts()).isEqualTo(1);
+        assertThat(broken.getLastError()).isEqualTo("저장소 오류");
+    }
+
+    @Test
+    @DisplayName("실패할 때마다 재시도 간격을 두 배로 늘리고 최대값에서 멈춤")
+    void failed_deletions_back_off_exponentially() {
+        StorageDeletion broken = row(1L, "posts/1/a.png");
+        when(deletions.findDueForUpdate(any(), any())).thenReturn(List.of(broken));
+        when(deletions.findAllById(anyCollection())).thenReturn(List.of(broken));
+        doThrow(new StorageException("저장소 오류")).when(storage).delete("posts/1/a.png");
+
+        long[] expectedSeconds = { 5, 10, 20, 30, 30 };
+        for (long expected : expectedSeconds) {
+            LocalDateTime before = LocalDateTime.now();
+            queue.drain();
+            assertThat(Duration.between(before, broken.getNextAttemptAt()).toSeconds())
+                    .isBetween(expected, expected + 1);
+        }
+        assertThat(broken.getAttempts()).isEqualTo(expectedSeconds.length);
+        verify(deletions, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("처리할 항목이 없으면 결과 기록 트랜잭션을 열지 않음")
+    void empty_queue_does_nothing() {
+        when(deletions.findDueForUpdate(any(), any())).thenReturn(List.of());
+
+        queue.drain();
+
+        verify(txManager).commit(any());
+        verify(deletions, never()).findAllById(anyCollection());
+        verify(storage, never()).delete(any());
+    }
+}
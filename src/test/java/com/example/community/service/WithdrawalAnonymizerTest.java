@@ -0,0 +1,104 @@
+package com.example.community.service;
+
+import com.example.community.domain.WithdrawalAnonymization;
+import com.example.community.repository.CommentRepository;
+import com.example.community.repository.WithdrawalAnonymizationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WithdrawalAnonymizerTest {
+
+    private WithdrawalAnonymizationRepository jobs;
+    private CommentRepository commentRepository;
+    private WithdrawalAnonymizer anonymizer;
+
+    @BeforeEach
+    void setUp() {
+        jobs = mock(WithdrawalAnonymizationRepository.class);
+        commentRepository = mock(CommentRepository.class);
+        anonymizer = new WithdrawalAnonymizer(jobs, commentRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(anonymizer, "batchSize", 2);
+        ReflectionTestUtils.setField(anonymizer, "maxBatchesPerPoll", 10);
+        ReflectionTestUtils.setField(anonymizer, "batchPauseMs", 0L);
+        ReflectionTestUtils.setField(anonymizer, "initialBackoff", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(anonymizer, "maxBackoff", Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("댓글을 ID 구간 단위로 익명화한 뒤 작업 제거")
+    void anonymizes_comments_in_id_ranges() {
+        WithdrawalAnonymization job = WithdrawalAnonymization.start(7L, LocalDateTime.now().minusSeconds(1));
+        when(jobs.findDueForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(job), List.of(job), List.of(job), List.of());
+        when(commentRepository.findIdsByAuthorIdAfter(eq(7L), eq(0L), any(Pageable.class))).thenReturn(List.of(3L, 8L));
+        when(commentRepository.findIdsByAuthorIdAfter(eq(7L), eq(8L), any(Pageable.class))).thenReturn(List.of(15L));
+        when(commentRepository.findIdsByAuthorIdAfter(eq(7L), eq(15L), any(Pageable.class))).thenReturn(List.of());
+        when(commentRepository.anonymizeInRange(7L, 0L, 8L)).thenReturn(2);
+        when(commentRepository.anonymizeInRange(7L, 8L, 15L)).thenReturn(1);
+
+        anonymizer.drain();
+
+        verify(commentRepository).anonymizeInRange(7L, 0L, 8L);
+        verify(commentRepository).anonymizeInRange(7L, 8L, 15L);
+        assertThat(job.getProcessedComments()).isEqualTo(3);
+        verify(jobs).delete(job);
+    }
+
+    @Test
+    @DisplayName("중단된 작업은 기록된 커서 다음부터 이어서 처리")
+    void resumes_from_recorded_cursor() {
+        WithdrawalAnonymization job = WithdrawalAnonymization.start(7L, LocalDateTime.now().minusSeconds(1));
+        job.advance(40L, 2);
+        when(jobs.findDueForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(job), List.of());
+        when(commentRepository.findIdsByAuthorIdAfter(eq(7L), eq(40L), any(Pageable.class)))
+                .thenReturn(List.of(41L, 50L));
+        when(commentRepository.anonymizeInRange(7L, 40L, 50L)).thenReturn(2);
+
+        anonymizer.drain();
+
+        verify(commentRepository, never()).findIdsByAuthorIdAfter(eq(7L), eq(0L), any(Pageable.class));
+        assertThat(job.getCursorId()).isEqualTo(50L);
+        assertThat(job.getProcessedComments()).isEqualTo(4);
+        verify(jobs, never()).delete(job);
+    }
+
+    @Test
+    @DisplayName("구간 처리 실패 시 커서는 유지하고 재시도 시각을 미룸")
+    void failure_keeps_cursor_and_backs_off() {
+        WithdrawalAnonymization job = WithdrawalAnonymization.start(7L, LocalDateTime.now().minusSeconds(1));
+        ReflectionTestUtils.setField(job, "id", 1L);
+        WithdrawalAnonymization stored = WithdrawalAnonymization.start(7L, LocalDateTime.now().minusSeconds(1));
+        when(jobs.findDueForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(job), List.of());
+        when(commentRepository.findIdsByAuthorIdAfter(eq(7L), eq(0L), any(Pageable.class))).thenReturn(List.of(3L));
+        when(commentRepository.anonymizeInRange(7L, 0L, 3L)).thenThrow(new IllegalStateException("lock wait timeout"));
+        when(jobs.findById(1L)).thenReturn(Optional.of(stored));
+
+        anonymizer.drain();
+
+        assertThat(stored.getCursorId()).isZero();
+        assertThat(stored.getAttempts()).isEqualTo(1);
+        assertThat(stored.getLastError()).isEqualTo("lock wait timeout");
+        assertThat(stored.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+}
@@ -1,9 +1,7 @@
 package com.example.community.service;
 
 import com.example.community.domain.Member;
-import com.example.community.repository.CommentRepository;
 import com.example.community.repository.MemberRepository;
-import com.example.community.repository.PostRepository;
 import com.example.community.repository.RefreshTokenRepository;
 import com.example.community.service.exception.EntityNotFoundException;
 import com.example.community.service.exception.WithdrawalException;
@@ -27,18 +25,15 @@ public class WithdrawalServiceTest {
         @Mock
         private MemberRepository memberRepository;
 
-        @Mock
-        private PostRepository postRepository;
-
-        @Mock
-        private CommentRepository commentRepository;
-
         @Mock
         private RefreshTokenRepository refreshTokenRepository;
 
         @Mock
         private PasswordEncoder passwordEncoder;
 
+        @Mock
+        private WithdrawalAnonymizer withdrawalAnonymizer;
+
         @InjectMocks
         private WithdrawalService withdrawalService;
 
@@ -60,8 +55,6 @@ public class WithdrawalServiceTest {
 
                 when(memberRepository.findByIdWithPessimisticLock(memberId)).thenReturn(Optional.of(member));
                 when(passwordEncoder.matches(password, member.getPassword())).thenReturn(true);
-                when(postRepository.markPostsByAuthorIdAsWithdrawn(memberId)).thenReturn(2);
-                when(commentRepository.anonymizeByAuthorId(memberId)).thenReturn(3);
 
                 // Act
                 withdrawalService.withdrawMember(memberId, password);
@@ -74,8 +67,8 @@ public class WithdrawalServiceTest {
                 verify(memberRepository).findByIdWithPessimisticLock(memberId);
                 // 영속 상태 엔티티는 트랜잭션 커밋 시 자동으로 변경 감지되므로 save() 호출 검증 제거
                 verify(refreshTokenRepository).deleteAllByUserId(memberId);
-                verify(postRepository).markPostsByAuthorIdAsWithdrawn(memberId);
-                verify(commentRepository).anonymizeByAuthorId(memberId);
+                // 작성글 익명화는 백그라운드 작업으로 등록만 함
+                verify(withdrawalAnonymizer).enqueue(memberId);
         }
 
         @Test
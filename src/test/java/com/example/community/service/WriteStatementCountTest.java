@@ -0,0 +1,163 @@
+package com.example.community.service;
+
+import com.example.community.auth.Actor;
+import com.example.community.common.FilePolicy;
+import com.example.community.domain.BoardType;
+import com.example.community.domain.Comment;
+import com.example.community.domain.Member;
+import com.example.community.domain.Post;
+import com.example.community.domain.PostImage;
+import com.example.community.repository.MemberRepository;
+import com.example.community.repository.PostRepository;
+import com.example.community.service.dto.PostDtos;
+import com.example.community.storage.Storage;
+import com.example.community.web.dto.CommentRes;
+import com.example.community.web.dto.PostRes;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 쓰기 API가 실행하는 SQL 문 수 검증
+ * 응답 DTO 생성까지 포함해 추가 조회(지연 로딩 포함)가 발생하지 않는지 확인합니다.
+ * (ID 풀을 미리 할당받아 두어 id_sequences 갱신은 측정에서 제외)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ CommentService.class, PostService.class, PostLikeService.class })
+class WriteStatementCountTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostLikeService postLikeService;
+    @Autowired
+    private MemberRepository members;
+    @Autowired
+    private PostRepository posts;
+    @Autowired
+    private EntityManager em;
+
+    @MockitoBean
+    private Storage storage;
+    @MockitoBean
+    private StorageDeletionQueue deletionQueue;
+    @MockitoBean
+    private BoardPageCache pageCache;
+    @MockitoBean
+    private MissingPostCache missingPosts;
+    @MockitoBean
+    private AnonymousResponseCache responseCache;
+    @MockitoBean
+    private SingleFlight singleFlight;
+    @MockitoBean
+    private PostViewCounter viewCounter;
+
+    private Member member;
+    private Post post;
+    private Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        member = members.save(Member.builder().username("writer").email("writer@test.com").password("p")
+                .roles(Set.of("ROLE_USER")).build());
+        post = Post.builder().title("t").content("c").boardType(BoardType.FREE).author(member).build();
+        post.addImage(PostImage.builder().fileKey("warm-up.png").originalName("warm-up.png")
+                .contentType("image/png").size(1).url("http://x/warm-up.png").build());
+        posts.save(post);
+        commentService.add(post.getId(), member.getId(), "warm-up");
+        postLikeService.toggleLike(post.getId(), member.getId());
+        em.flush();
+        em.clear();
+        stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+    }
+
+    @Test
+    @DisplayName("댓글 작성: 작성자+게시글 존재 확인 SELECT 1회, INSERT 1회")
+    void add_comment_runs_two_statements() {
+        Comment saved = commentService.add(post.getId(), member.getId(), "댓글");
+        em.flush();
+        CommentRes res = CommentRes.of(saved);
+
+        assertThat(res.author().username()).isEqualTo("writer");
+        assertThat(res.postId()).isEqualTo(post.getId());
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글 작성(이미지 2개): 작성자 SELECT 1회, 게시글 INSERT 1회, 이미지 배치 INSERT 1회")
+    void create_post_runs_three_statements() {
+        String prefix = FilePolicy.POST_IMAGES_PATH + "/" + member.getId() + "/";
+        List<String> keys = List.of(prefix + "a.png", prefix + "b.png");
+        when(storage.statAll(anyCollection())).thenReturn(Map.of(
+                keys.get(0), new Storage.FileMeta(keys.get(0), 1L, "image/png", Instant.now(), null),
+                keys.get(1), new Storage.FileMeta(keys.get(1), 1L, "image/png", Instant.now(), null)));
+        when(storage.url(anyString())).thenAnswer(inv -> "http://x/" + inv.getArgument(0));
+
+        Post saved = postService.create(new Actor(member.getId(), Set.of("ROLE_USER")),
+                new PostDtos.Create("제목", "본문", BoardType.FREE, keys));
+        em.flush();
+        PostRes res = PostRes.of(saved);
+
+        assertThat(res.author().username()).isEqualTo("writer");
+        assertThat(res.images()).hasSize(2);
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("게시글 수정(이미지 유지): 잠금 SELECT 1회, 이미지 SELECT 1회, UPDATE 1회, 응답의 작성자 SELECT 1회")
+    void update_post_runs_four_statements() {
+        Post updated = postService.update(post.getId(), member.getId(),
+                new PostDtos.Update("새 제목", "새 본문", List.of("warm-up.png")));
+        em.flush();
+        PostRes res = PostRes.of(updated);
+
+        assertThat(res.title()).isEqualTo("새 제목");
+        assertThat(res.author().username()).isEqualTo("writer");
+        assertThat(res.images()).hasSize(1);
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제: 잠금 SELECT 1회, 삭제 표시 UPDATE 1회")
+    void delete_post_runs_two_statements() {
+        postService.delete(post.getId(), new Actor(member.getId(), Set.of("ROLE_USER")));
+        em.flush();
+
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("좋아요 토글: 취소는 SELECT+DELETE+UPDATE 3회, 추가는 SELECT+DELETE+INSERT+UPDATE 4회")
+    void toggle_like_runs_three_or_four_statements() {
+        assertThat(postLikeService.toggleLike(post.getId(), member.getId())).isFalse();
+        em.flush();
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(3);
+
+        stats.clear();
+        assertThat(postLikeService.toggleLike(post.getId(), member.getId())).isTrue();
+        em.flush();
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(4);
+    }
+}
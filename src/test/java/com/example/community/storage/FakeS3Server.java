@@ -0,0 +1,318 @@
+package com.example.community.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 프로세스 내 S3 대역 (경로 방식 주소, 단일 버킷)
+ * PUT/HEAD/GET(Range)/DELETE, ListObjectsV2, 멀티파트 업로드만 지원하며 서명은 검증하지 않습니다.
+ * ETag는 실제 S3와 같이 본문의 MD5(멀티파트는 "MD5-파트수")를 사용하여 SDK 체크섬 검증을 통과합니다.
+ */
+class FakeS3Server implements AutoCloseable {
+
+    private static final String NS = "http://s3.amazonaws.com/doc/2006-03-01/";
+
+    private final String bucket;
+    private final HttpServer server;
+    private final ConcurrentSkipListMap<String, StoredObject> objects = new ConcurrentSkipListMap<>();
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+    private final AtomicInteger uploadIds = new AtomicInteger();
+    // 검증용 카운터
+    final AtomicInteger chunkedPuts = new AtomicInteger();
+    final AtomicInteger uploadedParts = new AtomicInteger();
+    final AtomicInteger abortedUploads = new AtomicInteger();
+
+    FakeS3Server(String bucket) throws IOException {
+        this.bucket = bucket;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    byte[] object(String key) {
+        StoredObject o = objects.get(key);
+        return o == null ? null : o.data();
+    }
+
+    void putObject(String key, String contentType, byte[] data) {
+        objects.put(key, new StoredObject(data, contentType, md5(data), Instant.now().truncatedTo(ChronoUnit.SECONDS)));
+    }
+
+    int pendingUploads() {
+        return uploads.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        try (ex) {
+            String path = URLDecoder.decode(ex.getRequestURI().getRawPath(), StandardCharsets.UTF_8);
+            Map<String, String> query = parseQuery(ex.getRequestURI().getRawQuery());
+            String prefix = "/" + bucket;
+            if (!path.startsWith(prefix)) {
+                error(ex, 404, "NoSuchBucket");
+                return;
+            }
+            String key = path.length() > prefix.length() + 1 ? path.substring(prefix.length() + 1) : "";
+            byte[] body = readBody(ex);
+            switch (ex.getRequestMethod()) {
+                case "PUT" -> {
+                    if (query.containsKey("uploadId")) {
+                        uploadPart(ex, query, body);
+                    } else {
+                        StoredObject o = new StoredObject(body, ex.getRequestHeaders().getFirst("Content-Type"),
+                                md5(body), Instant.now().truncatedTo(ChronoUnit.SECONDS));
+                        objects.put(key, o);
+                        ex.getResponseHeaders().set("ETag", "\"" + o.etag() + "\"");
+                        ex.sendResponseHeaders(200, -1);
+                    }
+                }
+                case "POST" -> {
+                    if (query.containsKey("uploads")) {
+                        String id = "upload-" + uploadIds.incrementAndGet();
+                        uploads.put(id, new Upload(key, ex.getRequestHeaders().getFirst("Content-Type")));
+                        xml(ex, 200, "<InitiateMultipartUploadResult xmlns=\"" + NS + "\"><Bucket>" + bucket
+                                + "</Bucket><Key>" + key + "</Key><UploadId>" + id
+                                + "</UploadId></InitiateMultipartUploadResult>");
+                    } else {
+                        completeUpload(ex, key, query.get("uploadId"));
+                    }
+                }
+                case "HEAD" -> {
+                    StoredObject o = objects.get(key);
+                    if (o == null) {
+                        ex.sendResponseHeaders(404, -1);
+                        return;
+                    }
+                    objectHeaders(ex, o);
+                    ex.getResponseHeaders().set("Content-Length", String.valueOf(o.data().length));
+                    ex.sendResponseHeaders(200, -1);
+                }
+                case "GET" -> {
+                    if ("2".equals(query.get("list-type"))) {
+                        list(ex, query);
+                    } else {
+                        get(ex, key);
+                    }
+                }
+                case "DELETE" -> {
+                    if (query.containsKey("uploadId")) {
+                        uploads.remove(query.get("uploadId"));
+                        abortedUploads.incrementAndGet();
+                    } else {
+                        objects.remove(key);
+                    }
+                    ex.sendResponseHeaders(204, -1);
+                }
+                default -> error(ex, 405, "MethodNotAllowed");
+            }
+        } catch (RuntimeException e) {
+            error(ex, 500, "InternalError");
+        }
+    }
+
+    private void uploadPart(HttpExchange ex, Map<String, String> query, byte[] body) throws IOException {
+        Upload upload = uploads.get(query.get("uploadId"));
+        if (upload == null) {
+            error(ex, 404, "NoSuchUpload");
+            return;
+        }
+        upload.parts().put(Integer.parseInt(query.get("partNumber")), body);
+        uploadedParts.incrementAndGet();
+        ex.getResponseHeaders().set("ETag", "\"" + md5(body) + "\"");
+        ex.sendResponseHeaders(200, -1);
+    }
+
+    private void completeUpload(HttpExchange ex, String key, String uploadId) throws IOException {
+        Upload upload = uploadId == null ? null : uploads.remove(uploadId);
+        if (upload == null) {
+            error(ex, 404, "NoSuchUpload");
+            return;
+        }
+        ByteArrayOutputStream all = new ByteArrayOutputStream();
+        for (byte[] part : upload.parts().values()) {
+            all.writeBytes(part);
+        }
+        byte[] data = all.toByteArray();
+        String etag = md5(data) + "-" + upload.parts().size();
+        objects.put(key, new StoredObject(data, upload.contentType(), etag, Instant.now().truncatedTo(ChronoUnit.SECONDS)));
+        xml(ex, 200, "<CompleteMultipartUploadResult xmlns=\"" + NS + "\"><Bucket>" + bucket + "</Bucket><Key>"
+                + key + "</Key><ETag>\"" + etag + "\"</ETag></CompleteMultipartUploadResult>");
+    }
+
+    private void get(HttpExchange ex, String key) throws IOException {
+        StoredObject o = objects.get(key);
+        if (o == null) {
+            error(ex, 404, "NoSuchKey");
+            return;
+        }
+        objectHeaders(ex, o);
+        byte[] data = o.data();
+        String range = ex.getRequestHeaders().getFirst("Range");
+        if (range != null && range.startsWith("bytes=")) {
+            String[] bounds = range.substring("bytes=".length()).split("-");
+            int start = Integer.parseInt(bounds[0]);
+            int end = Math.min(data.length - 1, Integer.parseInt(bounds[1]));
+            byte[] slice = java.util.Arrays.copyOfRange(data, start, end + 1);
+            ex.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + end + "/" + data.length);
+            send(ex, 206, slice);
+            return;
+        }
+        send(ex, 200, data);
+    }
+
+    private void list(HttpExchange ex, Map<String, String> query) throws IOException {
+        String prefix = query.getOrDefault("prefix", "");
+        String startAfter = query.get("start-after");
+        int maxKeys = Integer.parseInt(query.getOrDefault("max-keys", "1000"));
+        var view = startAfter != null ? objects.tailMap(startAfter, false) : objects.tailMap(prefix, true);
+        StringBuilder sb = new StringBuilder("<ListBucketResult xmlns=\"" + NS + "\"><Name>" + bucket + "</Name><Prefix>"
+                + prefix + "</Prefix><MaxKeys>" + maxKeys + "</MaxKeys>");
+        int count = 0;
+        boolean truncated = false;
+        for (Map.Entry<String, StoredObject> e : view.entrySet()) {
+            if (!e.getKey().startsWith(prefix)) {
+                break;
+            }
+            if (count == maxKeys) {
+                truncated = true;
+                break;
+            }
+            sb.append("<Contents><Key>").append(e.getKey()).append("</Key><LastModified>")
+                    .append(e.getValue().lastModified()).append("</LastModified><ETag>\"")
+                    .append(e.getValue().etag()).append("\"</ETag><Size>").append(e.getValue().data().length)
+                    .append("</Size><StorageClass>STANDARD</StorageClass></Contents>");
+            count++;
+        }
+        sb.append("<KeyCount>").append(count).append("</KeyCount><IsTruncated>").append(truncated)
+                .append("</IsTruncated></ListBucketResult>");
+        xml(ex, 200, sb.toString());
+    }
+
+    private static void objectHeaders(HttpExchange ex, StoredObject o) {
+        ex.getResponseHeaders().set("ETag", "\"" + o.etag() + "\"");
+        ex.getResponseHeaders().set("Last-Modified",
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(o.lastModified().atOffset(ZoneOffset.UTC)));
+        if (o.contentType() != null) {
+            ex.getResponseHeaders().set("Content-Type", o.contentType());
+        }
+    }
+
+    // 요청 본문 읽기 (SDK가 aws-chunked로 보낸 경우 청크 서명을 제거하고 원본 복원)
+    private byte[] readBody(HttpExchange ex) throws IOException {
+        byte[] raw;
+        try (InputStream in = ex.getRequestBody()) {
+            raw = in.readAllBytes();
+        }
+        String sha = ex.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (sha != null && sha.startsWith("STREAMING-")) {
+            chunkedPuts.incrementAndGet();
+            return decodeAwsChunked(raw);
+        }
+        return raw;
+    }
+
+    // 형식: <hex 크기>;chunk-signature=<서명>\r\n<데이터>\r\n ... 0;chunk-signature=<서명>\r\n[트레일러]\r\n
+    static byte[] decodeAwsChunked(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int pos = 0;
+        while (pos < raw.length) {
+            int lineEnd = indexOfCrlf(raw, pos);
+            String header = new String(raw, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+            int semi = header.indexOf(';');
+            int size = Integer.parseInt(semi < 0 ? header.trim() : header.substring(0, semi).trim(), 16);
+            pos = lineEnd + 2;
+            if (size == 0) {
+                break;
+            }
+            out.write(raw, pos, size);
+            pos += size + 2;
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] raw, int from) {
+        for (int i = from; i < raw.length - 1; i++) {
+            if (raw[i] == '\r' && raw[i + 1] == '\n') {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 aws-chunked 본문");
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> result = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return result;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            result.put(name, value);
+        }
+        return result;
+    }
+
+    private static void xml(HttpExchange ex, int status, String body) throws IOException {
+        ex.getResponseHeaders().set("Content-Type", "application/xml");
+        send(ex, status, ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void error(HttpExchange ex, int status, String code) throws IOException {
+        xml(ex, status, "<Error><Code>" + code + "</Code><Message>" + code + "</Message></Error>");
+    }
+
+    private static void send(HttpExchange ex, int status, byte[] body) throws IOException {
+        ex.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream os = ex.getResponseBody()) {
+                os.write(body);
+            }
+        }
+    }
+
+    private static String md5(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(data));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record StoredObject(byte[] data, String contentType, String etag, Instant lastModified) {
+    }
+
+    private record Upload(String key, String contentType, TreeMap<Integer, byte[]> parts) {
+        Upload(String key, String contentType) {
+            this(key, contentType, new TreeMap<>());
+        }
+    }
+}
@@ -157,6 +157,41 @@ class LocalStorageServiceTest {
             TestUtil.deleteRecursively(attackDir);
         }
     }
+
+    @Test
+    @DisplayName("메타데이터 인덱스: 기동 시 기존 파일 등록, 저장 시 크기/다이제스트 기록, 삭제 시 제거")
+    void metadata_index_tracks_existing_stored_and_deleted_files() throws Exception {
+        Path base = Path.of(System.getProperty("java.io.tmpdir"), "ls-test-index");
+        try {
+            // 기동 전에 이미 존재하는 파일 → 초기화 스캔으로 인덱스에 등록되어야 함
+            Path existing = base.resolve("posts/7/existing.png");
+            Files.createDirectories(existing.getParent());
+            Files.write(existing, new byte[] { 1, 2, 3 });
+
+            LocalStorageService s = new LocalStorageService();
+            TestUtil.setField(s, "basePath", base.toString());
+            TestUtil.setField(s, "publicBaseUrl", "http://localhost:8080/files");
+            s.init();
+
+            Storage.FileMeta scanned = s.stat("posts/7/existing.png").orElseThrow();
+            assertThat(scanned.size()).isEqualTo(3L);
+            assertThat(scanned.contentType()).isEqualTo("image/png");
+
+            byte[] png = new byte[] { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0 };
+            s.storeWithKey(new MockMultipartFile("f", "new.png", "image/png", png), "posts/7/new.png");
+
+            var metas = s.statAll(java.util.List.of("posts/7/existing.png", "posts/7/new.png", "posts/7/missing.png"));
+            assertThat(metas).containsOnlyKeys("posts/7/existing.png", "posts/7/new.png");
+            assertThat(metas.get("posts/7/new.png").size()).isEqualTo(png.length);
+            assertThat(metas.get("posts/7/new.png").digest()).isNotBlank();
+
+            s.delete("posts/7/new.png");
+            assertThat(s.exists("posts/7/new.png")).isFalse();
+            assertThat(s.stat("posts/7/new.png")).isEmpty();
+        } finally {
+            TestUtil.deleteRecursively(base);
+        }
+    }
 }
 
 class TestUtil {
@@ -0,0 +1,79 @@
+package com.example.community.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapImageCacheTest {
+
+    private static byte[] bytes(int size, int marker) {
+        byte[] b = new byte[size];
+        b[0] = (byte) marker;
+        return b;
+    }
+
+    private static byte[] read(Resource r) throws Exception {
+        try (var in = r.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    @DisplayName("등록 후 조회 시 같은 바이트를 반환하고 적중/미스 지표를 기록")
+    void get_returns_cached_bytes_and_records_hits() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OffHeapImageCache cache = new OffHeapImageCache(registry, 1024, 512, 16);
+
+        assertThat(cache.get("posts/1/a.png")).isNull();
+        assertThat(cache.put("posts/1/a.png", bytes(100, 7), 1000L, cache.stamp())).isTrue();
+
+        Resource r = cache.get("posts/1/a.png");
+        assertThat(r).isNotNull();
+        assertThat(r.contentLength()).isEqualTo(100);
+        assertThat(read(r)).isEqualTo(bytes(100, 7));
+        // 요청마다 독립된 버퍼 뷰를 사용하므로 두 번 읽어도 같은 내용
+        assertThat(read(cache.get("posts/1/a.png"))).isEqualTo(bytes(100, 7));
+
+        assertThat(registry.counter("storage.image.cache.requests", "result", "hit").count()).isEqualTo(2.0);
+        assertThat(registry.counter("storage.image.cache.requests", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("용량 초과 시 자주 조회된 항목은 한 번 조회된 새 항목에 밀려나지 않음 (TinyLFU)")
+    void admission_keeps_frequently_used_entries() {
+        OffHeapImageCache cache = new OffHeapImageCache(new SimpleMeterRegistry(), 200, 200, 16);
+        cache.put("hot", bytes(150, 1), 0L, cache.stamp());
+        for (int i = 0; i < 5; i++) {
+            cache.get("hot");
+        }
+
+        cache.get("cold");
+        assertThat(cache.put("cold", bytes(150, 2), 0L, cache.stamp())).isFalse();
+        assertThat(cache.get("hot")).isNotNull();
+
+        // 충분히 자주 조회되면 교체됨
+        for (int i = 0; i < 10; i++) {
+            cache.get("warm");
+        }
+        assertThat(cache.put("warm", bytes(150, 3), 0L, cache.stamp())).isTrue();
+        assertThat(cache.get("hot")).isNull();
+        assertThat(cache.usedBytes()).isEqualTo(150L);
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트로 무효화되며, 조회 중 무효화가 있었다면 등록하지 않음")
+    void invalidation_removes_entry_and_rejects_stale_put() {
+        OffHeapImageCache cache = new OffHeapImageCache(new SimpleMeterRegistry(), 1024, 512, 16);
+        cache.put("posts/1/a.png", bytes(10, 1), 0L, cache.stamp());
+
+        cache.onStoredObjectDeleted(new StoredObjectDeletedEvent("posts/1/a.png"));
+        assertThat(cache.get("posts/1/a.png")).isNull();
+
+        long stamp = cache.stamp();
+        cache.invalidate("posts/1/b.png");
+        assertThat(cache.put("posts/1/b.png", bytes(10, 2), 0L, stamp)).isFalse();
+    }
+}
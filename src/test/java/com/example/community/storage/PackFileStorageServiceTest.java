@@ -0,0 +1,178 @@
+package com.example.community.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PackFileStorageServiceTest {
+
+    private final Path base = Path.of(System.getProperty("java.io.tmpdir"), "pack-test");
+
+    @AfterEach
+    void cleanup() {
+        TestUtil.deleteRecursively(base);
+    }
+
+    private PackFileStorageService open() {
+        PackFileStorageService s = new PackFileStorageService();
+        TestUtil.setField(s, "basePath", base.toString());
+        TestUtil.setField(s, "publicBaseUrl", "http://localhost:8080/files");
+        // 레코드마다 세그먼트가 전환되도록 작은 크기 사용
+        TestUtil.setField(s, "segmentMaxBytes", 100L);
+        TestUtil.setField(s, "fsync", true);
+        TestUtil.setField(s, "compactionLiveRatio", 0.5);
+        s.init();
+        return s;
+    }
+
+    private static byte[] png(int marker) {
+        return new byte[] { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, (byte) marker };
+    }
+
+    private static byte[] read(Storage s, String key) throws Exception {
+        try (var in = s.load(key).orElseThrow().getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    @DisplayName("저장/조회/삭제 후 재기동 시 세그먼트 스캔으로 인덱스 재구성")
+    void store_read_delete_and_rebuild_index() throws Exception {
+        PackFileStorageService s = open();
+        s.storeWithKey(new MockMultipartFile("f", "a.png", "image/png", png(1)), "posts/1/a.png");
+        s.storeWithKey(new MockMultipartFile("f", "b.png", "image/png", png(2)), "posts/1/b.png");
+        s.storeWithKey(new MockMultipartFile("f", "c.png", "image/png", png(3)), "posts/2/c.png");
+
+        assertThat(read(s, "posts/1/b.png")).isEqualTo(png(2));
+        assertThat(s.stat("posts/1/a.png").orElseThrow().digest()).isNotBlank();
+        assertThatThrownBy(() -> s.storeWithKey(new MockMultipartFile("f", "a.png", "image/png", png(9)), "posts/1/a.png"))
+                .isInstanceOf(StorageException.class);
+
+        s.delete("posts/1/a.png");
+        assertThat(s.exists("posts/1/a.png")).isFalse();
+        s.close();
+
+        PackFileStorageService reopened = open();
+        assertThat(reopened.exists("posts/1/a.png")).isFalse();
+        assertThat(read(reopened, "posts/2/c.png")).isEqualTo(png(3));
+        assertThat(reopened.listKeys("posts", null, 10)).extracting(Storage.FileMeta::key)
+                .containsExactly("posts/1/b.png", "posts/2/c.png");
+        assertThat(reopened.listKeys("posts", "posts/1/b.png", 10)).extracting(Storage.FileMeta::key)
+                .containsExactly("posts/2/c.png");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("압축 후 삭제된 공간이 회수되고 남은 데이터는 그대로 조회")
+    void compaction_reclaims_deleted_records() throws Exception {
+        PackFileStorageService s = open();
+        for (int i = 0; i < 4; i++) {
+            s.storeWithKey(new MockMultipartFile("f", i + ".png", "image/png", png(i)), "posts/1/" + i + ".png");
+        }
+        s.delete("posts/1/0.png");
+        s.delete("posts/1/2.png");
+        long segmentsBefore;
+        try (var files = Files.list(base)) {
+            segmentsBefore = files.count();
+        }
+
+        s.compact();
+
+        long segmentsAfter;
+        try (var files = Files.list(base)) {
+            segmentsAfter = files.count();
+        }
+        assertThat(segmentsAfter).isLessThan(segmentsBefore);
+        assertThat(read(s, "posts/1/1.png")).isEqualTo(png(1));
+        assertThat(read(s, "posts/1/3.png")).isEqualTo(png(3));
+        s.close();
+
+        // 압축 후 재기동해도 삭제된 키가 되살아나지 않아야 함
+        PackFileStorageService reopened = open();
+        assertThat(reopened.listKeys("posts", null, 10)).extracting(Storage.FileMeta::key)
+                .containsExactlyElementsOf(List.of("posts/1/1.png", "posts/1/3.png"));
+        assertThat(read(reopened, "posts/1/3.png")).isEqualTo(png(3));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("삭제된 PUT이 있던 세그먼트가 압축되면 이후 압축에서 삭제 표시도 회수")
+    void compaction_drops_tombstones_without_older_puts() throws Exception {
+        PackFileStorageService s = open();
+        s.storeWithKey(new MockMultipartFile("f", "a.png", "image/png", png(1)), "posts/1/a.png");
+        s.storeWithKey(new MockMultipartFile("f", "b.png", "image/png", png(2)), "posts/1/b.png");
+        s.delete("posts/1/a.png");
+        // 삭제 표시가 있는 세그먼트를 봉인
+        s.storeWithKey(new MockMultipartFile("f", "c.png", "image/png", png(3)), "posts/1/c.png");
+
+        s.compact();
+        s.close();
+
+        List<String> tombstones = new ArrayList<>();
+        try (var files = Files.list(base)) {
+            for (Path p : files.toList()) {
+                PackSegment seg = PackSegment.open(p, 0L);
+                seg.scan(false, r -> {
+                    if (r.flag() == PackSegment.FLAG_TOMBSTONE) {
+                        tombstones.add(r.key());
+                    }
+                });
+                seg.close();
+            }
+        }
+        assertThat(tombstones).isEmpty();
+
+        PackFileStorageService reopened = open();
+        assertThat(reopened.listKeys("posts", null, 10)).extracting(Storage.FileMeta::key)
+                .containsExactly("posts/1/b.png", "posts/1/c.png");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 가져오면 한 번만 기록하고 나머지는 예외 없이 건너뜀")
+    void concurrent_import_of_same_key_writes_once() throws Exception {
+        PackFileStorageService s = open();
+        Path source = Files.createTempFile("pack-import", ".png");
+        Files.write(source, png(7));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 20; round++) {
+                String key = "posts/1/import-" + round + ".png";
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return s.importFile(key, source);
+                    }));
+                }
+                start.countDown();
+                int imported = 0;
+                for (Future<Boolean> result : results) {
+                    if (result.get()) {
+                        imported++;
+                    }
+                }
+                assertThat(imported).isEqualTo(1);
+                assertThat(read(s, key)).isEqualTo(png(7));
+            }
+        } finally {
+            executor.shutdownNow();
+            Files.deleteIfExists(source);
+            s.close();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.community.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 간 복제 테스트
+ * 노드 B는 복제 API(ReplicationController와 같은 동작)를 제공하는 프로세스 내 HTTP 서버로 띄웁니다.
+ */
+class PeerReplicatorTest {
+
+    private static final String TOKEN = "test-token";
+
+    private final Path baseA = Path.of(System.getProperty("java.io.tmpdir"), "replication-test-a");
+    private final Path baseB = Path.of(System.getProperty("java.io.tmpdir"), "replication-test-b");
+
+    private LocalStorageService nodeA;
+    private LocalStorageService nodeB;
+    private HttpServer peerB;
+    private PeerReplicator replicator;
+    private final AtomicInteger peerGets = new AtomicInteger();
+    private final AtomicInteger peerDeletes = new AtomicInteger();
+    // 노드 B가 실패로 응답할 남은 DELETE 수
+    private final AtomicInteger failingDeletes = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        nodeA = openNode(baseA);
+        nodeB = openNode(baseB);
+        peerB = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        peerB.createContext(PeerReplicator.BLOB_PATH, this::handleOnNodeB);
+        peerB.start();
+
+        replicator = new PeerReplicator(nodeA, new SimpleMeterRegistry(),
+                List.of("http://127.0.0.1:" + peerB.getAddress().getPort() + "/"), TOKEN,
+                Duration.ofSeconds(1), Duration.ofSeconds(2), 1, 10,
+                Duration.ofSeconds(1), 2, Duration.ofMinutes(1), Duration.ofMinutes(1), 1000, 3, Duration.ofMillis(20));
+        replicator.register();
+        // 노드 A의 저장/삭제 이벤트를 복제기로 전달
+        nodeA.setApplicationEventPublisher(event -> {
+            if (event instanceof StoredObjectCreatedEvent created) {
+                replicator.onStoredObjectCreated(created);
+            } else if (event instanceof StoredObjectDeletedEvent deleted) {
+                replicator.onStoredObjectDeleted(deleted);
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicator.shutdown();
+        peerB.stop(0);
+        TestUtil.deleteRecursively(baseA);
+        TestUtil.deleteRecursively(baseB);
+    }
+
+    private static LocalStorageService openNode(Path base) {
+        TestUtil.deleteRecursively(base);
+        LocalStorageService s = new LocalStorageService();
+        TestUtil.setField(s, "basePath", base.toString());
+        TestUtil.setField(s, "publicBaseUrl", "http://localhost:8080/files");
+        s.init();
+        return s;
+    }
+
+    private static byte[] png(int marker) {
+        return new byte[] { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, (byte) marker };
+    }
+
+    @Test
+    @DisplayName("로컬에 없는 파일은 피어에서 가져와 로컬에 채움")
+    void pull_on_miss_fills_local_copy() throws Exception {
+        nodeB.storeWithKey(new MockMultipartFile("f", "a.png", "image/png", png(1)), "posts/1/a.png");
+
+        assertThat(nodeA.statAll(List.of("posts/1/a.png", "posts/1/none.png"))).containsOnlyKeys("posts/1/a.png");
+        assertThat(Files.readAllBytes(baseA.resolve("posts/1/a.png"))).isEqualTo(png(1));
+        try (InputStream in = nodeA.load("posts/1/a.png").orElseThrow().getInputStream()) {
+            assertThat(in.readAllBytes()).isEqualTo(png(1));
+        }
+    }
+
+    @Test
+    @DisplayName("새 파일은 피어로 전송되고, 삭제는 피어로 전파됨")
+    void push_and_delete_propagation() throws Exception {
+        nodeA.storeWithKey(new MockMultipartFile("f", "b.png", "image/png", png(2)), "posts/1/b.png");
+        awaitTrue(() -> nodeB.loadLocal("posts/1/b.png").isPresent());
+        assertThat(Files.readAllBytes(baseB.resolve("posts/1/b.png"))).isEqualTo(png(2));
+
+        nodeA.delete("posts/1/b.png");
+        awaitTrue(() -> nodeB.loadLocal("posts/1/b.png").isEmpty());
+    }
+
+    @Test
+    @DisplayName("모든 피어에 없던 키는 miss-ttl 동안 다시 묻지 않음, 저장 이벤트를 받으면 기록 제거")
+    void remembers_misses() throws Exception {
+        assertThat(nodeA.exists("posts/1/none.png")).isFalse();
+        assertThat(nodeA.exists("posts/1/none.png")).isFalse();
+        assertThat(nodeA.statAll(List.of("posts/1/none.png"))).isEmpty();
+        assertThat(peerGets).hasValue(1);
+
+        // 노드 B에 저장되어도 miss-ttl 동안은 없다고 응답, 이 노드에 저장 이벤트가 오면 다시 조회
+        nodeB.storeWithKey(new MockMultipartFile("f", "none.png", "image/png", png(3)), "posts/1/none.png");
+        assertThat(nodeA.exists("posts/1/none.png")).isFalse();
+        replicator.onStoredObjectCreated(new StoredObjectCreatedEvent("posts/1/none.png"));
+        assertThat(nodeA.exists("posts/1/none.png")).isTrue();
+        assertThat(peerGets).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("삭제된 키는 삭제가 전파되지 않은 피어에서 가져오지 않고, 실패한 삭제 전파는 재시도")
+    void deleted_keys_are_not_fetched_back_and_deletes_are_retried() throws Exception {
+        nodeB.storeWithKey(new MockMultipartFile("f", "c.png", "image/png", png(4)), "posts/1/c.png");
+        assertThat(nodeA.exists("posts/1/c.png")).isTrue();
+        int getsBefore = peerGets.get();
+        failingDeletes.set(2);
+
+        nodeA.delete("posts/1/c.png");
+        // 노드 B에는 아직 남아 있지만 가져오지 않음
+        assertThat(nodeA.load("posts/1/c.png")).isEmpty();
+        assertThat(peerGets).hasValue(getsBefore);
+
+        awaitTrue(() -> nodeB.loadLocal("posts/1/c.png").isEmpty());
+        assertThat(peerDeletes).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("토큰이 다르면 인증 실패")
+    void rejects_wrong_token() {
+        assertThat(replicator.isAuthorized(TOKEN)).isTrue();
+        assertThat(replicator.isAuthorized("other")).isFalse();
+        assertThat(replicator.isAuthorized(null)).isFalse();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("시간 내에 조건이 충족되지 않았습니다");
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    // 노드 B의 복제 API (ReplicationController와 같은 처리)
+    private void handleOnNodeB(HttpExchange ex) throws IOException {
+        try (ex) {
+            if (!TOKEN.equals(ex.getRequestHeaders().getFirst(PeerReplicator.TOKEN_HEADER))) {
+                ex.sendResponseHeaders(403, -1);
+                return;
+            }
+            String key = URLDecoder.decode(ex.getRequestURI().getRawQuery().substring("key=".length()),
+                    StandardCharsets.UTF_8);
+            switch (ex.getRequestMethod()) {
+                case "GET" -> {
+                    peerGets.incrementAndGet();
+                    Optional<org.springframework.core.io.Resource> resource = nodeB.loadLocal(key);
+                    if (resource.isEmpty()) {
+                        ex.sendResponseHeaders(404, -1);
+                        return;
+                    }
+                    byte[] data;
+                    try (InputStream in = resource.get().getInputStream()) {
+                        data = in.readAllBytes();
+                    }
+                    ex.sendResponseHeaders(200, data.length);
+                    try (OutputStream os = ex.getResponseBody()) {
+                        os.write(data);
+                    }
+                }
+                case "PUT" -> {
+                    byte[] data;
+                    try (InputStream in = ex.getRequestBody()) {
+                        data = in.readAllBytes();
+                    }
+                    nodeB.storeReplica(key, data);
+                    ex.sendResponseHeaders(200, -1);
+                }
+                case "DELETE" -> {
+                    peerDeletes.incrementAndGet();
+                    if (failingDeletes.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                        ex.sendResponseHeaders(503, -1);
+                        return;
+                    }
+                    nodeB.deleteReplica(key);
+                    ex.sendResponseHeaders(200, -1);
+                }
+                default -> ex.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.community.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * S3 저장소 테스트 (프로세스 내 S3 대역 사용, AWS 계정 불필요)
+ */
+class S3StorageServiceTest {
+
+    private static final String BUCKET = "community-test";
+
+    private FakeS3Server fake;
+    private S3StorageService storage;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fake = new FakeS3Server(BUCKET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (storage != null) {
+            storage.close();
+        }
+        fake.close();
+    }
+
+    private S3StorageService open(boolean chunkedEncoding, long multipartThreshold, int partSize) {
+        S3StorageService s = new S3StorageService();
+        TestUtil.setField(s, "bucket", BUCKET);
+        TestUtil.setField(s, "region", "us-east-1");
+        TestUtil.setField(s, "endpoint", fake.endpoint());
+        TestUtil.setField(s, "pathStyle", true);
+        TestUtil.setField(s, "accessKey", "test");
+        TestUtil.setField(s, "secretKey", "test");
+        TestUtil.setField(s, "publicBaseUrl", "http://localhost:8080/files");
+        TestUtil.setField(s, "maxConnections", 4);
+        TestUtil.setField(s, "connectionTimeout", Duration.ofSeconds(2));
+        TestUtil.setField(s, "socketTimeout", Duration.ofSeconds(5));
+        TestUtil.setField(s, "multipartThreshold", multipartThreshold);
+        TestUtil.setField(s, "partSize", partSize);
+        TestUtil.setField(s, "chunkedEncoding", chunkedEncoding);
+        TestUtil.setField(s, "presignTtl", Duration.ofMinutes(5));
+        s.init();
+        storage = s;
+        return s;
+    }
+
+    private static byte[] png(int length) {
+        byte[] data = new byte[length];
+        byte[] sig = { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A };
+        System.arraycopy(sig, 0, data, 0, sig.length);
+        for (int i = sig.length; i < length; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    private static byte[] read(Storage s, String key) throws Exception {
+        try (var in = s.load(key).orElseThrow().getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    @DisplayName("저장/조회/목록/삭제 (aws-chunked 요청 본문)")
+    void store_stat_list_load_delete_with_chunked_encoding() throws Exception {
+        S3StorageService s = open(true, 8 * 1024 * 1024, 5 * 1024 * 1024);
+        byte[] a = png(64);
+        s.storeWithKey(new MockMultipartFile("f", "a.png", "image/png", a), "posts/1/a.png");
+        s.storeWithKey(new MockMultipartFile("f", "b.png", "image/png", png(32)), "posts/1/b.png");
+        s.storeWithKey(new MockMultipartFile("f", "c.png", "image/png", png(16)), "posts/2/c.png");
+
+        assertThat(fake.chunkedPuts.get()).isEqualTo(3);
+        assertThat(fake.object("posts/1/a.png")).isEqualTo(a);
+        assertThat(read(s, "posts/1/a.png")).isEqualTo(a);
+
+        Storage.FileMeta meta = s.stat("posts/1/a.png").orElseThrow();
+        assertThat(meta.size()).isEqualTo(64);
+        assertThat(meta.contentType()).isEqualTo("image/png");
+        assertThat(meta.digest()).isNotBlank();
+        assertThat(s.statAll(List.of("posts/1/a.png", "posts/1/none.png"))).containsOnlyKeys("posts/1/a.png");
+
+        assertThat(s.listKeys("posts", null, 2)).extracting(Storage.FileMeta::key)
+                .containsExactly("posts/1/a.png", "posts/1/b.png");
+        assertThat(s.listKeys("posts", "posts/1/b.png", 10)).extracting(Storage.FileMeta::key)
+                .containsExactly("posts/2/c.png");
+
+        s.delete("posts/1/a.png");
+        assertThat(s.exists("posts/1/a.png")).isFalse();
+        assertThat(s.load("posts/1/a.png")).isEmpty();
+        assertThatThrownBy(() -> s.exists("../etc/passwd")).isInstanceOf(StorageException.class);
+    }
+
+    @Test
+    @DisplayName("chunked-encoding=false 이면 일반 본문으로 전송")
+    void store_without_chunked_encoding() throws Exception {
+        S3StorageService s = open(false, 8 * 1024 * 1024, 5 * 1024 * 1024);
+        byte[] a = png(40);
+        s.storeWithKey(new MockMultipartFile("f", "a.png", "image/png", a), "posts/1/a.png");
+
+        assertThat(fake.chunkedPuts.get()).isZero();
+        assertThat(fake.object("posts/1/a.png")).isEqualTo(a);
+    }
+
+    @Test
+    @DisplayName("임계값 이상 파일은 멀티파트 업로드로 나누어 전송")
+    void large_file_uses_multipart_upload() throws Exception {
+        S3StorageService s = open(true, 100, 64);
+        byte[] big = png(200);
+        s.storeWithKey(new MockMultipartFile("f", "big.png", "image/png", big), "posts/1/big.png");
+
+        assertThat(fake.uploadedParts.get()).isEqualTo(4);
+        assertThat(fake.pendingUploads()).isZero();
+        assertThat(fake.object("posts/1/big.png")).isEqualTo(big);
+        assertThat(read(s, "posts/1/big.png")).isEqualTo(big);
+    }
+
+    @Test
+    @DisplayName("서명된 URL로 직접 업로드 후 앞부분 범위 조회")
+    void presigned_upload_then_read_head() throws Exception {
+        S3StorageService s = open(true, 8 * 1024 * 1024, 5 * 1024 * 1024);
+        byte[] data = png(100);
+        DirectUploadStorage.PresignedUpload upload = s.presignUpload("posts/7/x.png", "image/png", data.length,
+                Duration.ofMinutes(1));
+        assertThat(upload.method()).isEqualTo("PUT");
+        assertThat(upload.url()).contains("/" + BUCKET + "/posts/7/x.png").contains("X-Amz-Signature");
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(upload.url()))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(data));
+        // content-length는 HTTP 클라이언트가 본문 크기로 설정
+        upload.headers().forEach((name, value) -> {
+            if (!"content-length".equalsIgnoreCase(name)) {
+                request.header(name, value);
+            }
+        });
+        HttpResponse<Void> response = HttpClient.newHttpClient()
+                .send(request.build(), HttpResponse.BodyHandlers.discarding());
+        assertThat(response.statusCode()).isEqualTo(200);
+
+        assertThat(s.exists("posts/7/x.png")).isTrue();
+        assertThat(s.readHead("posts/7/x.png", 32)).isEqualTo(Arrays.copyOf(data, 32));
+        assertThat(s.readHead("posts/7/x.png", 1000)).isEqualTo(data);
+        assertThatThrownBy(() -> s.readHead("posts/7/none.png", 32)).isInstanceOf(StorageException.class);
+    }
+}
@@ -6,8 +6,10 @@ import com.example.community.auth.ActorMapper;
 import com.example.community.domain.Comment;
 import com.example.community.domain.Member;
 import com.example.community.repository.dto.CommentProjection;
+import com.example.community.repository.dto.CommentVersion;
 import com.example.community.security.MemberDetails;
 import com.example.community.service.CommentService;
+import com.example.community.service.MissingPostCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +35,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -54,6 +58,9 @@ class CommentControllerTest {
     @MockitoBean
     private CommentService commentService;
 
+    @MockitoBean
+    private MissingPostCache missingPosts;
+
     // 보안 설정을 위한 추가 Mock 빈들
 
     // 테스트 데이터 설정을 위한 헬퍼 메서드
@@ -84,8 +91,9 @@ class CommentControllerTest {
         Page<CommentProjection> projectionPage = new PageImpl<>(commentProjections, pageable,
                 commentProjections.size());
 
-        when(commentService.getProjectionsByPostWithPaging(eq(postId), any(Pageable.class)))
+        when(commentService.getProjectionsByCheckedPost(eq(postId), any(Pageable.class)))
                 .thenReturn(projectionPage);
+        when(commentService.getVersionByPost(postId)).thenReturn(new CommentVersion(postId, 2L, 2L, 3L, 2L));
 
         // when & then
         mockMvc.perform(get("/api/posts/{postId}/comments", postId))
@@ -101,6 +109,58 @@ class CommentControllerTest {
                 .andExpect(jsonPath("$.pageInfo.last").value(true));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("탈퇴한 작성자의 댓글은 응답 시 탈퇴 표시로 변환")
+    void withdrawnAuthorIsLabeledAtRenderTime() throws Exception {
+        Long postId = 1L;
+        var withdrawn = new CommentProjection.MemberDto(2L, "[탈퇴한 회원_2]", false);
+        Page<CommentProjection> projectionPage = new PageImpl<>(
+                List.of(new CommentProjection(1L, "남아 있는 댓글", LocalDateTime.now(), withdrawn, postId)),
+                PageRequest.of(0, 20), 1);
+        when(commentService.getProjectionsByCheckedPost(eq(postId), any(Pageable.class)))
+                .thenReturn(projectionPage);
+        when(commentService.getVersionByPost(postId)).thenReturn(new CommentVersion(postId, 1L, 1L, 1L, 0L));
+
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].content").value("[삭제된 댓글입니다]"))
+                .andExpect(jsonPath("$.content[0].author.username").value("[탈퇴한 회원]"))
+                .andExpect(jsonPath("$.content[0].author.withdrawn").value(true));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("댓글 목록이 바뀌지 않았으면 댓글을 조회하지 않고 304")
+    void unchangedCommentsReturnNotModified() throws Exception {
+        Long postId = 1L;
+        when(commentService.getVersionByPost(postId)).thenReturn(new CommentVersion(postId, 2L, 60L, 63L, 2L));
+        when(commentService.getProjectionsByCheckedPost(eq(postId), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+        String etag = mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("no-cache")))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(etag).startsWith("W/\"");
+
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // 새 댓글이 달리면 다시 전체 응답
+        when(commentService.getVersionByPost(postId)).thenReturn(new CommentVersion(postId, 3L, 61L, 124L, 3L));
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId).header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        // {3, 60}에서 3을 지우고 더 낮은 할당 구간의 7이 추가되면 개수/최댓값은 같아도 다시 전체 응답
+        when(commentService.getVersionByPost(postId)).thenReturn(new CommentVersion(postId, 2L, 60L, 67L, 2L));
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId).header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        verify(commentService, times(3)).getProjectionsByCheckedPost(eq(postId), any(Pageable.class));
+    }
+
     @Test
     @WithMockUser(username = "test@example.com", roles = { "USER" })
     @DisplayName("인증된 사용자는 댓글을 작성할 수 있음")
@@ -5,6 +5,7 @@ import com.example.community.service.exception.ForbiddenOperationException;
 
 import com.example.community.domain.BoardType;
 import com.example.community.domain.Post;
+import com.example.community.repository.dto.PostVersion;
 import com.example.community.service.PostService;
 import com.example.community.service.dto.PostDtos;
 import com.example.community.web.dto.PostWebDtos;
@@ -25,15 +26,20 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.ArrayList;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -262,4 +268,34 @@ class PostControllerSecurityTest {
                 // 서비스 메서드가 호출되었는지 확인
                 verify(postService).delete(eq(postId), any(Actor.class));
         }
+
+        @Test
+        @DisplayName("게시글이 바뀌지 않았으면 본문을 읽지 않고 304, 조회는 기록")
+        @WithAnonymousUser
+        void unchangedPostReturnsNotModified() throws Exception {
+                com.example.community.domain.Member author = com.example.community.domain.Member.builder()
+                                .id(1L).email("testuser@example.com").username("testuser").password("pw").build();
+                Post post = Post.builder().id(1L).title("제목").content("내용").boardType(BoardType.FREE)
+                                .author(author).version(3L).likeCount(2L).build();
+                when(postService.getAndIncrementViewCount(eq(1L), any())).thenReturn(post);
+                when(postService.getVersion(1L)).thenReturn(new PostVersion(1L, 3L, 2L, true));
+
+                String etag = mockMvc.perform(get("/api/posts/{id}", 1L))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Cache-Control", containsString("no-cache")))
+                                .andReturn().getResponse().getHeader("ETag");
+                assertThat(etag).startsWith("W/\"");
+
+                mockMvc.perform(get("/api/posts/{id}", 1L).header("If-None-Match", etag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", etag))
+                                .andExpect(content().string(""));
+                verify(postService).countView(eq(1L), any());
+
+                // 좋아요 수가 바뀌면 다시 전체 응답
+                when(postService.getVersion(1L)).thenReturn(new PostVersion(1L, 3L, 3L, true));
+                mockMvc.perform(get("/api/posts/{id}", 1L).header("If-None-Match", etag))
+                                .andExpect(status().isOk());
+                verify(postService, times(2)).getAndIncrementViewCount(eq(1L), any());
+        }
 }
@@ -0,0 +1,61 @@
+package com.example.community.web;
+
+import com.example.community.storage.PeerReplicator;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReplicationTokenFilterTest {
+
+    private PeerReplicator replicator;
+    private ReplicationTokenFilter filter;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        replicator = mock(PeerReplicator.class);
+        when(replicator.isAuthorized("secret")).thenReturn(true);
+        filter = new ReplicationTokenFilter(replicator);
+        chain = mock(FilterChain.class);
+    }
+
+    @Test
+    void rejectsMissingTokenBeforeReadingBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", PeerReplicator.BLOB_PATH);
+        request.setContent(new byte[1024]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(403);
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void passesValidToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", PeerReplicator.BLOB_PATH);
+        request.addHeader(PeerReplicator.TOKEN_HEADER, "secret");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+    }
+
+    @Test
+    void ignoresOtherPaths() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        verifyNoInteractions(replicator);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.community.web.cache;
+
+import com.example.community.domain.BoardType;
+import com.example.community.service.AnonymousResponseCache;
+import com.example.community.service.CacheChangeLog;
+import com.example.community.web.dto.PostRes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ResponseCacheFilterTest {
+
+    private static final String USER_AGENT = "Mozilla/5.0";
+
+    private final AnonymousResponseCache cache = new AnonymousResponseCache(mock(CacheChangeLog.class),
+            new SimpleMeterRegistry(), true, Duration.ofMinutes(1), 1 << 20, 64 * 1024, 64);
+    @SuppressWarnings("unchecked")
+    private final BiConsumer<Long, String> viewCounter = mock(BiConsumer.class);
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(cache, viewCounter);
+    private final ResponseCacheTagAdvice advice = new ResponseCacheTagAdvice();
+    private final AtomicInteger controllerCalls = new AtomicInteger();
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // 컨트롤러 역할: 태그 추출(advice) 후 본문 작성
+    private FilterChain controller(Object body, String json, Consumer<HttpServletResponse> headers) {
+        return (request, response) -> {
+            controllerCalls.incrementAndGet();
+            advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON, null,
+                    new ServletServerHttpRequest((HttpServletRequest) request), null);
+            HttpServletResponse res = (HttpServletResponse) response;
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.setHeader(HttpHeaders.ETAG, "W/\"1\"");
+            headers.accept(res);
+            res.getOutputStream().write(json.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private FilterChain postDetail(String json) {
+        PostRes post = new PostRes(1L, "제목", "내용", null, 0, 0, BoardType.FREE, "자유", List.of(), null);
+        return controller(post, json, res -> {
+        });
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", uri);
+        req.addHeader(HttpHeaders.USER_AGENT, USER_AGENT);
+        return req;
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest req, FilterChain chain) throws Exception {
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(req, res, chain);
+        return res;
+    }
+
+    @Test
+    @DisplayName("비로그인 요청끼리만 저장된 응답을 공유, Authorization 헤더/로그인/If-None-Match 요청은 컨트롤러로")
+    void only_anonymous_requests_are_served_from_cache() throws Exception {
+        FilterChain chain = postDetail("{\"id\":1}");
+
+        perform(get("/api/posts/1"), chain);
+        MockHttpServletResponse hit = perform(get("/api/posts/1"), chain);
+        assertThat(controllerCalls).hasValue(1);
+        assertThat(hit.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(hit.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"1\"");
+
+        MockHttpServletRequest withToken = get("/api/posts/1");
+        withToken.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        perform(withToken, chain);
+        assertThat(controllerCalls).hasValue(2);
+        assertThat(withToken.getAttribute(ResponseCacheTagAdvice.TAGS)).isNull();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("member", null, List.of()));
+        perform(get("/api/posts/1"), chain);
+        assertThat(controllerCalls).hasValue(3);
+        SecurityContextHolder.clearContext();
+
+        MockHttpServletRequest conditional = get("/api/posts/1");
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"1\"");
+        perform(conditional, chain);
+        assertThat(controllerCalls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Set-Cookie가 있는 응답은 저장하지 않음")
+    void responses_setting_cookies_are_not_stored() throws Exception {
+        PostRes post = new PostRes(1L, "제목", "내용", null, 0, 0, BoardType.FREE, "자유", List.of(), null);
+        FilterChain chain = controller(post, "{\"id\":1}", res -> res.addHeader(HttpHeaders.SET_COOKIE, "s=1"));
+
+        perform(get("/api/posts/1"), chain);
+        MockHttpServletResponse second = perform(get("/api/posts/1"), chain);
+
+        assertThat(controllerCalls).hasValue(2);
+        assertThat(second.getHeader(HttpHeaders.SET_COOKIE)).isEqualTo("s=1");
+    }
+
+    @Test
+    @DisplayName("gzip을 받는 요청에만 압축 본문, 적중 여부와 관계없이 Vary: Accept-Encoding")
+    void gzip_is_negotiated_per_request() throws Exception {
+        String json = "{\"content\":\"" + "같은 내용 ".repeat(50) + "\"}";
+        FilterChain chain = postDetail(json);
+
+        MockHttpServletResponse miss = perform(get("/api/posts/1"), chain);
+        assertThat(miss.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(miss.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+
+        MockHttpServletRequest acceptsGzip = get("/api/posts/1");
+        acceptsGzip.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+        MockHttpServletResponse gzipped = perform(acceptsGzip, chain);
+        assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gzipped.getContentLength()).isEqualTo(gzipped.getContentAsByteArray().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(json);
+        }
+
+        MockHttpServletResponse plain = perform(get("/api/posts/1"), chain);
+        assertThat(plain.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(plain.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(plain.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(json);
+        assertThat(controllerCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 적중 시 조회 기록, 미적중(컨트롤러가 기록)과 댓글 목록 적중은 기록하지 않음")
+    void detail_hit_records_view() throws Exception {
+        FilterChain detail = postDetail("{\"id\":1}");
+        perform(get("/api/posts/1"), detail);
+        verify(viewCounter, never()).accept(any(), any());
+
+        perform(get("/api/posts/1"), detail);
+        verify(viewCounter).accept(1L, "a:127.0.0.1|" + USER_AGENT);
+
+        FilterChain comments = controller(Map.of("content", List.of()), "{\"content\":[]}", res -> {
+        });
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest req = get("/api/posts/1/comments");
+            req.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("postId", "1"));
+            perform(req, comments);
+        }
+        assertThat(controllerCalls).hasValue(2);
+        verify(viewCounter).accept(any(), any());
+    }
+}
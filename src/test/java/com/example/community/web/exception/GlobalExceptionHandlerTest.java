@@ -0,0 +1,43 @@
+package com.example.community.web.exception;
+
+import org.hibernate.exception.JDBCConnectionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("커넥션 획득 시간 초과가 원인인 자원 오류는 503 + Retry-After, 그 외 자원 오류는 500")
+    void connection_timeouts_map_to_service_unavailable() {
+        // 트랜잭션 안에서 풀/벌크헤드 한도로 커넥션을 얻지 못한 경우 (Hibernate → Spring 변환 결과)
+        SQLTransientConnectionException timeout = new SQLTransientConnectionException("Connection is not available");
+        DataAccessResourceFailureException translated = new DataAccessResourceFailureException("could not prepare",
+                new JDBCConnectionException("Unable to acquire JDBC Connection", timeout));
+
+        ResponseEntity<Map<String, Object>> unavailable = handler.dbResourceFailure(translated);
+        assertThat(unavailable.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(unavailable.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+        assertThat(unavailable.getBody()).containsEntry("code", "DB_UNAVAILABLE");
+
+        ResponseEntity<Map<String, Object>> other = handler.dbResourceFailure(
+                new DataAccessResourceFailureException("disk full", new SQLException("disk full")));
+        assertThat(other.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(other.getHeaders().getFirst("Retry-After")).isNull();
+
+        ResponseEntity<Map<String, Object>> outsideTransaction = handler.dbUnavailable(
+                new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection", timeout));
+        assertThat(outsideTransaction.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
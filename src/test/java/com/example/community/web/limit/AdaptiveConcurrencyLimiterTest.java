@@ -0,0 +1,86 @@
+package com.example.community.web.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    @DisplayName("한도만큼만 동시 처리, 초과 요청은 즉시 거절")
+    void rejects_beyond_limit_without_queueing() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10);
+
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+        assertThat(limiter.tryAcquire()).isNotNull();
+        assertThat(limiter.tryAcquire()).isNull();
+
+        first.release(false);
+        assertThat(limiter.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("지연이 기준선보다 크게 늘면 한도 감소, 정상 지연에서는 한도 증가")
+    void limit_follows_latency_gradient() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 100);
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(10 * MS, 20, false);
+        }
+        int grown = limiter.limit();
+        assertThat(grown).isGreaterThan(20);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(200 * MS, grown, false);
+        }
+        assertThat(limiter.limit()).isLessThan(grown);
+    }
+
+    @Test
+    @DisplayName("과부하 실패는 한도를 줄이고, 한도 절반도 쓰지 않을 때는 늘리지 않음")
+    void drops_shrink_and_idle_does_not_grow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 100);
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(10 * MS, 2, false);
+        }
+        assertThat(limiter.limit()).isEqualTo(20);
+
+        limiter.onSample(10 * MS, 20, true);
+        assertThat(limiter.limit()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("필터: 그룹 한도 초과 시 503 + Retry-After, 거절 수 집계")
+    void filter_rejects_with_retry_after() throws Exception {
+        AdaptiveConcurrencyLimiter reads = new AdaptiveConcurrencyLimiter(1, 1, 1);
+        Counter rejected = new SimpleMeterRegistry().counter("http.concurrency.rejected");
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+                Map.of(ConcurrencyLimitFilter.Group.READS, reads),
+                Map.of(ConcurrencyLimitFilter.Group.READS, rejected), new ObjectMapper());
+        AdaptiveConcurrencyLimiter.Permit held = reads.tryAcquire();
+
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/posts/summary"), res, new MockFilterChain());
+
+        assertThat(res.getStatus()).isEqualTo(503);
+        assertThat(res.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(res.getContentAsString()).contains("OVERLOADED");
+        assertThat(rejected.count()).isEqualTo(1);
+
+        // 다른 그룹(쓰기)은 영향 없음
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/posts"), write, new MockFilterChain());
+        assertThat(write.getStatus()).isEqualTo(200);
+        held.release(false);
+    }
+}
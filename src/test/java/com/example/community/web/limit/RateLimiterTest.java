@@ -0,0 +1,137 @@
+package com.example.community.web.limit;
+
+import com.example.community.config.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimiterTest {
+
+    private static final RateLimiter.Rule LIKE = new RateLimiter.Rule("like", "POST", "/api/posts/{id}/like", 3,
+            Duration.ofMinutes(1), null);
+    private static final RateLimiter.Rule LOGIN = new RateLimiter.Rule("login", "POST", "/api/auth/login", 2,
+            Duration.ofMinutes(1), RateLimiter.KeyType.IP);
+
+    private RateLimiter limiter(int maxEntries) {
+        return new RateLimiter(List.of(LIKE, LOGIN), maxEntries, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("용량만큼 연속 허용 후 거절, 다음 토큰까지의 대기 시간 반환")
+    void allows_burst_then_rejects_with_retry_after() {
+        RateLimiter limiter = limiter(100);
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.check("POST", "/api/posts/1/like", 7L, "10.0.0.1").allowed()).isTrue();
+        }
+        RateLimiter.Decision rejected = limiter.check("POST", "/api/posts/2/like", 7L, "10.0.0.1");
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    @DisplayName("회원 기준 규칙은 같은 IP라도 회원별, IP 기준 규칙은 회원과 무관하게 IP별로 집계")
+    void keys_by_member_or_ip() {
+        RateLimiter limiter = limiter(100);
+        for (int i = 0; i < 3; i++) {
+            limiter.check("POST", "/api/posts/1/like", 7L, "10.0.0.1");
+        }
+        assertThat(limiter.check("POST", "/api/posts/1/like", 8L, "10.0.0.1").allowed()).isTrue();
+
+        limiter.check("POST", "/api/auth/login", 7L, "10.0.0.2");
+        limiter.check("POST", "/api/auth/login", 8L, "10.0.0.2");
+        assertThat(limiter.check("POST", "/api/auth/login", 9L, "10.0.0.2").allowed()).isFalse();
+        assertThat(limiter.check("POST", "/api/auth/login", null, "10.0.0.3").allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("규칙에 없는 경로/메서드는 제한하지 않음")
+    void unmatched_requests_are_unlimited() {
+        RateLimiter limiter = limiter(100);
+
+        assertThat(limiter.matches("GET", "/api/posts/1/like")).isFalse();
+        assertThat(limiter.check("GET", "/api/posts/summary", null, "10.0.0.1").rule()).isNull();
+    }
+
+    @Test
+    @DisplayName("분할 업로드 조각 요청은 별도 규칙으로 집계되어 업로드 시작 한도를 소모하지 않음")
+    void chunk_requests_use_their_own_rule() {
+        RateLimiter limiter = new RateLimiter(List.of(
+                new RateLimiter.Rule("upload-chunks", null, "/api/files/posts/images/uploads/{sessionId}", 20,
+                        Duration.ofMinutes(1), null),
+                new RateLimiter.Rule("uploads", null, "/api/files/**", 2, Duration.ofMinutes(1), null)),
+                100, new SimpleMeterRegistry());
+
+        assertThat(limiter.check("POST", "/api/files/posts/images/uploads", 7L, "10.0.0.1").allowed()).isTrue();
+        for (int i = 0; i < 10; i++) {
+            RateLimiter.Decision chunk = limiter.check("PUT", "/api/files/posts/images/uploads/s1", 7L, "10.0.0.1");
+            assertThat(chunk.allowed()).isTrue();
+            assertThat(chunk.rule().name()).isEqualTo("upload-chunks");
+        }
+        assertThat(limiter.check("POST", "/api/files/posts/images/uploads/s1/complete", 7L, "10.0.0.1").allowed())
+                .isTrue();
+        assertThat(limiter.check("POST", "/api/files/posts/images/uploads", 7L, "10.0.0.1").allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("버킷 수가 최대치를 넘으면 정리되어 메모리가 제한됨")
+    void bucket_store_is_bounded() {
+        RateLimiter limiter = limiter(10);
+        for (int i = 0; i < 1000; i++) {
+            limiter.check("POST", "/api/auth/login", null, "10.0." + (i / 256) + "." + (i % 256));
+        }
+        assertThat(limiter.bucketCount()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("필터: 초과 요청은 429 + Retry-After, 회원은 JWT 서명 검증만으로 식별")
+    void filter_rejects_before_authentication() throws Exception {
+        JwtUtil jwtUtil = mock(JwtUtil.class);
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn("7");
+        when(jwtUtil.parseClaims("good")).thenReturn(claims);
+        when(jwtUtil.parseClaims("bad")).thenThrow(new JwtException("invalid"));
+        RateLimitFilter filter = new RateLimitFilter(limiter(100), jwtUtil, new ObjectMapper());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(like(filter, "good").getStatus()).isEqualTo(200);
+        }
+        MockHttpServletResponse rejected = like(filter, "good");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isNotBlank();
+        assertThat(rejected.getContentAsString()).contains("RATE_LIMITED");
+
+        // 유효하지 않은 토큰은 IP 기준
+        assertThat(like(filter, "bad").getStatus()).isEqualTo(200);
+
+        // 규칙 밖 요청은 토큰도 확인하지 않음
+        MockHttpServletRequest read = new MockHttpServletRequest("GET", "/api/posts/summary");
+        read.addHeader("Authorization", "Bearer other");
+        filter.doFilter(read, new MockHttpServletResponse(), new MockFilterChain());
+        verify(jwtUtil, never()).parseClaims("other");
+    }
+
+    private MockHttpServletResponse like(RateLimitFilter filter, String token) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", "/api/posts/1/like");
+        req.addHeader("Authorization", "Bearer " + token);
+        req.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(req, res, new MockFilterChain());
+        return res;
+    }
+}